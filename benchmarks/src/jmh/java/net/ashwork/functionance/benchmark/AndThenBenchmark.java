@@ -0,0 +1,376 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.Function3;
+import net.ashwork.functionance.Function4;
+import net.ashwork.functionance.Function5;
+import net.ashwork.functionance.Function6;
+import net.ashwork.functionance.Function7;
+import net.ashwork.functionance.Function8;
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.runnable.Runnable0;
+import net.ashwork.functionance.runnable.Runnable1;
+import net.ashwork.functionance.runnable.Runnable2;
+import net.ashwork.functionance.runnable.Runnable3;
+import net.ashwork.functionance.runnable.Runnable4;
+import net.ashwork.functionance.runnable.Runnable5;
+import net.ashwork.functionance.runnable.Runnable6;
+import net.ashwork.functionance.runnable.Runnable7;
+import net.ashwork.functionance.runnable.Runnable8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Benchmarks the results of {@code andThen} on functions and operations
+ * against hand-written lambdas and their {@code java.util.function}
+ * equivalents.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AndThenBenchmark extends FunctionanceBenchmark {
+
+    private Function0<Integer> function0AndThen, lambda0AndThen;
+    private Function1<Integer, Integer> function1AndThen, lambda1AndThen;
+    private Function2<Integer, Integer, Integer> function2AndThen, lambda2AndThen;
+    private Function3<Integer, Integer, Integer, Integer> function3AndThen, lambda3AndThen;
+    private Function4<Integer, Integer, Integer, Integer, Integer> function4AndThen, lambda4AndThen;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5AndThen, lambda5AndThen;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6AndThen, lambda6AndThen;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7AndThen, lambda7AndThen;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8AndThen, lambda8AndThen;
+    private Runnable0 runnable0AndThen, runnableLambda0AndThen;
+    private Runnable1<Integer> runnable1AndThen, runnableLambda1AndThen;
+    private Runnable2<Integer, Integer> runnable2AndThen, runnableLambda2AndThen;
+    private Runnable3<Integer, Integer, Integer> runnable3AndThen, runnableLambda3AndThen;
+    private Runnable4<Integer, Integer, Integer, Integer> runnable4AndThen, runnableLambda4AndThen;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5AndThen, runnableLambda5AndThen;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6AndThen, runnableLambda6AndThen;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7AndThen, runnableLambda7AndThen;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8AndThen, runnableLambda8AndThen;
+    private Function<Integer, Integer> jdkFunctionAndThen;
+    private BiFunction<Integer, Integer, Integer> jdkBiFunctionAndThen;
+    private Consumer<Integer> jdkConsumerAndThen;
+    private BiConsumer<Integer, Integer> jdkBiConsumerAndThen;
+
+    @Override
+    protected void prepare() {
+        final Transformer1<Integer, Integer> after = this.after;
+        final Function0<Integer> function0 = this.function0;
+        this.function0AndThen = function0.andThen(after);
+        this.lambda0AndThen = () -> after.apply1(function0.apply0());
+        final Function1<Integer, Integer> function1 = this.function1;
+        this.function1AndThen = function1.andThen(after);
+        this.lambda1AndThen = t1 -> after.apply1(function1.apply1(t1));
+        final Function2<Integer, Integer, Integer> function2 = this.function2;
+        this.function2AndThen = function2.andThen(after);
+        this.lambda2AndThen = (t1, t2) -> after.apply1(function2.apply2(t1, t2));
+        final Function3<Integer, Integer, Integer, Integer> function3 = this.function3;
+        this.function3AndThen = function3.andThen(after);
+        this.lambda3AndThen = (t1, t2, t3) -> after.apply1(function3.apply3(t1, t2, t3));
+        final Function4<Integer, Integer, Integer, Integer, Integer> function4 = this.function4;
+        this.function4AndThen = function4.andThen(after);
+        this.lambda4AndThen = (t1, t2, t3, t4) -> after.apply1(function4.apply4(t1, t2, t3, t4));
+        final Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5 = this.function5;
+        this.function5AndThen = function5.andThen(after);
+        this.lambda5AndThen = (t1, t2, t3, t4, t5) -> after.apply1(function5.apply5(t1, t2, t3, t4, t5));
+        final Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6 = this.function6;
+        this.function6AndThen = function6.andThen(after);
+        this.lambda6AndThen = (t1, t2, t3, t4, t5, t6) -> after.apply1(function6.apply6(t1, t2, t3, t4, t5, t6));
+        final Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7 = this.function7;
+        this.function7AndThen = function7.andThen(after);
+        this.lambda7AndThen = (t1, t2, t3, t4, t5, t6, t7) -> after.apply1(function7.apply7(t1, t2, t3, t4, t5, t6, t7));
+        final Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8 = this.function8;
+        this.function8AndThen = function8.andThen(after);
+        this.lambda8AndThen = (t1, t2, t3, t4, t5, t6, t7, t8) -> after.apply1(function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8));
+
+        final Runnable0 runnable0 = this.runnable0;
+        this.runnable0AndThen = runnable0.andThen(runnable0);
+        this.runnableLambda0AndThen = () -> {
+            runnable0.run0();
+            runnable0.run0();
+        };
+        final Runnable1<Integer> runnable1 = this.runnable1;
+        this.runnable1AndThen = runnable1.andThen(runnable1);
+        this.runnableLambda1AndThen = t1 -> {
+            runnable1.run1(t1);
+            runnable1.run1(t1);
+        };
+        final Runnable2<Integer, Integer> runnable2 = this.runnable2;
+        this.runnable2AndThen = runnable2.andThen(runnable2);
+        this.runnableLambda2AndThen = (t1, t2) -> {
+            runnable2.run2(t1, t2);
+            runnable2.run2(t1, t2);
+        };
+        final Runnable3<Integer, Integer, Integer> runnable3 = this.runnable3;
+        this.runnable3AndThen = runnable3.andThen(runnable3);
+        this.runnableLambda3AndThen = (t1, t2, t3) -> {
+            runnable3.run3(t1, t2, t3);
+            runnable3.run3(t1, t2, t3);
+        };
+        final Runnable4<Integer, Integer, Integer, Integer> runnable4 = this.runnable4;
+        this.runnable4AndThen = runnable4.andThen(runnable4);
+        this.runnableLambda4AndThen = (t1, t2, t3, t4) -> {
+            runnable4.run4(t1, t2, t3, t4);
+            runnable4.run4(t1, t2, t3, t4);
+        };
+        final Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5 = this.runnable5;
+        this.runnable5AndThen = runnable5.andThen(runnable5);
+        this.runnableLambda5AndThen = (t1, t2, t3, t4, t5) -> {
+            runnable5.run5(t1, t2, t3, t4, t5);
+            runnable5.run5(t1, t2, t3, t4, t5);
+        };
+        final Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6 = this.runnable6;
+        this.runnable6AndThen = runnable6.andThen(runnable6);
+        this.runnableLambda6AndThen = (t1, t2, t3, t4, t5, t6) -> {
+            runnable6.run6(t1, t2, t3, t4, t5, t6);
+            runnable6.run6(t1, t2, t3, t4, t5, t6);
+        };
+        final Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7 = this.runnable7;
+        this.runnable7AndThen = runnable7.andThen(runnable7);
+        this.runnableLambda7AndThen = (t1, t2, t3, t4, t5, t6, t7) -> {
+            runnable7.run7(t1, t2, t3, t4, t5, t6, t7);
+            runnable7.run7(t1, t2, t3, t4, t5, t6, t7);
+        };
+        final Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8 = this.runnable8;
+        this.runnable8AndThen = runnable8.andThen(runnable8);
+        this.runnableLambda8AndThen = (t1, t2, t3, t4, t5, t6, t7, t8) -> {
+            runnable8.run8(t1, t2, t3, t4, t5, t6, t7, t8);
+            runnable8.run8(t1, t2, t3, t4, t5, t6, t7, t8);
+        };
+
+        final Function<Integer, Integer> jdkAfter = v -> v + 1;
+        final Function<Integer, Integer> jdkFunction = t1 -> t1;
+        final BiFunction<Integer, Integer, Integer> jdkBiFunction = (t1, t2) -> t1 + t2;
+        final Consumer<Integer> jdkConsumer = t1 -> this.sink = t1;
+        final BiConsumer<Integer, Integer> jdkBiConsumer = (t1, t2) -> this.sink = t1 + t2;
+        this.jdkFunctionAndThen = jdkFunction.andThen(jdkAfter);
+        this.jdkBiFunctionAndThen = jdkBiFunction.andThen(jdkAfter);
+        this.jdkConsumerAndThen = jdkConsumer.andThen(jdkConsumer);
+        this.jdkBiConsumerAndThen = jdkBiConsumer.andThen(jdkBiConsumer);
+    }
+
+    @Benchmark
+    public Integer function0AndThen() {
+        return this.function0AndThen.apply0();
+    }
+
+    @Benchmark
+    public Integer lambda0AndThen() {
+        return this.lambda0AndThen.apply0();
+    }
+
+    @Benchmark
+    public Integer function1AndThen() {
+        return this.function1AndThen.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer lambda1AndThen() {
+        return this.lambda1AndThen.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer function2AndThen() {
+        return this.function2AndThen.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer lambda2AndThen() {
+        return this.lambda2AndThen.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer function3AndThen() {
+        return this.function3AndThen.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer lambda3AndThen() {
+        return this.lambda3AndThen.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer function4AndThen() {
+        return this.function4AndThen.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4AndThen() {
+        return this.lambda4AndThen.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer function5AndThen() {
+        return this.function5AndThen.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5AndThen() {
+        return this.lambda5AndThen.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function6AndThen() {
+        return this.function6AndThen.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6AndThen() {
+        return this.lambda6AndThen.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function7AndThen() {
+        return this.function7AndThen.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7AndThen() {
+        return this.lambda7AndThen.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function8AndThen() {
+        return this.function8AndThen.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8AndThen() {
+        return this.lambda8AndThen.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable0AndThen() {
+        this.runnable0AndThen.run0();
+    }
+
+    @Benchmark
+    public void runnableLambda0AndThen() {
+        this.runnableLambda0AndThen.run0();
+    }
+
+    @Benchmark
+    public void runnable1AndThen() {
+        this.runnable1AndThen.run1(this.a1);
+    }
+
+    @Benchmark
+    public void runnableLambda1AndThen() {
+        this.runnableLambda1AndThen.run1(this.a1);
+    }
+
+    @Benchmark
+    public void runnable2AndThen() {
+        this.runnable2AndThen.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void runnableLambda2AndThen() {
+        this.runnableLambda2AndThen.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void runnable3AndThen() {
+        this.runnable3AndThen.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnableLambda3AndThen() {
+        this.runnableLambda3AndThen.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnable4AndThen() {
+        this.runnable4AndThen.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnableLambda4AndThen() {
+        this.runnableLambda4AndThen.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnable5AndThen() {
+        this.runnable5AndThen.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5AndThen() {
+        this.runnableLambda5AndThen.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable6AndThen() {
+        this.runnable6AndThen.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6AndThen() {
+        this.runnableLambda6AndThen.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable7AndThen() {
+        this.runnable7AndThen.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7AndThen() {
+        this.runnableLambda7AndThen.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable8AndThen() {
+        this.runnable8AndThen.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8AndThen() {
+        this.runnableLambda8AndThen.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer jdkFunctionAndThen() {
+        return this.jdkFunctionAndThen.apply(this.a1);
+    }
+
+    @Benchmark
+    public Integer jdkBiFunctionAndThen() {
+        return this.jdkBiFunctionAndThen.apply(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void jdkConsumerAndThen() {
+        this.jdkConsumerAndThen.accept(this.a1);
+    }
+
+    @Benchmark
+    public void jdkBiConsumerAndThen() {
+        this.jdkBiConsumerAndThen.accept(this.a1, this.a2);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks the direct application of the base functions and operations
+ * against their {@code java.util.function} equivalents. These act as the
+ * baseline for all other benchmarks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplyBenchmark extends FunctionanceBenchmark {
+
+    private Supplier<Integer> jdkSupplier;
+    private Function<Integer, Integer> jdkFunction;
+    private BiFunction<Integer, Integer, Integer> jdkBiFunction;
+    private Runnable jdkRunnable;
+    private Consumer<Integer> jdkConsumer;
+    private BiConsumer<Integer, Integer> jdkBiConsumer;
+
+    @Override
+    protected void prepare() {
+        this.jdkSupplier = () -> this.a1;
+        this.jdkFunction = t1 -> t1;
+        this.jdkBiFunction = (t1, t2) -> t1 + t2;
+        this.jdkRunnable = () -> this.sink = this.a1;
+        this.jdkConsumer = t1 -> this.sink = t1;
+        this.jdkBiConsumer = (t1, t2) -> this.sink = t1 + t2;
+    }
+
+    @Benchmark
+    public Integer function0() {
+        return this.function0.apply0();
+    }
+
+    @Benchmark
+    public Integer function1() {
+        return this.function1.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer function2() {
+        return this.function2.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer function3() {
+        return this.function3.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer function4() {
+        return this.function4.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer function5() {
+        return this.function5.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function6() {
+        return this.function6.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function7() {
+        return this.function7.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function8() {
+        return this.function8.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable0() {
+        this.runnable0.run0();
+    }
+
+    @Benchmark
+    public void runnable1() {
+        this.runnable1.run1(this.a1);
+    }
+
+    @Benchmark
+    public void runnable2() {
+        this.runnable2.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void runnable3() {
+        this.runnable3.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnable4() {
+        this.runnable4.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnable5() {
+        this.runnable5.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable6() {
+        this.runnable6.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable7() {
+        this.runnable7.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable8() {
+        this.runnable8.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer jdkSupplier() {
+        return this.jdkSupplier.get();
+    }
+
+    @Benchmark
+    public Integer jdkFunction() {
+        return this.jdkFunction.apply(this.a1);
+    }
+
+    @Benchmark
+    public Integer jdkBiFunction() {
+        return this.jdkBiFunction.apply(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void jdkRunnable() {
+        this.jdkRunnable.run();
+    }
+
+    @Benchmark
+    public void jdkConsumer() {
+        this.jdkConsumer.accept(this.a1);
+    }
+
+    @Benchmark
+    public void jdkBiConsumer() {
+        this.jdkBiConsumer.accept(this.a1, this.a2);
+    }
+}
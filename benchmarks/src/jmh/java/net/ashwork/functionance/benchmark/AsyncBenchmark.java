@@ -0,0 +1,83 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.Function4;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks combining futures through a lifted function against folding
+ * them together with {@code thenCombine} or waiting on {@code allOf}. The
+ * futures are completed after the pipeline is built so that each benchmark
+ * measures registering and triggering the dependent stages.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncBenchmark extends FunctionanceBenchmark {
+
+    private Function4<CompletableFuture<? extends Integer>, CompletableFuture<? extends Integer>, CompletableFuture<? extends Integer>, CompletableFuture<? extends Integer>, CompletableFuture<Integer>> lifted;
+
+    @Override
+    protected void prepare() {
+        this.lifted = this.function4.liftAsync();
+    }
+
+    @Benchmark
+    public Integer liftAsync() {
+        final CompletableFuture<Integer> f1 = new CompletableFuture<>(), f2 = new CompletableFuture<>(),
+                f3 = new CompletableFuture<>(), f4 = new CompletableFuture<>();
+        final CompletableFuture<Integer> result = this.lifted.apply4(f1, f2, f3, f4);
+        f1.complete(this.a1);
+        f2.complete(this.a2);
+        f3.complete(this.a3);
+        f4.complete(this.a4);
+        return result.join();
+    }
+
+    @Benchmark
+    public Integer thenCombine() {
+        final CompletableFuture<Integer> f1 = new CompletableFuture<>(), f2 = new CompletableFuture<>(),
+                f3 = new CompletableFuture<>(), f4 = new CompletableFuture<>();
+        final CompletableFuture<Integer> result = f1.thenCombine(f2, (t1, t2) -> this.function4.partial1(t1).partial1(t2))
+                .thenCombine(f3, Function2::partial1)
+                .thenCombine(f4, Function1::apply1);
+        f1.complete(this.a1);
+        f2.complete(this.a2);
+        f3.complete(this.a3);
+        f4.complete(this.a4);
+        return result.join();
+    }
+
+    @Benchmark
+    public Integer allOf() {
+        final CompletableFuture<Integer> f1 = new CompletableFuture<>(), f2 = new CompletableFuture<>(),
+                f3 = new CompletableFuture<>(), f4 = new CompletableFuture<>();
+        final CompletableFuture<Integer> result = CompletableFuture.allOf(f1, f2, f3, f4)
+                .thenApply(v -> this.function4.apply4(f1.join(), f2.join(), f3.join(), f4.join()));
+        f1.complete(this.a1);
+        f2.complete(this.a2);
+        f3.complete(this.a3);
+        f4.complete(this.a4);
+        return result.join();
+    }
+}
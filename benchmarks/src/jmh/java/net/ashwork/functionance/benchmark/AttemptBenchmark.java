@@ -0,0 +1,77 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.attempt.StacklessException;
+import net.ashwork.functionance.attempt.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks recovering from an expected failure through {@code handle} with
+ * an exception that fills in its stack trace against a stackless exception,
+ * and against returning a failed outcome from {@code tryApply1}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttemptBenchmark extends FunctionanceBenchmark {
+
+    private Function1<Integer, Integer> handleThrown, handleStackless, tryThrown, tryStackless;
+
+    @Override
+    protected void prepare() {
+        final Function1<Integer, Integer> fallback = t1 -> -1;
+        final Function1<Integer, Integer> thrown = t1 -> {
+            throw new IllegalStateException("Not found");
+        };
+        final Function1<Integer, Integer> stackless = t1 -> {
+            throw new StacklessException("Not found");
+        };
+        this.handleThrown = thrown.handle(t -> fallback);
+        this.handleStackless = stackless.handle(t -> fallback);
+        this.tryThrown = t1 -> thrown.tryApply1(t1).orElse(-1);
+        this.tryStackless = t1 -> stackless.tryApply1(t1).orElse(-1);
+    }
+
+    @Benchmark
+    public Integer handleThrown() {
+        return this.handleThrown.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer handleStackless() {
+        return this.handleStackless.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer tryThrown() {
+        return this.tryThrown.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer tryStackless() {
+        return this.tryStackless.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer tryFailure() {
+        return Try.<Integer>failure("Not found").orElse(-1);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks applying a function over parallel arrays row by row against
+ * applying it as a batch, both sequentially and split across the common pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBenchmark extends FunctionanceBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    private int size;
+
+    private Integer[] t1, t2, results;
+
+    @Override
+    protected void prepare() {
+        this.t1 = new Integer[this.size];
+        this.t2 = new Integer[this.size];
+        this.results = new Integer[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.t1[i] = i;
+            this.t2[i] = this.size - i;
+        }
+    }
+
+    @Benchmark
+    public Integer[] rows() {
+        for (int i = 0; i < this.size; i++) this.results[i] = this.function2.apply2(this.t1[i], this.t2[i]);
+        return this.results;
+    }
+
+    @Benchmark
+    public Integer[] batch() {
+        this.function2.applyBatch2(this.t1, this.t2, this.results, 0, this.size);
+        return this.results;
+    }
+
+    @Benchmark
+    public Integer[] parallelBatch() {
+        this.function2.applyBatch2(this.t1, this.t2, this.results, 0, this.size, ForkJoinPool.commonPool());
+        return this.results;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.runnable.Runnable1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks running operations folded together with {@code andThen} against
+ * running the same operations from a hand-written loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChainBenchmark extends FunctionanceBenchmark {
+
+    @Param({"1", "8", "64", "500"})
+    private int listeners;
+
+    private Runnable1<Integer> chain;
+    private Runnable1<Integer>[] loop;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void prepare() {
+        this.chain = this.runnable1;
+        this.loop = (Runnable1<Integer>[]) new Runnable1<?>[this.listeners];
+        this.loop[0] = this.runnable1;
+        for (int i = 1; i < this.listeners; i++) {
+            this.chain = this.chain.andThen(this.runnable1);
+            this.loop[i] = this.runnable1;
+        }
+    }
+
+    @Benchmark
+    public int loop() {
+        for (final Runnable1<Integer> listener : this.loop) listener.run1(this.a1);
+        return this.sink;
+    }
+
+    @Benchmark
+    public int chain() {
+        this.chain.run1(this.a1);
+        return this.sink;
+    }
+}
@@ -0,0 +1,1020 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.Function3;
+import net.ashwork.functionance.Function4;
+import net.ashwork.functionance.Function5;
+import net.ashwork.functionance.Function6;
+import net.ashwork.functionance.Function7;
+import net.ashwork.functionance.Function8;
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.runnable.Runnable1;
+import net.ashwork.functionance.runnable.Runnable2;
+import net.ashwork.functionance.runnable.Runnable3;
+import net.ashwork.functionance.runnable.Runnable4;
+import net.ashwork.functionance.runnable.Runnable5;
+import net.ashwork.functionance.runnable.Runnable6;
+import net.ashwork.functionance.runnable.Runnable7;
+import net.ashwork.functionance.runnable.Runnable8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmarks the results of {@code composeN} on every argument of functions
+ * and operations against hand-written lambdas and their
+ * {@code java.util.function} equivalents.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComposeBenchmark extends FunctionanceBenchmark {
+
+    private Function1<Integer, Integer> function1Compose1, lambda1Compose1;
+    private Function2<Integer, Integer, Integer> function2Compose1, lambda2Compose1;
+    private Function2<Integer, Integer, Integer> function2Compose2, lambda2Compose2;
+    private Function3<Integer, Integer, Integer, Integer> function3Compose1, lambda3Compose1;
+    private Function3<Integer, Integer, Integer, Integer> function3Compose2, lambda3Compose2;
+    private Function3<Integer, Integer, Integer, Integer> function3Compose3, lambda3Compose3;
+    private Function4<Integer, Integer, Integer, Integer, Integer> function4Compose1, lambda4Compose1;
+    private Function4<Integer, Integer, Integer, Integer, Integer> function4Compose2, lambda4Compose2;
+    private Function4<Integer, Integer, Integer, Integer, Integer> function4Compose3, lambda4Compose3;
+    private Function4<Integer, Integer, Integer, Integer, Integer> function4Compose4, lambda4Compose4;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5Compose1, lambda5Compose1;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5Compose2, lambda5Compose2;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5Compose3, lambda5Compose3;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5Compose4, lambda5Compose4;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5Compose5, lambda5Compose5;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6Compose1, lambda6Compose1;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6Compose2, lambda6Compose2;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6Compose3, lambda6Compose3;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6Compose4, lambda6Compose4;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6Compose5, lambda6Compose5;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6Compose6, lambda6Compose6;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Compose1, lambda7Compose1;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Compose2, lambda7Compose2;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Compose3, lambda7Compose3;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Compose4, lambda7Compose4;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Compose5, lambda7Compose5;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Compose6, lambda7Compose6;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Compose7, lambda7Compose7;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Compose1, lambda8Compose1;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Compose2, lambda8Compose2;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Compose3, lambda8Compose3;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Compose4, lambda8Compose4;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Compose5, lambda8Compose5;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Compose6, lambda8Compose6;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Compose7, lambda8Compose7;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Compose8, lambda8Compose8;
+    private Runnable1<Integer> runnable1Compose1, runnableLambda1Compose1;
+    private Runnable2<Integer, Integer> runnable2Compose1, runnableLambda2Compose1;
+    private Runnable2<Integer, Integer> runnable2Compose2, runnableLambda2Compose2;
+    private Runnable3<Integer, Integer, Integer> runnable3Compose1, runnableLambda3Compose1;
+    private Runnable3<Integer, Integer, Integer> runnable3Compose2, runnableLambda3Compose2;
+    private Runnable3<Integer, Integer, Integer> runnable3Compose3, runnableLambda3Compose3;
+    private Runnable4<Integer, Integer, Integer, Integer> runnable4Compose1, runnableLambda4Compose1;
+    private Runnable4<Integer, Integer, Integer, Integer> runnable4Compose2, runnableLambda4Compose2;
+    private Runnable4<Integer, Integer, Integer, Integer> runnable4Compose3, runnableLambda4Compose3;
+    private Runnable4<Integer, Integer, Integer, Integer> runnable4Compose4, runnableLambda4Compose4;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5Compose1, runnableLambda5Compose1;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5Compose2, runnableLambda5Compose2;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5Compose3, runnableLambda5Compose3;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5Compose4, runnableLambda5Compose4;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5Compose5, runnableLambda5Compose5;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6Compose1, runnableLambda6Compose1;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6Compose2, runnableLambda6Compose2;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6Compose3, runnableLambda6Compose3;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6Compose4, runnableLambda6Compose4;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6Compose5, runnableLambda6Compose5;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6Compose6, runnableLambda6Compose6;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7Compose1, runnableLambda7Compose1;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7Compose2, runnableLambda7Compose2;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7Compose3, runnableLambda7Compose3;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7Compose4, runnableLambda7Compose4;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7Compose5, runnableLambda7Compose5;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7Compose6, runnableLambda7Compose6;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7Compose7, runnableLambda7Compose7;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Compose1, runnableLambda8Compose1;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Compose2, runnableLambda8Compose2;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Compose3, runnableLambda8Compose3;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Compose4, runnableLambda8Compose4;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Compose5, runnableLambda8Compose5;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Compose6, runnableLambda8Compose6;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Compose7, runnableLambda8Compose7;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Compose8, runnableLambda8Compose8;
+    private Function<Integer, Integer> jdkFunctionCompose;
+
+    @Override
+    protected void prepare() {
+        final Transformer1<Integer, Integer> before = this.before;
+        final Function1<Integer, Integer> function1 = this.function1;
+        this.function1Compose1 = function1.compose1(before);
+        this.lambda1Compose1 = v -> function1.apply1(before.apply1(v));
+        final Function2<Integer, Integer, Integer> function2 = this.function2;
+        this.function2Compose1 = function2.compose1(before);
+        this.lambda2Compose1 = (v, t2) -> function2.apply2(before.apply1(v), t2);
+        this.function2Compose2 = function2.compose2(before);
+        this.lambda2Compose2 = (t1, v) -> function2.apply2(t1, before.apply1(v));
+        final Function3<Integer, Integer, Integer, Integer> function3 = this.function3;
+        this.function3Compose1 = function3.compose1(before);
+        this.lambda3Compose1 = (v, t2, t3) -> function3.apply3(before.apply1(v), t2, t3);
+        this.function3Compose2 = function3.compose2(before);
+        this.lambda3Compose2 = (t1, v, t3) -> function3.apply3(t1, before.apply1(v), t3);
+        this.function3Compose3 = function3.compose3(before);
+        this.lambda3Compose3 = (t1, t2, v) -> function3.apply3(t1, t2, before.apply1(v));
+        final Function4<Integer, Integer, Integer, Integer, Integer> function4 = this.function4;
+        this.function4Compose1 = function4.compose1(before);
+        this.lambda4Compose1 = (v, t2, t3, t4) -> function4.apply4(before.apply1(v), t2, t3, t4);
+        this.function4Compose2 = function4.compose2(before);
+        this.lambda4Compose2 = (t1, v, t3, t4) -> function4.apply4(t1, before.apply1(v), t3, t4);
+        this.function4Compose3 = function4.compose3(before);
+        this.lambda4Compose3 = (t1, t2, v, t4) -> function4.apply4(t1, t2, before.apply1(v), t4);
+        this.function4Compose4 = function4.compose4(before);
+        this.lambda4Compose4 = (t1, t2, t3, v) -> function4.apply4(t1, t2, t3, before.apply1(v));
+        final Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5 = this.function5;
+        this.function5Compose1 = function5.compose1(before);
+        this.lambda5Compose1 = (v, t2, t3, t4, t5) -> function5.apply5(before.apply1(v), t2, t3, t4, t5);
+        this.function5Compose2 = function5.compose2(before);
+        this.lambda5Compose2 = (t1, v, t3, t4, t5) -> function5.apply5(t1, before.apply1(v), t3, t4, t5);
+        this.function5Compose3 = function5.compose3(before);
+        this.lambda5Compose3 = (t1, t2, v, t4, t5) -> function5.apply5(t1, t2, before.apply1(v), t4, t5);
+        this.function5Compose4 = function5.compose4(before);
+        this.lambda5Compose4 = (t1, t2, t3, v, t5) -> function5.apply5(t1, t2, t3, before.apply1(v), t5);
+        this.function5Compose5 = function5.compose5(before);
+        this.lambda5Compose5 = (t1, t2, t3, t4, v) -> function5.apply5(t1, t2, t3, t4, before.apply1(v));
+        final Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6 = this.function6;
+        this.function6Compose1 = function6.compose1(before);
+        this.lambda6Compose1 = (v, t2, t3, t4, t5, t6) -> function6.apply6(before.apply1(v), t2, t3, t4, t5, t6);
+        this.function6Compose2 = function6.compose2(before);
+        this.lambda6Compose2 = (t1, v, t3, t4, t5, t6) -> function6.apply6(t1, before.apply1(v), t3, t4, t5, t6);
+        this.function6Compose3 = function6.compose3(before);
+        this.lambda6Compose3 = (t1, t2, v, t4, t5, t6) -> function6.apply6(t1, t2, before.apply1(v), t4, t5, t6);
+        this.function6Compose4 = function6.compose4(before);
+        this.lambda6Compose4 = (t1, t2, t3, v, t5, t6) -> function6.apply6(t1, t2, t3, before.apply1(v), t5, t6);
+        this.function6Compose5 = function6.compose5(before);
+        this.lambda6Compose5 = (t1, t2, t3, t4, v, t6) -> function6.apply6(t1, t2, t3, t4, before.apply1(v), t6);
+        this.function6Compose6 = function6.compose6(before);
+        this.lambda6Compose6 = (t1, t2, t3, t4, t5, v) -> function6.apply6(t1, t2, t3, t4, t5, before.apply1(v));
+        final Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7 = this.function7;
+        this.function7Compose1 = function7.compose1(before);
+        this.lambda7Compose1 = (v, t2, t3, t4, t5, t6, t7) -> function7.apply7(before.apply1(v), t2, t3, t4, t5, t6, t7);
+        this.function7Compose2 = function7.compose2(before);
+        this.lambda7Compose2 = (t1, v, t3, t4, t5, t6, t7) -> function7.apply7(t1, before.apply1(v), t3, t4, t5, t6, t7);
+        this.function7Compose3 = function7.compose3(before);
+        this.lambda7Compose3 = (t1, t2, v, t4, t5, t6, t7) -> function7.apply7(t1, t2, before.apply1(v), t4, t5, t6, t7);
+        this.function7Compose4 = function7.compose4(before);
+        this.lambda7Compose4 = (t1, t2, t3, v, t5, t6, t7) -> function7.apply7(t1, t2, t3, before.apply1(v), t5, t6, t7);
+        this.function7Compose5 = function7.compose5(before);
+        this.lambda7Compose5 = (t1, t2, t3, t4, v, t6, t7) -> function7.apply7(t1, t2, t3, t4, before.apply1(v), t6, t7);
+        this.function7Compose6 = function7.compose6(before);
+        this.lambda7Compose6 = (t1, t2, t3, t4, t5, v, t7) -> function7.apply7(t1, t2, t3, t4, t5, before.apply1(v), t7);
+        this.function7Compose7 = function7.compose7(before);
+        this.lambda7Compose7 = (t1, t2, t3, t4, t5, t6, v) -> function7.apply7(t1, t2, t3, t4, t5, t6, before.apply1(v));
+        final Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8 = this.function8;
+        this.function8Compose1 = function8.compose1(before);
+        this.lambda8Compose1 = (v, t2, t3, t4, t5, t6, t7, t8) -> function8.apply8(before.apply1(v), t2, t3, t4, t5, t6, t7, t8);
+        this.function8Compose2 = function8.compose2(before);
+        this.lambda8Compose2 = (t1, v, t3, t4, t5, t6, t7, t8) -> function8.apply8(t1, before.apply1(v), t3, t4, t5, t6, t7, t8);
+        this.function8Compose3 = function8.compose3(before);
+        this.lambda8Compose3 = (t1, t2, v, t4, t5, t6, t7, t8) -> function8.apply8(t1, t2, before.apply1(v), t4, t5, t6, t7, t8);
+        this.function8Compose4 = function8.compose4(before);
+        this.lambda8Compose4 = (t1, t2, t3, v, t5, t6, t7, t8) -> function8.apply8(t1, t2, t3, before.apply1(v), t5, t6, t7, t8);
+        this.function8Compose5 = function8.compose5(before);
+        this.lambda8Compose5 = (t1, t2, t3, t4, v, t6, t7, t8) -> function8.apply8(t1, t2, t3, t4, before.apply1(v), t6, t7, t8);
+        this.function8Compose6 = function8.compose6(before);
+        this.lambda8Compose6 = (t1, t2, t3, t4, t5, v, t7, t8) -> function8.apply8(t1, t2, t3, t4, t5, before.apply1(v), t7, t8);
+        this.function8Compose7 = function8.compose7(before);
+        this.lambda8Compose7 = (t1, t2, t3, t4, t5, t6, v, t8) -> function8.apply8(t1, t2, t3, t4, t5, t6, before.apply1(v), t8);
+        this.function8Compose8 = function8.compose8(before);
+        this.lambda8Compose8 = (t1, t2, t3, t4, t5, t6, t7, v) -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, before.apply1(v));
+
+        final Runnable1<Integer> runnable1 = this.runnable1;
+        this.runnable1Compose1 = runnable1.compose1(before);
+        this.runnableLambda1Compose1 = v -> runnable1.run1(before.apply1(v));
+        final Runnable2<Integer, Integer> runnable2 = this.runnable2;
+        this.runnable2Compose1 = runnable2.compose1(before);
+        this.runnableLambda2Compose1 = (v, t2) -> runnable2.run2(before.apply1(v), t2);
+        this.runnable2Compose2 = runnable2.compose2(before);
+        this.runnableLambda2Compose2 = (t1, v) -> runnable2.run2(t1, before.apply1(v));
+        final Runnable3<Integer, Integer, Integer> runnable3 = this.runnable3;
+        this.runnable3Compose1 = runnable3.compose1(before);
+        this.runnableLambda3Compose1 = (v, t2, t3) -> runnable3.run3(before.apply1(v), t2, t3);
+        this.runnable3Compose2 = runnable3.compose2(before);
+        this.runnableLambda3Compose2 = (t1, v, t3) -> runnable3.run3(t1, before.apply1(v), t3);
+        this.runnable3Compose3 = runnable3.compose3(before);
+        this.runnableLambda3Compose3 = (t1, t2, v) -> runnable3.run3(t1, t2, before.apply1(v));
+        final Runnable4<Integer, Integer, Integer, Integer> runnable4 = this.runnable4;
+        this.runnable4Compose1 = runnable4.compose1(before);
+        this.runnableLambda4Compose1 = (v, t2, t3, t4) -> runnable4.run4(before.apply1(v), t2, t3, t4);
+        this.runnable4Compose2 = runnable4.compose2(before);
+        this.runnableLambda4Compose2 = (t1, v, t3, t4) -> runnable4.run4(t1, before.apply1(v), t3, t4);
+        this.runnable4Compose3 = runnable4.compose3(before);
+        this.runnableLambda4Compose3 = (t1, t2, v, t4) -> runnable4.run4(t1, t2, before.apply1(v), t4);
+        this.runnable4Compose4 = runnable4.compose4(before);
+        this.runnableLambda4Compose4 = (t1, t2, t3, v) -> runnable4.run4(t1, t2, t3, before.apply1(v));
+        final Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5 = this.runnable5;
+        this.runnable5Compose1 = runnable5.compose1(before);
+        this.runnableLambda5Compose1 = (v, t2, t3, t4, t5) -> runnable5.run5(before.apply1(v), t2, t3, t4, t5);
+        this.runnable5Compose2 = runnable5.compose2(before);
+        this.runnableLambda5Compose2 = (t1, v, t3, t4, t5) -> runnable5.run5(t1, before.apply1(v), t3, t4, t5);
+        this.runnable5Compose3 = runnable5.compose3(before);
+        this.runnableLambda5Compose3 = (t1, t2, v, t4, t5) -> runnable5.run5(t1, t2, before.apply1(v), t4, t5);
+        this.runnable5Compose4 = runnable5.compose4(before);
+        this.runnableLambda5Compose4 = (t1, t2, t3, v, t5) -> runnable5.run5(t1, t2, t3, before.apply1(v), t5);
+        this.runnable5Compose5 = runnable5.compose5(before);
+        this.runnableLambda5Compose5 = (t1, t2, t3, t4, v) -> runnable5.run5(t1, t2, t3, t4, before.apply1(v));
+        final Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6 = this.runnable6;
+        this.runnable6Compose1 = runnable6.compose1(before);
+        this.runnableLambda6Compose1 = (v, t2, t3, t4, t5, t6) -> runnable6.run6(before.apply1(v), t2, t3, t4, t5, t6);
+        this.runnable6Compose2 = runnable6.compose2(before);
+        this.runnableLambda6Compose2 = (t1, v, t3, t4, t5, t6) -> runnable6.run6(t1, before.apply1(v), t3, t4, t5, t6);
+        this.runnable6Compose3 = runnable6.compose3(before);
+        this.runnableLambda6Compose3 = (t1, t2, v, t4, t5, t6) -> runnable6.run6(t1, t2, before.apply1(v), t4, t5, t6);
+        this.runnable6Compose4 = runnable6.compose4(before);
+        this.runnableLambda6Compose4 = (t1, t2, t3, v, t5, t6) -> runnable6.run6(t1, t2, t3, before.apply1(v), t5, t6);
+        this.runnable6Compose5 = runnable6.compose5(before);
+        this.runnableLambda6Compose5 = (t1, t2, t3, t4, v, t6) -> runnable6.run6(t1, t2, t3, t4, before.apply1(v), t6);
+        this.runnable6Compose6 = runnable6.compose6(before);
+        this.runnableLambda6Compose6 = (t1, t2, t3, t4, t5, v) -> runnable6.run6(t1, t2, t3, t4, t5, before.apply1(v));
+        final Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7 = this.runnable7;
+        this.runnable7Compose1 = runnable7.compose1(before);
+        this.runnableLambda7Compose1 = (v, t2, t3, t4, t5, t6, t7) -> runnable7.run7(before.apply1(v), t2, t3, t4, t5, t6, t7);
+        this.runnable7Compose2 = runnable7.compose2(before);
+        this.runnableLambda7Compose2 = (t1, v, t3, t4, t5, t6, t7) -> runnable7.run7(t1, before.apply1(v), t3, t4, t5, t6, t7);
+        this.runnable7Compose3 = runnable7.compose3(before);
+        this.runnableLambda7Compose3 = (t1, t2, v, t4, t5, t6, t7) -> runnable7.run7(t1, t2, before.apply1(v), t4, t5, t6, t7);
+        this.runnable7Compose4 = runnable7.compose4(before);
+        this.runnableLambda7Compose4 = (t1, t2, t3, v, t5, t6, t7) -> runnable7.run7(t1, t2, t3, before.apply1(v), t5, t6, t7);
+        this.runnable7Compose5 = runnable7.compose5(before);
+        this.runnableLambda7Compose5 = (t1, t2, t3, t4, v, t6, t7) -> runnable7.run7(t1, t2, t3, t4, before.apply1(v), t6, t7);
+        this.runnable7Compose6 = runnable7.compose6(before);
+        this.runnableLambda7Compose6 = (t1, t2, t3, t4, t5, v, t7) -> runnable7.run7(t1, t2, t3, t4, t5, before.apply1(v), t7);
+        this.runnable7Compose7 = runnable7.compose7(before);
+        this.runnableLambda7Compose7 = (t1, t2, t3, t4, t5, t6, v) -> runnable7.run7(t1, t2, t3, t4, t5, t6, before.apply1(v));
+        final Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8 = this.runnable8;
+        this.runnable8Compose1 = runnable8.compose1(before);
+        this.runnableLambda8Compose1 = (v, t2, t3, t4, t5, t6, t7, t8) -> runnable8.run8(before.apply1(v), t2, t3, t4, t5, t6, t7, t8);
+        this.runnable8Compose2 = runnable8.compose2(before);
+        this.runnableLambda8Compose2 = (t1, v, t3, t4, t5, t6, t7, t8) -> runnable8.run8(t1, before.apply1(v), t3, t4, t5, t6, t7, t8);
+        this.runnable8Compose3 = runnable8.compose3(before);
+        this.runnableLambda8Compose3 = (t1, t2, v, t4, t5, t6, t7, t8) -> runnable8.run8(t1, t2, before.apply1(v), t4, t5, t6, t7, t8);
+        this.runnable8Compose4 = runnable8.compose4(before);
+        this.runnableLambda8Compose4 = (t1, t2, t3, v, t5, t6, t7, t8) -> runnable8.run8(t1, t2, t3, before.apply1(v), t5, t6, t7, t8);
+        this.runnable8Compose5 = runnable8.compose5(before);
+        this.runnableLambda8Compose5 = (t1, t2, t3, t4, v, t6, t7, t8) -> runnable8.run8(t1, t2, t3, t4, before.apply1(v), t6, t7, t8);
+        this.runnable8Compose6 = runnable8.compose6(before);
+        this.runnableLambda8Compose6 = (t1, t2, t3, t4, t5, v, t7, t8) -> runnable8.run8(t1, t2, t3, t4, t5, before.apply1(v), t7, t8);
+        this.runnable8Compose7 = runnable8.compose7(before);
+        this.runnableLambda8Compose7 = (t1, t2, t3, t4, t5, t6, v, t8) -> runnable8.run8(t1, t2, t3, t4, t5, t6, before.apply1(v), t8);
+        this.runnable8Compose8 = runnable8.compose8(before);
+        this.runnableLambda8Compose8 = (t1, t2, t3, t4, t5, t6, t7, v) -> runnable8.run8(t1, t2, t3, t4, t5, t6, t7, before.apply1(v));
+
+        final Function<Integer, Integer> jdkBefore = v -> v * 2;
+        final Function<Integer, Integer> jdkFunction = t1 -> t1;
+        this.jdkFunctionCompose = jdkFunction.compose(jdkBefore);
+    }
+
+    @Benchmark
+    public Integer function1Compose1() {
+        return this.function1Compose1.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer lambda1Compose1() {
+        return this.lambda1Compose1.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer function2Compose1() {
+        return this.function2Compose1.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer lambda2Compose1() {
+        return this.lambda2Compose1.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer function2Compose2() {
+        return this.function2Compose2.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer lambda2Compose2() {
+        return this.lambda2Compose2.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer function3Compose1() {
+        return this.function3Compose1.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer lambda3Compose1() {
+        return this.lambda3Compose1.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer function3Compose2() {
+        return this.function3Compose2.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer lambda3Compose2() {
+        return this.lambda3Compose2.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer function3Compose3() {
+        return this.function3Compose3.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer lambda3Compose3() {
+        return this.lambda3Compose3.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer function4Compose1() {
+        return this.function4Compose1.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4Compose1() {
+        return this.lambda4Compose1.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer function4Compose2() {
+        return this.function4Compose2.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4Compose2() {
+        return this.lambda4Compose2.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer function4Compose3() {
+        return this.function4Compose3.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4Compose3() {
+        return this.lambda4Compose3.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer function4Compose4() {
+        return this.function4Compose4.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4Compose4() {
+        return this.lambda4Compose4.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer function5Compose1() {
+        return this.function5Compose1.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Compose1() {
+        return this.lambda5Compose1.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function5Compose2() {
+        return this.function5Compose2.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Compose2() {
+        return this.lambda5Compose2.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function5Compose3() {
+        return this.function5Compose3.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Compose3() {
+        return this.lambda5Compose3.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function5Compose4() {
+        return this.function5Compose4.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Compose4() {
+        return this.lambda5Compose4.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function5Compose5() {
+        return this.function5Compose5.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Compose5() {
+        return this.lambda5Compose5.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function6Compose1() {
+        return this.function6Compose1.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Compose1() {
+        return this.lambda6Compose1.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Compose2() {
+        return this.function6Compose2.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Compose2() {
+        return this.lambda6Compose2.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Compose3() {
+        return this.function6Compose3.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Compose3() {
+        return this.lambda6Compose3.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Compose4() {
+        return this.function6Compose4.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Compose4() {
+        return this.lambda6Compose4.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Compose5() {
+        return this.function6Compose5.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Compose5() {
+        return this.lambda6Compose5.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Compose6() {
+        return this.function6Compose6.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Compose6() {
+        return this.lambda6Compose6.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function7Compose1() {
+        return this.function7Compose1.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Compose1() {
+        return this.lambda7Compose1.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Compose2() {
+        return this.function7Compose2.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Compose2() {
+        return this.lambda7Compose2.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Compose3() {
+        return this.function7Compose3.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Compose3() {
+        return this.lambda7Compose3.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Compose4() {
+        return this.function7Compose4.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Compose4() {
+        return this.lambda7Compose4.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Compose5() {
+        return this.function7Compose5.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Compose5() {
+        return this.lambda7Compose5.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Compose6() {
+        return this.function7Compose6.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Compose6() {
+        return this.lambda7Compose6.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Compose7() {
+        return this.function7Compose7.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Compose7() {
+        return this.lambda7Compose7.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function8Compose1() {
+        return this.function8Compose1.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Compose1() {
+        return this.lambda8Compose1.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Compose2() {
+        return this.function8Compose2.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Compose2() {
+        return this.lambda8Compose2.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Compose3() {
+        return this.function8Compose3.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Compose3() {
+        return this.lambda8Compose3.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Compose4() {
+        return this.function8Compose4.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Compose4() {
+        return this.lambda8Compose4.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Compose5() {
+        return this.function8Compose5.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Compose5() {
+        return this.lambda8Compose5.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Compose6() {
+        return this.function8Compose6.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Compose6() {
+        return this.lambda8Compose6.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Compose7() {
+        return this.function8Compose7.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Compose7() {
+        return this.lambda8Compose7.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Compose8() {
+        return this.function8Compose8.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Compose8() {
+        return this.lambda8Compose8.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable1Compose1() {
+        this.runnable1Compose1.run1(this.a1);
+    }
+
+    @Benchmark
+    public void runnableLambda1Compose1() {
+        this.runnableLambda1Compose1.run1(this.a1);
+    }
+
+    @Benchmark
+    public void runnable2Compose1() {
+        this.runnable2Compose1.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void runnableLambda2Compose1() {
+        this.runnableLambda2Compose1.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void runnable2Compose2() {
+        this.runnable2Compose2.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void runnableLambda2Compose2() {
+        this.runnableLambda2Compose2.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void runnable3Compose1() {
+        this.runnable3Compose1.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnableLambda3Compose1() {
+        this.runnableLambda3Compose1.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnable3Compose2() {
+        this.runnable3Compose2.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnableLambda3Compose2() {
+        this.runnableLambda3Compose2.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnable3Compose3() {
+        this.runnable3Compose3.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnableLambda3Compose3() {
+        this.runnableLambda3Compose3.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnable4Compose1() {
+        this.runnable4Compose1.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnableLambda4Compose1() {
+        this.runnableLambda4Compose1.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnable4Compose2() {
+        this.runnable4Compose2.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnableLambda4Compose2() {
+        this.runnableLambda4Compose2.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnable4Compose3() {
+        this.runnable4Compose3.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnableLambda4Compose3() {
+        this.runnableLambda4Compose3.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnable4Compose4() {
+        this.runnable4Compose4.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnableLambda4Compose4() {
+        this.runnableLambda4Compose4.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnable5Compose1() {
+        this.runnable5Compose1.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5Compose1() {
+        this.runnableLambda5Compose1.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable5Compose2() {
+        this.runnable5Compose2.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5Compose2() {
+        this.runnableLambda5Compose2.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable5Compose3() {
+        this.runnable5Compose3.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5Compose3() {
+        this.runnableLambda5Compose3.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable5Compose4() {
+        this.runnable5Compose4.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5Compose4() {
+        this.runnableLambda5Compose4.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable5Compose5() {
+        this.runnable5Compose5.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5Compose5() {
+        this.runnableLambda5Compose5.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable6Compose1() {
+        this.runnable6Compose1.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Compose1() {
+        this.runnableLambda6Compose1.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable6Compose2() {
+        this.runnable6Compose2.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Compose2() {
+        this.runnableLambda6Compose2.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable6Compose3() {
+        this.runnable6Compose3.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Compose3() {
+        this.runnableLambda6Compose3.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable6Compose4() {
+        this.runnable6Compose4.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Compose4() {
+        this.runnableLambda6Compose4.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable6Compose5() {
+        this.runnable6Compose5.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Compose5() {
+        this.runnableLambda6Compose5.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable6Compose6() {
+        this.runnable6Compose6.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Compose6() {
+        this.runnableLambda6Compose6.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable7Compose1() {
+        this.runnable7Compose1.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Compose1() {
+        this.runnableLambda7Compose1.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Compose2() {
+        this.runnable7Compose2.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Compose2() {
+        this.runnableLambda7Compose2.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Compose3() {
+        this.runnable7Compose3.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Compose3() {
+        this.runnableLambda7Compose3.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Compose4() {
+        this.runnable7Compose4.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Compose4() {
+        this.runnableLambda7Compose4.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Compose5() {
+        this.runnable7Compose5.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Compose5() {
+        this.runnableLambda7Compose5.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Compose6() {
+        this.runnable7Compose6.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Compose6() {
+        this.runnableLambda7Compose6.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Compose7() {
+        this.runnable7Compose7.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Compose7() {
+        this.runnableLambda7Compose7.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable8Compose1() {
+        this.runnable8Compose1.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Compose1() {
+        this.runnableLambda8Compose1.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Compose2() {
+        this.runnable8Compose2.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Compose2() {
+        this.runnableLambda8Compose2.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Compose3() {
+        this.runnable8Compose3.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Compose3() {
+        this.runnableLambda8Compose3.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Compose4() {
+        this.runnable8Compose4.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Compose4() {
+        this.runnableLambda8Compose4.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Compose5() {
+        this.runnable8Compose5.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Compose5() {
+        this.runnableLambda8Compose5.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Compose6() {
+        this.runnable8Compose6.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Compose6() {
+        this.runnableLambda8Compose6.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Compose7() {
+        this.runnable8Compose7.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Compose7() {
+        this.runnableLambda8Compose7.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Compose8() {
+        this.runnable8Compose8.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Compose8() {
+        this.runnableLambda8Compose8.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer jdkFunctionCompose() {
+        return this.jdkFunctionCompose.apply(this.a1);
+    }
+}
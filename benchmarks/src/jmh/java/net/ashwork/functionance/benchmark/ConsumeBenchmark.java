@@ -0,0 +1,181 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.Function3;
+import net.ashwork.functionance.Function4;
+import net.ashwork.functionance.Function5;
+import net.ashwork.functionance.Function6;
+import net.ashwork.functionance.Function7;
+import net.ashwork.functionance.Function8;
+import net.ashwork.functionance.runnable.Runnable0;
+import net.ashwork.functionance.runnable.Runnable1;
+import net.ashwork.functionance.runnable.Runnable2;
+import net.ashwork.functionance.runnable.Runnable3;
+import net.ashwork.functionance.runnable.Runnable4;
+import net.ashwork.functionance.runnable.Runnable5;
+import net.ashwork.functionance.runnable.Runnable6;
+import net.ashwork.functionance.runnable.Runnable7;
+import net.ashwork.functionance.runnable.Runnable8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the results of {@code consume} on functions against hand-written
+ * lambdas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConsumeBenchmark extends FunctionanceBenchmark {
+
+    private Runnable0 function0Consume, lambda0Consume;
+    private Runnable1<Integer> function1Consume, lambda1Consume;
+    private Runnable2<Integer, Integer> function2Consume, lambda2Consume;
+    private Runnable3<Integer, Integer, Integer> function3Consume, lambda3Consume;
+    private Runnable4<Integer, Integer, Integer, Integer> function4Consume, lambda4Consume;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> function5Consume, lambda5Consume;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> function6Consume, lambda6Consume;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Consume, lambda7Consume;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Consume, lambda8Consume;
+
+    @Override
+    protected void prepare() {
+        final Function0<Integer> function0 = this.function0;
+        this.function0Consume = function0.consume();
+        this.lambda0Consume = () -> function0.apply0();
+        final Function1<Integer, Integer> function1 = this.function1;
+        this.function1Consume = function1.consume();
+        this.lambda1Consume = t1 -> function1.apply1(t1);
+        final Function2<Integer, Integer, Integer> function2 = this.function2;
+        this.function2Consume = function2.consume();
+        this.lambda2Consume = (t1, t2) -> function2.apply2(t1, t2);
+        final Function3<Integer, Integer, Integer, Integer> function3 = this.function3;
+        this.function3Consume = function3.consume();
+        this.lambda3Consume = (t1, t2, t3) -> function3.apply3(t1, t2, t3);
+        final Function4<Integer, Integer, Integer, Integer, Integer> function4 = this.function4;
+        this.function4Consume = function4.consume();
+        this.lambda4Consume = (t1, t2, t3, t4) -> function4.apply4(t1, t2, t3, t4);
+        final Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5 = this.function5;
+        this.function5Consume = function5.consume();
+        this.lambda5Consume = (t1, t2, t3, t4, t5) -> function5.apply5(t1, t2, t3, t4, t5);
+        final Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6 = this.function6;
+        this.function6Consume = function6.consume();
+        this.lambda6Consume = (t1, t2, t3, t4, t5, t6) -> function6.apply6(t1, t2, t3, t4, t5, t6);
+        final Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7 = this.function7;
+        this.function7Consume = function7.consume();
+        this.lambda7Consume = (t1, t2, t3, t4, t5, t6, t7) -> function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+        final Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8 = this.function8;
+        this.function8Consume = function8.consume();
+        this.lambda8Consume = (t1, t2, t3, t4, t5, t6, t7, t8) -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Benchmark
+    public void function0Consume() {
+        this.function0Consume.run0();
+    }
+
+    @Benchmark
+    public void lambda0Consume() {
+        this.lambda0Consume.run0();
+    }
+
+    @Benchmark
+    public void function1Consume() {
+        this.function1Consume.run1(this.a1);
+    }
+
+    @Benchmark
+    public void lambda1Consume() {
+        this.lambda1Consume.run1(this.a1);
+    }
+
+    @Benchmark
+    public void function2Consume() {
+        this.function2Consume.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void lambda2Consume() {
+        this.lambda2Consume.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void function3Consume() {
+        this.function3Consume.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void lambda3Consume() {
+        this.lambda3Consume.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void function4Consume() {
+        this.function4Consume.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void lambda4Consume() {
+        this.lambda4Consume.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void function5Consume() {
+        this.function5Consume.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void lambda5Consume() {
+        this.lambda5Consume.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void function6Consume() {
+        this.function6Consume.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void lambda6Consume() {
+        this.lambda6Consume.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void function7Consume() {
+        this.function7Consume.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void lambda7Consume() {
+        this.lambda7Consume.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void function8Consume() {
+        this.function8Consume.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void lambda8Consume() {
+        this.lambda8Consume.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+}
@@ -0,0 +1,602 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.Function3;
+import net.ashwork.functionance.Function4;
+import net.ashwork.functionance.Function5;
+import net.ashwork.functionance.Function6;
+import net.ashwork.functionance.Function7;
+import net.ashwork.functionance.Function8;
+import net.ashwork.functionance.runnable.Runnable1;
+import net.ashwork.functionance.runnable.Runnable2;
+import net.ashwork.functionance.runnable.Runnable3;
+import net.ashwork.functionance.runnable.Runnable4;
+import net.ashwork.functionance.runnable.Runnable5;
+import net.ashwork.functionance.runnable.Runnable6;
+import net.ashwork.functionance.runnable.Runnable7;
+import net.ashwork.functionance.runnable.Runnable8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the results of {@code curry} on functions and operations against
+ * hand-written curried lambdas. Each benchmark applies every function in the
+ * sequence such that the cost of the intermediate functions is included.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurryBenchmark extends FunctionanceBenchmark {
+
+    private Function1<Integer, Function1<Integer, Integer>> function2Curry, lambda2Curry;
+    private Function1<Integer, Function1<Integer, Function1<Integer, Integer>>> function3Curry, lambda3Curry;
+    private Function1<Integer, Function2<Integer, Integer, Integer>> function3Curry1, lambda3Curry1;
+    private Function2<Integer, Integer, Function1<Integer, Integer>> function3Curry2, lambda3Curry2;
+    private Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Integer>>>> function4Curry, lambda4Curry;
+    private Function1<Integer, Function3<Integer, Integer, Integer, Integer>> function4Curry1, lambda4Curry1;
+    private Function2<Integer, Integer, Function2<Integer, Integer, Integer>> function4Curry2, lambda4Curry2;
+    private Function3<Integer, Integer, Integer, Function1<Integer, Integer>> function4Curry3, lambda4Curry3;
+    private Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Integer>>>>> function5Curry, lambda5Curry;
+    private Function1<Integer, Function4<Integer, Integer, Integer, Integer, Integer>> function5Curry1, lambda5Curry1;
+    private Function2<Integer, Integer, Function3<Integer, Integer, Integer, Integer>> function5Curry2, lambda5Curry2;
+    private Function3<Integer, Integer, Integer, Function2<Integer, Integer, Integer>> function5Curry3, lambda5Curry3;
+    private Function4<Integer, Integer, Integer, Integer, Function1<Integer, Integer>> function5Curry4, lambda5Curry4;
+    private Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Integer>>>>>> function6Curry, lambda6Curry;
+    private Function1<Integer, Function5<Integer, Integer, Integer, Integer, Integer, Integer>> function6Curry1, lambda6Curry1;
+    private Function2<Integer, Integer, Function4<Integer, Integer, Integer, Integer, Integer>> function6Curry2, lambda6Curry2;
+    private Function3<Integer, Integer, Integer, Function3<Integer, Integer, Integer, Integer>> function6Curry3, lambda6Curry3;
+    private Function4<Integer, Integer, Integer, Integer, Function2<Integer, Integer, Integer>> function6Curry4, lambda6Curry4;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Function1<Integer, Integer>> function6Curry5, lambda6Curry5;
+    private Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Integer>>>>>>> function7Curry, lambda7Curry;
+    private Function1<Integer, Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer>> function7Curry1, lambda7Curry1;
+    private Function2<Integer, Integer, Function5<Integer, Integer, Integer, Integer, Integer, Integer>> function7Curry2, lambda7Curry2;
+    private Function3<Integer, Integer, Integer, Function4<Integer, Integer, Integer, Integer, Integer>> function7Curry3, lambda7Curry3;
+    private Function4<Integer, Integer, Integer, Integer, Function3<Integer, Integer, Integer, Integer>> function7Curry4, lambda7Curry4;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Function2<Integer, Integer, Integer>> function7Curry5, lambda7Curry5;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Function1<Integer, Integer>> function7Curry6, lambda7Curry6;
+    private Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Integer>>>>>>>> function8Curry, lambda8Curry;
+    private Function1<Integer, Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>> function8Curry1, lambda8Curry1;
+    private Function2<Integer, Integer, Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer>> function8Curry2, lambda8Curry2;
+    private Function3<Integer, Integer, Integer, Function5<Integer, Integer, Integer, Integer, Integer, Integer>> function8Curry3, lambda8Curry3;
+    private Function4<Integer, Integer, Integer, Integer, Function4<Integer, Integer, Integer, Integer, Integer>> function8Curry4, lambda8Curry4;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Function3<Integer, Integer, Integer, Integer>> function8Curry5, lambda8Curry5;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Function2<Integer, Integer, Integer>> function8Curry6, lambda8Curry6;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Function1<Integer, Integer>> function8Curry7, lambda8Curry7;
+    private Function1<Integer, Runnable1<Integer>> runnable2Curry, runnableLambda2Curry;
+    private Function1<Integer, Function1<Integer, Runnable1<Integer>>> runnable3Curry, runnableLambda3Curry;
+    private Function1<Integer, Function1<Integer, Function1<Integer, Runnable1<Integer>>>> runnable4Curry, runnableLambda4Curry;
+    private Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Runnable1<Integer>>>>> runnable5Curry, runnableLambda5Curry;
+    private Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Runnable1<Integer>>>>>> runnable6Curry, runnableLambda6Curry;
+    private Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Runnable1<Integer>>>>>>> runnable7Curry, runnableLambda7Curry;
+    private Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Runnable1<Integer>>>>>>>> runnable8Curry, runnableLambda8Curry;
+
+    @Override
+    protected void prepare() {
+        final Function2<Integer, Integer, Integer> function2 = this.function2;
+        this.function2Curry = function2.curry();
+        this.lambda2Curry = t1 -> t2 -> function2.apply2(t1, t2);
+        final Function3<Integer, Integer, Integer, Integer> function3 = this.function3;
+        this.function3Curry = function3.curry();
+        this.lambda3Curry = t1 -> t2 -> t3 -> function3.apply3(t1, t2, t3);
+        this.function3Curry1 = function3.curry1();
+        this.lambda3Curry1 = t1 -> (t2, t3) -> function3.apply3(t1, t2, t3);
+        this.function3Curry2 = function3.curry2();
+        this.lambda3Curry2 = (t1, t2) -> t3 -> function3.apply3(t1, t2, t3);
+        final Function4<Integer, Integer, Integer, Integer, Integer> function4 = this.function4;
+        this.function4Curry = function4.curry();
+        this.lambda4Curry = t1 -> t2 -> t3 -> t4 -> function4.apply4(t1, t2, t3, t4);
+        this.function4Curry1 = function4.curry1();
+        this.lambda4Curry1 = t1 -> (t2, t3, t4) -> function4.apply4(t1, t2, t3, t4);
+        this.function4Curry2 = function4.curry2();
+        this.lambda4Curry2 = (t1, t2) -> (t3, t4) -> function4.apply4(t1, t2, t3, t4);
+        this.function4Curry3 = function4.curry3();
+        this.lambda4Curry3 = (t1, t2, t3) -> t4 -> function4.apply4(t1, t2, t3, t4);
+        final Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5 = this.function5;
+        this.function5Curry = function5.curry();
+        this.lambda5Curry = t1 -> t2 -> t3 -> t4 -> t5 -> function5.apply5(t1, t2, t3, t4, t5);
+        this.function5Curry1 = function5.curry1();
+        this.lambda5Curry1 = t1 -> (t2, t3, t4, t5) -> function5.apply5(t1, t2, t3, t4, t5);
+        this.function5Curry2 = function5.curry2();
+        this.lambda5Curry2 = (t1, t2) -> (t3, t4, t5) -> function5.apply5(t1, t2, t3, t4, t5);
+        this.function5Curry3 = function5.curry3();
+        this.lambda5Curry3 = (t1, t2, t3) -> (t4, t5) -> function5.apply5(t1, t2, t3, t4, t5);
+        this.function5Curry4 = function5.curry4();
+        this.lambda5Curry4 = (t1, t2, t3, t4) -> t5 -> function5.apply5(t1, t2, t3, t4, t5);
+        final Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6 = this.function6;
+        this.function6Curry = function6.curry();
+        this.lambda6Curry = t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> function6.apply6(t1, t2, t3, t4, t5, t6);
+        this.function6Curry1 = function6.curry1();
+        this.lambda6Curry1 = t1 -> (t2, t3, t4, t5, t6) -> function6.apply6(t1, t2, t3, t4, t5, t6);
+        this.function6Curry2 = function6.curry2();
+        this.lambda6Curry2 = (t1, t2) -> (t3, t4, t5, t6) -> function6.apply6(t1, t2, t3, t4, t5, t6);
+        this.function6Curry3 = function6.curry3();
+        this.lambda6Curry3 = (t1, t2, t3) -> (t4, t5, t6) -> function6.apply6(t1, t2, t3, t4, t5, t6);
+        this.function6Curry4 = function6.curry4();
+        this.lambda6Curry4 = (t1, t2, t3, t4) -> (t5, t6) -> function6.apply6(t1, t2, t3, t4, t5, t6);
+        this.function6Curry5 = function6.curry5();
+        this.lambda6Curry5 = (t1, t2, t3, t4, t5) -> t6 -> function6.apply6(t1, t2, t3, t4, t5, t6);
+        final Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7 = this.function7;
+        this.function7Curry = function7.curry();
+        this.lambda7Curry = t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+        this.function7Curry1 = function7.curry1();
+        this.lambda7Curry1 = t1 -> (t2, t3, t4, t5, t6, t7) -> function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+        this.function7Curry2 = function7.curry2();
+        this.lambda7Curry2 = (t1, t2) -> (t3, t4, t5, t6, t7) -> function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+        this.function7Curry3 = function7.curry3();
+        this.lambda7Curry3 = (t1, t2, t3) -> (t4, t5, t6, t7) -> function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+        this.function7Curry4 = function7.curry4();
+        this.lambda7Curry4 = (t1, t2, t3, t4) -> (t5, t6, t7) -> function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+        this.function7Curry5 = function7.curry5();
+        this.lambda7Curry5 = (t1, t2, t3, t4, t5) -> (t6, t7) -> function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+        this.function7Curry6 = function7.curry6();
+        this.lambda7Curry6 = (t1, t2, t3, t4, t5, t6) -> t7 -> function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+        final Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8 = this.function8;
+        this.function8Curry = function8.curry();
+        this.lambda8Curry = t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.function8Curry1 = function8.curry1();
+        this.lambda8Curry1 = t1 -> (t2, t3, t4, t5, t6, t7, t8) -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.function8Curry2 = function8.curry2();
+        this.lambda8Curry2 = (t1, t2) -> (t3, t4, t5, t6, t7, t8) -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.function8Curry3 = function8.curry3();
+        this.lambda8Curry3 = (t1, t2, t3) -> (t4, t5, t6, t7, t8) -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.function8Curry4 = function8.curry4();
+        this.lambda8Curry4 = (t1, t2, t3, t4) -> (t5, t6, t7, t8) -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.function8Curry5 = function8.curry5();
+        this.lambda8Curry5 = (t1, t2, t3, t4, t5) -> (t6, t7, t8) -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.function8Curry6 = function8.curry6();
+        this.lambda8Curry6 = (t1, t2, t3, t4, t5, t6) -> (t7, t8) -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.function8Curry7 = function8.curry7();
+        this.lambda8Curry7 = (t1, t2, t3, t4, t5, t6, t7) -> t8 -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+
+        final Runnable2<Integer, Integer> runnable2 = this.runnable2;
+        this.runnable2Curry = runnable2.curry();
+        this.runnableLambda2Curry = t1 -> t2 -> runnable2.run2(t1, t2);
+        final Runnable3<Integer, Integer, Integer> runnable3 = this.runnable3;
+        this.runnable3Curry = runnable3.curry();
+        this.runnableLambda3Curry = t1 -> t2 -> t3 -> runnable3.run3(t1, t2, t3);
+        final Runnable4<Integer, Integer, Integer, Integer> runnable4 = this.runnable4;
+        this.runnable4Curry = runnable4.curry();
+        this.runnableLambda4Curry = t1 -> t2 -> t3 -> t4 -> runnable4.run4(t1, t2, t3, t4);
+        final Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5 = this.runnable5;
+        this.runnable5Curry = runnable5.curry();
+        this.runnableLambda5Curry = t1 -> t2 -> t3 -> t4 -> t5 -> runnable5.run5(t1, t2, t3, t4, t5);
+        final Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6 = this.runnable6;
+        this.runnable6Curry = runnable6.curry();
+        this.runnableLambda6Curry = t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> runnable6.run6(t1, t2, t3, t4, t5, t6);
+        final Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7 = this.runnable7;
+        this.runnable7Curry = runnable7.curry();
+        this.runnableLambda7Curry = t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> runnable7.run7(t1, t2, t3, t4, t5, t6, t7);
+        final Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8 = this.runnable8;
+        this.runnable8Curry = runnable8.curry();
+        this.runnableLambda8Curry = t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> runnable8.run8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Benchmark
+    public Integer function2Curry() {
+        return this.function2Curry.apply1(this.a1).apply1(this.a2);
+    }
+
+    @Benchmark
+    public Integer lambda2Curry() {
+        return this.lambda2Curry.apply1(this.a1).apply1(this.a2);
+    }
+
+    @Benchmark
+    public Integer function3Curry() {
+        return this.function3Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3);
+    }
+
+    @Benchmark
+    public Integer lambda3Curry() {
+        return this.lambda3Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3);
+    }
+
+    @Benchmark
+    public Integer function3Curry1() {
+        return this.function3Curry1.apply1(this.a1).apply2(this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer lambda3Curry1() {
+        return this.lambda3Curry1.apply1(this.a1).apply2(this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer function3Curry2() {
+        return this.function3Curry2.apply2(this.a1, this.a2).apply1(this.a3);
+    }
+
+    @Benchmark
+    public Integer lambda3Curry2() {
+        return this.lambda3Curry2.apply2(this.a1, this.a2).apply1(this.a3);
+    }
+
+    @Benchmark
+    public Integer function4Curry() {
+        return this.function4Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4Curry() {
+        return this.lambda4Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4);
+    }
+
+    @Benchmark
+    public Integer function4Curry1() {
+        return this.function4Curry1.apply1(this.a1).apply3(this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4Curry1() {
+        return this.lambda4Curry1.apply1(this.a1).apply3(this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer function4Curry2() {
+        return this.function4Curry2.apply2(this.a1, this.a2).apply2(this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4Curry2() {
+        return this.lambda4Curry2.apply2(this.a1, this.a2).apply2(this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer function4Curry3() {
+        return this.function4Curry3.apply3(this.a1, this.a2, this.a3).apply1(this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4Curry3() {
+        return this.lambda4Curry3.apply3(this.a1, this.a2, this.a3).apply1(this.a4);
+    }
+
+    @Benchmark
+    public Integer function5Curry() {
+        return this.function5Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4).apply1(this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Curry() {
+        return this.lambda5Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4).apply1(this.a5);
+    }
+
+    @Benchmark
+    public Integer function5Curry1() {
+        return this.function5Curry1.apply1(this.a1).apply4(this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Curry1() {
+        return this.lambda5Curry1.apply1(this.a1).apply4(this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function5Curry2() {
+        return this.function5Curry2.apply2(this.a1, this.a2).apply3(this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Curry2() {
+        return this.lambda5Curry2.apply2(this.a1, this.a2).apply3(this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function5Curry3() {
+        return this.function5Curry3.apply3(this.a1, this.a2, this.a3).apply2(this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Curry3() {
+        return this.lambda5Curry3.apply3(this.a1, this.a2, this.a3).apply2(this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function5Curry4() {
+        return this.function5Curry4.apply4(this.a1, this.a2, this.a3, this.a4).apply1(this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Curry4() {
+        return this.lambda5Curry4.apply4(this.a1, this.a2, this.a3, this.a4).apply1(this.a5);
+    }
+
+    @Benchmark
+    public Integer function6Curry() {
+        return this.function6Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4).apply1(this.a5).apply1(this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Curry() {
+        return this.lambda6Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4).apply1(this.a5).apply1(this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Curry1() {
+        return this.function6Curry1.apply1(this.a1).apply5(this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Curry1() {
+        return this.lambda6Curry1.apply1(this.a1).apply5(this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Curry2() {
+        return this.function6Curry2.apply2(this.a1, this.a2).apply4(this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Curry2() {
+        return this.lambda6Curry2.apply2(this.a1, this.a2).apply4(this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Curry3() {
+        return this.function6Curry3.apply3(this.a1, this.a2, this.a3).apply3(this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Curry3() {
+        return this.lambda6Curry3.apply3(this.a1, this.a2, this.a3).apply3(this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Curry4() {
+        return this.function6Curry4.apply4(this.a1, this.a2, this.a3, this.a4).apply2(this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Curry4() {
+        return this.lambda6Curry4.apply4(this.a1, this.a2, this.a3, this.a4).apply2(this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Curry5() {
+        return this.function6Curry5.apply5(this.a1, this.a2, this.a3, this.a4, this.a5).apply1(this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Curry5() {
+        return this.lambda6Curry5.apply5(this.a1, this.a2, this.a3, this.a4, this.a5).apply1(this.a6);
+    }
+
+    @Benchmark
+    public Integer function7Curry() {
+        return this.function7Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4).apply1(this.a5).apply1(this.a6).apply1(this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Curry() {
+        return this.lambda7Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4).apply1(this.a5).apply1(this.a6).apply1(this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Curry1() {
+        return this.function7Curry1.apply1(this.a1).apply6(this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Curry1() {
+        return this.lambda7Curry1.apply1(this.a1).apply6(this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Curry2() {
+        return this.function7Curry2.apply2(this.a1, this.a2).apply5(this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Curry2() {
+        return this.lambda7Curry2.apply2(this.a1, this.a2).apply5(this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Curry3() {
+        return this.function7Curry3.apply3(this.a1, this.a2, this.a3).apply4(this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Curry3() {
+        return this.lambda7Curry3.apply3(this.a1, this.a2, this.a3).apply4(this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Curry4() {
+        return this.function7Curry4.apply4(this.a1, this.a2, this.a3, this.a4).apply3(this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Curry4() {
+        return this.lambda7Curry4.apply4(this.a1, this.a2, this.a3, this.a4).apply3(this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Curry5() {
+        return this.function7Curry5.apply5(this.a1, this.a2, this.a3, this.a4, this.a5).apply2(this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Curry5() {
+        return this.lambda7Curry5.apply5(this.a1, this.a2, this.a3, this.a4, this.a5).apply2(this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Curry6() {
+        return this.function7Curry6.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6).apply1(this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Curry6() {
+        return this.lambda7Curry6.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6).apply1(this.a7);
+    }
+
+    @Benchmark
+    public Integer function8Curry() {
+        return this.function8Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4).apply1(this.a5).apply1(this.a6).apply1(this.a7).apply1(this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Curry() {
+        return this.lambda8Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4).apply1(this.a5).apply1(this.a6).apply1(this.a7).apply1(this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Curry1() {
+        return this.function8Curry1.apply1(this.a1).apply7(this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Curry1() {
+        return this.lambda8Curry1.apply1(this.a1).apply7(this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Curry2() {
+        return this.function8Curry2.apply2(this.a1, this.a2).apply6(this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Curry2() {
+        return this.lambda8Curry2.apply2(this.a1, this.a2).apply6(this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Curry3() {
+        return this.function8Curry3.apply3(this.a1, this.a2, this.a3).apply5(this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Curry3() {
+        return this.lambda8Curry3.apply3(this.a1, this.a2, this.a3).apply5(this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Curry4() {
+        return this.function8Curry4.apply4(this.a1, this.a2, this.a3, this.a4).apply4(this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Curry4() {
+        return this.lambda8Curry4.apply4(this.a1, this.a2, this.a3, this.a4).apply4(this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Curry5() {
+        return this.function8Curry5.apply5(this.a1, this.a2, this.a3, this.a4, this.a5).apply3(this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Curry5() {
+        return this.lambda8Curry5.apply5(this.a1, this.a2, this.a3, this.a4, this.a5).apply3(this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Curry6() {
+        return this.function8Curry6.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6).apply2(this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Curry6() {
+        return this.lambda8Curry6.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6).apply2(this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Curry7() {
+        return this.function8Curry7.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7).apply1(this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Curry7() {
+        return this.lambda8Curry7.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7).apply1(this.a8);
+    }
+
+    @Benchmark
+    public void runnable2Curry() {
+        this.runnable2Curry.apply1(this.a1).run1(this.a2);
+    }
+
+    @Benchmark
+    public void runnableLambda2Curry() {
+        this.runnableLambda2Curry.apply1(this.a1).run1(this.a2);
+    }
+
+    @Benchmark
+    public void runnable3Curry() {
+        this.runnable3Curry.apply1(this.a1).apply1(this.a2).run1(this.a3);
+    }
+
+    @Benchmark
+    public void runnableLambda3Curry() {
+        this.runnableLambda3Curry.apply1(this.a1).apply1(this.a2).run1(this.a3);
+    }
+
+    @Benchmark
+    public void runnable4Curry() {
+        this.runnable4Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).run1(this.a4);
+    }
+
+    @Benchmark
+    public void runnableLambda4Curry() {
+        this.runnableLambda4Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).run1(this.a4);
+    }
+
+    @Benchmark
+    public void runnable5Curry() {
+        this.runnable5Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4).run1(this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5Curry() {
+        this.runnableLambda5Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4).run1(this.a5);
+    }
+
+    @Benchmark
+    public void runnable6Curry() {
+        this.runnable6Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4).apply1(this.a5).run1(this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Curry() {
+        this.runnableLambda6Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4).apply1(this.a5).run1(this.a6);
+    }
+
+    @Benchmark
+    public void runnable7Curry() {
+        this.runnable7Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4).apply1(this.a5).apply1(this.a6).run1(this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Curry() {
+        this.runnableLambda7Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4).apply1(this.a5).apply1(this.a6).run1(this.a7);
+    }
+
+    @Benchmark
+    public void runnable8Curry() {
+        this.runnable8Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4).apply1(this.a5).apply1(this.a6).apply1(this.a7).run1(this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Curry() {
+        this.runnableLambda8Curry.apply1(this.a1).apply1(this.a2).apply1(this.a3).apply1(this.a4).apply1(this.a5).apply1(this.a6).apply1(this.a7).run1(this.a8);
+    }
+}
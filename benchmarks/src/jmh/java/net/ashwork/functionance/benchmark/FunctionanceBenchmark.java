@@ -0,0 +1,120 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.Function3;
+import net.ashwork.functionance.Function4;
+import net.ashwork.functionance.Function5;
+import net.ashwork.functionance.Function6;
+import net.ashwork.functionance.Function7;
+import net.ashwork.functionance.Function8;
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.runnable.Runnable0;
+import net.ashwork.functionance.runnable.Runnable1;
+import net.ashwork.functionance.runnable.Runnable2;
+import net.ashwork.functionance.runnable.Runnable3;
+import net.ashwork.functionance.runnable.Runnable4;
+import net.ashwork.functionance.runnable.Runnable5;
+import net.ashwork.functionance.runnable.Runnable6;
+import net.ashwork.functionance.runnable.Runnable7;
+import net.ashwork.functionance.runnable.Runnable8;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The shared state of every benchmark in this module. Each arity has a base
+ * function and operation which sums its arguments such that any overhead
+ * measured comes from the combinator being benchmarked.
+ */
+@State(Scope.Benchmark)
+public abstract class FunctionanceBenchmark {
+
+    /**
+     * The arguments passed into each function or operation. These are
+     * not constant to prevent the compiler from folding the result.
+     */
+    protected Integer a1, a2, a3, a4, a5, a6, a7, a8;
+
+    /**
+     * The result written to by each operation.
+     */
+    protected int sink;
+
+    /**
+     * The transformers applied before or after the base functions.
+     */
+    protected Transformer1<Integer, Integer> before, after;
+
+    protected Function0<Integer> function0;
+    protected Function1<Integer, Integer> function1;
+    protected Function2<Integer, Integer, Integer> function2;
+    protected Function3<Integer, Integer, Integer, Integer> function3;
+    protected Function4<Integer, Integer, Integer, Integer, Integer> function4;
+    protected Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5;
+    protected Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6;
+    protected Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7;
+    protected Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8;
+
+    protected Runnable0 runnable0;
+    protected Runnable1<Integer> runnable1;
+    protected Runnable2<Integer, Integer> runnable2;
+    protected Runnable3<Integer, Integer, Integer> runnable3;
+    protected Runnable4<Integer, Integer, Integer, Integer> runnable4;
+    protected Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5;
+    protected Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6;
+    protected Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7;
+    protected Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8;
+
+    @Setup
+    public void setup() {
+        this.a1 = 1;
+        this.a2 = 2;
+        this.a3 = 3;
+        this.a4 = 4;
+        this.a5 = 5;
+        this.a6 = 6;
+        this.a7 = 7;
+        this.a8 = 8;
+        this.before = v -> v * 2;
+        this.after = v -> v + 1;
+
+        this.function0 = () -> this.a1;
+        this.function1 = t1 -> t1;
+        this.function2 = (t1, t2) -> t1 + t2;
+        this.function3 = (t1, t2, t3) -> t1 + t2 + t3;
+        this.function4 = (t1, t2, t3, t4) -> t1 + t2 + t3 + t4;
+        this.function5 = (t1, t2, t3, t4, t5) -> t1 + t2 + t3 + t4 + t5;
+        this.function6 = (t1, t2, t3, t4, t5, t6) -> t1 + t2 + t3 + t4 + t5 + t6;
+        this.function7 = (t1, t2, t3, t4, t5, t6, t7) -> t1 + t2 + t3 + t4 + t5 + t6 + t7;
+        this.function8 = (t1, t2, t3, t4, t5, t6, t7, t8) -> t1 + t2 + t3 + t4 + t5 + t6 + t7 + t8;
+
+        this.runnable0 = () -> this.sink = this.a1;
+        this.runnable1 = t1 -> this.sink = t1;
+        this.runnable2 = (t1, t2) -> this.sink = t1 + t2;
+        this.runnable3 = (t1, t2, t3) -> this.sink = t1 + t2 + t3;
+        this.runnable4 = (t1, t2, t3, t4) -> this.sink = t1 + t2 + t3 + t4;
+        this.runnable5 = (t1, t2, t3, t4, t5) -> this.sink = t1 + t2 + t3 + t4 + t5;
+        this.runnable6 = (t1, t2, t3, t4, t5, t6) -> this.sink = t1 + t2 + t3 + t4 + t5 + t6;
+        this.runnable7 = (t1, t2, t3, t4, t5, t6, t7) -> this.sink = t1 + t2 + t3 + t4 + t5 + t6 + t7;
+        this.runnable8 = (t1, t2, t3, t4, t5, t6, t7, t8) -> this.sink = t1 + t2 + t3 + t4 + t5 + t6 + t7 + t8;
+
+        this.prepare();
+    }
+
+    /**
+     * Constructs the functions and operations specific to the benchmark.
+     * This is called after the base state has been setup.
+     */
+    protected abstract void prepare();
+}
@@ -0,0 +1,784 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.Function3;
+import net.ashwork.functionance.Function4;
+import net.ashwork.functionance.Function5;
+import net.ashwork.functionance.Function6;
+import net.ashwork.functionance.Function7;
+import net.ashwork.functionance.Function8;
+import net.ashwork.functionance.runnable.Runnable0;
+import net.ashwork.functionance.runnable.Runnable1;
+import net.ashwork.functionance.runnable.Runnable2;
+import net.ashwork.functionance.runnable.Runnable3;
+import net.ashwork.functionance.runnable.Runnable4;
+import net.ashwork.functionance.runnable.Runnable5;
+import net.ashwork.functionance.runnable.Runnable6;
+import net.ashwork.functionance.runnable.Runnable7;
+import net.ashwork.functionance.runnable.Runnable8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the results of {@code handle} on functions and operations against
+ * hand-written {@code try}/{@code catch} lambdas. The success path never
+ * throws while the failure path always throws an exception without a stack
+ * trace such that only the cost of handling is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandleBenchmark extends FunctionanceBenchmark {
+
+    /**
+     * The exception thrown by each failing function or operation. The stack
+     * trace is never filled to only measure the cost of handling.
+     */
+    private static final RuntimeException FAILURE = new RuntimeException("Benchmarked failure", null, false, false) {};
+
+    private Function0<Integer> function0HandleSuccess, lambda0HandleSuccess;
+    private Function0<Integer> function0HandleFailure, lambda0HandleFailure;
+    private Function1<Integer, Integer> function1HandleSuccess, lambda1HandleSuccess;
+    private Function1<Integer, Integer> function1HandleFailure, lambda1HandleFailure;
+    private Function2<Integer, Integer, Integer> function2HandleSuccess, lambda2HandleSuccess;
+    private Function2<Integer, Integer, Integer> function2HandleFailure, lambda2HandleFailure;
+    private Function3<Integer, Integer, Integer, Integer> function3HandleSuccess, lambda3HandleSuccess;
+    private Function3<Integer, Integer, Integer, Integer> function3HandleFailure, lambda3HandleFailure;
+    private Function4<Integer, Integer, Integer, Integer, Integer> function4HandleSuccess, lambda4HandleSuccess;
+    private Function4<Integer, Integer, Integer, Integer, Integer> function4HandleFailure, lambda4HandleFailure;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5HandleSuccess, lambda5HandleSuccess;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5HandleFailure, lambda5HandleFailure;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6HandleSuccess, lambda6HandleSuccess;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6HandleFailure, lambda6HandleFailure;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7HandleSuccess, lambda7HandleSuccess;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7HandleFailure, lambda7HandleFailure;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8HandleSuccess, lambda8HandleSuccess;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8HandleFailure, lambda8HandleFailure;
+    private Runnable0 runnable0HandleSuccess, runnableLambda0HandleSuccess;
+    private Runnable0 runnable0HandleFailure, runnableLambda0HandleFailure;
+    private Runnable1<Integer> runnable1HandleSuccess, runnableLambda1HandleSuccess;
+    private Runnable1<Integer> runnable1HandleFailure, runnableLambda1HandleFailure;
+    private Runnable2<Integer, Integer> runnable2HandleSuccess, runnableLambda2HandleSuccess;
+    private Runnable2<Integer, Integer> runnable2HandleFailure, runnableLambda2HandleFailure;
+    private Runnable3<Integer, Integer, Integer> runnable3HandleSuccess, runnableLambda3HandleSuccess;
+    private Runnable3<Integer, Integer, Integer> runnable3HandleFailure, runnableLambda3HandleFailure;
+    private Runnable4<Integer, Integer, Integer, Integer> runnable4HandleSuccess, runnableLambda4HandleSuccess;
+    private Runnable4<Integer, Integer, Integer, Integer> runnable4HandleFailure, runnableLambda4HandleFailure;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5HandleSuccess, runnableLambda5HandleSuccess;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5HandleFailure, runnableLambda5HandleFailure;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6HandleSuccess, runnableLambda6HandleSuccess;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6HandleFailure, runnableLambda6HandleFailure;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7HandleSuccess, runnableLambda7HandleSuccess;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7HandleFailure, runnableLambda7HandleFailure;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8HandleSuccess, runnableLambda8HandleSuccess;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8HandleFailure, runnableLambda8HandleFailure;
+
+    @Override
+    protected void prepare() {
+        final Function0<Integer> function0 = this.function0;
+        final Function0<Integer> throwingFunction0 = () -> { throw FAILURE; };
+        this.function0HandleSuccess = function0.handle(t -> function0);
+        this.lambda0HandleSuccess = () -> {
+            try {
+                return function0.apply0();
+            } catch (final Throwable t) {
+                return function0.apply0();
+            }
+        };
+        this.function0HandleFailure = throwingFunction0.handle(t -> function0);
+        this.lambda0HandleFailure = () -> {
+            try {
+                return throwingFunction0.apply0();
+            } catch (final Throwable t) {
+                return function0.apply0();
+            }
+        };
+        final Function1<Integer, Integer> function1 = this.function1;
+        final Function1<Integer, Integer> throwingFunction1 = t1 -> { throw FAILURE; };
+        this.function1HandleSuccess = function1.handle(t -> function1);
+        this.lambda1HandleSuccess = t1 -> {
+            try {
+                return function1.apply1(t1);
+            } catch (final Throwable t) {
+                return function1.apply1(t1);
+            }
+        };
+        this.function1HandleFailure = throwingFunction1.handle(t -> function1);
+        this.lambda1HandleFailure = t1 -> {
+            try {
+                return throwingFunction1.apply1(t1);
+            } catch (final Throwable t) {
+                return function1.apply1(t1);
+            }
+        };
+        final Function2<Integer, Integer, Integer> function2 = this.function2;
+        final Function2<Integer, Integer, Integer> throwingFunction2 = (t1, t2) -> { throw FAILURE; };
+        this.function2HandleSuccess = function2.handle(t -> function2);
+        this.lambda2HandleSuccess = (t1, t2) -> {
+            try {
+                return function2.apply2(t1, t2);
+            } catch (final Throwable t) {
+                return function2.apply2(t1, t2);
+            }
+        };
+        this.function2HandleFailure = throwingFunction2.handle(t -> function2);
+        this.lambda2HandleFailure = (t1, t2) -> {
+            try {
+                return throwingFunction2.apply2(t1, t2);
+            } catch (final Throwable t) {
+                return function2.apply2(t1, t2);
+            }
+        };
+        final Function3<Integer, Integer, Integer, Integer> function3 = this.function3;
+        final Function3<Integer, Integer, Integer, Integer> throwingFunction3 = (t1, t2, t3) -> { throw FAILURE; };
+        this.function3HandleSuccess = function3.handle(t -> function3);
+        this.lambda3HandleSuccess = (t1, t2, t3) -> {
+            try {
+                return function3.apply3(t1, t2, t3);
+            } catch (final Throwable t) {
+                return function3.apply3(t1, t2, t3);
+            }
+        };
+        this.function3HandleFailure = throwingFunction3.handle(t -> function3);
+        this.lambda3HandleFailure = (t1, t2, t3) -> {
+            try {
+                return throwingFunction3.apply3(t1, t2, t3);
+            } catch (final Throwable t) {
+                return function3.apply3(t1, t2, t3);
+            }
+        };
+        final Function4<Integer, Integer, Integer, Integer, Integer> function4 = this.function4;
+        final Function4<Integer, Integer, Integer, Integer, Integer> throwingFunction4 = (t1, t2, t3, t4) -> { throw FAILURE; };
+        this.function4HandleSuccess = function4.handle(t -> function4);
+        this.lambda4HandleSuccess = (t1, t2, t3, t4) -> {
+            try {
+                return function4.apply4(t1, t2, t3, t4);
+            } catch (final Throwable t) {
+                return function4.apply4(t1, t2, t3, t4);
+            }
+        };
+        this.function4HandleFailure = throwingFunction4.handle(t -> function4);
+        this.lambda4HandleFailure = (t1, t2, t3, t4) -> {
+            try {
+                return throwingFunction4.apply4(t1, t2, t3, t4);
+            } catch (final Throwable t) {
+                return function4.apply4(t1, t2, t3, t4);
+            }
+        };
+        final Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5 = this.function5;
+        final Function5<Integer, Integer, Integer, Integer, Integer, Integer> throwingFunction5 = (t1, t2, t3, t4, t5) -> { throw FAILURE; };
+        this.function5HandleSuccess = function5.handle(t -> function5);
+        this.lambda5HandleSuccess = (t1, t2, t3, t4, t5) -> {
+            try {
+                return function5.apply5(t1, t2, t3, t4, t5);
+            } catch (final Throwable t) {
+                return function5.apply5(t1, t2, t3, t4, t5);
+            }
+        };
+        this.function5HandleFailure = throwingFunction5.handle(t -> function5);
+        this.lambda5HandleFailure = (t1, t2, t3, t4, t5) -> {
+            try {
+                return throwingFunction5.apply5(t1, t2, t3, t4, t5);
+            } catch (final Throwable t) {
+                return function5.apply5(t1, t2, t3, t4, t5);
+            }
+        };
+        final Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6 = this.function6;
+        final Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> throwingFunction6 = (t1, t2, t3, t4, t5, t6) -> { throw FAILURE; };
+        this.function6HandleSuccess = function6.handle(t -> function6);
+        this.lambda6HandleSuccess = (t1, t2, t3, t4, t5, t6) -> {
+            try {
+                return function6.apply6(t1, t2, t3, t4, t5, t6);
+            } catch (final Throwable t) {
+                return function6.apply6(t1, t2, t3, t4, t5, t6);
+            }
+        };
+        this.function6HandleFailure = throwingFunction6.handle(t -> function6);
+        this.lambda6HandleFailure = (t1, t2, t3, t4, t5, t6) -> {
+            try {
+                return throwingFunction6.apply6(t1, t2, t3, t4, t5, t6);
+            } catch (final Throwable t) {
+                return function6.apply6(t1, t2, t3, t4, t5, t6);
+            }
+        };
+        final Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7 = this.function7;
+        final Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> throwingFunction7 = (t1, t2, t3, t4, t5, t6, t7) -> { throw FAILURE; };
+        this.function7HandleSuccess = function7.handle(t -> function7);
+        this.lambda7HandleSuccess = (t1, t2, t3, t4, t5, t6, t7) -> {
+            try {
+                return function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+            } catch (final Throwable t) {
+                return function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+            }
+        };
+        this.function7HandleFailure = throwingFunction7.handle(t -> function7);
+        this.lambda7HandleFailure = (t1, t2, t3, t4, t5, t6, t7) -> {
+            try {
+                return throwingFunction7.apply7(t1, t2, t3, t4, t5, t6, t7);
+            } catch (final Throwable t) {
+                return function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+            }
+        };
+        final Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8 = this.function8;
+        final Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> throwingFunction8 = (t1, t2, t3, t4, t5, t6, t7, t8) -> { throw FAILURE; };
+        this.function8HandleSuccess = function8.handle(t -> function8);
+        this.lambda8HandleSuccess = (t1, t2, t3, t4, t5, t6, t7, t8) -> {
+            try {
+                return function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+            } catch (final Throwable t) {
+                return function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+            }
+        };
+        this.function8HandleFailure = throwingFunction8.handle(t -> function8);
+        this.lambda8HandleFailure = (t1, t2, t3, t4, t5, t6, t7, t8) -> {
+            try {
+                return throwingFunction8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+            } catch (final Throwable t) {
+                return function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+            }
+        };
+
+        final Runnable0 runnable0 = this.runnable0;
+        final Runnable0 throwingRunnable0 = () -> { throw FAILURE; };
+        this.runnable0HandleSuccess = runnable0.handle(t -> runnable0);
+        this.runnableLambda0HandleSuccess = () -> {
+            try {
+                runnable0.run0();
+            } catch (final Throwable t) {
+                runnable0.run0();
+            }
+        };
+        this.runnable0HandleFailure = throwingRunnable0.handle(t -> runnable0);
+        this.runnableLambda0HandleFailure = () -> {
+            try {
+                throwingRunnable0.run0();
+            } catch (final Throwable t) {
+                runnable0.run0();
+            }
+        };
+        final Runnable1<Integer> runnable1 = this.runnable1;
+        final Runnable1<Integer> throwingRunnable1 = t1 -> { throw FAILURE; };
+        this.runnable1HandleSuccess = runnable1.handle(t -> runnable1);
+        this.runnableLambda1HandleSuccess = t1 -> {
+            try {
+                runnable1.run1(t1);
+            } catch (final Throwable t) {
+                runnable1.run1(t1);
+            }
+        };
+        this.runnable1HandleFailure = throwingRunnable1.handle(t -> runnable1);
+        this.runnableLambda1HandleFailure = t1 -> {
+            try {
+                throwingRunnable1.run1(t1);
+            } catch (final Throwable t) {
+                runnable1.run1(t1);
+            }
+        };
+        final Runnable2<Integer, Integer> runnable2 = this.runnable2;
+        final Runnable2<Integer, Integer> throwingRunnable2 = (t1, t2) -> { throw FAILURE; };
+        this.runnable2HandleSuccess = runnable2.handle(t -> runnable2);
+        this.runnableLambda2HandleSuccess = (t1, t2) -> {
+            try {
+                runnable2.run2(t1, t2);
+            } catch (final Throwable t) {
+                runnable2.run2(t1, t2);
+            }
+        };
+        this.runnable2HandleFailure = throwingRunnable2.handle(t -> runnable2);
+        this.runnableLambda2HandleFailure = (t1, t2) -> {
+            try {
+                throwingRunnable2.run2(t1, t2);
+            } catch (final Throwable t) {
+                runnable2.run2(t1, t2);
+            }
+        };
+        final Runnable3<Integer, Integer, Integer> runnable3 = this.runnable3;
+        final Runnable3<Integer, Integer, Integer> throwingRunnable3 = (t1, t2, t3) -> { throw FAILURE; };
+        this.runnable3HandleSuccess = runnable3.handle(t -> runnable3);
+        this.runnableLambda3HandleSuccess = (t1, t2, t3) -> {
+            try {
+                runnable3.run3(t1, t2, t3);
+            } catch (final Throwable t) {
+                runnable3.run3(t1, t2, t3);
+            }
+        };
+        this.runnable3HandleFailure = throwingRunnable3.handle(t -> runnable3);
+        this.runnableLambda3HandleFailure = (t1, t2, t3) -> {
+            try {
+                throwingRunnable3.run3(t1, t2, t3);
+            } catch (final Throwable t) {
+                runnable3.run3(t1, t2, t3);
+            }
+        };
+        final Runnable4<Integer, Integer, Integer, Integer> runnable4 = this.runnable4;
+        final Runnable4<Integer, Integer, Integer, Integer> throwingRunnable4 = (t1, t2, t3, t4) -> { throw FAILURE; };
+        this.runnable4HandleSuccess = runnable4.handle(t -> runnable4);
+        this.runnableLambda4HandleSuccess = (t1, t2, t3, t4) -> {
+            try {
+                runnable4.run4(t1, t2, t3, t4);
+            } catch (final Throwable t) {
+                runnable4.run4(t1, t2, t3, t4);
+            }
+        };
+        this.runnable4HandleFailure = throwingRunnable4.handle(t -> runnable4);
+        this.runnableLambda4HandleFailure = (t1, t2, t3, t4) -> {
+            try {
+                throwingRunnable4.run4(t1, t2, t3, t4);
+            } catch (final Throwable t) {
+                runnable4.run4(t1, t2, t3, t4);
+            }
+        };
+        final Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5 = this.runnable5;
+        final Runnable5<Integer, Integer, Integer, Integer, Integer> throwingRunnable5 = (t1, t2, t3, t4, t5) -> { throw FAILURE; };
+        this.runnable5HandleSuccess = runnable5.handle(t -> runnable5);
+        this.runnableLambda5HandleSuccess = (t1, t2, t3, t4, t5) -> {
+            try {
+                runnable5.run5(t1, t2, t3, t4, t5);
+            } catch (final Throwable t) {
+                runnable5.run5(t1, t2, t3, t4, t5);
+            }
+        };
+        this.runnable5HandleFailure = throwingRunnable5.handle(t -> runnable5);
+        this.runnableLambda5HandleFailure = (t1, t2, t3, t4, t5) -> {
+            try {
+                throwingRunnable5.run5(t1, t2, t3, t4, t5);
+            } catch (final Throwable t) {
+                runnable5.run5(t1, t2, t3, t4, t5);
+            }
+        };
+        final Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6 = this.runnable6;
+        final Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> throwingRunnable6 = (t1, t2, t3, t4, t5, t6) -> { throw FAILURE; };
+        this.runnable6HandleSuccess = runnable6.handle(t -> runnable6);
+        this.runnableLambda6HandleSuccess = (t1, t2, t3, t4, t5, t6) -> {
+            try {
+                runnable6.run6(t1, t2, t3, t4, t5, t6);
+            } catch (final Throwable t) {
+                runnable6.run6(t1, t2, t3, t4, t5, t6);
+            }
+        };
+        this.runnable6HandleFailure = throwingRunnable6.handle(t -> runnable6);
+        this.runnableLambda6HandleFailure = (t1, t2, t3, t4, t5, t6) -> {
+            try {
+                throwingRunnable6.run6(t1, t2, t3, t4, t5, t6);
+            } catch (final Throwable t) {
+                runnable6.run6(t1, t2, t3, t4, t5, t6);
+            }
+        };
+        final Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7 = this.runnable7;
+        final Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> throwingRunnable7 = (t1, t2, t3, t4, t5, t6, t7) -> { throw FAILURE; };
+        this.runnable7HandleSuccess = runnable7.handle(t -> runnable7);
+        this.runnableLambda7HandleSuccess = (t1, t2, t3, t4, t5, t6, t7) -> {
+            try {
+                runnable7.run7(t1, t2, t3, t4, t5, t6, t7);
+            } catch (final Throwable t) {
+                runnable7.run7(t1, t2, t3, t4, t5, t6, t7);
+            }
+        };
+        this.runnable7HandleFailure = throwingRunnable7.handle(t -> runnable7);
+        this.runnableLambda7HandleFailure = (t1, t2, t3, t4, t5, t6, t7) -> {
+            try {
+                throwingRunnable7.run7(t1, t2, t3, t4, t5, t6, t7);
+            } catch (final Throwable t) {
+                runnable7.run7(t1, t2, t3, t4, t5, t6, t7);
+            }
+        };
+        final Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8 = this.runnable8;
+        final Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> throwingRunnable8 = (t1, t2, t3, t4, t5, t6, t7, t8) -> { throw FAILURE; };
+        this.runnable8HandleSuccess = runnable8.handle(t -> runnable8);
+        this.runnableLambda8HandleSuccess = (t1, t2, t3, t4, t5, t6, t7, t8) -> {
+            try {
+                runnable8.run8(t1, t2, t3, t4, t5, t6, t7, t8);
+            } catch (final Throwable t) {
+                runnable8.run8(t1, t2, t3, t4, t5, t6, t7, t8);
+            }
+        };
+        this.runnable8HandleFailure = throwingRunnable8.handle(t -> runnable8);
+        this.runnableLambda8HandleFailure = (t1, t2, t3, t4, t5, t6, t7, t8) -> {
+            try {
+                throwingRunnable8.run8(t1, t2, t3, t4, t5, t6, t7, t8);
+            } catch (final Throwable t) {
+                runnable8.run8(t1, t2, t3, t4, t5, t6, t7, t8);
+            }
+        };
+    }
+
+    @Benchmark
+    public Integer function0HandleSuccess() {
+        return this.function0HandleSuccess.apply0();
+    }
+
+    @Benchmark
+    public Integer lambda0HandleSuccess() {
+        return this.lambda0HandleSuccess.apply0();
+    }
+
+    @Benchmark
+    public Integer function0HandleFailure() {
+        return this.function0HandleFailure.apply0();
+    }
+
+    @Benchmark
+    public Integer lambda0HandleFailure() {
+        return this.lambda0HandleFailure.apply0();
+    }
+
+    @Benchmark
+    public Integer function1HandleSuccess() {
+        return this.function1HandleSuccess.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer lambda1HandleSuccess() {
+        return this.lambda1HandleSuccess.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer function1HandleFailure() {
+        return this.function1HandleFailure.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer lambda1HandleFailure() {
+        return this.lambda1HandleFailure.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer function2HandleSuccess() {
+        return this.function2HandleSuccess.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer lambda2HandleSuccess() {
+        return this.lambda2HandleSuccess.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer function2HandleFailure() {
+        return this.function2HandleFailure.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer lambda2HandleFailure() {
+        return this.lambda2HandleFailure.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer function3HandleSuccess() {
+        return this.function3HandleSuccess.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer lambda3HandleSuccess() {
+        return this.lambda3HandleSuccess.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer function3HandleFailure() {
+        return this.function3HandleFailure.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer lambda3HandleFailure() {
+        return this.lambda3HandleFailure.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer function4HandleSuccess() {
+        return this.function4HandleSuccess.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4HandleSuccess() {
+        return this.lambda4HandleSuccess.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer function4HandleFailure() {
+        return this.function4HandleFailure.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4HandleFailure() {
+        return this.lambda4HandleFailure.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer function5HandleSuccess() {
+        return this.function5HandleSuccess.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5HandleSuccess() {
+        return this.lambda5HandleSuccess.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function5HandleFailure() {
+        return this.function5HandleFailure.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5HandleFailure() {
+        return this.lambda5HandleFailure.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function6HandleSuccess() {
+        return this.function6HandleSuccess.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6HandleSuccess() {
+        return this.lambda6HandleSuccess.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6HandleFailure() {
+        return this.function6HandleFailure.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6HandleFailure() {
+        return this.lambda6HandleFailure.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function7HandleSuccess() {
+        return this.function7HandleSuccess.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7HandleSuccess() {
+        return this.lambda7HandleSuccess.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7HandleFailure() {
+        return this.function7HandleFailure.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7HandleFailure() {
+        return this.lambda7HandleFailure.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function8HandleSuccess() {
+        return this.function8HandleSuccess.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8HandleSuccess() {
+        return this.lambda8HandleSuccess.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8HandleFailure() {
+        return this.function8HandleFailure.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8HandleFailure() {
+        return this.lambda8HandleFailure.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable0HandleSuccess() {
+        this.runnable0HandleSuccess.run0();
+    }
+
+    @Benchmark
+    public void runnableLambda0HandleSuccess() {
+        this.runnableLambda0HandleSuccess.run0();
+    }
+
+    @Benchmark
+    public void runnable0HandleFailure() {
+        this.runnable0HandleFailure.run0();
+    }
+
+    @Benchmark
+    public void runnableLambda0HandleFailure() {
+        this.runnableLambda0HandleFailure.run0();
+    }
+
+    @Benchmark
+    public void runnable1HandleSuccess() {
+        this.runnable1HandleSuccess.run1(this.a1);
+    }
+
+    @Benchmark
+    public void runnableLambda1HandleSuccess() {
+        this.runnableLambda1HandleSuccess.run1(this.a1);
+    }
+
+    @Benchmark
+    public void runnable1HandleFailure() {
+        this.runnable1HandleFailure.run1(this.a1);
+    }
+
+    @Benchmark
+    public void runnableLambda1HandleFailure() {
+        this.runnableLambda1HandleFailure.run1(this.a1);
+    }
+
+    @Benchmark
+    public void runnable2HandleSuccess() {
+        this.runnable2HandleSuccess.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void runnableLambda2HandleSuccess() {
+        this.runnableLambda2HandleSuccess.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void runnable2HandleFailure() {
+        this.runnable2HandleFailure.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void runnableLambda2HandleFailure() {
+        this.runnableLambda2HandleFailure.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void runnable3HandleSuccess() {
+        this.runnable3HandleSuccess.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnableLambda3HandleSuccess() {
+        this.runnableLambda3HandleSuccess.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnable3HandleFailure() {
+        this.runnable3HandleFailure.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnableLambda3HandleFailure() {
+        this.runnableLambda3HandleFailure.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnable4HandleSuccess() {
+        this.runnable4HandleSuccess.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnableLambda4HandleSuccess() {
+        this.runnableLambda4HandleSuccess.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnable4HandleFailure() {
+        this.runnable4HandleFailure.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnableLambda4HandleFailure() {
+        this.runnableLambda4HandleFailure.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnable5HandleSuccess() {
+        this.runnable5HandleSuccess.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5HandleSuccess() {
+        this.runnableLambda5HandleSuccess.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable5HandleFailure() {
+        this.runnable5HandleFailure.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5HandleFailure() {
+        this.runnableLambda5HandleFailure.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable6HandleSuccess() {
+        this.runnable6HandleSuccess.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6HandleSuccess() {
+        this.runnableLambda6HandleSuccess.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable6HandleFailure() {
+        this.runnable6HandleFailure.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6HandleFailure() {
+        this.runnableLambda6HandleFailure.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable7HandleSuccess() {
+        this.runnable7HandleSuccess.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7HandleSuccess() {
+        this.runnableLambda7HandleSuccess.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7HandleFailure() {
+        this.runnable7HandleFailure.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7HandleFailure() {
+        this.runnableLambda7HandleFailure.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable8HandleSuccess() {
+        this.runnable8HandleSuccess.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8HandleSuccess() {
+        this.runnableLambda8HandleSuccess.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8HandleFailure() {
+        this.runnable8HandleFailure.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8HandleFailure() {
+        this.runnableLambda8HandleFailure.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.Function4;
+import net.ashwork.functionance.metrics.Registry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of recording the calls and latencies of a function,
+ * either of every call or one in every {@code 64} calls, against calling it
+ * directly, from several threads at once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class InstrumentBenchmark extends FunctionanceBenchmark {
+
+    private Function4<Integer, Integer, Integer, Integer, Integer> instrumented, sampled;
+
+    @Override
+    protected void prepare() {
+        final Registry registry = Registry.create();
+        this.instrumented = registry.instrument("benchmark").decorate(this.function4);
+        this.sampled = registry.instrument("sampled", 64).decorate(this.function4);
+    }
+
+    @Benchmark
+    public Integer direct() {
+        return this.function4.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer instrumented() {
+        return this.instrumented.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer sampled() {
+        return this.sampled.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+}
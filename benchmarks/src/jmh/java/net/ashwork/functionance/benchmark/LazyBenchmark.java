@@ -0,0 +1,73 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.cache.LazyMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reading the result of a lazy function after it has been
+ * initialized in every {@link LazyMode} against reading a plain field. The
+ * results should be indistinguishable from one another.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyBenchmark extends FunctionanceBenchmark {
+
+    private Function0<Integer> synchronizedLazy, publicationLazy, noneLazy;
+    private Integer field;
+
+    @Override
+    protected void prepare() {
+        this.synchronizedLazy = this.function0.memoize(LazyMode.SYNCHRONIZED);
+        this.publicationLazy = this.function0.memoize(LazyMode.PUBLICATION);
+        this.noneLazy = this.function0.memoize(LazyMode.NONE);
+        this.synchronizedLazy.apply0();
+        this.publicationLazy.apply0();
+        this.noneLazy.apply0();
+        this.field = this.function0.apply0();
+    }
+
+    @Benchmark
+    public Integer field() {
+        return this.field;
+    }
+
+    @Benchmark
+    public Integer function0() {
+        return this.function0.apply0();
+    }
+
+    @Benchmark
+    public Integer synchronizedLazy() {
+        return this.synchronizedLazy.apply0();
+    }
+
+    @Benchmark
+    public Integer publicationLazy() {
+        return this.publicationLazy.apply0();
+    }
+
+    @Benchmark
+    public Integer noneLazy() {
+        return this.noneLazy.apply0();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.resilience.AdaptiveLimiter;
+import net.ashwork.functionance.resilience.Bulkhead;
+import net.ashwork.functionance.resilience.CircuitBreaker;
+import net.ashwork.functionance.resilience.RateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost a circuit breaker, bulkhead, adaptive limiter, and
+ * rate limiter add to a call which is admitted, from several threads at once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class LimiterBenchmark extends FunctionanceBenchmark {
+
+    private Function2<Integer, Integer, Integer> breaker, bulkhead, aimd, gradient, rate;
+
+    @Override
+    protected void prepare() {
+        this.breaker = CircuitBreaker.builder().build().decorate(this.function2);
+        this.bulkhead = Bulkhead.builder(Integer.MAX_VALUE).build().decorate(this.function2);
+        this.aimd = AdaptiveLimiter.builder(AdaptiveLimiter.Algorithm.AIMD).limits(1000, 1000, 1000).build().decorate(this.function2);
+        this.gradient = AdaptiveLimiter.builder(AdaptiveLimiter.Algorithm.GRADIENT).limits(1000, 1000, 1000).build().decorate(this.function2);
+        this.rate = RateLimiter.builder(Integer.MAX_VALUE, 1L, TimeUnit.SECONDS).build().decorate(this.function2);
+    }
+
+    @Benchmark
+    public Integer direct() {
+        return this.function2.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer breaker() {
+        return this.breaker.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer bulkhead() {
+        return this.bulkhead.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer aimd() {
+        return this.aimd.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer gradient() {
+        return this.gradient.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer rate() {
+        return this.rate.apply2(this.a1, this.a2);
+    }
+}
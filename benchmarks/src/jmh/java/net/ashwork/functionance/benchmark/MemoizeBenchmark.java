@@ -0,0 +1,90 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function3;
+import net.ashwork.functionance.Function8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reading a cached result from memoized functions against a
+ * {@link ConcurrentHashMap} whose keys are lists of the arguments, which
+ * allocates a key on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoizeBenchmark extends FunctionanceBenchmark {
+
+    private Function1<Integer, Integer> memoized1, map1;
+    private Function3<Integer, Integer, Integer, Integer> memoized3, map3;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> memoized8, map8;
+
+    @Override
+    protected void prepare() {
+        final Function1<Integer, Integer> function1 = this.function1;
+        final Function3<Integer, Integer, Integer, Integer> function3 = this.function3;
+        final Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8 = this.function8;
+        this.memoized1 = function1.memoize();
+        this.memoized3 = function3.memoize();
+        this.memoized8 = function8.memoize();
+
+        final Map<Integer, Integer> cache1 = new ConcurrentHashMap<>();
+        final Map<List<Integer>, Integer> cache3 = new ConcurrentHashMap<>(), cache8 = new ConcurrentHashMap<>();
+        this.map1 = t1 -> cache1.computeIfAbsent(t1, function1::apply1);
+        this.map3 = (t1, t2, t3) -> cache3.computeIfAbsent(Arrays.asList(t1, t2, t3), key -> function3.apply3(t1, t2, t3));
+        this.map8 = (t1, t2, t3, t4, t5, t6, t7, t8) -> cache8.computeIfAbsent(Arrays.asList(t1, t2, t3, t4, t5, t6, t7, t8),
+                key -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8));
+    }
+
+    @Benchmark
+    public Integer memoized1() {
+        return this.memoized1.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer map1() {
+        return this.map1.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer memoized3() {
+        return this.memoized3.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer map3() {
+        return this.map3.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer memoized8() {
+        return this.memoized8.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer map8() {
+        return this.map8.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+}
@@ -0,0 +1,1017 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.Function3;
+import net.ashwork.functionance.Function4;
+import net.ashwork.functionance.Function5;
+import net.ashwork.functionance.Function6;
+import net.ashwork.functionance.Function7;
+import net.ashwork.functionance.Function8;
+import net.ashwork.functionance.runnable.Runnable0;
+import net.ashwork.functionance.runnable.Runnable1;
+import net.ashwork.functionance.runnable.Runnable2;
+import net.ashwork.functionance.runnable.Runnable3;
+import net.ashwork.functionance.runnable.Runnable4;
+import net.ashwork.functionance.runnable.Runnable5;
+import net.ashwork.functionance.runnable.Runnable6;
+import net.ashwork.functionance.runnable.Runnable7;
+import net.ashwork.functionance.runnable.Runnable8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the results of {@code partialN} on every argument of functions
+ * and operations against hand-written lambdas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartialBenchmark extends FunctionanceBenchmark {
+
+    private Function0<Integer> function1Partial1, lambda1Partial1;
+    private Function1<Integer, Integer> function2Partial1, lambda2Partial1;
+    private Function1<Integer, Integer> function2Partial2, lambda2Partial2;
+    private Function2<Integer, Integer, Integer> function3Partial1, lambda3Partial1;
+    private Function2<Integer, Integer, Integer> function3Partial2, lambda3Partial2;
+    private Function2<Integer, Integer, Integer> function3Partial3, lambda3Partial3;
+    private Function3<Integer, Integer, Integer, Integer> function4Partial1, lambda4Partial1;
+    private Function3<Integer, Integer, Integer, Integer> function4Partial2, lambda4Partial2;
+    private Function3<Integer, Integer, Integer, Integer> function4Partial3, lambda4Partial3;
+    private Function3<Integer, Integer, Integer, Integer> function4Partial4, lambda4Partial4;
+    private Function4<Integer, Integer, Integer, Integer, Integer> function5Partial1, lambda5Partial1;
+    private Function4<Integer, Integer, Integer, Integer, Integer> function5Partial2, lambda5Partial2;
+    private Function4<Integer, Integer, Integer, Integer, Integer> function5Partial3, lambda5Partial3;
+    private Function4<Integer, Integer, Integer, Integer, Integer> function5Partial4, lambda5Partial4;
+    private Function4<Integer, Integer, Integer, Integer, Integer> function5Partial5, lambda5Partial5;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function6Partial1, lambda6Partial1;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function6Partial2, lambda6Partial2;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function6Partial3, lambda6Partial3;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function6Partial4, lambda6Partial4;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function6Partial5, lambda6Partial5;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function6Partial6, lambda6Partial6;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Partial1, lambda7Partial1;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Partial2, lambda7Partial2;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Partial3, lambda7Partial3;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Partial4, lambda7Partial4;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Partial5, lambda7Partial5;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Partial6, lambda7Partial6;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Partial7, lambda7Partial7;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Partial1, lambda8Partial1;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Partial2, lambda8Partial2;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Partial3, lambda8Partial3;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Partial4, lambda8Partial4;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Partial5, lambda8Partial5;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Partial6, lambda8Partial6;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Partial7, lambda8Partial7;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Partial8, lambda8Partial8;
+    private Runnable0 runnable1Partial1, runnableLambda1Partial1;
+    private Runnable1<Integer> runnable2Partial1, runnableLambda2Partial1;
+    private Runnable1<Integer> runnable2Partial2, runnableLambda2Partial2;
+    private Runnable2<Integer, Integer> runnable3Partial1, runnableLambda3Partial1;
+    private Runnable2<Integer, Integer> runnable3Partial2, runnableLambda3Partial2;
+    private Runnable2<Integer, Integer> runnable3Partial3, runnableLambda3Partial3;
+    private Runnable3<Integer, Integer, Integer> runnable4Partial1, runnableLambda4Partial1;
+    private Runnable3<Integer, Integer, Integer> runnable4Partial2, runnableLambda4Partial2;
+    private Runnable3<Integer, Integer, Integer> runnable4Partial3, runnableLambda4Partial3;
+    private Runnable3<Integer, Integer, Integer> runnable4Partial4, runnableLambda4Partial4;
+    private Runnable4<Integer, Integer, Integer, Integer> runnable5Partial1, runnableLambda5Partial1;
+    private Runnable4<Integer, Integer, Integer, Integer> runnable5Partial2, runnableLambda5Partial2;
+    private Runnable4<Integer, Integer, Integer, Integer> runnable5Partial3, runnableLambda5Partial3;
+    private Runnable4<Integer, Integer, Integer, Integer> runnable5Partial4, runnableLambda5Partial4;
+    private Runnable4<Integer, Integer, Integer, Integer> runnable5Partial5, runnableLambda5Partial5;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable6Partial1, runnableLambda6Partial1;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable6Partial2, runnableLambda6Partial2;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable6Partial3, runnableLambda6Partial3;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable6Partial4, runnableLambda6Partial4;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable6Partial5, runnableLambda6Partial5;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable6Partial6, runnableLambda6Partial6;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable7Partial1, runnableLambda7Partial1;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable7Partial2, runnableLambda7Partial2;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable7Partial3, runnableLambda7Partial3;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable7Partial4, runnableLambda7Partial4;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable7Partial5, runnableLambda7Partial5;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable7Partial6, runnableLambda7Partial6;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable7Partial7, runnableLambda7Partial7;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Partial1, runnableLambda8Partial1;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Partial2, runnableLambda8Partial2;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Partial3, runnableLambda8Partial3;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Partial4, runnableLambda8Partial4;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Partial5, runnableLambda8Partial5;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Partial6, runnableLambda8Partial6;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Partial7, runnableLambda8Partial7;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Partial8, runnableLambda8Partial8;
+
+    @Override
+    protected void prepare() {
+        final Integer a1 = this.a1;
+        final Integer a2 = this.a2;
+        final Integer a3 = this.a3;
+        final Integer a4 = this.a4;
+        final Integer a5 = this.a5;
+        final Integer a6 = this.a6;
+        final Integer a7 = this.a7;
+        final Integer a8 = this.a8;
+
+        final Function1<Integer, Integer> function1 = this.function1;
+        this.function1Partial1 = function1.partial1(this.a1);
+        this.lambda1Partial1 = () -> function1.apply1(a1);
+        final Function2<Integer, Integer, Integer> function2 = this.function2;
+        this.function2Partial1 = function2.partial1(this.a1);
+        this.lambda2Partial1 = t2 -> function2.apply2(a1, t2);
+        this.function2Partial2 = function2.partial2(this.a2);
+        this.lambda2Partial2 = t1 -> function2.apply2(t1, a2);
+        final Function3<Integer, Integer, Integer, Integer> function3 = this.function3;
+        this.function3Partial1 = function3.partial1(this.a1);
+        this.lambda3Partial1 = (t2, t3) -> function3.apply3(a1, t2, t3);
+        this.function3Partial2 = function3.partial2(this.a2);
+        this.lambda3Partial2 = (t1, t3) -> function3.apply3(t1, a2, t3);
+        this.function3Partial3 = function3.partial3(this.a3);
+        this.lambda3Partial3 = (t1, t2) -> function3.apply3(t1, t2, a3);
+        final Function4<Integer, Integer, Integer, Integer, Integer> function4 = this.function4;
+        this.function4Partial1 = function4.partial1(this.a1);
+        this.lambda4Partial1 = (t2, t3, t4) -> function4.apply4(a1, t2, t3, t4);
+        this.function4Partial2 = function4.partial2(this.a2);
+        this.lambda4Partial2 = (t1, t3, t4) -> function4.apply4(t1, a2, t3, t4);
+        this.function4Partial3 = function4.partial3(this.a3);
+        this.lambda4Partial3 = (t1, t2, t4) -> function4.apply4(t1, t2, a3, t4);
+        this.function4Partial4 = function4.partial4(this.a4);
+        this.lambda4Partial4 = (t1, t2, t3) -> function4.apply4(t1, t2, t3, a4);
+        final Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5 = this.function5;
+        this.function5Partial1 = function5.partial1(this.a1);
+        this.lambda5Partial1 = (t2, t3, t4, t5) -> function5.apply5(a1, t2, t3, t4, t5);
+        this.function5Partial2 = function5.partial2(this.a2);
+        this.lambda5Partial2 = (t1, t3, t4, t5) -> function5.apply5(t1, a2, t3, t4, t5);
+        this.function5Partial3 = function5.partial3(this.a3);
+        this.lambda5Partial3 = (t1, t2, t4, t5) -> function5.apply5(t1, t2, a3, t4, t5);
+        this.function5Partial4 = function5.partial4(this.a4);
+        this.lambda5Partial4 = (t1, t2, t3, t5) -> function5.apply5(t1, t2, t3, a4, t5);
+        this.function5Partial5 = function5.partial5(this.a5);
+        this.lambda5Partial5 = (t1, t2, t3, t4) -> function5.apply5(t1, t2, t3, t4, a5);
+        final Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6 = this.function6;
+        this.function6Partial1 = function6.partial1(this.a1);
+        this.lambda6Partial1 = (t2, t3, t4, t5, t6) -> function6.apply6(a1, t2, t3, t4, t5, t6);
+        this.function6Partial2 = function6.partial2(this.a2);
+        this.lambda6Partial2 = (t1, t3, t4, t5, t6) -> function6.apply6(t1, a2, t3, t4, t5, t6);
+        this.function6Partial3 = function6.partial3(this.a3);
+        this.lambda6Partial3 = (t1, t2, t4, t5, t6) -> function6.apply6(t1, t2, a3, t4, t5, t6);
+        this.function6Partial4 = function6.partial4(this.a4);
+        this.lambda6Partial4 = (t1, t2, t3, t5, t6) -> function6.apply6(t1, t2, t3, a4, t5, t6);
+        this.function6Partial5 = function6.partial5(this.a5);
+        this.lambda6Partial5 = (t1, t2, t3, t4, t6) -> function6.apply6(t1, t2, t3, t4, a5, t6);
+        this.function6Partial6 = function6.partial6(this.a6);
+        this.lambda6Partial6 = (t1, t2, t3, t4, t5) -> function6.apply6(t1, t2, t3, t4, t5, a6);
+        final Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7 = this.function7;
+        this.function7Partial1 = function7.partial1(this.a1);
+        this.lambda7Partial1 = (t2, t3, t4, t5, t6, t7) -> function7.apply7(a1, t2, t3, t4, t5, t6, t7);
+        this.function7Partial2 = function7.partial2(this.a2);
+        this.lambda7Partial2 = (t1, t3, t4, t5, t6, t7) -> function7.apply7(t1, a2, t3, t4, t5, t6, t7);
+        this.function7Partial3 = function7.partial3(this.a3);
+        this.lambda7Partial3 = (t1, t2, t4, t5, t6, t7) -> function7.apply7(t1, t2, a3, t4, t5, t6, t7);
+        this.function7Partial4 = function7.partial4(this.a4);
+        this.lambda7Partial4 = (t1, t2, t3, t5, t6, t7) -> function7.apply7(t1, t2, t3, a4, t5, t6, t7);
+        this.function7Partial5 = function7.partial5(this.a5);
+        this.lambda7Partial5 = (t1, t2, t3, t4, t6, t7) -> function7.apply7(t1, t2, t3, t4, a5, t6, t7);
+        this.function7Partial6 = function7.partial6(this.a6);
+        this.lambda7Partial6 = (t1, t2, t3, t4, t5, t7) -> function7.apply7(t1, t2, t3, t4, t5, a6, t7);
+        this.function7Partial7 = function7.partial7(this.a7);
+        this.lambda7Partial7 = (t1, t2, t3, t4, t5, t6) -> function7.apply7(t1, t2, t3, t4, t5, t6, a7);
+        final Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8 = this.function8;
+        this.function8Partial1 = function8.partial1(this.a1);
+        this.lambda8Partial1 = (t2, t3, t4, t5, t6, t7, t8) -> function8.apply8(a1, t2, t3, t4, t5, t6, t7, t8);
+        this.function8Partial2 = function8.partial2(this.a2);
+        this.lambda8Partial2 = (t1, t3, t4, t5, t6, t7, t8) -> function8.apply8(t1, a2, t3, t4, t5, t6, t7, t8);
+        this.function8Partial3 = function8.partial3(this.a3);
+        this.lambda8Partial3 = (t1, t2, t4, t5, t6, t7, t8) -> function8.apply8(t1, t2, a3, t4, t5, t6, t7, t8);
+        this.function8Partial4 = function8.partial4(this.a4);
+        this.lambda8Partial4 = (t1, t2, t3, t5, t6, t7, t8) -> function8.apply8(t1, t2, t3, a4, t5, t6, t7, t8);
+        this.function8Partial5 = function8.partial5(this.a5);
+        this.lambda8Partial5 = (t1, t2, t3, t4, t6, t7, t8) -> function8.apply8(t1, t2, t3, t4, a5, t6, t7, t8);
+        this.function8Partial6 = function8.partial6(this.a6);
+        this.lambda8Partial6 = (t1, t2, t3, t4, t5, t7, t8) -> function8.apply8(t1, t2, t3, t4, t5, a6, t7, t8);
+        this.function8Partial7 = function8.partial7(this.a7);
+        this.lambda8Partial7 = (t1, t2, t3, t4, t5, t6, t8) -> function8.apply8(t1, t2, t3, t4, t5, t6, a7, t8);
+        this.function8Partial8 = function8.partial8(this.a8);
+        this.lambda8Partial8 = (t1, t2, t3, t4, t5, t6, t7) -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, a8);
+
+        final Runnable1<Integer> runnable1 = this.runnable1;
+        this.runnable1Partial1 = runnable1.partial1(this.a1);
+        this.runnableLambda1Partial1 = () -> runnable1.run1(a1);
+        final Runnable2<Integer, Integer> runnable2 = this.runnable2;
+        this.runnable2Partial1 = runnable2.partial1(this.a1);
+        this.runnableLambda2Partial1 = t2 -> runnable2.run2(a1, t2);
+        this.runnable2Partial2 = runnable2.partial2(this.a2);
+        this.runnableLambda2Partial2 = t1 -> runnable2.run2(t1, a2);
+        final Runnable3<Integer, Integer, Integer> runnable3 = this.runnable3;
+        this.runnable3Partial1 = runnable3.partial1(this.a1);
+        this.runnableLambda3Partial1 = (t2, t3) -> runnable3.run3(a1, t2, t3);
+        this.runnable3Partial2 = runnable3.partial2(this.a2);
+        this.runnableLambda3Partial2 = (t1, t3) -> runnable3.run3(t1, a2, t3);
+        this.runnable3Partial3 = runnable3.partial3(this.a3);
+        this.runnableLambda3Partial3 = (t1, t2) -> runnable3.run3(t1, t2, a3);
+        final Runnable4<Integer, Integer, Integer, Integer> runnable4 = this.runnable4;
+        this.runnable4Partial1 = runnable4.partial1(this.a1);
+        this.runnableLambda4Partial1 = (t2, t3, t4) -> runnable4.run4(a1, t2, t3, t4);
+        this.runnable4Partial2 = runnable4.partial2(this.a2);
+        this.runnableLambda4Partial2 = (t1, t3, t4) -> runnable4.run4(t1, a2, t3, t4);
+        this.runnable4Partial3 = runnable4.partial3(this.a3);
+        this.runnableLambda4Partial3 = (t1, t2, t4) -> runnable4.run4(t1, t2, a3, t4);
+        this.runnable4Partial4 = runnable4.partial4(this.a4);
+        this.runnableLambda4Partial4 = (t1, t2, t3) -> runnable4.run4(t1, t2, t3, a4);
+        final Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5 = this.runnable5;
+        this.runnable5Partial1 = runnable5.partial1(this.a1);
+        this.runnableLambda5Partial1 = (t2, t3, t4, t5) -> runnable5.run5(a1, t2, t3, t4, t5);
+        this.runnable5Partial2 = runnable5.partial2(this.a2);
+        this.runnableLambda5Partial2 = (t1, t3, t4, t5) -> runnable5.run5(t1, a2, t3, t4, t5);
+        this.runnable5Partial3 = runnable5.partial3(this.a3);
+        this.runnableLambda5Partial3 = (t1, t2, t4, t5) -> runnable5.run5(t1, t2, a3, t4, t5);
+        this.runnable5Partial4 = runnable5.partial4(this.a4);
+        this.runnableLambda5Partial4 = (t1, t2, t3, t5) -> runnable5.run5(t1, t2, t3, a4, t5);
+        this.runnable5Partial5 = runnable5.partial5(this.a5);
+        this.runnableLambda5Partial5 = (t1, t2, t3, t4) -> runnable5.run5(t1, t2, t3, t4, a5);
+        final Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6 = this.runnable6;
+        this.runnable6Partial1 = runnable6.partial1(this.a1);
+        this.runnableLambda6Partial1 = (t2, t3, t4, t5, t6) -> runnable6.run6(a1, t2, t3, t4, t5, t6);
+        this.runnable6Partial2 = runnable6.partial2(this.a2);
+        this.runnableLambda6Partial2 = (t1, t3, t4, t5, t6) -> runnable6.run6(t1, a2, t3, t4, t5, t6);
+        this.runnable6Partial3 = runnable6.partial3(this.a3);
+        this.runnableLambda6Partial3 = (t1, t2, t4, t5, t6) -> runnable6.run6(t1, t2, a3, t4, t5, t6);
+        this.runnable6Partial4 = runnable6.partial4(this.a4);
+        this.runnableLambda6Partial4 = (t1, t2, t3, t5, t6) -> runnable6.run6(t1, t2, t3, a4, t5, t6);
+        this.runnable6Partial5 = runnable6.partial5(this.a5);
+        this.runnableLambda6Partial5 = (t1, t2, t3, t4, t6) -> runnable6.run6(t1, t2, t3, t4, a5, t6);
+        this.runnable6Partial6 = runnable6.partial6(this.a6);
+        this.runnableLambda6Partial6 = (t1, t2, t3, t4, t5) -> runnable6.run6(t1, t2, t3, t4, t5, a6);
+        final Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7 = this.runnable7;
+        this.runnable7Partial1 = runnable7.partial1(this.a1);
+        this.runnableLambda7Partial1 = (t2, t3, t4, t5, t6, t7) -> runnable7.run7(a1, t2, t3, t4, t5, t6, t7);
+        this.runnable7Partial2 = runnable7.partial2(this.a2);
+        this.runnableLambda7Partial2 = (t1, t3, t4, t5, t6, t7) -> runnable7.run7(t1, a2, t3, t4, t5, t6, t7);
+        this.runnable7Partial3 = runnable7.partial3(this.a3);
+        this.runnableLambda7Partial3 = (t1, t2, t4, t5, t6, t7) -> runnable7.run7(t1, t2, a3, t4, t5, t6, t7);
+        this.runnable7Partial4 = runnable7.partial4(this.a4);
+        this.runnableLambda7Partial4 = (t1, t2, t3, t5, t6, t7) -> runnable7.run7(t1, t2, t3, a4, t5, t6, t7);
+        this.runnable7Partial5 = runnable7.partial5(this.a5);
+        this.runnableLambda7Partial5 = (t1, t2, t3, t4, t6, t7) -> runnable7.run7(t1, t2, t3, t4, a5, t6, t7);
+        this.runnable7Partial6 = runnable7.partial6(this.a6);
+        this.runnableLambda7Partial6 = (t1, t2, t3, t4, t5, t7) -> runnable7.run7(t1, t2, t3, t4, t5, a6, t7);
+        this.runnable7Partial7 = runnable7.partial7(this.a7);
+        this.runnableLambda7Partial7 = (t1, t2, t3, t4, t5, t6) -> runnable7.run7(t1, t2, t3, t4, t5, t6, a7);
+        final Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8 = this.runnable8;
+        this.runnable8Partial1 = runnable8.partial1(this.a1);
+        this.runnableLambda8Partial1 = (t2, t3, t4, t5, t6, t7, t8) -> runnable8.run8(a1, t2, t3, t4, t5, t6, t7, t8);
+        this.runnable8Partial2 = runnable8.partial2(this.a2);
+        this.runnableLambda8Partial2 = (t1, t3, t4, t5, t6, t7, t8) -> runnable8.run8(t1, a2, t3, t4, t5, t6, t7, t8);
+        this.runnable8Partial3 = runnable8.partial3(this.a3);
+        this.runnableLambda8Partial3 = (t1, t2, t4, t5, t6, t7, t8) -> runnable8.run8(t1, t2, a3, t4, t5, t6, t7, t8);
+        this.runnable8Partial4 = runnable8.partial4(this.a4);
+        this.runnableLambda8Partial4 = (t1, t2, t3, t5, t6, t7, t8) -> runnable8.run8(t1, t2, t3, a4, t5, t6, t7, t8);
+        this.runnable8Partial5 = runnable8.partial5(this.a5);
+        this.runnableLambda8Partial5 = (t1, t2, t3, t4, t6, t7, t8) -> runnable8.run8(t1, t2, t3, t4, a5, t6, t7, t8);
+        this.runnable8Partial6 = runnable8.partial6(this.a6);
+        this.runnableLambda8Partial6 = (t1, t2, t3, t4, t5, t7, t8) -> runnable8.run8(t1, t2, t3, t4, t5, a6, t7, t8);
+        this.runnable8Partial7 = runnable8.partial7(this.a7);
+        this.runnableLambda8Partial7 = (t1, t2, t3, t4, t5, t6, t8) -> runnable8.run8(t1, t2, t3, t4, t5, t6, a7, t8);
+        this.runnable8Partial8 = runnable8.partial8(this.a8);
+        this.runnableLambda8Partial8 = (t1, t2, t3, t4, t5, t6, t7) -> runnable8.run8(t1, t2, t3, t4, t5, t6, t7, a8);
+    }
+
+    @Benchmark
+    public Integer function1Partial1() {
+        return this.function1Partial1.apply0();
+    }
+
+    @Benchmark
+    public Integer lambda1Partial1() {
+        return this.lambda1Partial1.apply0();
+    }
+
+    @Benchmark
+    public Integer function2Partial1() {
+        return this.function2Partial1.apply1(this.a2);
+    }
+
+    @Benchmark
+    public Integer lambda2Partial1() {
+        return this.lambda2Partial1.apply1(this.a2);
+    }
+
+    @Benchmark
+    public Integer function2Partial2() {
+        return this.function2Partial2.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer lambda2Partial2() {
+        return this.lambda2Partial2.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer function3Partial1() {
+        return this.function3Partial1.apply2(this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer lambda3Partial1() {
+        return this.lambda3Partial1.apply2(this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer function3Partial2() {
+        return this.function3Partial2.apply2(this.a1, this.a3);
+    }
+
+    @Benchmark
+    public Integer lambda3Partial2() {
+        return this.lambda3Partial2.apply2(this.a1, this.a3);
+    }
+
+    @Benchmark
+    public Integer function3Partial3() {
+        return this.function3Partial3.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer lambda3Partial3() {
+        return this.lambda3Partial3.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer function4Partial1() {
+        return this.function4Partial1.apply3(this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4Partial1() {
+        return this.lambda4Partial1.apply3(this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer function4Partial2() {
+        return this.function4Partial2.apply3(this.a1, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4Partial2() {
+        return this.lambda4Partial2.apply3(this.a1, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer function4Partial3() {
+        return this.function4Partial3.apply3(this.a1, this.a2, this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4Partial3() {
+        return this.lambda4Partial3.apply3(this.a1, this.a2, this.a4);
+    }
+
+    @Benchmark
+    public Integer function4Partial4() {
+        return this.function4Partial4.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer lambda4Partial4() {
+        return this.lambda4Partial4.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer function5Partial1() {
+        return this.function5Partial1.apply4(this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Partial1() {
+        return this.lambda5Partial1.apply4(this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function5Partial2() {
+        return this.function5Partial2.apply4(this.a1, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Partial2() {
+        return this.lambda5Partial2.apply4(this.a1, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function5Partial3() {
+        return this.function5Partial3.apply4(this.a1, this.a2, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Partial3() {
+        return this.lambda5Partial3.apply4(this.a1, this.a2, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function5Partial4() {
+        return this.function5Partial4.apply4(this.a1, this.a2, this.a3, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Partial4() {
+        return this.lambda5Partial4.apply4(this.a1, this.a2, this.a3, this.a5);
+    }
+
+    @Benchmark
+    public Integer function5Partial5() {
+        return this.function5Partial5.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda5Partial5() {
+        return this.lambda5Partial5.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer function6Partial1() {
+        return this.function6Partial1.apply5(this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Partial1() {
+        return this.lambda6Partial1.apply5(this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Partial2() {
+        return this.function6Partial2.apply5(this.a1, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Partial2() {
+        return this.lambda6Partial2.apply5(this.a1, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Partial3() {
+        return this.function6Partial3.apply5(this.a1, this.a2, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Partial3() {
+        return this.lambda6Partial3.apply5(this.a1, this.a2, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Partial4() {
+        return this.function6Partial4.apply5(this.a1, this.a2, this.a3, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Partial4() {
+        return this.lambda6Partial4.apply5(this.a1, this.a2, this.a3, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Partial5() {
+        return this.function6Partial5.apply5(this.a1, this.a2, this.a3, this.a4, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Partial5() {
+        return this.lambda6Partial5.apply5(this.a1, this.a2, this.a3, this.a4, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Partial6() {
+        return this.function6Partial6.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda6Partial6() {
+        return this.lambda6Partial6.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function7Partial1() {
+        return this.function7Partial1.apply6(this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Partial1() {
+        return this.lambda7Partial1.apply6(this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Partial2() {
+        return this.function7Partial2.apply6(this.a1, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Partial2() {
+        return this.lambda7Partial2.apply6(this.a1, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Partial3() {
+        return this.function7Partial3.apply6(this.a1, this.a2, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Partial3() {
+        return this.lambda7Partial3.apply6(this.a1, this.a2, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Partial4() {
+        return this.function7Partial4.apply6(this.a1, this.a2, this.a3, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Partial4() {
+        return this.lambda7Partial4.apply6(this.a1, this.a2, this.a3, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Partial5() {
+        return this.function7Partial5.apply6(this.a1, this.a2, this.a3, this.a4, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Partial5() {
+        return this.lambda7Partial5.apply6(this.a1, this.a2, this.a3, this.a4, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Partial6() {
+        return this.function7Partial6.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Partial6() {
+        return this.lambda7Partial6.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Partial7() {
+        return this.function7Partial7.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda7Partial7() {
+        return this.lambda7Partial7.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function8Partial1() {
+        return this.function8Partial1.apply7(this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Partial1() {
+        return this.lambda8Partial1.apply7(this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Partial2() {
+        return this.function8Partial2.apply7(this.a1, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Partial2() {
+        return this.lambda8Partial2.apply7(this.a1, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Partial3() {
+        return this.function8Partial3.apply7(this.a1, this.a2, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Partial3() {
+        return this.lambda8Partial3.apply7(this.a1, this.a2, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Partial4() {
+        return this.function8Partial4.apply7(this.a1, this.a2, this.a3, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Partial4() {
+        return this.lambda8Partial4.apply7(this.a1, this.a2, this.a3, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Partial5() {
+        return this.function8Partial5.apply7(this.a1, this.a2, this.a3, this.a4, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Partial5() {
+        return this.lambda8Partial5.apply7(this.a1, this.a2, this.a3, this.a4, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Partial6() {
+        return this.function8Partial6.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Partial6() {
+        return this.lambda8Partial6.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Partial7() {
+        return this.function8Partial7.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Partial7() {
+        return this.lambda8Partial7.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Partial8() {
+        return this.function8Partial8.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda8Partial8() {
+        return this.lambda8Partial8.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable1Partial1() {
+        this.runnable1Partial1.run0();
+    }
+
+    @Benchmark
+    public void runnableLambda1Partial1() {
+        this.runnableLambda1Partial1.run0();
+    }
+
+    @Benchmark
+    public void runnable2Partial1() {
+        this.runnable2Partial1.run1(this.a2);
+    }
+
+    @Benchmark
+    public void runnableLambda2Partial1() {
+        this.runnableLambda2Partial1.run1(this.a2);
+    }
+
+    @Benchmark
+    public void runnable2Partial2() {
+        this.runnable2Partial2.run1(this.a1);
+    }
+
+    @Benchmark
+    public void runnableLambda2Partial2() {
+        this.runnableLambda2Partial2.run1(this.a1);
+    }
+
+    @Benchmark
+    public void runnable3Partial1() {
+        this.runnable3Partial1.run2(this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnableLambda3Partial1() {
+        this.runnableLambda3Partial1.run2(this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnable3Partial2() {
+        this.runnable3Partial2.run2(this.a1, this.a3);
+    }
+
+    @Benchmark
+    public void runnableLambda3Partial2() {
+        this.runnableLambda3Partial2.run2(this.a1, this.a3);
+    }
+
+    @Benchmark
+    public void runnable3Partial3() {
+        this.runnable3Partial3.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void runnableLambda3Partial3() {
+        this.runnableLambda3Partial3.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void runnable4Partial1() {
+        this.runnable4Partial1.run3(this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnableLambda4Partial1() {
+        this.runnableLambda4Partial1.run3(this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnable4Partial2() {
+        this.runnable4Partial2.run3(this.a1, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnableLambda4Partial2() {
+        this.runnableLambda4Partial2.run3(this.a1, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnable4Partial3() {
+        this.runnable4Partial3.run3(this.a1, this.a2, this.a4);
+    }
+
+    @Benchmark
+    public void runnableLambda4Partial3() {
+        this.runnableLambda4Partial3.run3(this.a1, this.a2, this.a4);
+    }
+
+    @Benchmark
+    public void runnable4Partial4() {
+        this.runnable4Partial4.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnableLambda4Partial4() {
+        this.runnableLambda4Partial4.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnable5Partial1() {
+        this.runnable5Partial1.run4(this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5Partial1() {
+        this.runnableLambda5Partial1.run4(this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable5Partial2() {
+        this.runnable5Partial2.run4(this.a1, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5Partial2() {
+        this.runnableLambda5Partial2.run4(this.a1, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable5Partial3() {
+        this.runnable5Partial3.run4(this.a1, this.a2, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5Partial3() {
+        this.runnableLambda5Partial3.run4(this.a1, this.a2, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable5Partial4() {
+        this.runnable5Partial4.run4(this.a1, this.a2, this.a3, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5Partial4() {
+        this.runnableLambda5Partial4.run4(this.a1, this.a2, this.a3, this.a5);
+    }
+
+    @Benchmark
+    public void runnable5Partial5() {
+        this.runnable5Partial5.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnableLambda5Partial5() {
+        this.runnableLambda5Partial5.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnable6Partial1() {
+        this.runnable6Partial1.run5(this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Partial1() {
+        this.runnableLambda6Partial1.run5(this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable6Partial2() {
+        this.runnable6Partial2.run5(this.a1, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Partial2() {
+        this.runnableLambda6Partial2.run5(this.a1, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable6Partial3() {
+        this.runnable6Partial3.run5(this.a1, this.a2, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Partial3() {
+        this.runnableLambda6Partial3.run5(this.a1, this.a2, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable6Partial4() {
+        this.runnable6Partial4.run5(this.a1, this.a2, this.a3, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Partial4() {
+        this.runnableLambda6Partial4.run5(this.a1, this.a2, this.a3, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable6Partial5() {
+        this.runnable6Partial5.run5(this.a1, this.a2, this.a3, this.a4, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Partial5() {
+        this.runnableLambda6Partial5.run5(this.a1, this.a2, this.a3, this.a4, this.a6);
+    }
+
+    @Benchmark
+    public void runnable6Partial6() {
+        this.runnable6Partial6.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda6Partial6() {
+        this.runnableLambda6Partial6.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable7Partial1() {
+        this.runnable7Partial1.run6(this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Partial1() {
+        this.runnableLambda7Partial1.run6(this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Partial2() {
+        this.runnable7Partial2.run6(this.a1, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Partial2() {
+        this.runnableLambda7Partial2.run6(this.a1, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Partial3() {
+        this.runnable7Partial3.run6(this.a1, this.a2, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Partial3() {
+        this.runnableLambda7Partial3.run6(this.a1, this.a2, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Partial4() {
+        this.runnable7Partial4.run6(this.a1, this.a2, this.a3, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Partial4() {
+        this.runnableLambda7Partial4.run6(this.a1, this.a2, this.a3, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Partial5() {
+        this.runnable7Partial5.run6(this.a1, this.a2, this.a3, this.a4, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Partial5() {
+        this.runnableLambda7Partial5.run6(this.a1, this.a2, this.a3, this.a4, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Partial6() {
+        this.runnable7Partial6.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Partial6() {
+        this.runnableLambda7Partial6.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Partial7() {
+        this.runnable7Partial7.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda7Partial7() {
+        this.runnableLambda7Partial7.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable8Partial1() {
+        this.runnable8Partial1.run7(this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Partial1() {
+        this.runnableLambda8Partial1.run7(this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Partial2() {
+        this.runnable8Partial2.run7(this.a1, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Partial2() {
+        this.runnableLambda8Partial2.run7(this.a1, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Partial3() {
+        this.runnable8Partial3.run7(this.a1, this.a2, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Partial3() {
+        this.runnableLambda8Partial3.run7(this.a1, this.a2, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Partial4() {
+        this.runnable8Partial4.run7(this.a1, this.a2, this.a3, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Partial4() {
+        this.runnableLambda8Partial4.run7(this.a1, this.a2, this.a3, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Partial5() {
+        this.runnable8Partial5.run7(this.a1, this.a2, this.a3, this.a4, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Partial5() {
+        this.runnableLambda8Partial5.run7(this.a1, this.a2, this.a3, this.a4, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Partial6() {
+        this.runnable8Partial6.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Partial6() {
+        this.runnableLambda8Partial6.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Partial7() {
+        this.runnable8Partial7.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Partial7() {
+        this.runnableLambda8Partial7.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Partial8() {
+        this.runnable8Partial8.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda8Partial8() {
+        this.runnableLambda8Partial8.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+}
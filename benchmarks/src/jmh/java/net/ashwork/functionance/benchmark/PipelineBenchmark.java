@@ -0,0 +1,80 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks applying functions composed to a given depth against applying
+ * the same transformers from a hand-written loop, which is the lower bound
+ * for a flattened pipeline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineBenchmark extends FunctionanceBenchmark {
+
+    @Param({"1", "4", "16", "256"})
+    private int depth;
+
+    private Function1<Integer, Integer> andThen1, compose1;
+    private Function2<Integer, Integer, Integer> compose2;
+    private Transformer1<Integer, Integer>[] loop;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void prepare() {
+        this.andThen1 = this.function1;
+        this.compose1 = this.function1;
+        this.compose2 = this.function2;
+        this.loop = (Transformer1<Integer, Integer>[]) new Transformer1<?, ?>[this.depth];
+        for (int i = 0; i < this.depth; i++) {
+            this.andThen1 = this.andThen1.andThen(this.after);
+            this.compose1 = this.compose1.compose1(this.after);
+            this.compose2 = this.compose2.compose2(this.after);
+            this.loop[i] = this.after;
+        }
+    }
+
+    @Benchmark
+    public Integer loop() {
+        Integer value = this.function1.apply1(this.a1);
+        for (final Transformer1<Integer, Integer> stage : this.loop) value = stage.apply1(value);
+        return value;
+    }
+
+    @Benchmark
+    public Integer andThen1() {
+        return this.andThen1.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer compose1() {
+        return this.compose1.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer compose2() {
+        return this.compose2.apply2(this.a1, this.a2);
+    }
+}
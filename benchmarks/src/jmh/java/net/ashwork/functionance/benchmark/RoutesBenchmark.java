@@ -0,0 +1,70 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.attempt.StacklessException;
+import net.ashwork.functionance.resilience.ExceptionRoutes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks handling a failure with an exception handler which checks the
+ * class of the exception through an {@code instanceof} ladder and creates a
+ * fallback on each call against a prebuilt {@link ExceptionRoutes} table.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutesBenchmark extends FunctionanceBenchmark {
+
+    private static final RuntimeException FAILURE = new StacklessException("Benchmarked failure") {};
+
+    private Function1<Integer, Integer> ladder, routes;
+
+    @Override
+    protected void prepare() {
+        final Function1<Integer, Integer> failing = t1 -> {
+            throw FAILURE;
+        };
+        this.ladder = failing.handle(t -> {
+            if (t instanceof UncheckedIOException) return t1 -> -1;
+            if (t instanceof IllegalArgumentException) return t1 -> -2;
+            if (t instanceof IllegalStateException) return t1 -> -3;
+            if (t instanceof StacklessException) return t1 -> t1;
+            return t1 -> 0;
+        });
+        this.routes = failing.handle(ExceptionRoutes.<Function1<Integer, Integer>>builder(t1 -> 0)
+                .route(UncheckedIOException.class, t1 -> -1)
+                .route(IllegalArgumentException.class, t1 -> -2)
+                .route(IllegalStateException.class, t1 -> -3)
+                .route(StacklessException.class, t1 -> t1)
+                .build());
+    }
+
+    @Benchmark
+    public Integer ladder() {
+        return this.ladder.apply1(this.a1);
+    }
+
+    @Benchmark
+    public Integer routes() {
+        return this.routes.apply1(this.a1);
+    }
+}
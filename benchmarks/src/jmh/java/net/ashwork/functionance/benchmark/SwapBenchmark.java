@@ -0,0 +1,796 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.Function3;
+import net.ashwork.functionance.Function4;
+import net.ashwork.functionance.Function5;
+import net.ashwork.functionance.Function6;
+import net.ashwork.functionance.Function7;
+import net.ashwork.functionance.Function8;
+import net.ashwork.functionance.runnable.Runnable1;
+import net.ashwork.functionance.runnable.Runnable2;
+import net.ashwork.functionance.runnable.Runnable3;
+import net.ashwork.functionance.runnable.Runnable4;
+import net.ashwork.functionance.runnable.Runnable5;
+import net.ashwork.functionance.runnable.Runnable6;
+import net.ashwork.functionance.runnable.Runnable7;
+import net.ashwork.functionance.runnable.Runnable8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the results of {@code swapN} on every pair of adjacent arguments
+ * of functions and operations against hand-written lambdas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwapBenchmark extends FunctionanceBenchmark {
+
+    private Function2<Integer, Integer, Integer> function2Swap1, lambda2Swap1;
+    private Function3<Integer, Integer, Integer, Integer> function3Swap1, lambda3Swap1;
+    private Function3<Integer, Integer, Integer, Integer> function3Swap2, lambda3Swap2;
+    private Function4<Integer, Integer, Integer, Integer, Integer> function4Swap1, lambda4Swap1;
+    private Function4<Integer, Integer, Integer, Integer, Integer> function4Swap2, lambda4Swap2;
+    private Function4<Integer, Integer, Integer, Integer, Integer> function4Swap3, lambda4Swap3;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5Swap1, lambda5Swap1;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5Swap2, lambda5Swap2;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5Swap3, lambda5Swap3;
+    private Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5Swap4, lambda5Swap4;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6Swap1, lambda6Swap1;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6Swap2, lambda6Swap2;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6Swap3, lambda6Swap3;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6Swap4, lambda6Swap4;
+    private Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6Swap5, lambda6Swap5;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Swap1, lambda7Swap1;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Swap2, lambda7Swap2;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Swap3, lambda7Swap3;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Swap4, lambda7Swap4;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Swap5, lambda7Swap5;
+    private Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7Swap6, lambda7Swap6;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Swap1, lambda8Swap1;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Swap2, lambda8Swap2;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Swap3, lambda8Swap3;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Swap4, lambda8Swap4;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Swap5, lambda8Swap5;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Swap6, lambda8Swap6;
+    private Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8Swap7, lambda8Swap7;
+    private Runnable2<Integer, Integer> runnable2Swap1, runnableLambda2Swap1;
+    private Runnable3<Integer, Integer, Integer> runnable3Swap1, runnableLambda3Swap1;
+    private Runnable3<Integer, Integer, Integer> runnable3Swap2, runnableLambda3Swap2;
+    private Runnable4<Integer, Integer, Integer, Integer> runnable4Swap1, runnableLambda4Swap1;
+    private Runnable4<Integer, Integer, Integer, Integer> runnable4Swap2, runnableLambda4Swap2;
+    private Runnable4<Integer, Integer, Integer, Integer> runnable4Swap3, runnableLambda4Swap3;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5Swap1, runnableLambda5Swap1;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5Swap2, runnableLambda5Swap2;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5Swap3, runnableLambda5Swap3;
+    private Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5Swap4, runnableLambda5Swap4;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6Swap1, runnableLambda6Swap1;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6Swap2, runnableLambda6Swap2;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6Swap3, runnableLambda6Swap3;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6Swap4, runnableLambda6Swap4;
+    private Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6Swap5, runnableLambda6Swap5;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7Swap1, runnableLambda7Swap1;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7Swap2, runnableLambda7Swap2;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7Swap3, runnableLambda7Swap3;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7Swap4, runnableLambda7Swap4;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7Swap5, runnableLambda7Swap5;
+    private Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7Swap6, runnableLambda7Swap6;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Swap1, runnableLambda8Swap1;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Swap2, runnableLambda8Swap2;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Swap3, runnableLambda8Swap3;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Swap4, runnableLambda8Swap4;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Swap5, runnableLambda8Swap5;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Swap6, runnableLambda8Swap6;
+    private Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8Swap7, runnableLambda8Swap7;
+
+    @Override
+    protected void prepare() {
+        final Function2<Integer, Integer, Integer> function2 = this.function2;
+        this.function2Swap1 = function2.swap1();
+        this.lambda2Swap1 = (t2, t1) -> function2.apply2(t1, t2);
+        final Function3<Integer, Integer, Integer, Integer> function3 = this.function3;
+        this.function3Swap1 = function3.swap1();
+        this.lambda3Swap1 = (t2, t1, t3) -> function3.apply3(t1, t2, t3);
+        this.function3Swap2 = function3.swap2();
+        this.lambda3Swap2 = (t1, t3, t2) -> function3.apply3(t1, t2, t3);
+        final Function4<Integer, Integer, Integer, Integer, Integer> function4 = this.function4;
+        this.function4Swap1 = function4.swap1();
+        this.lambda4Swap1 = (t2, t1, t3, t4) -> function4.apply4(t1, t2, t3, t4);
+        this.function4Swap2 = function4.swap2();
+        this.lambda4Swap2 = (t1, t3, t2, t4) -> function4.apply4(t1, t2, t3, t4);
+        this.function4Swap3 = function4.swap3();
+        this.lambda4Swap3 = (t1, t2, t4, t3) -> function4.apply4(t1, t2, t3, t4);
+        final Function5<Integer, Integer, Integer, Integer, Integer, Integer> function5 = this.function5;
+        this.function5Swap1 = function5.swap1();
+        this.lambda5Swap1 = (t2, t1, t3, t4, t5) -> function5.apply5(t1, t2, t3, t4, t5);
+        this.function5Swap2 = function5.swap2();
+        this.lambda5Swap2 = (t1, t3, t2, t4, t5) -> function5.apply5(t1, t2, t3, t4, t5);
+        this.function5Swap3 = function5.swap3();
+        this.lambda5Swap3 = (t1, t2, t4, t3, t5) -> function5.apply5(t1, t2, t3, t4, t5);
+        this.function5Swap4 = function5.swap4();
+        this.lambda5Swap4 = (t1, t2, t3, t5, t4) -> function5.apply5(t1, t2, t3, t4, t5);
+        final Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> function6 = this.function6;
+        this.function6Swap1 = function6.swap1();
+        this.lambda6Swap1 = (t2, t1, t3, t4, t5, t6) -> function6.apply6(t1, t2, t3, t4, t5, t6);
+        this.function6Swap2 = function6.swap2();
+        this.lambda6Swap2 = (t1, t3, t2, t4, t5, t6) -> function6.apply6(t1, t2, t3, t4, t5, t6);
+        this.function6Swap3 = function6.swap3();
+        this.lambda6Swap3 = (t1, t2, t4, t3, t5, t6) -> function6.apply6(t1, t2, t3, t4, t5, t6);
+        this.function6Swap4 = function6.swap4();
+        this.lambda6Swap4 = (t1, t2, t3, t5, t4, t6) -> function6.apply6(t1, t2, t3, t4, t5, t6);
+        this.function6Swap5 = function6.swap5();
+        this.lambda6Swap5 = (t1, t2, t3, t4, t6, t5) -> function6.apply6(t1, t2, t3, t4, t5, t6);
+        final Function7<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function7 = this.function7;
+        this.function7Swap1 = function7.swap1();
+        this.lambda7Swap1 = (t2, t1, t3, t4, t5, t6, t7) -> function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+        this.function7Swap2 = function7.swap2();
+        this.lambda7Swap2 = (t1, t3, t2, t4, t5, t6, t7) -> function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+        this.function7Swap3 = function7.swap3();
+        this.lambda7Swap3 = (t1, t2, t4, t3, t5, t6, t7) -> function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+        this.function7Swap4 = function7.swap4();
+        this.lambda7Swap4 = (t1, t2, t3, t5, t4, t6, t7) -> function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+        this.function7Swap5 = function7.swap5();
+        this.lambda7Swap5 = (t1, t2, t3, t4, t6, t5, t7) -> function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+        this.function7Swap6 = function7.swap6();
+        this.lambda7Swap6 = (t1, t2, t3, t4, t5, t7, t6) -> function7.apply7(t1, t2, t3, t4, t5, t6, t7);
+        final Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> function8 = this.function8;
+        this.function8Swap1 = function8.swap1();
+        this.lambda8Swap1 = (t2, t1, t3, t4, t5, t6, t7, t8) -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.function8Swap2 = function8.swap2();
+        this.lambda8Swap2 = (t1, t3, t2, t4, t5, t6, t7, t8) -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.function8Swap3 = function8.swap3();
+        this.lambda8Swap3 = (t1, t2, t4, t3, t5, t6, t7, t8) -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.function8Swap4 = function8.swap4();
+        this.lambda8Swap4 = (t1, t2, t3, t5, t4, t6, t7, t8) -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.function8Swap5 = function8.swap5();
+        this.lambda8Swap5 = (t1, t2, t3, t4, t6, t5, t7, t8) -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.function8Swap6 = function8.swap6();
+        this.lambda8Swap6 = (t1, t2, t3, t4, t5, t7, t6, t8) -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.function8Swap7 = function8.swap7();
+        this.lambda8Swap7 = (t1, t2, t3, t4, t5, t6, t8, t7) -> function8.apply8(t1, t2, t3, t4, t5, t6, t7, t8);
+
+        final Runnable2<Integer, Integer> runnable2 = this.runnable2;
+        this.runnable2Swap1 = runnable2.swap1();
+        this.runnableLambda2Swap1 = (t2, t1) -> runnable2.run2(t1, t2);
+        final Runnable3<Integer, Integer, Integer> runnable3 = this.runnable3;
+        this.runnable3Swap1 = runnable3.swap1();
+        this.runnableLambda3Swap1 = (t2, t1, t3) -> runnable3.run3(t1, t2, t3);
+        this.runnable3Swap2 = runnable3.swap2();
+        this.runnableLambda3Swap2 = (t1, t3, t2) -> runnable3.run3(t1, t2, t3);
+        final Runnable4<Integer, Integer, Integer, Integer> runnable4 = this.runnable4;
+        this.runnable4Swap1 = runnable4.swap1();
+        this.runnableLambda4Swap1 = (t2, t1, t3, t4) -> runnable4.run4(t1, t2, t3, t4);
+        this.runnable4Swap2 = runnable4.swap2();
+        this.runnableLambda4Swap2 = (t1, t3, t2, t4) -> runnable4.run4(t1, t2, t3, t4);
+        this.runnable4Swap3 = runnable4.swap3();
+        this.runnableLambda4Swap3 = (t1, t2, t4, t3) -> runnable4.run4(t1, t2, t3, t4);
+        final Runnable5<Integer, Integer, Integer, Integer, Integer> runnable5 = this.runnable5;
+        this.runnable5Swap1 = runnable5.swap1();
+        this.runnableLambda5Swap1 = (t2, t1, t3, t4, t5) -> runnable5.run5(t1, t2, t3, t4, t5);
+        this.runnable5Swap2 = runnable5.swap2();
+        this.runnableLambda5Swap2 = (t1, t3, t2, t4, t5) -> runnable5.run5(t1, t2, t3, t4, t5);
+        this.runnable5Swap3 = runnable5.swap3();
+        this.runnableLambda5Swap3 = (t1, t2, t4, t3, t5) -> runnable5.run5(t1, t2, t3, t4, t5);
+        this.runnable5Swap4 = runnable5.swap4();
+        this.runnableLambda5Swap4 = (t1, t2, t3, t5, t4) -> runnable5.run5(t1, t2, t3, t4, t5);
+        final Runnable6<Integer, Integer, Integer, Integer, Integer, Integer> runnable6 = this.runnable6;
+        this.runnable6Swap1 = runnable6.swap1();
+        this.runnableLambda6Swap1 = (t2, t1, t3, t4, t5, t6) -> runnable6.run6(t1, t2, t3, t4, t5, t6);
+        this.runnable6Swap2 = runnable6.swap2();
+        this.runnableLambda6Swap2 = (t1, t3, t2, t4, t5, t6) -> runnable6.run6(t1, t2, t3, t4, t5, t6);
+        this.runnable6Swap3 = runnable6.swap3();
+        this.runnableLambda6Swap3 = (t1, t2, t4, t3, t5, t6) -> runnable6.run6(t1, t2, t3, t4, t5, t6);
+        this.runnable6Swap4 = runnable6.swap4();
+        this.runnableLambda6Swap4 = (t1, t2, t3, t5, t4, t6) -> runnable6.run6(t1, t2, t3, t4, t5, t6);
+        this.runnable6Swap5 = runnable6.swap5();
+        this.runnableLambda6Swap5 = (t1, t2, t3, t4, t6, t5) -> runnable6.run6(t1, t2, t3, t4, t5, t6);
+        final Runnable7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable7 = this.runnable7;
+        this.runnable7Swap1 = runnable7.swap1();
+        this.runnableLambda7Swap1 = (t2, t1, t3, t4, t5, t6, t7) -> runnable7.run7(t1, t2, t3, t4, t5, t6, t7);
+        this.runnable7Swap2 = runnable7.swap2();
+        this.runnableLambda7Swap2 = (t1, t3, t2, t4, t5, t6, t7) -> runnable7.run7(t1, t2, t3, t4, t5, t6, t7);
+        this.runnable7Swap3 = runnable7.swap3();
+        this.runnableLambda7Swap3 = (t1, t2, t4, t3, t5, t6, t7) -> runnable7.run7(t1, t2, t3, t4, t5, t6, t7);
+        this.runnable7Swap4 = runnable7.swap4();
+        this.runnableLambda7Swap4 = (t1, t2, t3, t5, t4, t6, t7) -> runnable7.run7(t1, t2, t3, t4, t5, t6, t7);
+        this.runnable7Swap5 = runnable7.swap5();
+        this.runnableLambda7Swap5 = (t1, t2, t3, t4, t6, t5, t7) -> runnable7.run7(t1, t2, t3, t4, t5, t6, t7);
+        this.runnable7Swap6 = runnable7.swap6();
+        this.runnableLambda7Swap6 = (t1, t2, t3, t4, t5, t7, t6) -> runnable7.run7(t1, t2, t3, t4, t5, t6, t7);
+        final Runnable8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> runnable8 = this.runnable8;
+        this.runnable8Swap1 = runnable8.swap1();
+        this.runnableLambda8Swap1 = (t2, t1, t3, t4, t5, t6, t7, t8) -> runnable8.run8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.runnable8Swap2 = runnable8.swap2();
+        this.runnableLambda8Swap2 = (t1, t3, t2, t4, t5, t6, t7, t8) -> runnable8.run8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.runnable8Swap3 = runnable8.swap3();
+        this.runnableLambda8Swap3 = (t1, t2, t4, t3, t5, t6, t7, t8) -> runnable8.run8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.runnable8Swap4 = runnable8.swap4();
+        this.runnableLambda8Swap4 = (t1, t2, t3, t5, t4, t6, t7, t8) -> runnable8.run8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.runnable8Swap5 = runnable8.swap5();
+        this.runnableLambda8Swap5 = (t1, t2, t3, t4, t6, t5, t7, t8) -> runnable8.run8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.runnable8Swap6 = runnable8.swap6();
+        this.runnableLambda8Swap6 = (t1, t2, t3, t4, t5, t7, t6, t8) -> runnable8.run8(t1, t2, t3, t4, t5, t6, t7, t8);
+        this.runnable8Swap7 = runnable8.swap7();
+        this.runnableLambda8Swap7 = (t1, t2, t3, t4, t5, t6, t8, t7) -> runnable8.run8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Benchmark
+    public Integer function2Swap1() {
+        return this.function2Swap1.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer lambda2Swap1() {
+        return this.lambda2Swap1.apply2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public Integer function3Swap1() {
+        return this.function3Swap1.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer lambda3Swap1() {
+        return this.lambda3Swap1.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer function3Swap2() {
+        return this.function3Swap2.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer lambda3Swap2() {
+        return this.lambda3Swap2.apply3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public Integer function4Swap1() {
+        return this.function4Swap1.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4Swap1() {
+        return this.lambda4Swap1.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer function4Swap2() {
+        return this.function4Swap2.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4Swap2() {
+        return this.lambda4Swap2.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer function4Swap3() {
+        return this.function4Swap3.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer lambda4Swap3() {
+        return this.lambda4Swap3.apply4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public Integer function5Swap1() {
+        return this.function5Swap1.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Swap1() {
+        return this.lambda5Swap1.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function5Swap2() {
+        return this.function5Swap2.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Swap2() {
+        return this.lambda5Swap2.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function5Swap3() {
+        return this.function5Swap3.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Swap3() {
+        return this.lambda5Swap3.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function5Swap4() {
+        return this.function5Swap4.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer lambda5Swap4() {
+        return this.lambda5Swap4.apply5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public Integer function6Swap1() {
+        return this.function6Swap1.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Swap1() {
+        return this.lambda6Swap1.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Swap2() {
+        return this.function6Swap2.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Swap2() {
+        return this.lambda6Swap2.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Swap3() {
+        return this.function6Swap3.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Swap3() {
+        return this.lambda6Swap3.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Swap4() {
+        return this.function6Swap4.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Swap4() {
+        return this.lambda6Swap4.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function6Swap5() {
+        return this.function6Swap5.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer lambda6Swap5() {
+        return this.lambda6Swap5.apply6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public Integer function7Swap1() {
+        return this.function7Swap1.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Swap1() {
+        return this.lambda7Swap1.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Swap2() {
+        return this.function7Swap2.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Swap2() {
+        return this.lambda7Swap2.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Swap3() {
+        return this.function7Swap3.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Swap3() {
+        return this.lambda7Swap3.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Swap4() {
+        return this.function7Swap4.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Swap4() {
+        return this.lambda7Swap4.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Swap5() {
+        return this.function7Swap5.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Swap5() {
+        return this.lambda7Swap5.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function7Swap6() {
+        return this.function7Swap6.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer lambda7Swap6() {
+        return this.lambda7Swap6.apply7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public Integer function8Swap1() {
+        return this.function8Swap1.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Swap1() {
+        return this.lambda8Swap1.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Swap2() {
+        return this.function8Swap2.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Swap2() {
+        return this.lambda8Swap2.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Swap3() {
+        return this.function8Swap3.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Swap3() {
+        return this.lambda8Swap3.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Swap4() {
+        return this.function8Swap4.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Swap4() {
+        return this.lambda8Swap4.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Swap5() {
+        return this.function8Swap5.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Swap5() {
+        return this.lambda8Swap5.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Swap6() {
+        return this.function8Swap6.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Swap6() {
+        return this.lambda8Swap6.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer function8Swap7() {
+        return this.function8Swap7.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public Integer lambda8Swap7() {
+        return this.lambda8Swap7.apply8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable2Swap1() {
+        this.runnable2Swap1.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void runnableLambda2Swap1() {
+        this.runnableLambda2Swap1.run2(this.a1, this.a2);
+    }
+
+    @Benchmark
+    public void runnable3Swap1() {
+        this.runnable3Swap1.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnableLambda3Swap1() {
+        this.runnableLambda3Swap1.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnable3Swap2() {
+        this.runnable3Swap2.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnableLambda3Swap2() {
+        this.runnableLambda3Swap2.run3(this.a1, this.a2, this.a3);
+    }
+
+    @Benchmark
+    public void runnable4Swap1() {
+        this.runnable4Swap1.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnableLambda4Swap1() {
+        this.runnableLambda4Swap1.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnable4Swap2() {
+        this.runnable4Swap2.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnableLambda4Swap2() {
+        this.runnableLambda4Swap2.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnable4Swap3() {
+        this.runnable4Swap3.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnableLambda4Swap3() {
+        this.runnableLambda4Swap3.run4(this.a1, this.a2, this.a3, this.a4);
+    }
+
+    @Benchmark
+    public void runnable5Swap1() {
+        this.runnable5Swap1.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5Swap1() {
+        this.runnableLambda5Swap1.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable5Swap2() {
+        this.runnable5Swap2.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5Swap2() {
+        this.runnableLambda5Swap2.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable5Swap3() {
+        this.runnable5Swap3.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5Swap3() {
+        this.runnableLambda5Swap3.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable5Swap4() {
+        this.runnable5Swap4.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnableLambda5Swap4() {
+        this.runnableLambda5Swap4.run5(this.a1, this.a2, this.a3, this.a4, this.a5);
+    }
+
+    @Benchmark
+    public void runnable6Swap1() {
+        this.runnable6Swap1.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Swap1() {
+        this.runnableLambda6Swap1.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable6Swap2() {
+        this.runnable6Swap2.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Swap2() {
+        this.runnableLambda6Swap2.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable6Swap3() {
+        this.runnable6Swap3.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Swap3() {
+        this.runnableLambda6Swap3.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable6Swap4() {
+        this.runnable6Swap4.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Swap4() {
+        this.runnableLambda6Swap4.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable6Swap5() {
+        this.runnable6Swap5.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnableLambda6Swap5() {
+        this.runnableLambda6Swap5.run6(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6);
+    }
+
+    @Benchmark
+    public void runnable7Swap1() {
+        this.runnable7Swap1.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Swap1() {
+        this.runnableLambda7Swap1.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Swap2() {
+        this.runnable7Swap2.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Swap2() {
+        this.runnableLambda7Swap2.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Swap3() {
+        this.runnable7Swap3.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Swap3() {
+        this.runnableLambda7Swap3.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Swap4() {
+        this.runnable7Swap4.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Swap4() {
+        this.runnableLambda7Swap4.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Swap5() {
+        this.runnable7Swap5.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Swap5() {
+        this.runnableLambda7Swap5.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable7Swap6() {
+        this.runnable7Swap6.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnableLambda7Swap6() {
+        this.runnableLambda7Swap6.run7(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7);
+    }
+
+    @Benchmark
+    public void runnable8Swap1() {
+        this.runnable8Swap1.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Swap1() {
+        this.runnableLambda8Swap1.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Swap2() {
+        this.runnable8Swap2.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Swap2() {
+        this.runnableLambda8Swap2.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Swap3() {
+        this.runnable8Swap3.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Swap3() {
+        this.runnableLambda8Swap3.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Swap4() {
+        this.runnable8Swap4.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Swap4() {
+        this.runnableLambda8Swap4.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Swap5() {
+        this.runnable8Swap5.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Swap5() {
+        this.runnableLambda8Swap5.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Swap6() {
+        this.runnable8Swap6.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Swap6() {
+        this.runnableLambda8Swap6.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnable8Swap7() {
+        this.runnable8Swap7.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+
+    @Benchmark
+    public void runnableLambda8Swap7() {
+        this.runnableLambda8Swap7.run8(this.a1, this.a2, this.a3, this.a4, this.a5, this.a6, this.a7, this.a8);
+    }
+}
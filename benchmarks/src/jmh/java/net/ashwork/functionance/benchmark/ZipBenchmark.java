@@ -0,0 +1,67 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.benchmark;
+
+import net.ashwork.functionance.stream.Zip;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks zipping three arrays through a function as a sequential and
+ * parallel stream against indexing into the arrays from a ranged stream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZipBenchmark extends FunctionanceBenchmark {
+
+    @Param({"1024", "1048576"})
+    private int size;
+
+    private Integer[] t1, t2, t3;
+
+    @Override
+    protected void prepare() {
+        this.t1 = new Integer[this.size];
+        this.t2 = new Integer[this.size];
+        this.t3 = new Integer[this.size];
+        for (int i = 0; i < this.size; i++) this.t1[i] = this.t2[i] = this.t3[i] = i;
+    }
+
+    @Benchmark
+    public long indexed() {
+        return IntStream.range(0, this.size).parallel()
+                .mapToObj(i -> this.function3.apply3(this.t1[i], this.t2[i], this.t3[i]))
+                .mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long zip() {
+        return Zip.zip(Arrays.spliterator(this.t1), Arrays.spliterator(this.t2), Arrays.spliterator(this.t3), this.function3, false)
+                .mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelZip() {
+        return Zip.zip(Arrays.spliterator(this.t1), Arrays.spliterator(this.t2), Arrays.spliterator(this.t3), this.function3, true)
+                .mapToLong(Integer::longValue).sum();
+    }
+}
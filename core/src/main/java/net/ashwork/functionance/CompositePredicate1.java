@@ -0,0 +1,66 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance;
+
+/**
+ * A predicate which tests a sequence of predicates in a single loop,
+ * short-circuiting on the first predicate which determines the result.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @see Predicate1#and
+ * @see Predicate1#or
+ */
+final class CompositePredicate1<T1> implements Predicate1<T1> {
+
+    /**
+     * {@code true} if all predicates must match, or {@code false} if any
+     * predicate must match.
+     */
+    private final boolean all;
+    private final Predicates predicates;
+
+    private CompositePredicate1(final boolean all, final Predicates predicates) {
+        this.all = all;
+        this.predicates = predicates;
+    }
+
+    /**
+     * Combines two predicates into a single composite. Any composite of the
+     * same kind has its predicates appended instead of being nested, sharing
+     * the backing array of the first where possible.
+     *
+     * @param first the predicate to test first
+     * @param second the predicate to test second
+     * @param all {@code true} for a logical AND, {@code false} for a logical OR
+     * @param <T1> the type of the first argument to the predicate
+     * @return a predicate which tests both predicates in sequence
+     */
+    static <T1> Predicate1<T1> combine(final Predicate1<? super T1> first, final Predicate1<? super T1> second, final boolean all) {
+        final Predicates head = flatten(first, all), tail = flatten(second, all);
+        final Predicates predicates = head != null ? head : Predicates.of(first);
+        return new CompositePredicate1<>(all, tail != null ? predicates.append(tail) : predicates.add(second));
+    }
+
+    private static Predicates flatten(final Predicate1<?> predicate, final boolean all) {
+        if (predicate instanceof CompositePredicate1 && ((CompositePredicate1<?>) predicate).all == all)
+            return ((CompositePredicate1<?>) predicate).predicates;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean test1(final T1 t1) {
+        final Object[] predicates = this.predicates.predicates;
+        for (int i = 0; i < this.predicates.size; i++) {
+            if (((Predicate1<? super T1>) predicates[i]).test1(t1) != this.all) return !this.all;
+        }
+        return this.all;
+    }
+}
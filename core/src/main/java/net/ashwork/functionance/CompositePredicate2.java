@@ -0,0 +1,68 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance;
+
+/**
+ * A predicate which tests a sequence of predicates in a single loop,
+ * short-circuiting on the first predicate which determines the result.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @see Predicate2#and
+ * @see Predicate2#or
+ */
+final class CompositePredicate2<T1, T2> implements Predicate2<T1, T2> {
+
+    /**
+     * {@code true} if all predicates must match, or {@code false} if any
+     * predicate must match.
+     */
+    private final boolean all;
+    private final Predicates predicates;
+
+    private CompositePredicate2(final boolean all, final Predicates predicates) {
+        this.all = all;
+        this.predicates = predicates;
+    }
+
+    /**
+     * Combines two predicates into a single composite. Any composite of the
+     * same kind has its predicates appended instead of being nested, sharing
+     * the backing array of the first where possible.
+     *
+     * @param first the predicate to test first
+     * @param second the predicate to test second
+     * @param all {@code true} for a logical AND, {@code false} for a logical OR
+     * @param <T1> the type of the first argument to the predicate
+     * @param <T2> the type of the second argument to the predicate
+     * @return a predicate which tests both predicates in sequence
+     */
+    static <T1, T2> Predicate2<T1, T2> combine(final Predicate2<? super T1, ? super T2> first, final Predicate2<? super T1, ? super T2> second, final boolean all) {
+        final Predicates head = flatten(first, all), tail = flatten(second, all);
+        final Predicates predicates = head != null ? head : Predicates.of(first);
+        return new CompositePredicate2<>(all, tail != null ? predicates.append(tail) : predicates.add(second));
+    }
+
+    private static Predicates flatten(final Predicate2<?, ?> predicate, final boolean all) {
+        if (predicate instanceof CompositePredicate2 && ((CompositePredicate2<?, ?>) predicate).all == all)
+            return ((CompositePredicate2<?, ?>) predicate).predicates;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean test2(final T1 t1, final T2 t2) {
+        final Object[] predicates = this.predicates.predicates;
+        for (int i = 0; i < this.predicates.size; i++) {
+            if (((Predicate2<? super T1, ? super T2>) predicates[i]).test2(t1, t2) != this.all) return !this.all;
+        }
+        return this.all;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance;
+
+/**
+ * A predicate which tests a sequence of predicates in a single loop,
+ * short-circuiting on the first predicate which determines the result.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ * @param <T4> the type of the fourth argument to the predicate
+ * @see Predicate4#and
+ * @see Predicate4#or
+ */
+final class CompositePredicate4<T1, T2, T3, T4> implements Predicate4<T1, T2, T3, T4> {
+
+    /**
+     * {@code true} if all predicates must match, or {@code false} if any
+     * predicate must match.
+     */
+    private final boolean all;
+    private final Predicates predicates;
+
+    private CompositePredicate4(final boolean all, final Predicates predicates) {
+        this.all = all;
+        this.predicates = predicates;
+    }
+
+    /**
+     * Combines two predicates into a single composite. Any composite of the
+     * same kind has its predicates appended instead of being nested, sharing
+     * the backing array of the first where possible.
+     *
+     * @param first the predicate to test first
+     * @param second the predicate to test second
+     * @param all {@code true} for a logical AND, {@code false} for a logical OR
+     * @param <T1> the type of the first argument to the predicate
+     * @param <T2> the type of the second argument to the predicate
+     * @param <T3> the type of the third argument to the predicate
+     * @param <T4> the type of the fourth argument to the predicate
+     * @return a predicate which tests both predicates in sequence
+     */
+    static <T1, T2, T3, T4> Predicate4<T1, T2, T3, T4> combine(final Predicate4<? super T1, ? super T2, ? super T3, ? super T4> first, final Predicate4<? super T1, ? super T2, ? super T3, ? super T4> second, final boolean all) {
+        final Predicates head = flatten(first, all), tail = flatten(second, all);
+        final Predicates predicates = head != null ? head : Predicates.of(first);
+        return new CompositePredicate4<>(all, tail != null ? predicates.append(tail) : predicates.add(second));
+    }
+
+    private static Predicates flatten(final Predicate4<?, ?, ?, ?> predicate, final boolean all) {
+        if (predicate instanceof CompositePredicate4 && ((CompositePredicate4<?, ?, ?, ?>) predicate).all == all)
+            return ((CompositePredicate4<?, ?, ?, ?>) predicate).predicates;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean test4(final T1 t1, final T2 t2, final T3 t3, final T4 t4) {
+        final Object[] predicates = this.predicates.predicates;
+        for (int i = 0; i < this.predicates.size; i++) {
+            if (((Predicate4<? super T1, ? super T2, ? super T3, ? super T4>) predicates[i]).test4(t1, t2, t3, t4) != this.all) return !this.all;
+        }
+        return this.all;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance;
+
+/**
+ * A predicate which tests a sequence of predicates in a single loop,
+ * short-circuiting on the first predicate which determines the result.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ * @param <T4> the type of the fourth argument to the predicate
+ * @param <T5> the type of the fifth argument to the predicate
+ * @param <T6> the type of the sixth argument to the predicate
+ * @param <T7> the type of the seventh argument to the predicate
+ * @see Predicate7#and
+ * @see Predicate7#or
+ */
+final class CompositePredicate7<T1, T2, T3, T4, T5, T6, T7> implements Predicate7<T1, T2, T3, T4, T5, T6, T7> {
+
+    /**
+     * {@code true} if all predicates must match, or {@code false} if any
+     * predicate must match.
+     */
+    private final boolean all;
+    private final Predicates predicates;
+
+    private CompositePredicate7(final boolean all, final Predicates predicates) {
+        this.all = all;
+        this.predicates = predicates;
+    }
+
+    /**
+     * Combines two predicates into a single composite. Any composite of the
+     * same kind has its predicates appended instead of being nested, sharing
+     * the backing array of the first where possible.
+     *
+     * @param first the predicate to test first
+     * @param second the predicate to test second
+     * @param all {@code true} for a logical AND, {@code false} for a logical OR
+     * @param <T1> the type of the first argument to the predicate
+     * @param <T2> the type of the second argument to the predicate
+     * @param <T3> the type of the third argument to the predicate
+     * @param <T4> the type of the fourth argument to the predicate
+     * @param <T5> the type of the fifth argument to the predicate
+     * @param <T6> the type of the sixth argument to the predicate
+     * @param <T7> the type of the seventh argument to the predicate
+     * @return a predicate which tests both predicates in sequence
+     */
+    static <T1, T2, T3, T4, T5, T6, T7> Predicate7<T1, T2, T3, T4, T5, T6, T7> combine(final Predicate7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7> first, final Predicate7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7> second, final boolean all) {
+        final Predicates head = flatten(first, all), tail = flatten(second, all);
+        final Predicates predicates = head != null ? head : Predicates.of(first);
+        return new CompositePredicate7<>(all, tail != null ? predicates.append(tail) : predicates.add(second));
+    }
+
+    private static Predicates flatten(final Predicate7<?, ?, ?, ?, ?, ?, ?> predicate, final boolean all) {
+        if (predicate instanceof CompositePredicate7 && ((CompositePredicate7<?, ?, ?, ?, ?, ?, ?>) predicate).all == all)
+            return ((CompositePredicate7<?, ?, ?, ?, ?, ?, ?>) predicate).predicates;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean test7(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7) {
+        final Object[] predicates = this.predicates.predicates;
+        for (int i = 0; i < this.predicates.size; i++) {
+            if (((Predicate7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7>) predicates[i]).test7(t1, t2, t3, t4, t5, t6, t7) != this.all) return !this.all;
+        }
+        return this.all;
+    }
+}
@@ -9,6 +9,10 @@
 
 package net.ashwork.functionance;
 
+import net.ashwork.functionance.attempt.Try;
+import net.ashwork.functionance.cache.LazyFunction0;
+import net.ashwork.functionance.cache.LazyMode;
+import net.ashwork.functionance.metrics.Registry;
 import net.ashwork.functionance.partial.transformer.Transformer0;
 import net.ashwork.functionance.partial.transformer.Transformer1;
 import net.ashwork.functionance.partial.input.Input0;
@@ -18,10 +22,16 @@ import net.ashwork.functionance.partial.result.Result;
 import net.ashwork.functionance.runnable.Runnable0;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Represents a function that accepts no arguments and produces a result.
  *
+ * <p>Composing this function with a transformer flattens the transformer
+ * into a sequence of stages applied within a loop, such that a pipeline
+ * of any length can be applied without growing the stack.
+ *
  * <p>This is a functional interface whose functional method is
  * {@link #apply0()}.
  *
@@ -52,7 +62,7 @@ public interface Function0<R> extends Input0, Transformer0<R>, Result<R>, Defaul
     @Override
     default <V> Function0<V> andThen(final Transformer1<? super R, ? extends V> after) {
         Objects.requireNonNull(after, "The after transformer cannot be null");
-        return () -> after.apply1(this.apply0());
+        return Pipeline0.andThen(this, after);
     }
 
     /**
@@ -77,4 +87,92 @@ public interface Function0<R> extends Input0, Transformer0<R>, Result<R>, Defaul
         Objects.requireNonNull(addend, "The addend transformer cannot be null");
         return addend.apply1(this);
     }
+
+    /**
+     * Returns a function which computes the result of this function at most
+     * once, waiting for the result if it is being computed by another thread.
+     *
+     * @return a function which computes the result of this function at most
+     *         once
+     * @see LazyMode#SYNCHRONIZED
+     */
+    default LazyFunction0<R> memoize() {
+        return this.memoize(LazyMode.SYNCHRONIZED);
+    }
+
+    /**
+     * Returns a function which lazily computes the result of this function
+     * and caches it for all further applications.
+     *
+     * @param mode how the result is initialized when accessed by multiple
+     *             threads
+     * @return a function which lazily computes the result of this function
+     * @throws NullPointerException if the lazy mode is {@code null}
+     * @see LazyFunction0
+     */
+    default LazyFunction0<R> memoize(final LazyMode mode) {
+        return new LazyFunction0<>(this, mode);
+    }
+
+    /**
+     * Applies this function on the executor.
+     *
+     * @param executor the executor to apply the function on
+     * @return a future holding the result of the function
+     * @throws NullPointerException if the {@code executor} is {@code null}
+     */
+    default CompletableFuture<R> applyAsync0(final Executor executor) {
+        Objects.requireNonNull(executor, "The executor cannot be null");
+        return CompletableFuture.supplyAsync(this::apply0, executor);
+    }
+
+    /**
+     * Applies this function, returning any exception it throws as a failed
+     * outcome rather than propagating it.
+     *
+     * @return the outcome of the function
+     * @see Try
+     */
+    default Try<R> tryApply0() {
+        try {
+            return Try.success(this.apply0());
+        } catch (final Throwable t) {
+            return Try.failure(t);
+        }
+    }
+
+    /**
+     * Returns a function which records the calls, failures, and latencies
+     * of this function within the instrument of the global registry with the
+     * name.
+     *
+     * @param name the name of the instrument
+     * @return a function which records its calls
+     * @throws NullPointerException if the {@code name} is {@code null}
+     * @throws IllegalArgumentException if the instrument already exists and
+     *                                  only samples some calls
+     * @see Registry#instrument(String)
+     */
+    default Function0<R> instrument(final String name) {
+        return Registry.global().instrument(name).decorate(this);
+    }
+
+    /**
+     * Returns a function which counts the calls and failures of this
+     * function within the instrument of the global registry with the name,
+     * only measuring the latency of one in every {@code sampleInterval}
+     * calls of each thread.
+     *
+     * @param name the name of the instrument
+     * @param sampleInterval the number of calls between each measured call
+     * @return a function which records its calls
+     * @throws NullPointerException if the {@code name} is {@code null}
+     * @throws IllegalArgumentException if {@code sampleInterval} is not
+     *                                  positive, or the instrument already
+     *                                  exists with a different interval
+     * @see Registry#instrument(String, int)
+     */
+    default Function0<R> instrument(final String name, final int sampleInterval) {
+        return Registry.global().instrument(name, sampleInterval).decorate(this);
+    }
 }
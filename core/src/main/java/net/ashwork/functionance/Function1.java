@@ -9,6 +9,12 @@
 
 package net.ashwork.functionance;
 
+import net.ashwork.functionance.attempt.Try;
+import net.ashwork.functionance.batch.Batch;
+import net.ashwork.functionance.batch.Range;
+import net.ashwork.functionance.cache.CacheSettings;
+import net.ashwork.functionance.cache.MemoizedFunction1;
+import net.ashwork.functionance.metrics.Registry;
 import net.ashwork.functionance.partial.input.Input1;
 import net.ashwork.functionance.partial.result.Consume;
 import net.ashwork.functionance.partial.result.Default;
@@ -17,10 +23,17 @@ import net.ashwork.functionance.partial.transformer.Transformer1;
 import net.ashwork.functionance.runnable.Runnable1;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents a function that accepts one argument and produces a result.
  *
+ * <p>Composing this function with a transformer flattens the transformer
+ * into a sequence of stages applied within a loop, such that a pipeline
+ * of any length can be applied without growing the stack.
+ *
  * <p>This is a functional interface whose functional method is
  * {@link #apply1(Object)}.
  *
@@ -37,7 +50,7 @@ public interface Function1<T1, R> extends Input1<T1>, Transformer1<T1, R>, Resul
     @Override
     default <V> Function1<V, R> compose1(final Transformer1<? super V, ? extends T1> before) {
         Objects.requireNonNull(before, "The before transformer cannot be null");
-        return v -> this.apply1(before.apply1(v));
+        return Pipeline1.compose1(this, before);
     }
 
     /**
@@ -61,7 +74,7 @@ public interface Function1<T1, R> extends Input1<T1>, Transformer1<T1, R>, Resul
     @Override
     default <V> Function1<T1, V> andThen(final Transformer1<? super R, ? extends V> after) {
         Objects.requireNonNull(after, "The after transformer cannot be null");
-        return t1 -> after.apply1(this.apply1(t1));
+        return Pipeline1.andThen(this, after);
     }
 
     /**
@@ -91,4 +104,154 @@ public interface Function1<T1, R> extends Input1<T1>, Transformer1<T1, R>, Resul
         Objects.requireNonNull(addend, "The addend transformer cannot be null");
         return addend.apply1(this);
     }
+
+    /**
+     * Returns a function which caches the results of this function within
+     * a bounded cache using the default settings.
+     *
+     * @return a function which caches the results of this function
+     * @see CacheSettings#DEFAULT
+     */
+    default MemoizedFunction1<T1, R> memoize() {
+        return this.memoize(CacheSettings.DEFAULT);
+    }
+
+    /**
+     * Returns a function which caches the results of this function within
+     * a bounded cache.
+     *
+     * @param settings the settings of the cache
+     * @return a function which caches the results of this function
+     * @throws NullPointerException if the cache settings are {@code null}
+     * @see MemoizedFunction1
+     */
+    default MemoizedFunction1<T1, R> memoize(final CacheSettings settings) {
+        return new MemoizedFunction1<>(this, settings);
+    }
+
+    /**
+     * Applies this function on the executor.
+     *
+     * @param t1 the first function argument
+     * @param executor the executor to apply the function on
+     * @return a future holding the result of the function
+     * @throws NullPointerException if the {@code executor} is {@code null}
+     */
+    default CompletableFuture<R> applyAsync1(final T1 t1, final Executor executor) {
+        Objects.requireNonNull(executor, "The executor cannot be null");
+        return CompletableFuture.supplyAsync(() -> this.apply1(t1), executor);
+    }
+
+    /**
+     * Lifts this function to accept futures as its arguments. The function is
+     * applied within the thread which completes the last of the futures. If
+     * any future completes exceptionally, so does the result.
+     *
+     * @return a function which applies this function to the results of futures
+     */
+    default Function1<CompletableFuture<? extends T1>, CompletableFuture<R>> liftAsync() {
+        return f1 -> f1.thenApply(this::apply1);
+    }
+
+    /**
+     * Lifts this function to accept futures as its arguments. The function is
+     * applied on the executor once all futures have completed. If any future
+     * completes exceptionally, so does the result.
+     *
+     * @param executor the executor to apply the function on
+     * @return a function which applies this function to the results of futures
+     * @throws NullPointerException if the {@code executor} is {@code null}
+     */
+    default Function1<CompletableFuture<? extends T1>, CompletableFuture<R>> liftAsync(final Executor executor) {
+        Objects.requireNonNull(executor, "The executor cannot be null");
+        return f1 -> f1.thenApplyAsync(this::apply1, executor);
+    }
+
+    /**
+     * Applies this function to each index within the range of the argument
+     * arrays, writing each result into {@code results} at the same index.
+     *
+     * @param t1 the first function arguments
+     * @param results the array to write the results into
+     * @param offset the first index of the range
+     * @param length the number of indices within the range
+     * @throws NullPointerException if any array is {@code null}
+     * @throws IndexOutOfBoundsException if the range is not within every array
+     */
+    default void applyBatch1(final T1[] t1, final R[] results, final int offset, final int length) {
+        Batch.checkRange(offset, length, t1.length, results.length);
+        for (int i = offset, end = offset + length; i < end; i++) results[i] = this.apply1(t1[i]);
+    }
+
+    /**
+     * Applies this function to each index within the range of the argument
+     * arrays, writing each result into {@code results} at the same index. The
+     * range is split across the pool.
+     *
+     * @param t1 the first function arguments
+     * @param results the array to write the results into
+     * @param offset the first index of the range
+     * @param length the number of indices within the range
+     * @param pool the pool to split the range across
+     * @throws NullPointerException if any array or the {@code pool} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is not within every array
+     * @see Batch#split(int, int, ForkJoinPool, Range)
+     */
+    default void applyBatch1(final T1[] t1, final R[] results, final int offset, final int length, final ForkJoinPool pool) {
+        Batch.checkRange(offset, length, t1.length, results.length);
+        Batch.split(offset, length, pool, (from, to) -> {
+            for (int i = from; i < to; i++) results[i] = this.apply1(t1[i]);
+        });
+    }
+
+    /**
+     * Applies this function, returning any exception it throws as a failed
+     * outcome rather than propagating it.
+     *
+     * @param t1 the first function argument
+     * @return the outcome of the function
+     * @see Try
+     */
+    default Try<R> tryApply1(final T1 t1) {
+        try {
+            return Try.success(this.apply1(t1));
+        } catch (final Throwable t) {
+            return Try.failure(t);
+        }
+    }
+
+    /**
+     * Returns a function which records the calls, failures, and latencies
+     * of this function within the instrument of the global registry with the
+     * name.
+     *
+     * @param name the name of the instrument
+     * @return a function which records its calls
+     * @throws NullPointerException if the {@code name} is {@code null}
+     * @throws IllegalArgumentException if the instrument already exists and
+     *                                  only samples some calls
+     * @see Registry#instrument(String)
+     */
+    default Function1<T1, R> instrument(final String name) {
+        return Registry.global().instrument(name).decorate(this);
+    }
+
+    /**
+     * Returns a function which counts the calls and failures of this
+     * function within the instrument of the global registry with the name,
+     * only measuring the latency of one in every {@code sampleInterval}
+     * calls of each thread.
+     *
+     * @param name the name of the instrument
+     * @param sampleInterval the number of calls between each measured call
+     * @return a function which records its calls
+     * @throws NullPointerException if the {@code name} is {@code null}
+     * @throws IllegalArgumentException if {@code sampleInterval} is not
+     *                                  positive, or the instrument already
+     *                                  exists with a different interval
+     * @see Registry#instrument(String, int)
+     */
+    default Function1<T1, R> instrument(final String name, final int sampleInterval) {
+        return Registry.global().instrument(name, sampleInterval).decorate(this);
+    }
 }
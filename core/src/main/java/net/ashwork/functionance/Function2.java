@@ -9,6 +9,13 @@
 
 package net.ashwork.functionance;
 
+import net.ashwork.functionance.async.Parallel;
+import net.ashwork.functionance.attempt.Try;
+import net.ashwork.functionance.batch.Batch;
+import net.ashwork.functionance.batch.Range;
+import net.ashwork.functionance.cache.CacheSettings;
+import net.ashwork.functionance.cache.MemoizedFunction2;
+import net.ashwork.functionance.metrics.Registry;
 import net.ashwork.functionance.partial.input.Input2;
 import net.ashwork.functionance.partial.result.Consume;
 import net.ashwork.functionance.partial.result.Default;
@@ -18,10 +25,17 @@ import net.ashwork.functionance.partial.transformer.Transformer2;
 import net.ashwork.functionance.runnable.Runnable2;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents a function that accepts two arguments and produces a result.
  *
+ * <p>Composing this function with a transformer flattens the transformer
+ * into a sequence of stages applied within a loop, such that a pipeline
+ * of any length can be applied without growing the stack.
+ *
  * <p>This is a functional interface whose functional method is
  * {@link #apply2(Object, Object)}.
  *
@@ -39,7 +53,7 @@ public interface Function2<T1, T2, R> extends Input2<T1, T2>, Transformer2<T1, T
     @Override
     default <V> Function2<T1, V, R> compose2(final Transformer1<? super V, ? extends T2> before) {
         Objects.requireNonNull(before, "The before transformer cannot be null");
-        return (t1, v) -> this.apply2(t1, before.apply1(v));
+        return Pipeline2.compose2(this, before);
     }
 
     /**
@@ -48,7 +62,7 @@ public interface Function2<T1, T2, R> extends Input2<T1, T2>, Transformer2<T1, T
     @Override
     default <V> Function2<V, T2, R> compose1(final Transformer1<? super V, ? extends T1> before) {
         Objects.requireNonNull(before, "The before transformer cannot be null");
-        return (v, t2) -> this.apply2(before.apply1(v), t2);
+        return Pipeline2.compose1(this, before);
     }
 
     /**
@@ -72,7 +86,7 @@ public interface Function2<T1, T2, R> extends Input2<T1, T2>, Transformer2<T1, T
     @Override
     default <V> Function2<T1, T2, V> andThen(final Transformer1<? super R, ? extends V> after) {
         Objects.requireNonNull(after, "The after transformer cannot be null");
-        return (t1, t2) -> after.apply1(this.apply2(t1, t2));
+        return Pipeline2.andThen(this, after);
     }
 
     @Override
@@ -123,4 +137,215 @@ public interface Function2<T1, T2, R> extends Input2<T1, T2>, Transformer2<T1, T
     default Function1<T1, Function1<T2, R>> curry() {
         return t1 -> t2 -> this.apply2(t1, t2);
     }
+
+    /**
+     * Returns a function which caches the results of this function within
+     * a bounded cache using the default settings.
+     *
+     * @return a function which caches the results of this function
+     * @see CacheSettings#DEFAULT
+     */
+    default MemoizedFunction2<T1, T2, R> memoize() {
+        return this.memoize(CacheSettings.DEFAULT);
+    }
+
+    /**
+     * Returns a function which caches the results of this function within
+     * a bounded cache.
+     *
+     * @param capacity the number of results the cache can hold
+     * @return a function which caches the results of this function
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     * @see CacheSettings.Builder#maximumSize(int)
+     */
+    default MemoizedFunction2<T1, T2, R> memoize(final int capacity) {
+        return this.memoize(CacheSettings.builder().maximumSize(capacity).build());
+    }
+
+    /**
+     * Returns a function which caches the results of this function within
+     * a bounded cache.
+     *
+     * @param settings the settings of the cache
+     * @return a function which caches the results of this function
+     * @throws NullPointerException if the cache settings are {@code null}
+     * @see MemoizedFunction2
+     */
+    default MemoizedFunction2<T1, T2, R> memoize(final CacheSettings settings) {
+        return new MemoizedFunction2<>(this, settings);
+    }
+
+    /**
+     * Applies this function on the executor.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @param executor the executor to apply the function on
+     * @return a future holding the result of the function
+     * @throws NullPointerException if the {@code executor} is {@code null}
+     */
+    default CompletableFuture<R> applyAsync2(final T1 t1, final T2 t2, final Executor executor) {
+        Objects.requireNonNull(executor, "The executor cannot be null");
+        return CompletableFuture.supplyAsync(() -> this.apply2(t1, t2), executor);
+    }
+
+    /**
+     * Lifts this function to accept futures as its arguments. The function is
+     * applied within the thread which completes the last of the futures. If
+     * any future completes exceptionally, so does the result.
+     *
+     * @return a function which applies this function to the results of futures
+     */
+    default Function2<CompletableFuture<? extends T1>, CompletableFuture<? extends T2>, CompletableFuture<R>> liftAsync() {
+        return (f1, f2) -> f1.thenCombine(f2, this::apply2);
+    }
+
+    /**
+     * Lifts this function to accept futures as its arguments. The function is
+     * applied on the executor once all futures have completed. If any future
+     * completes exceptionally, so does the result.
+     *
+     * @param executor the executor to apply the function on
+     * @return a function which applies this function to the results of futures
+     * @throws NullPointerException if the {@code executor} is {@code null}
+     */
+    default Function2<CompletableFuture<? extends T1>, CompletableFuture<? extends T2>, CompletableFuture<R>> liftAsync(final Executor executor) {
+        Objects.requireNonNull(executor, "The executor cannot be null");
+        return (f1, f2) -> f1.thenCombineAsync(f2, this::apply2, executor);
+    }
+
+    /**
+     * Applies this function to the results of the argument functions, which
+     * are evaluated concurrently on the {@linkplain ForkJoinPool#commonPool()
+     * common pool}.
+     *
+     * @param t1 the function supplying the first function argument
+     * @param t2 the function supplying the second function argument
+     * @return the function result
+     * @throws NullPointerException if any argument function is {@code null}
+     * @see #applyParallel2(Function0, Function0, Executor)
+     */
+    default R applyParallel2(final Function0<? extends T1> t1, final Function0<? extends T2> t2) {
+        return this.applyParallel2(t1, t2, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies this function to the results of the argument functions, which
+     * are evaluated concurrently on the executor. The last argument function
+     * is evaluated on the calling thread while the others are running. If
+     * any argument function throws, the others are cancelled if they have
+     * not started.
+     *
+     * @param t1 the function supplying the first function argument
+     * @param t2 the function supplying the second function argument
+     * @param executor the executor to evaluate the argument functions on
+     * @return the function result
+     * @throws NullPointerException if any argument function or the {@code executor} is {@code null}
+     * @see Parallel#fork(Function0, Executor)
+     */
+    default R applyParallel2(final Function0<? extends T1> t1, final Function0<? extends T2> t2, final Executor executor) {
+        Objects.requireNonNull(t1, "The first argument function cannot be null");
+        Objects.requireNonNull(t2, "The second argument function cannot be null");
+        Objects.requireNonNull(executor, "The executor cannot be null");
+        final Parallel.Fork<? extends T1> f1 = Parallel.fork(t1, executor);
+        try {
+            final T2 t = t2.apply0();
+            return this.apply2(f1.apply0(), t);
+        } catch (final Throwable e) {
+            // Stop any argument functions which have not started yet
+            Parallel.cancel(f1);
+            throw e;
+        }
+    }
+
+    /**
+     * Applies this function to each index within the range of the argument
+     * arrays, writing each result into {@code results} at the same index.
+     *
+     * @param t1 the first function arguments
+     * @param t2 the second function arguments
+     * @param results the array to write the results into
+     * @param offset the first index of the range
+     * @param length the number of indices within the range
+     * @throws NullPointerException if any array is {@code null}
+     * @throws IndexOutOfBoundsException if the range is not within every array
+     */
+    default void applyBatch2(final T1[] t1, final T2[] t2, final R[] results, final int offset, final int length) {
+        Batch.checkRange(offset, length, t1.length, t2.length, results.length);
+        for (int i = offset, end = offset + length; i < end; i++) results[i] = this.apply2(t1[i], t2[i]);
+    }
+
+    /**
+     * Applies this function to each index within the range of the argument
+     * arrays, writing each result into {@code results} at the same index. The
+     * range is split across the pool.
+     *
+     * @param t1 the first function arguments
+     * @param t2 the second function arguments
+     * @param results the array to write the results into
+     * @param offset the first index of the range
+     * @param length the number of indices within the range
+     * @param pool the pool to split the range across
+     * @throws NullPointerException if any array or the {@code pool} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is not within every array
+     * @see Batch#split(int, int, ForkJoinPool, Range)
+     */
+    default void applyBatch2(final T1[] t1, final T2[] t2, final R[] results, final int offset, final int length, final ForkJoinPool pool) {
+        Batch.checkRange(offset, length, t1.length, t2.length, results.length);
+        Batch.split(offset, length, pool, (from, to) -> {
+            for (int i = from; i < to; i++) results[i] = this.apply2(t1[i], t2[i]);
+        });
+    }
+
+    /**
+     * Applies this function, returning any exception it throws as a failed
+     * outcome rather than propagating it.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @return the outcome of the function
+     * @see Try
+     */
+    default Try<R> tryApply2(final T1 t1, final T2 t2) {
+        try {
+            return Try.success(this.apply2(t1, t2));
+        } catch (final Throwable t) {
+            return Try.failure(t);
+        }
+    }
+
+    /**
+     * Returns a function which records the calls, failures, and latencies
+     * of this function within the instrument of the global registry with the
+     * name.
+     *
+     * @param name the name of the instrument
+     * @return a function which records its calls
+     * @throws NullPointerException if the {@code name} is {@code null}
+     * @throws IllegalArgumentException if the instrument already exists and
+     *                                  only samples some calls
+     * @see Registry#instrument(String)
+     */
+    default Function2<T1, T2, R> instrument(final String name) {
+        return Registry.global().instrument(name).decorate(this);
+    }
+
+    /**
+     * Returns a function which counts the calls and failures of this
+     * function within the instrument of the global registry with the name,
+     * only measuring the latency of one in every {@code sampleInterval}
+     * calls of each thread.
+     *
+     * @param name the name of the instrument
+     * @param sampleInterval the number of calls between each measured call
+     * @return a function which records its calls
+     * @throws NullPointerException if the {@code name} is {@code null}
+     * @throws IllegalArgumentException if {@code sampleInterval} is not
+     *                                  positive, or the instrument already
+     *                                  exists with a different interval
+     * @see Registry#instrument(String, int)
+     */
+    default Function2<T1, T2, R> instrument(final String name, final int sampleInterval) {
+        return Registry.global().instrument(name, sampleInterval).decorate(this);
+    }
 }
@@ -9,6 +9,14 @@
 
 package net.ashwork.functionance;
 
+import net.ashwork.functionance.async.FanIn;
+import net.ashwork.functionance.async.Parallel;
+import net.ashwork.functionance.attempt.Try;
+import net.ashwork.functionance.batch.Batch;
+import net.ashwork.functionance.batch.Range;
+import net.ashwork.functionance.cache.CacheSettings;
+import net.ashwork.functionance.cache.MemoizedFunction6;
+import net.ashwork.functionance.metrics.Registry;
 import net.ashwork.functionance.partial.input.Input6;
 import net.ashwork.functionance.partial.result.Consume;
 import net.ashwork.functionance.partial.result.Default;
@@ -18,10 +26,17 @@ import net.ashwork.functionance.partial.transformer.Transformer6;
 import net.ashwork.functionance.runnable.Runnable6;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents a function that accepts six arguments and produces a result.
  *
+ * <p>Composing this function with a transformer flattens the transformer
+ * into a sequence of stages applied within a loop, such that a pipeline
+ * of any length can be applied without growing the stack.
+ *
  * <p>This is a functional interface whose functional method is
  * {@link #apply6(Object, Object, Object, Object, Object, Object)}.
  *
@@ -43,7 +58,7 @@ public interface Function6<T1, T2, T3, T4, T5, T6, R> extends Input6<T1, T2, T3,
     @Override
     default <V> Function6<T1, T2, T3, T4, T5, V, R> compose6(final Transformer1<? super V, ? extends T6> before) {
         Objects.requireNonNull(before, "The before transformer cannot be null");
-        return (t1, t2, t3, t4, t5, v) -> this.apply6(t1, t2, t3, t4, t5, before.apply1(v));
+        return Pipeline6.compose6(this, before);
     }
 
     /**
@@ -52,7 +67,7 @@ public interface Function6<T1, T2, T3, T4, T5, T6, R> extends Input6<T1, T2, T3,
     @Override
     default <V> Function6<T1, T2, T3, T4, V, T6, R> compose5(final Transformer1<? super V, ? extends T5> before) {
         Objects.requireNonNull(before, "The before transformer cannot be null");
-        return (t1, t2, t3, t4, v, t6) -> this.apply6(t1, t2, t3, t4, before.apply1(v), t6);
+        return Pipeline6.compose5(this, before);
     }
 
     /**
@@ -61,7 +76,7 @@ public interface Function6<T1, T2, T3, T4, T5, T6, R> extends Input6<T1, T2, T3,
     @Override
     default <V> Function6<T1, T2, T3, V, T5, T6, R> compose4(final Transformer1<? super V, ? extends T4> before) {
         Objects.requireNonNull(before, "The before transformer cannot be null");
-        return (t1, t2, t3, v, t5, t6) -> this.apply6(t1, t2, t3, before.apply1(v), t5, t6);
+        return Pipeline6.compose4(this, before);
     }
 
     /**
@@ -70,7 +85,7 @@ public interface Function6<T1, T2, T3, T4, T5, T6, R> extends Input6<T1, T2, T3,
     @Override
     default <V> Function6<T1, T2, V, T4, T5, T6, R> compose3(final Transformer1<? super V, ? extends T3> before) {
         Objects.requireNonNull(before, "The before transformer cannot be null");
-        return (t1, t2, v, t4, t5, t6) -> this.apply6(t1, t2, before.apply1(v), t4, t5, t6);
+        return Pipeline6.compose3(this, before);
     }
 
     /**
@@ -79,7 +94,7 @@ public interface Function6<T1, T2, T3, T4, T5, T6, R> extends Input6<T1, T2, T3,
     @Override
     default <V> Function6<T1, V, T3, T4, T5, T6, R> compose2(final Transformer1<? super V, ? extends T2> before) {
         Objects.requireNonNull(before, "The before transformer cannot be null");
-        return (t1, v, t3, t4, t5, t6) -> this.apply6(t1, before.apply1(v), t3, t4, t5, t6);
+        return Pipeline6.compose2(this, before);
     }
 
     /**
@@ -88,7 +103,7 @@ public interface Function6<T1, T2, T3, T4, T5, T6, R> extends Input6<T1, T2, T3,
     @Override
     default <V> Function6<V, T2, T3, T4, T5, T6, R> compose1(final Transformer1<? super V, ? extends T1> before) {
         Objects.requireNonNull(before, "The before transformer cannot be null");
-        return (v, t2, t3, t4, t5, t6) -> this.apply6(before.apply1(v), t2, t3, t4, t5, t6);
+        return Pipeline6.compose1(this, before);
     }
 
     /**
@@ -112,7 +127,7 @@ public interface Function6<T1, T2, T3, T4, T5, T6, R> extends Input6<T1, T2, T3,
     @Override
     default <V> Function6<T1, T2, T3, T4, T5, T6, V> andThen(final Transformer1<? super R, ? extends V> after) {
         Objects.requireNonNull(after, "The after transformer cannot be null");
-        return (t1, t2, t3, t4, t5, t6) -> after.apply1(this.apply6(t1, t2, t3, t4, t5, t6));
+        return Pipeline6.andThen(this, after);
     }
 
     @Override
@@ -258,4 +273,247 @@ public interface Function6<T1, T2, T3, T4, T5, T6, R> extends Input6<T1, T2, T3,
     default Function5<T1, T2, T3, T4, T5, Function1<T6, R>> curry5() {
         return (t1, t2, t3, t4, t5) -> t6 -> this.apply6(t1, t2, t3, t4, t5, t6);
     }
+
+    /**
+     * Returns a function which caches the results of this function within
+     * a bounded cache using the default settings.
+     *
+     * @return a function which caches the results of this function
+     * @see CacheSettings#DEFAULT
+     */
+    default MemoizedFunction6<T1, T2, T3, T4, T5, T6, R> memoize() {
+        return this.memoize(CacheSettings.DEFAULT);
+    }
+
+    /**
+     * Returns a function which caches the results of this function within
+     * a bounded cache.
+     *
+     * @param capacity the number of results the cache can hold
+     * @return a function which caches the results of this function
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     * @see CacheSettings.Builder#maximumSize(int)
+     */
+    default MemoizedFunction6<T1, T2, T3, T4, T5, T6, R> memoize(final int capacity) {
+        return this.memoize(CacheSettings.builder().maximumSize(capacity).build());
+    }
+
+    /**
+     * Returns a function which caches the results of this function within
+     * a bounded cache.
+     *
+     * @param settings the settings of the cache
+     * @return a function which caches the results of this function
+     * @throws NullPointerException if the cache settings are {@code null}
+     * @see MemoizedFunction6
+     */
+    default MemoizedFunction6<T1, T2, T3, T4, T5, T6, R> memoize(final CacheSettings settings) {
+        return new MemoizedFunction6<>(this, settings);
+    }
+
+    /**
+     * Applies this function on the executor.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @param t3 the third function argument
+     * @param t4 the fourth function argument
+     * @param t5 the fifth function argument
+     * @param t6 the sixth function argument
+     * @param executor the executor to apply the function on
+     * @return a future holding the result of the function
+     * @throws NullPointerException if the {@code executor} is {@code null}
+     */
+    default CompletableFuture<R> applyAsync6(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final Executor executor) {
+        Objects.requireNonNull(executor, "The executor cannot be null");
+        return CompletableFuture.supplyAsync(() -> this.apply6(t1, t2, t3, t4, t5, t6), executor);
+    }
+
+    /**
+     * Lifts this function to accept futures as its arguments. The function is
+     * applied within the thread which completes the last of the futures. If
+     * any future completes exceptionally, so does the result.
+     *
+     * @return a function which applies this function to the results of futures
+     */
+    default Function6<CompletableFuture<? extends T1>, CompletableFuture<? extends T2>, CompletableFuture<? extends T3>, CompletableFuture<? extends T4>, CompletableFuture<? extends T5>, CompletableFuture<? extends T6>, CompletableFuture<R>> liftAsync() {
+        return (f1, f2, f3, f4, f5, f6) -> FanIn.combine(() -> this.apply6(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join()), f1, f2, f3, f4, f5, f6);
+    }
+
+    /**
+     * Lifts this function to accept futures as its arguments. The function is
+     * applied on the executor once all futures have completed. If any future
+     * completes exceptionally, so does the result.
+     *
+     * @param executor the executor to apply the function on
+     * @return a function which applies this function to the results of futures
+     * @throws NullPointerException if the {@code executor} is {@code null}
+     */
+    default Function6<CompletableFuture<? extends T1>, CompletableFuture<? extends T2>, CompletableFuture<? extends T3>, CompletableFuture<? extends T4>, CompletableFuture<? extends T5>, CompletableFuture<? extends T6>, CompletableFuture<R>> liftAsync(final Executor executor) {
+        Objects.requireNonNull(executor, "The executor cannot be null");
+        return (f1, f2, f3, f4, f5, f6) -> FanIn.combineAsync(() -> this.apply6(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join()), executor, f1, f2, f3, f4, f5, f6);
+    }
+
+    /**
+     * Applies this function to the results of the argument functions, which
+     * are evaluated concurrently on the {@linkplain ForkJoinPool#commonPool()
+     * common pool}.
+     *
+     * @param t1 the function supplying the first function argument
+     * @param t2 the function supplying the second function argument
+     * @param t3 the function supplying the third function argument
+     * @param t4 the function supplying the fourth function argument
+     * @param t5 the function supplying the fifth function argument
+     * @param t6 the function supplying the sixth function argument
+     * @return the function result
+     * @throws NullPointerException if any argument function is {@code null}
+     * @see #applyParallel6(Function0, Function0, Function0, Function0, Function0, Function0, Executor)
+     */
+    default R applyParallel6(final Function0<? extends T1> t1, final Function0<? extends T2> t2, final Function0<? extends T3> t3, final Function0<? extends T4> t4, final Function0<? extends T5> t5, final Function0<? extends T6> t6) {
+        return this.applyParallel6(t1, t2, t3, t4, t5, t6, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies this function to the results of the argument functions, which
+     * are evaluated concurrently on the executor. The last argument function
+     * is evaluated on the calling thread while the others are running. If
+     * any argument function throws, the others are cancelled if they have
+     * not started.
+     *
+     * @param t1 the function supplying the first function argument
+     * @param t2 the function supplying the second function argument
+     * @param t3 the function supplying the third function argument
+     * @param t4 the function supplying the fourth function argument
+     * @param t5 the function supplying the fifth function argument
+     * @param t6 the function supplying the sixth function argument
+     * @param executor the executor to evaluate the argument functions on
+     * @return the function result
+     * @throws NullPointerException if any argument function or the {@code executor} is {@code null}
+     * @see Parallel#fork(Function0, Executor)
+     */
+    default R applyParallel6(final Function0<? extends T1> t1, final Function0<? extends T2> t2, final Function0<? extends T3> t3, final Function0<? extends T4> t4, final Function0<? extends T5> t5, final Function0<? extends T6> t6, final Executor executor) {
+        Objects.requireNonNull(t1, "The first argument function cannot be null");
+        Objects.requireNonNull(t2, "The second argument function cannot be null");
+        Objects.requireNonNull(t3, "The third argument function cannot be null");
+        Objects.requireNonNull(t4, "The fourth argument function cannot be null");
+        Objects.requireNonNull(t5, "The fifth argument function cannot be null");
+        Objects.requireNonNull(t6, "The sixth argument function cannot be null");
+        Objects.requireNonNull(executor, "The executor cannot be null");
+        final Parallel.Fork<? extends T1> f1 = Parallel.fork(t1, executor);
+        final Parallel.Fork<? extends T2> f2 = Parallel.fork(t2, executor);
+        final Parallel.Fork<? extends T3> f3 = Parallel.fork(t3, executor);
+        final Parallel.Fork<? extends T4> f4 = Parallel.fork(t4, executor);
+        final Parallel.Fork<? extends T5> f5 = Parallel.fork(t5, executor);
+        try {
+            final T6 t = t6.apply0();
+            return this.apply6(f1.apply0(), f2.apply0(), f3.apply0(), f4.apply0(), f5.apply0(), t);
+        } catch (final Throwable e) {
+            // Stop any argument functions which have not started yet
+            Parallel.cancel(f1, f2, f3, f4, f5);
+            throw e;
+        }
+    }
+
+    /**
+     * Applies this function to each index within the range of the argument
+     * arrays, writing each result into {@code results} at the same index.
+     *
+     * @param t1 the first function arguments
+     * @param t2 the second function arguments
+     * @param t3 the third function arguments
+     * @param t4 the fourth function arguments
+     * @param t5 the fifth function arguments
+     * @param t6 the sixth function arguments
+     * @param results the array to write the results into
+     * @param offset the first index of the range
+     * @param length the number of indices within the range
+     * @throws NullPointerException if any array is {@code null}
+     * @throws IndexOutOfBoundsException if the range is not within every array
+     */
+    default void applyBatch6(final T1[] t1, final T2[] t2, final T3[] t3, final T4[] t4, final T5[] t5, final T6[] t6, final R[] results, final int offset, final int length) {
+        Batch.checkRange(offset, length, t1.length, t2.length, t3.length, t4.length, t5.length, t6.length, results.length);
+        for (int i = offset, end = offset + length; i < end; i++) results[i] = this.apply6(t1[i], t2[i], t3[i], t4[i], t5[i], t6[i]);
+    }
+
+    /**
+     * Applies this function to each index within the range of the argument
+     * arrays, writing each result into {@code results} at the same index. The
+     * range is split across the pool.
+     *
+     * @param t1 the first function arguments
+     * @param t2 the second function arguments
+     * @param t3 the third function arguments
+     * @param t4 the fourth function arguments
+     * @param t5 the fifth function arguments
+     * @param t6 the sixth function arguments
+     * @param results the array to write the results into
+     * @param offset the first index of the range
+     * @param length the number of indices within the range
+     * @param pool the pool to split the range across
+     * @throws NullPointerException if any array or the {@code pool} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is not within every array
+     * @see Batch#split(int, int, ForkJoinPool, Range)
+     */
+    default void applyBatch6(final T1[] t1, final T2[] t2, final T3[] t3, final T4[] t4, final T5[] t5, final T6[] t6, final R[] results, final int offset, final int length, final ForkJoinPool pool) {
+        Batch.checkRange(offset, length, t1.length, t2.length, t3.length, t4.length, t5.length, t6.length, results.length);
+        Batch.split(offset, length, pool, (from, to) -> {
+            for (int i = from; i < to; i++) results[i] = this.apply6(t1[i], t2[i], t3[i], t4[i], t5[i], t6[i]);
+        });
+    }
+
+    /**
+     * Applies this function, returning any exception it throws as a failed
+     * outcome rather than propagating it.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @param t3 the third function argument
+     * @param t4 the fourth function argument
+     * @param t5 the fifth function argument
+     * @param t6 the sixth function argument
+     * @return the outcome of the function
+     * @see Try
+     */
+    default Try<R> tryApply6(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) {
+        try {
+            return Try.success(this.apply6(t1, t2, t3, t4, t5, t6));
+        } catch (final Throwable t) {
+            return Try.failure(t);
+        }
+    }
+
+    /**
+     * Returns a function which records the calls, failures, and latencies
+     * of this function within the instrument of the global registry with the
+     * name.
+     *
+     * @param name the name of the instrument
+     * @return a function which records its calls
+     * @throws NullPointerException if the {@code name} is {@code null}
+     * @throws IllegalArgumentException if the instrument already exists and
+     *                                  only samples some calls
+     * @see Registry#instrument(String)
+     */
+    default Function6<T1, T2, T3, T4, T5, T6, R> instrument(final String name) {
+        return Registry.global().instrument(name).decorate(this);
+    }
+
+    /**
+     * Returns a function which counts the calls and failures of this
+     * function within the instrument of the global registry with the name,
+     * only measuring the latency of one in every {@code sampleInterval}
+     * calls of each thread.
+     *
+     * @param name the name of the instrument
+     * @param sampleInterval the number of calls between each measured call
+     * @return a function which records its calls
+     * @throws NullPointerException if the {@code name} is {@code null}
+     * @throws IllegalArgumentException if {@code sampleInterval} is not
+     *                                  positive, or the instrument already
+     *                                  exists with a different interval
+     * @see Registry#instrument(String, int)
+     */
+    default Function6<T1, T2, T3, T4, T5, T6, R> instrument(final String name, final int sampleInterval) {
+        return Registry.global().instrument(name, sampleInterval).decorate(this);
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance;
+
+import net.ashwork.functionance.partial.transformer.Transformer1;
+
+/**
+ * A function whose composed transformers are held within flat sequences of
+ * stages instead of nested within one another. Each argument is transformed
+ * by its own sequence before being applied to the head function, whose result
+ * is then transformed by the after sequence.
+ *
+ * @param <R> the type of the result of the function
+ * @see Stages
+ */
+final class Pipeline0<R> implements Function0<R> {
+
+    private final Function0<?> head;
+    private final Stages after;
+
+    private Pipeline0(final Function0<?> head, final Stages after) {
+        this.head = head;
+        this.after = after;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R apply0() {
+        return (R) this.after.applyForward(this.head.apply0());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Pipeline0<?> of(final Function0<?> function) {
+        return function instanceof Pipeline0
+                ? (Pipeline0<?>) function
+                : new Pipeline0<>((Function0<?>) function, Stages.EMPTY);
+    }
+
+    /**
+     * Returns a function that applies the {@code after} transformer to the
+     * result of the function.
+     *
+     * @param function the function to apply first
+     * @param after the transformer to apply after the function
+     * @param <R> the type of the result of the function
+     * @return a function which applies the {@code after} transformer last
+     * @see Function0#andThen(Transformer1)
+     */
+    static <R> Function0<R> andThen(final Function0<?> function, final Transformer1<?, ?> after) {
+        final Pipeline0<?> pipeline = of(function);
+        return new Pipeline0<>(pipeline.head, pipeline.after.andThen(after));
+    }
+}
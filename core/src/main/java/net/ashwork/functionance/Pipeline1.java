@@ -0,0 +1,107 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance;
+
+import net.ashwork.functionance.partial.transformer.Transformer1;
+
+/**
+ * A function whose composed transformers are held within flat sequences of
+ * stages instead of nested within one another. Each argument is transformed
+ * by its own sequence before being applied to the head function, whose result
+ * is then transformed by the after sequence.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <R> the type of the result of the function
+ * @see Stages
+ */
+final class Pipeline1<T1, R> implements Function1<T1, R> {
+
+    private final Function1<Object, ?> head;
+    private final Stages before1;
+    private final Stages after;
+
+    private Pipeline1(final Function1<Object, ?> head, final Stages before1, final Stages after) {
+        this.head = head;
+        this.before1 = before1;
+        this.after = after;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R apply1(final T1 t1) {
+        return (R) this.after.applyForward(this.head.apply1(this.before1.applyBackward(t1)));
+    }
+
+    /**
+     * Returns the function applied between the before and after stages.
+     *
+     * @return the function applied between the before and after stages
+     */
+    Function1<Object, ?> head() {
+        return this.head;
+    }
+
+    /**
+     * Returns the stages applied backwards to the argument of the function.
+     *
+     * @return the stages applied to the argument of the function
+     */
+    Stages before() {
+        return this.before1;
+    }
+
+    /**
+     * Returns the stages applied forwards to the result of the function.
+     *
+     * @return the stages applied to the result of the function
+     */
+    Stages after() {
+        return this.after;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Pipeline1<?, ?> of(final Function1<?, ?> function) {
+        return function instanceof Pipeline1
+                ? (Pipeline1<?, ?>) function
+                : new Pipeline1<>((Function1<Object, ?>) function, Stages.EMPTY, Stages.EMPTY);
+    }
+
+    /**
+     * Returns a function that applies the {@code after} transformer to the
+     * result of the function.
+     *
+     * @param function the function to apply first
+     * @param after the transformer to apply after the function
+     * @param <T1> the type of the first argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function which applies the {@code after} transformer last
+     * @see Function1#andThen(Transformer1)
+     */
+    static <T1, R> Function1<T1, R> andThen(final Function1<?, ?> function, final Transformer1<?, ?> after) {
+        final Pipeline1<?, ?> pipeline = of(function);
+        return new Pipeline1<>(pipeline.head, pipeline.before1, pipeline.after.andThen(after));
+    }
+
+    /**
+     * Returns a function that applies the {@code before} transformer to the
+     * first argument of the function.
+     *
+     * @param function the function to apply last
+     * @param before the transformer to apply before the function
+     * @param <T1> the type of the first argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function which applies the {@code before} transformer first
+     * @see Function1#compose1(Transformer1)
+     */
+    static <T1, R> Function1<T1, R> compose1(final Function1<?, ?> function, final Transformer1<?, ?> before) {
+        final Pipeline1<?, ?> pipeline = of(function);
+        return new Pipeline1<>(pipeline.head, pipeline.before1.compose(before), pipeline.after);
+    }
+}
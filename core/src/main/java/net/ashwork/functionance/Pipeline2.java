@@ -0,0 +1,101 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance;
+
+import net.ashwork.functionance.partial.transformer.Transformer1;
+
+/**
+ * A function whose composed transformers are held within flat sequences of
+ * stages instead of nested within one another. Each argument is transformed
+ * by its own sequence before being applied to the head function, whose result
+ * is then transformed by the after sequence.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <R> the type of the result of the function
+ * @see Stages
+ */
+final class Pipeline2<T1, T2, R> implements Function2<T1, T2, R> {
+
+    private final Function2<Object, Object, ?> head;
+    private final Stages before1, before2;
+    private final Stages after;
+
+    private Pipeline2(final Function2<Object, Object, ?> head, final Stages before1, final Stages before2, final Stages after) {
+        this.head = head;
+        this.before1 = before1;
+        this.before2 = before2;
+        this.after = after;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R apply2(final T1 t1, final T2 t2) {
+        return (R) this.after.applyForward(this.head.apply2(this.before1.applyBackward(t1), this.before2.applyBackward(t2)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Pipeline2<?, ?, ?> of(final Function2<?, ?, ?> function) {
+        return function instanceof Pipeline2
+                ? (Pipeline2<?, ?, ?>) function
+                : new Pipeline2<>((Function2<Object, Object, ?>) function, Stages.EMPTY, Stages.EMPTY, Stages.EMPTY);
+    }
+
+    /**
+     * Returns a function that applies the {@code after} transformer to the
+     * result of the function.
+     *
+     * @param function the function to apply first
+     * @param after the transformer to apply after the function
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function which applies the {@code after} transformer last
+     * @see Function2#andThen(Transformer1)
+     */
+    static <T1, T2, R> Function2<T1, T2, R> andThen(final Function2<?, ?, ?> function, final Transformer1<?, ?> after) {
+        final Pipeline2<?, ?, ?> pipeline = of(function);
+        return new Pipeline2<>(pipeline.head, pipeline.before1, pipeline.before2, pipeline.after.andThen(after));
+    }
+
+    /**
+     * Returns a function that applies the {@code before} transformer to the
+     * first argument of the function.
+     *
+     * @param function the function to apply last
+     * @param before the transformer to apply before the function
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function which applies the {@code before} transformer first
+     * @see Function2#compose1(Transformer1)
+     */
+    static <T1, T2, R> Function2<T1, T2, R> compose1(final Function2<?, ?, ?> function, final Transformer1<?, ?> before) {
+        final Pipeline2<?, ?, ?> pipeline = of(function);
+        return new Pipeline2<>(pipeline.head, pipeline.before1.compose(before), pipeline.before2, pipeline.after);
+    }
+
+    /**
+     * Returns a function that applies the {@code before} transformer to the
+     * second argument of the function.
+     *
+     * @param function the function to apply last
+     * @param before the transformer to apply before the function
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function which applies the {@code before} transformer first
+     * @see Function2#compose2(Transformer1)
+     */
+    static <T1, T2, R> Function2<T1, T2, R> compose2(final Function2<?, ?, ?> function, final Transformer1<?, ?> before) {
+        final Pipeline2<?, ?, ?> pipeline = of(function);
+        return new Pipeline2<>(pipeline.head, pipeline.before1, pipeline.before2.compose(before), pipeline.after);
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance;
+
+import net.ashwork.functionance.partial.transformer.Transformer1;
+
+/**
+ * A function whose composed transformers are held within flat sequences of
+ * stages instead of nested within one another. Each argument is transformed
+ * by its own sequence before being applied to the head function, whose result
+ * is then transformed by the after sequence.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <T3> the type of the third argument to the function
+ * @param <T4> the type of the fourth argument to the function
+ * @param <T5> the type of the fifth argument to the function
+ * @param <T6> the type of the sixth argument to the function
+ * @param <T7> the type of the seventh argument to the function
+ * @param <R> the type of the result of the function
+ * @see Stages
+ */
+final class Pipeline7<T1, T2, T3, T4, T5, T6, T7, R> implements Function7<T1, T2, T3, T4, T5, T6, T7, R> {
+
+    private final Function7<Object, Object, Object, Object, Object, Object, Object, ?> head;
+    private final Stages before1, before2, before3, before4, before5, before6, before7;
+    private final Stages after;
+
+    private Pipeline7(final Function7<Object, Object, Object, Object, Object, Object, Object, ?> head, final Stages before1, final Stages before2, final Stages before3, final Stages before4, final Stages before5, final Stages before6, final Stages before7, final Stages after) {
+        this.head = head;
+        this.before1 = before1;
+        this.before2 = before2;
+        this.before3 = before3;
+        this.before4 = before4;
+        this.before5 = before5;
+        this.before6 = before6;
+        this.before7 = before7;
+        this.after = after;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R apply7(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7) {
+        return (R) this.after.applyForward(this.head.apply7(this.before1.applyBackward(t1), this.before2.applyBackward(t2), this.before3.applyBackward(t3), this.before4.applyBackward(t4), this.before5.applyBackward(t5), this.before6.applyBackward(t6), this.before7.applyBackward(t7)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Pipeline7<?, ?, ?, ?, ?, ?, ?, ?> of(final Function7<?, ?, ?, ?, ?, ?, ?, ?> function) {
+        return function instanceof Pipeline7
+                ? (Pipeline7<?, ?, ?, ?, ?, ?, ?, ?>) function
+                : new Pipeline7<>((Function7<Object, Object, Object, Object, Object, Object, Object, ?>) function, Stages.EMPTY, Stages.EMPTY, Stages.EMPTY, Stages.EMPTY, Stages.EMPTY, Stages.EMPTY, Stages.EMPTY, Stages.EMPTY);
+    }
+
+    /**
+     * Returns a function that applies the {@code after} transformer to the
+     * result of the function.
+     *
+     * @param function the function to apply first
+     * @param after the transformer to apply after the function
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <T7> the type of the seventh argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function which applies the {@code after} transformer last
+     * @see Function7#andThen(Transformer1)
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, R> Function7<T1, T2, T3, T4, T5, T6, T7, R> andThen(final Function7<?, ?, ?, ?, ?, ?, ?, ?> function, final Transformer1<?, ?> after) {
+        final Pipeline7<?, ?, ?, ?, ?, ?, ?, ?> pipeline = of(function);
+        return new Pipeline7<>(pipeline.head, pipeline.before1, pipeline.before2, pipeline.before3, pipeline.before4, pipeline.before5, pipeline.before6, pipeline.before7, pipeline.after.andThen(after));
+    }
+
+    /**
+     * Returns a function that applies the {@code before} transformer to the
+     * first argument of the function.
+     *
+     * @param function the function to apply last
+     * @param before the transformer to apply before the function
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <T7> the type of the seventh argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function which applies the {@code before} transformer first
+     * @see Function7#compose1(Transformer1)
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, R> Function7<T1, T2, T3, T4, T5, T6, T7, R> compose1(final Function7<?, ?, ?, ?, ?, ?, ?, ?> function, final Transformer1<?, ?> before) {
+        final Pipeline7<?, ?, ?, ?, ?, ?, ?, ?> pipeline = of(function);
+        return new Pipeline7<>(pipeline.head, pipeline.before1.compose(before), pipeline.before2, pipeline.before3, pipeline.before4, pipeline.before5, pipeline.before6, pipeline.before7, pipeline.after);
+    }
+
+    /**
+     * Returns a function that applies the {@code before} transformer to the
+     * second argument of the function.
+     *
+     * @param function the function to apply last
+     * @param before the transformer to apply before the function
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <T7> the type of the seventh argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function which applies the {@code before} transformer first
+     * @see Function7#compose2(Transformer1)
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, R> Function7<T1, T2, T3, T4, T5, T6, T7, R> compose2(final Function7<?, ?, ?, ?, ?, ?, ?, ?> function, final Transformer1<?, ?> before) {
+        final Pipeline7<?, ?, ?, ?, ?, ?, ?, ?> pipeline = of(function);
+        return new Pipeline7<>(pipeline.head, pipeline.before1, pipeline.before2.compose(before), pipeline.before3, pipeline.before4, pipeline.before5, pipeline.before6, pipeline.before7, pipeline.after);
+    }
+
+    /**
+     * Returns a function that applies the {@code before} transformer to the
+     * third argument of the function.
+     *
+     * @param function the function to apply last
+     * @param before the transformer to apply before the function
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <T7> the type of the seventh argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function which applies the {@code before} transformer first
+     * @see Function7#compose3(Transformer1)
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, R> Function7<T1, T2, T3, T4, T5, T6, T7, R> compose3(final Function7<?, ?, ?, ?, ?, ?, ?, ?> function, final Transformer1<?, ?> before) {
+        final Pipeline7<?, ?, ?, ?, ?, ?, ?, ?> pipeline = of(function);
+        return new Pipeline7<>(pipeline.head, pipeline.before1, pipeline.before2, pipeline.before3.compose(before), pipeline.before4, pipeline.before5, pipeline.before6, pipeline.before7, pipeline.after);
+    }
+
+    /**
+     * Returns a function that applies the {@code before} transformer to the
+     * fourth argument of the function.
+     *
+     * @param function the function to apply last
+     * @param before the transformer to apply before the function
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <T7> the type of the seventh argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function which applies the {@code before} transformer first
+     * @see Function7#compose4(Transformer1)
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, R> Function7<T1, T2, T3, T4, T5, T6, T7, R> compose4(final Function7<?, ?, ?, ?, ?, ?, ?, ?> function, final Transformer1<?, ?> before) {
+        final Pipeline7<?, ?, ?, ?, ?, ?, ?, ?> pipeline = of(function);
+        return new Pipeline7<>(pipeline.head, pipeline.before1, pipeline.before2, pipeline.before3, pipeline.before4.compose(before), pipeline.before5, pipeline.before6, pipeline.before7, pipeline.after);
+    }
+
+    /**
+     * Returns a function that applies the {@code before} transformer to the
+     * fifth argument of the function.
+     *
+     * @param function the function to apply last
+     * @param before the transformer to apply before the function
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <T7> the type of the seventh argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function which applies the {@code before} transformer first
+     * @see Function7#compose5(Transformer1)
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, R> Function7<T1, T2, T3, T4, T5, T6, T7, R> compose5(final Function7<?, ?, ?, ?, ?, ?, ?, ?> function, final Transformer1<?, ?> before) {
+        final Pipeline7<?, ?, ?, ?, ?, ?, ?, ?> pipeline = of(function);
+        return new Pipeline7<>(pipeline.head, pipeline.before1, pipeline.before2, pipeline.before3, pipeline.before4, pipeline.before5.compose(before), pipeline.before6, pipeline.before7, pipeline.after);
+    }
+
+    /**
+     * Returns a function that applies the {@code before} transformer to the
+     * sixth argument of the function.
+     *
+     * @param function the function to apply last
+     * @param before the transformer to apply before the function
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <T7> the type of the seventh argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function which applies the {@code before} transformer first
+     * @see Function7#compose6(Transformer1)
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, R> Function7<T1, T2, T3, T4, T5, T6, T7, R> compose6(final Function7<?, ?, ?, ?, ?, ?, ?, ?> function, final Transformer1<?, ?> before) {
+        final Pipeline7<?, ?, ?, ?, ?, ?, ?, ?> pipeline = of(function);
+        return new Pipeline7<>(pipeline.head, pipeline.before1, pipeline.before2, pipeline.before3, pipeline.before4, pipeline.before5, pipeline.before6.compose(before), pipeline.before7, pipeline.after);
+    }
+
+    /**
+     * Returns a function that applies the {@code before} transformer to the
+     * seventh argument of the function.
+     *
+     * @param function the function to apply last
+     * @param before the transformer to apply before the function
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <T7> the type of the seventh argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function which applies the {@code before} transformer first
+     * @see Function7#compose7(Transformer1)
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, R> Function7<T1, T2, T3, T4, T5, T6, T7, R> compose7(final Function7<?, ?, ?, ?, ?, ?, ?, ?> function, final Transformer1<?, ?> before) {
+        final Pipeline7<?, ?, ?, ?, ?, ?, ?, ?> pipeline = of(function);
+        return new Pipeline7<>(pipeline.head, pipeline.before1, pipeline.before2, pipeline.before3, pipeline.before4, pipeline.before5, pipeline.before6, pipeline.before7.compose(before), pipeline.after);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance;
+
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.primitive.ToBooleanFunction1;
+import net.ashwork.functionance.runnable.Runnable1;
+
+import java.util.Objects;
+
+/**
+ * Represents a predicate ({@code boolean}-valued function) that accepts
+ * one argument.
+ *
+ * <p>Predicates can be combined using {@link #and} and {@link #or}. Combining
+ * a predicate which was itself combined the same way extends the sequence
+ * of predicates instead of nesting them, such that any number of predicates
+ * are tested within a single loop.
+ *
+ * <p>This is a functional interface whose functional method is
+ * {@link #test1(Object)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Predicate1<T1> extends ToBooleanFunction1<T1> {
+
+    /**
+     * Evaluates this predicate on the given argument.
+     *
+     * @param t1 the first predicate argument
+     * @return {@code true} if the input argument matches the predicate,
+     *         otherwise {@code false}
+     */
+    boolean test1(final T1 t1);
+
+    @Override
+    default boolean applyAsBoolean1(final T1 t1) {
+        return this.test1(t1);
+    }
+
+    /**
+     * Returns a predicate that performs a short-circuiting logical AND of
+     * this predicate and another. If this predicate is {@code false}, then
+     * the {@code other} predicate is not evaluated.
+     *
+     * @param other the predicate to logically AND with this predicate
+     * @return a predicate that represents the short-circuiting logical AND
+     *         of this predicate and the {@code other} predicate
+     * @throws NullPointerException if the {@code other} predicate is {@code null}
+     */
+    default Predicate1<T1> and(final Predicate1<? super T1> other) {
+        Objects.requireNonNull(other, "The other predicate cannot be null");
+        return CompositePredicate1.combine(this, other, true);
+    }
+
+    /**
+     * Returns a predicate that performs a short-circuiting logical OR of
+     * this predicate and another. If this predicate is {@code true}, then
+     * the {@code other} predicate is not evaluated.
+     *
+     * @param other the predicate to logically OR with this predicate
+     * @return a predicate that represents the short-circuiting logical OR
+     *         of this predicate and the {@code other} predicate
+     * @throws NullPointerException if the {@code other} predicate is {@code null}
+     */
+    default Predicate1<T1> or(final Predicate1<? super T1> other) {
+        Objects.requireNonNull(other, "The other predicate cannot be null");
+        return CompositePredicate1.combine(this, other, false);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this
+     * predicate.
+     *
+     * @return a predicate that represents the logical negation of this
+     *         predicate
+     */
+    default Predicate1<T1> negate() {
+        return t1 -> !this.test1(t1);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate1<V> compose1(final Transformer1<? super V, ? extends T1> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return v -> this.test1(before.apply1(v));
+    }
+
+    /**
+     * @throws NullPointerException if the exception handler or defaulted function are {@code null}
+     */
+    @Override
+    default Predicate1<T1> handle(final Transformer1<Throwable, ToBooleanFunction1<T1>> exceptionHandler) {
+        Objects.requireNonNull(exceptionHandler, "The exception handler of the predicate cannot be null");
+        return t1 -> {
+            try {
+                return this.test1(t1);
+            } catch (final Throwable t) {
+                return Objects.requireNonNull(exceptionHandler.apply1(t), "The defaulted function cannot be null").applyAsBoolean1(t1);
+            }
+        };
+    }
+
+    /**
+     * @see Runnable1
+     */
+    @Override
+    default Runnable1<T1> consume() {
+        return this::test1;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance;
+
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.primitive.ToBooleanFunction2;
+import net.ashwork.functionance.runnable.Runnable2;
+
+import java.util.Objects;
+
+/**
+ * Represents a predicate ({@code boolean}-valued function) that accepts
+ * two arguments.
+ *
+ * <p>Predicates can be combined using {@link #and} and {@link #or}. Combining
+ * a predicate which was itself combined the same way extends the sequence
+ * of predicates instead of nesting them, such that any number of predicates
+ * are tested within a single loop.
+ *
+ * <p>This is a functional interface whose functional method is
+ * {@link #test2(Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Predicate2<T1, T2> extends ToBooleanFunction2<T1, T2> {
+
+    /**
+     * Evaluates this predicate on the given arguments.
+     *
+     * @param t1 the first predicate argument
+     * @param t2 the second predicate argument
+     * @return {@code true} if the input arguments match the predicate,
+     *         otherwise {@code false}
+     */
+    boolean test2(final T1 t1, final T2 t2);
+
+    @Override
+    default boolean applyAsBoolean2(final T1 t1, final T2 t2) {
+        return this.test2(t1, t2);
+    }
+
+    /**
+     * Returns a predicate that performs a short-circuiting logical AND of
+     * this predicate and another. If this predicate is {@code false}, then
+     * the {@code other} predicate is not evaluated.
+     *
+     * @param other the predicate to logically AND with this predicate
+     * @return a predicate that represents the short-circuiting logical AND
+     *         of this predicate and the {@code other} predicate
+     * @throws NullPointerException if the {@code other} predicate is {@code null}
+     */
+    default Predicate2<T1, T2> and(final Predicate2<? super T1, ? super T2> other) {
+        Objects.requireNonNull(other, "The other predicate cannot be null");
+        return CompositePredicate2.combine(this, other, true);
+    }
+
+    /**
+     * Returns a predicate that performs a short-circuiting logical OR of
+     * this predicate and another. If this predicate is {@code true}, then
+     * the {@code other} predicate is not evaluated.
+     *
+     * @param other the predicate to logically OR with this predicate
+     * @return a predicate that represents the short-circuiting logical OR
+     *         of this predicate and the {@code other} predicate
+     * @throws NullPointerException if the {@code other} predicate is {@code null}
+     */
+    default Predicate2<T1, T2> or(final Predicate2<? super T1, ? super T2> other) {
+        Objects.requireNonNull(other, "The other predicate cannot be null");
+        return CompositePredicate2.combine(this, other, false);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this
+     * predicate.
+     *
+     * @return a predicate that represents the logical negation of this
+     *         predicate
+     */
+    default Predicate2<T1, T2> negate() {
+        return (t1, t2) -> !this.test2(t1, t2);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate2<T1, V> compose2(final Transformer1<? super V, ? extends T2> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, v) -> this.test2(t1, before.apply1(v));
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate2<V, T2> compose1(final Transformer1<? super V, ? extends T1> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (v, t2) -> this.test2(before.apply1(v), t2);
+    }
+
+    /**
+     * @throws NullPointerException if the exception handler or defaulted function are {@code null}
+     */
+    @Override
+    default Predicate2<T1, T2> handle(final Transformer1<Throwable, ToBooleanFunction2<T1, T2>> exceptionHandler) {
+        Objects.requireNonNull(exceptionHandler, "The exception handler of the predicate cannot be null");
+        return (t1, t2) -> {
+            try {
+                return this.test2(t1, t2);
+            } catch (final Throwable t) {
+                return Objects.requireNonNull(exceptionHandler.apply1(t), "The defaulted function cannot be null").applyAsBoolean2(t1, t2);
+            }
+        };
+    }
+
+    @Override
+    default Predicate2<T2, T1> swap1() {
+        return (t2, t1) -> this.test2(t1, t2);
+    }
+
+    /**
+     * @see Runnable2
+     */
+    @Override
+    default Runnable2<T1, T2> consume() {
+        return this::test2;
+    }
+
+    @Override
+    default Predicate1<T1> partial2(final T2 t2) {
+        return t1 -> this.test2(t1, t2);
+    }
+
+    @Override
+    default Predicate1<T2> partial1(final T1 t1) {
+        return t2 -> this.test2(t1, t2);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance;
+
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.primitive.ToBooleanFunction3;
+import net.ashwork.functionance.runnable.Runnable3;
+
+import java.util.Objects;
+
+/**
+ * Represents a predicate ({@code boolean}-valued function) that accepts
+ * three arguments.
+ *
+ * <p>Predicates can be combined using {@link #and} and {@link #or}. Combining
+ * a predicate which was itself combined the same way extends the sequence
+ * of predicates instead of nesting them, such that any number of predicates
+ * are tested within a single loop.
+ *
+ * <p>This is a functional interface whose functional method is
+ * {@link #test3(Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Predicate3<T1, T2, T3> extends ToBooleanFunction3<T1, T2, T3> {
+
+    /**
+     * Evaluates this predicate on the given arguments.
+     *
+     * @param t1 the first predicate argument
+     * @param t2 the second predicate argument
+     * @param t3 the third predicate argument
+     * @return {@code true} if the input arguments match the predicate,
+     *         otherwise {@code false}
+     */
+    boolean test3(final T1 t1, final T2 t2, final T3 t3);
+
+    @Override
+    default boolean applyAsBoolean3(final T1 t1, final T2 t2, final T3 t3) {
+        return this.test3(t1, t2, t3);
+    }
+
+    /**
+     * Returns a predicate that performs a short-circuiting logical AND of
+     * this predicate and another. If this predicate is {@code false}, then
+     * the {@code other} predicate is not evaluated.
+     *
+     * @param other the predicate to logically AND with this predicate
+     * @return a predicate that represents the short-circuiting logical AND
+     *         of this predicate and the {@code other} predicate
+     * @throws NullPointerException if the {@code other} predicate is {@code null}
+     */
+    default Predicate3<T1, T2, T3> and(final Predicate3<? super T1, ? super T2, ? super T3> other) {
+        Objects.requireNonNull(other, "The other predicate cannot be null");
+        return CompositePredicate3.combine(this, other, true);
+    }
+
+    /**
+     * Returns a predicate that performs a short-circuiting logical OR of
+     * this predicate and another. If this predicate is {@code true}, then
+     * the {@code other} predicate is not evaluated.
+     *
+     * @param other the predicate to logically OR with this predicate
+     * @return a predicate that represents the short-circuiting logical OR
+     *         of this predicate and the {@code other} predicate
+     * @throws NullPointerException if the {@code other} predicate is {@code null}
+     */
+    default Predicate3<T1, T2, T3> or(final Predicate3<? super T1, ? super T2, ? super T3> other) {
+        Objects.requireNonNull(other, "The other predicate cannot be null");
+        return CompositePredicate3.combine(this, other, false);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this
+     * predicate.
+     *
+     * @return a predicate that represents the logical negation of this
+     *         predicate
+     */
+    default Predicate3<T1, T2, T3> negate() {
+        return (t1, t2, t3) -> !this.test3(t1, t2, t3);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate3<T1, T2, V> compose3(final Transformer1<? super V, ? extends T3> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, v) -> this.test3(t1, t2, before.apply1(v));
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate3<T1, V, T3> compose2(final Transformer1<? super V, ? extends T2> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, v, t3) -> this.test3(t1, before.apply1(v), t3);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate3<V, T2, T3> compose1(final Transformer1<? super V, ? extends T1> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (v, t2, t3) -> this.test3(before.apply1(v), t2, t3);
+    }
+
+    /**
+     * @throws NullPointerException if the exception handler or defaulted function are {@code null}
+     */
+    @Override
+    default Predicate3<T1, T2, T3> handle(final Transformer1<Throwable, ToBooleanFunction3<T1, T2, T3>> exceptionHandler) {
+        Objects.requireNonNull(exceptionHandler, "The exception handler of the predicate cannot be null");
+        return (t1, t2, t3) -> {
+            try {
+                return this.test3(t1, t2, t3);
+            } catch (final Throwable t) {
+                return Objects.requireNonNull(exceptionHandler.apply1(t), "The defaulted function cannot be null").applyAsBoolean3(t1, t2, t3);
+            }
+        };
+    }
+
+    @Override
+    default Predicate3<T1, T3, T2> swap2() {
+        return (t1, t3, t2) -> this.test3(t1, t2, t3);
+    }
+
+    @Override
+    default Predicate3<T2, T1, T3> swap1() {
+        return (t2, t1, t3) -> this.test3(t1, t2, t3);
+    }
+
+    /**
+     * @see Runnable3
+     */
+    @Override
+    default Runnable3<T1, T2, T3> consume() {
+        return this::test3;
+    }
+
+    @Override
+    default Predicate2<T1, T2> partial3(final T3 t3) {
+        return (t1, t2) -> this.test3(t1, t2, t3);
+    }
+
+    @Override
+    default Predicate2<T1, T3> partial2(final T2 t2) {
+        return (t1, t3) -> this.test3(t1, t2, t3);
+    }
+
+    @Override
+    default Predicate2<T2, T3> partial1(final T1 t1) {
+        return (t2, t3) -> this.test3(t1, t2, t3);
+    }
+}
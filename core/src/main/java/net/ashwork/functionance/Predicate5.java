@@ -0,0 +1,211 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance;
+
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.primitive.ToBooleanFunction5;
+import net.ashwork.functionance.runnable.Runnable5;
+
+import java.util.Objects;
+
+/**
+ * Represents a predicate ({@code boolean}-valued function) that accepts
+ * five arguments.
+ *
+ * <p>Predicates can be combined using {@link #and} and {@link #or}. Combining
+ * a predicate which was itself combined the same way extends the sequence
+ * of predicates instead of nesting them, such that any number of predicates
+ * are tested within a single loop.
+ *
+ * <p>This is a functional interface whose functional method is
+ * {@link #test5(Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ * @param <T4> the type of the fourth argument to the predicate
+ * @param <T5> the type of the fifth argument to the predicate
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Predicate5<T1, T2, T3, T4, T5> extends ToBooleanFunction5<T1, T2, T3, T4, T5> {
+
+    /**
+     * Evaluates this predicate on the given arguments.
+     *
+     * @param t1 the first predicate argument
+     * @param t2 the second predicate argument
+     * @param t3 the third predicate argument
+     * @param t4 the fourth predicate argument
+     * @param t5 the fifth predicate argument
+     * @return {@code true} if the input arguments match the predicate,
+     *         otherwise {@code false}
+     */
+    boolean test5(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5);
+
+    @Override
+    default boolean applyAsBoolean5(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) {
+        return this.test5(t1, t2, t3, t4, t5);
+    }
+
+    /**
+     * Returns a predicate that performs a short-circuiting logical AND of
+     * this predicate and another. If this predicate is {@code false}, then
+     * the {@code other} predicate is not evaluated.
+     *
+     * @param other the predicate to logically AND with this predicate
+     * @return a predicate that represents the short-circuiting logical AND
+     *         of this predicate and the {@code other} predicate
+     * @throws NullPointerException if the {@code other} predicate is {@code null}
+     */
+    default Predicate5<T1, T2, T3, T4, T5> and(final Predicate5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5> other) {
+        Objects.requireNonNull(other, "The other predicate cannot be null");
+        return CompositePredicate5.combine(this, other, true);
+    }
+
+    /**
+     * Returns a predicate that performs a short-circuiting logical OR of
+     * this predicate and another. If this predicate is {@code true}, then
+     * the {@code other} predicate is not evaluated.
+     *
+     * @param other the predicate to logically OR with this predicate
+     * @return a predicate that represents the short-circuiting logical OR
+     *         of this predicate and the {@code other} predicate
+     * @throws NullPointerException if the {@code other} predicate is {@code null}
+     */
+    default Predicate5<T1, T2, T3, T4, T5> or(final Predicate5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5> other) {
+        Objects.requireNonNull(other, "The other predicate cannot be null");
+        return CompositePredicate5.combine(this, other, false);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this
+     * predicate.
+     *
+     * @return a predicate that represents the logical negation of this
+     *         predicate
+     */
+    default Predicate5<T1, T2, T3, T4, T5> negate() {
+        return (t1, t2, t3, t4, t5) -> !this.test5(t1, t2, t3, t4, t5);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate5<T1, T2, T3, T4, V> compose5(final Transformer1<? super V, ? extends T5> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, t4, v) -> this.test5(t1, t2, t3, t4, before.apply1(v));
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate5<T1, T2, T3, V, T5> compose4(final Transformer1<? super V, ? extends T4> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, v, t5) -> this.test5(t1, t2, t3, before.apply1(v), t5);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate5<T1, T2, V, T4, T5> compose3(final Transformer1<? super V, ? extends T3> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, v, t4, t5) -> this.test5(t1, t2, before.apply1(v), t4, t5);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate5<T1, V, T3, T4, T5> compose2(final Transformer1<? super V, ? extends T2> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, v, t3, t4, t5) -> this.test5(t1, before.apply1(v), t3, t4, t5);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate5<V, T2, T3, T4, T5> compose1(final Transformer1<? super V, ? extends T1> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (v, t2, t3, t4, t5) -> this.test5(before.apply1(v), t2, t3, t4, t5);
+    }
+
+    /**
+     * @throws NullPointerException if the exception handler or defaulted function are {@code null}
+     */
+    @Override
+    default Predicate5<T1, T2, T3, T4, T5> handle(final Transformer1<Throwable, ToBooleanFunction5<T1, T2, T3, T4, T5>> exceptionHandler) {
+        Objects.requireNonNull(exceptionHandler, "The exception handler of the predicate cannot be null");
+        return (t1, t2, t3, t4, t5) -> {
+            try {
+                return this.test5(t1, t2, t3, t4, t5);
+            } catch (final Throwable t) {
+                return Objects.requireNonNull(exceptionHandler.apply1(t), "The defaulted function cannot be null").applyAsBoolean5(t1, t2, t3, t4, t5);
+            }
+        };
+    }
+
+    @Override
+    default Predicate5<T1, T2, T3, T5, T4> swap4() {
+        return (t1, t2, t3, t5, t4) -> this.test5(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default Predicate5<T1, T2, T4, T3, T5> swap3() {
+        return (t1, t2, t4, t3, t5) -> this.test5(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default Predicate5<T1, T3, T2, T4, T5> swap2() {
+        return (t1, t3, t2, t4, t5) -> this.test5(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default Predicate5<T2, T1, T3, T4, T5> swap1() {
+        return (t2, t1, t3, t4, t5) -> this.test5(t1, t2, t3, t4, t5);
+    }
+
+    /**
+     * @see Runnable5
+     */
+    @Override
+    default Runnable5<T1, T2, T3, T4, T5> consume() {
+        return this::test5;
+    }
+
+    @Override
+    default Predicate4<T1, T2, T3, T4> partial5(final T5 t5) {
+        return (t1, t2, t3, t4) -> this.test5(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default Predicate4<T1, T2, T3, T5> partial4(final T4 t4) {
+        return (t1, t2, t3, t5) -> this.test5(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default Predicate4<T1, T2, T4, T5> partial3(final T3 t3) {
+        return (t1, t2, t4, t5) -> this.test5(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default Predicate4<T1, T3, T4, T5> partial2(final T2 t2) {
+        return (t1, t3, t4, t5) -> this.test5(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default Predicate4<T2, T3, T4, T5> partial1(final T1 t1) {
+        return (t2, t3, t4, t5) -> this.test5(t1, t2, t3, t4, t5);
+    }
+}
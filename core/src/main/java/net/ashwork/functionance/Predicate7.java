@@ -0,0 +1,253 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance;
+
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.primitive.ToBooleanFunction7;
+import net.ashwork.functionance.runnable.Runnable7;
+
+import java.util.Objects;
+
+/**
+ * Represents a predicate ({@code boolean}-valued function) that accepts
+ * seven arguments.
+ *
+ * <p>Predicates can be combined using {@link #and} and {@link #or}. Combining
+ * a predicate which was itself combined the same way extends the sequence
+ * of predicates instead of nesting them, such that any number of predicates
+ * are tested within a single loop.
+ *
+ * <p>This is a functional interface whose functional method is
+ * {@link #test7(Object, Object, Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ * @param <T4> the type of the fourth argument to the predicate
+ * @param <T5> the type of the fifth argument to the predicate
+ * @param <T6> the type of the sixth argument to the predicate
+ * @param <T7> the type of the seventh argument to the predicate
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Predicate7<T1, T2, T3, T4, T5, T6, T7> extends ToBooleanFunction7<T1, T2, T3, T4, T5, T6, T7> {
+
+    /**
+     * Evaluates this predicate on the given arguments.
+     *
+     * @param t1 the first predicate argument
+     * @param t2 the second predicate argument
+     * @param t3 the third predicate argument
+     * @param t4 the fourth predicate argument
+     * @param t5 the fifth predicate argument
+     * @param t6 the sixth predicate argument
+     * @param t7 the seventh predicate argument
+     * @return {@code true} if the input arguments match the predicate,
+     *         otherwise {@code false}
+     */
+    boolean test7(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7);
+
+    @Override
+    default boolean applyAsBoolean7(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7) {
+        return this.test7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    /**
+     * Returns a predicate that performs a short-circuiting logical AND of
+     * this predicate and another. If this predicate is {@code false}, then
+     * the {@code other} predicate is not evaluated.
+     *
+     * @param other the predicate to logically AND with this predicate
+     * @return a predicate that represents the short-circuiting logical AND
+     *         of this predicate and the {@code other} predicate
+     * @throws NullPointerException if the {@code other} predicate is {@code null}
+     */
+    default Predicate7<T1, T2, T3, T4, T5, T6, T7> and(final Predicate7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7> other) {
+        Objects.requireNonNull(other, "The other predicate cannot be null");
+        return CompositePredicate7.combine(this, other, true);
+    }
+
+    /**
+     * Returns a predicate that performs a short-circuiting logical OR of
+     * this predicate and another. If this predicate is {@code true}, then
+     * the {@code other} predicate is not evaluated.
+     *
+     * @param other the predicate to logically OR with this predicate
+     * @return a predicate that represents the short-circuiting logical OR
+     *         of this predicate and the {@code other} predicate
+     * @throws NullPointerException if the {@code other} predicate is {@code null}
+     */
+    default Predicate7<T1, T2, T3, T4, T5, T6, T7> or(final Predicate7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7> other) {
+        Objects.requireNonNull(other, "The other predicate cannot be null");
+        return CompositePredicate7.combine(this, other, false);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this
+     * predicate.
+     *
+     * @return a predicate that represents the logical negation of this
+     *         predicate
+     */
+    default Predicate7<T1, T2, T3, T4, T5, T6, T7> negate() {
+        return (t1, t2, t3, t4, t5, t6, t7) -> !this.test7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate7<T1, T2, T3, T4, T5, T6, V> compose7(final Transformer1<? super V, ? extends T7> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, t4, t5, t6, v) -> this.test7(t1, t2, t3, t4, t5, t6, before.apply1(v));
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate7<T1, T2, T3, T4, T5, V, T7> compose6(final Transformer1<? super V, ? extends T6> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, t4, t5, v, t7) -> this.test7(t1, t2, t3, t4, t5, before.apply1(v), t7);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate7<T1, T2, T3, T4, V, T6, T7> compose5(final Transformer1<? super V, ? extends T5> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, t4, v, t6, t7) -> this.test7(t1, t2, t3, t4, before.apply1(v), t6, t7);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate7<T1, T2, T3, V, T5, T6, T7> compose4(final Transformer1<? super V, ? extends T4> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, v, t5, t6, t7) -> this.test7(t1, t2, t3, before.apply1(v), t5, t6, t7);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate7<T1, T2, V, T4, T5, T6, T7> compose3(final Transformer1<? super V, ? extends T3> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, v, t4, t5, t6, t7) -> this.test7(t1, t2, before.apply1(v), t4, t5, t6, t7);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate7<T1, V, T3, T4, T5, T6, T7> compose2(final Transformer1<? super V, ? extends T2> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, v, t3, t4, t5, t6, t7) -> this.test7(t1, before.apply1(v), t3, t4, t5, t6, t7);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> Predicate7<V, T2, T3, T4, T5, T6, T7> compose1(final Transformer1<? super V, ? extends T1> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (v, t2, t3, t4, t5, t6, t7) -> this.test7(before.apply1(v), t2, t3, t4, t5, t6, t7);
+    }
+
+    /**
+     * @throws NullPointerException if the exception handler or defaulted function are {@code null}
+     */
+    @Override
+    default Predicate7<T1, T2, T3, T4, T5, T6, T7> handle(final Transformer1<Throwable, ToBooleanFunction7<T1, T2, T3, T4, T5, T6, T7>> exceptionHandler) {
+        Objects.requireNonNull(exceptionHandler, "The exception handler of the predicate cannot be null");
+        return (t1, t2, t3, t4, t5, t6, t7) -> {
+            try {
+                return this.test7(t1, t2, t3, t4, t5, t6, t7);
+            } catch (final Throwable t) {
+                return Objects.requireNonNull(exceptionHandler.apply1(t), "The defaulted function cannot be null").applyAsBoolean7(t1, t2, t3, t4, t5, t6, t7);
+            }
+        };
+    }
+
+    @Override
+    default Predicate7<T1, T2, T3, T4, T5, T7, T6> swap6() {
+        return (t1, t2, t3, t4, t5, t7, t6) -> this.test7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default Predicate7<T1, T2, T3, T4, T6, T5, T7> swap5() {
+        return (t1, t2, t3, t4, t6, t5, t7) -> this.test7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default Predicate7<T1, T2, T3, T5, T4, T6, T7> swap4() {
+        return (t1, t2, t3, t5, t4, t6, t7) -> this.test7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default Predicate7<T1, T2, T4, T3, T5, T6, T7> swap3() {
+        return (t1, t2, t4, t3, t5, t6, t7) -> this.test7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default Predicate7<T1, T3, T2, T4, T5, T6, T7> swap2() {
+        return (t1, t3, t2, t4, t5, t6, t7) -> this.test7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default Predicate7<T2, T1, T3, T4, T5, T6, T7> swap1() {
+        return (t2, t1, t3, t4, t5, t6, t7) -> this.test7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    /**
+     * @see Runnable7
+     */
+    @Override
+    default Runnable7<T1, T2, T3, T4, T5, T6, T7> consume() {
+        return this::test7;
+    }
+
+    @Override
+    default Predicate6<T1, T2, T3, T4, T5, T6> partial7(final T7 t7) {
+        return (t1, t2, t3, t4, t5, t6) -> this.test7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default Predicate6<T1, T2, T3, T4, T5, T7> partial6(final T6 t6) {
+        return (t1, t2, t3, t4, t5, t7) -> this.test7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default Predicate6<T1, T2, T3, T4, T6, T7> partial5(final T5 t5) {
+        return (t1, t2, t3, t4, t6, t7) -> this.test7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default Predicate6<T1, T2, T3, T5, T6, T7> partial4(final T4 t4) {
+        return (t1, t2, t3, t5, t6, t7) -> this.test7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default Predicate6<T1, T2, T4, T5, T6, T7> partial3(final T3 t3) {
+        return (t1, t2, t4, t5, t6, t7) -> this.test7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default Predicate6<T1, T3, T4, T5, T6, T7> partial2(final T2 t2) {
+        return (t1, t3, t4, t5, t6, t7) -> this.test7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default Predicate6<T2, T3, T4, T5, T6, T7> partial1(final T1 t1) {
+        return (t2, t3, t4, t5, t6, t7) -> this.test7(t1, t2, t3, t4, t5, t6, t7);
+    }
+}
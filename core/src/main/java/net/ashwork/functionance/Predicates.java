@@ -0,0 +1,82 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An immutable sequence of predicates tested by a composite predicate.
+ *
+ * <p>Sequences share their backing array with the sequence they were created
+ * from. Adding a predicate to the end of the most recent sequence claims the
+ * next free slot of the shared array, so combining predicates one at a time
+ * does not copy the previous predicates.
+ */
+final class Predicates {
+
+    /**
+     * The backing array of predicates. Only the first {@link #size} elements
+     * belong to this sequence.
+     */
+    final Object[] predicates;
+    final int size;
+    /**
+     * The number of slots within the backing array which have been claimed.
+     */
+    private final AtomicInteger claimed;
+
+    private Predicates(final Object[] predicates, final AtomicInteger claimed, final int size) {
+        this.predicates = predicates;
+        this.claimed = claimed;
+        this.size = size;
+    }
+
+    /**
+     * Constructs a sequence holding a single predicate.
+     *
+     * @param predicate the predicate within the sequence
+     * @return a sequence of the predicate
+     */
+    static Predicates of(final Object predicate) {
+        return new Predicates(new Object[4], new AtomicInteger(), 0).add(predicate);
+    }
+
+    /**
+     * Returns a sequence with the predicates of the other sequence tested
+     * after the predicates in this sequence.
+     *
+     * @param other the predicates to test last
+     * @return a sequence with the other predicates tested last
+     */
+    Predicates append(final Predicates other) {
+        Predicates result = this;
+        for (int i = 0; i < other.size; i++) result = result.add(other.predicates[i]);
+        return result;
+    }
+
+    /**
+     * Returns a sequence with the predicate tested after the predicates in
+     * this sequence.
+     *
+     * @param predicate the predicate to test last
+     * @return a sequence with the predicate tested last
+     */
+    Predicates add(final Object predicate) {
+        // Claim the next slot if no other sequence has been created from this one
+        if (this.size < this.predicates.length && this.claimed.compareAndSet(this.size, this.size + 1)) {
+            this.predicates[this.size] = predicate;
+            return new Predicates(this.predicates, this.claimed, this.size + 1);
+        }
+        final Object[] predicates = Arrays.copyOf(this.predicates, Math.max(this.size * 2, 4));
+        predicates[this.size] = predicate;
+        return new Predicates(predicates, new AtomicInteger(this.size + 1), this.size + 1);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance;
+
+import net.ashwork.functionance.partial.transformer.Transformer1;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An immutable sequence of transformers applied one after another within
+ * a loop. This is used to flatten composed functions such that a pipeline of
+ * any length executes without growing the stack.
+ *
+ * <p>Sequences share their backing array with the sequence they were created
+ * from. Adding a transformer to the end of the most recent sequence claims the
+ * next free slot of the shared array, so building a pipeline one stage at a
+ * time does not copy the previous stages.
+ */
+final class Stages {
+
+    /**
+     * A sequence with no transformers.
+     */
+    static final Stages EMPTY = new Stages(new Transformer1<?, ?>[0], new AtomicInteger(), 0);
+
+    private final Transformer1<?, ?>[] stages;
+    /**
+     * The number of slots within the backing array which have been claimed.
+     */
+    private final AtomicInteger claimed;
+    private final int size;
+
+    private Stages(final Transformer1<?, ?>[] stages, final AtomicInteger claimed, final int size) {
+        this.stages = stages;
+        this.claimed = claimed;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of transformers within the sequence.
+     *
+     * @return the number of transformers within the sequence
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Applies the transformers to the value from first to last.
+     *
+     * @param value the value to transform
+     * @return the transformed value
+     */
+    @SuppressWarnings("unchecked")
+    Object applyForward(Object value) {
+        final Transformer1<?, ?>[] stages = this.stages;
+        for (int i = 0; i < this.size; i++) value = ((Transformer1<Object, ?>) stages[i]).apply1(value);
+        return value;
+    }
+
+    /**
+     * Applies the transformers to the value from last to first.
+     *
+     * @param value the value to transform
+     * @return the transformed value
+     */
+    @SuppressWarnings("unchecked")
+    Object applyBackward(Object value) {
+        final Transformer1<?, ?>[] stages = this.stages;
+        for (int i = this.size - 1; i >= 0; i--) value = ((Transformer1<Object, ?>) stages[i]).apply1(value);
+        return value;
+    }
+
+    /**
+     * Returns a sequence where the stage is applied after the transformers
+     * in this sequence when applied {@linkplain #applyForward forwards}. If the
+     * stage is itself a pipeline, its stages are added in place of it.
+     *
+     * @param stage the transformer to apply last
+     * @return a sequence with the stage applied last
+     */
+    Stages andThen(final Transformer1<?, ?> stage) {
+        if (!(stage instanceof Pipeline1)) return this.add(stage);
+        final Pipeline1<?, ?> pipeline = (Pipeline1<?, ?>) stage;
+        Stages result = this;
+        for (int i = pipeline.before().size - 1; i >= 0; i--) result = result.add(pipeline.before().stages[i]);
+        result = result.add(pipeline.head());
+        for (int i = 0; i < pipeline.after().size; i++) result = result.add(pipeline.after().stages[i]);
+        return result;
+    }
+
+    /**
+     * Returns a sequence where the stage is applied before the transformers
+     * in this sequence when applied {@linkplain #applyBackward backwards}. If
+     * the stage is itself a pipeline, its stages are added in place of it.
+     *
+     * @param stage the transformer to apply first
+     * @return a sequence with the stage applied first
+     */
+    Stages compose(final Transformer1<?, ?> stage) {
+        if (!(stage instanceof Pipeline1)) return this.add(stage);
+        final Pipeline1<?, ?> pipeline = (Pipeline1<?, ?>) stage;
+        Stages result = this;
+        for (int i = pipeline.after().size - 1; i >= 0; i--) result = result.add(pipeline.after().stages[i]);
+        result = result.add(pipeline.head());
+        for (int i = 0; i < pipeline.before().size; i++) result = result.add(pipeline.before().stages[i]);
+        return result;
+    }
+
+    private Stages add(final Transformer1<?, ?> stage) {
+        // Claim the next slot if no other sequence has been created from this one
+        if (this.size < this.stages.length && this.claimed.compareAndSet(this.size, this.size + 1)) {
+            this.stages[this.size] = stage;
+            return new Stages(this.stages, this.claimed, this.size + 1);
+        }
+        final Transformer1<?, ?>[] stages = Arrays.copyOf(this.stages, Math.max(this.size * 2, 4));
+        stages[this.size] = stage;
+        return new Stages(stages, new AtomicInteger(this.size + 1), this.size + 1);
+    }
+}
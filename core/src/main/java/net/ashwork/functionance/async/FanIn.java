@@ -0,0 +1,127 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.async;
+
+import net.ashwork.functionance.Function0;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Combines any number of futures into a single future which applies a
+ * function once all of them have completed.
+ *
+ * <p>Unlike folding the futures together with
+ * {@link CompletableFuture#thenCombine}, or waiting on
+ * {@link CompletableFuture#allOf}, only a single countdown is registered on
+ * each future. The result completes exceptionally as soon as any future does
+ * without waiting on the rest.
+ *
+ * <p>The function is supplied as a {@link Function0} which reads the results
+ * of the futures through {@link CompletableFuture#join}, as every future has
+ * already completed normally by the time it is applied.
+ *
+ * @since 1.0.0
+ */
+public final class FanIn {
+
+    private FanIn() {}
+
+    /**
+     * Returns a future which applies the function within the thread that
+     * completes the last of the inputs.
+     *
+     * @param function the function to apply once all inputs have completed
+     * @param inputs the futures to wait on
+     * @param <R> the type of the result of the function
+     * @return a future holding the result of the function
+     * @throws NullPointerException if the function or any input is {@code null}
+     */
+    public static <R> CompletableFuture<R> combine(final Function0<? extends R> function, final CompletableFuture<?>... inputs) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return new Countdown<R>(function, null, inputs.length).register(inputs);
+    }
+
+    /**
+     * Returns a future which applies the function on the executor once all
+     * of the inputs have completed.
+     *
+     * @param function the function to apply once all inputs have completed
+     * @param executor the executor to apply the function on
+     * @param inputs the futures to wait on
+     * @param <R> the type of the result of the function
+     * @return a future holding the result of the function
+     * @throws NullPointerException if the function, executor, or any input is {@code null}
+     */
+    public static <R> CompletableFuture<R> combineAsync(final Function0<? extends R> function, final Executor executor, final CompletableFuture<?>... inputs) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        Objects.requireNonNull(executor, "The executor cannot be null");
+        return new Countdown<R>(function, executor, inputs.length).register(inputs);
+    }
+
+    /**
+     * A countdown of the inputs which have yet to complete. The function is
+     * applied once the count reaches zero.
+     *
+     * @param <R> the type of the result of the function
+     */
+    private static final class Countdown<R> extends AtomicInteger implements BiConsumer<Object, Throwable>, Runnable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient CompletableFuture<R> result;
+        private final transient Function0<? extends R> function;
+        private final transient Executor executor;
+
+        private Countdown(final Function0<? extends R> function, final Executor executor, final int inputs) {
+            super(inputs);
+            this.result = new CompletableFuture<>();
+            this.function = function;
+            this.executor = executor;
+        }
+
+        private CompletableFuture<R> register(final CompletableFuture<?>[] inputs) {
+            for (final CompletableFuture<?> input : inputs) Objects.requireNonNull(input, "The input future cannot be null");
+            if (inputs.length == 0) this.complete();
+            else for (final CompletableFuture<?> input : inputs) input.whenComplete(this);
+            return this.result;
+        }
+
+        @Override
+        public void accept(final Object value, final Throwable exception) {
+            if (exception != null) this.result.completeExceptionally(exception);
+            else if (this.decrementAndGet() == 0) this.complete();
+        }
+
+        private void complete() {
+            if (this.executor == null) {
+                this.run();
+                return;
+            }
+            try {
+                this.executor.execute(this);
+            } catch (final Throwable t) {
+                this.result.completeExceptionally(t);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                this.result.complete(this.function.apply0());
+            } catch (final Throwable t) {
+                this.result.completeExceptionally(t);
+            }
+        }
+    }
+}
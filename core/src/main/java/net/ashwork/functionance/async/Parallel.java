@@ -0,0 +1,122 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.async;
+
+import net.ashwork.functionance.Function0;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Evaluates functions concurrently with the calling thread such that the
+ * calling thread can join on their results once it has finished its own work.
+ *
+ * @since 1.0.0
+ */
+public final class Parallel {
+
+    private Parallel() {}
+
+    /**
+     * Starts applying the function on the executor, returning a fork which
+     * waits for and returns its result.
+     *
+     * <p>If the executor is a {@link ForkJoinPool}, the function is applied
+     * within a {@link ForkJoinTask} which is forked directly when called from
+     * a worker of the same pool, so joining on it will help complete other
+     * tasks rather than block the worker. Otherwise, the function is applied
+     * through {@link CompletableFuture#supplyAsync}.
+     *
+     * <p>Any unchecked exception thrown by the function is rethrown by the
+     * fork. Within a {@link ForkJoinPool}, an exception thrown on another
+     * thread may be rethrown as a copy of the same type holding the original
+     * as its cause, as described by {@link ForkJoinTask#join()}.
+     *
+     * @param function the function to apply
+     * @param executor the executor to apply the function on
+     * @param <R> the type of the result of the function
+     * @return a fork which waits for and returns the result of the function
+     * @throws NullPointerException if the function or executor is {@code null}
+     */
+    public static <R> Fork<R> fork(final Function0<? extends R> function, final Executor executor) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        Objects.requireNonNull(executor, "The executor cannot be null");
+        if (executor instanceof ForkJoinPool) {
+            final ForkJoinTask<R> task = ForkJoinTask.adapt(function::apply0);
+            if (ForkJoinTask.getPool() == executor) task.fork();
+            else ((ForkJoinPool) executor).execute(task);
+            return new Fork<>(task, null);
+        }
+        return new Fork<>(null, CompletableFuture.supplyAsync(function::apply0, executor));
+    }
+
+    /**
+     * Cancels each fork, such that any which have not started applying
+     * their function will not apply it. Forks which have already completed
+     * are unaffected.
+     *
+     * @param forks the forks to cancel
+     */
+    public static void cancel(final Fork<?>... forks) {
+        for (final Fork<?> fork : forks) fork.cancel();
+    }
+
+    /**
+     * A function applied concurrently with the calling thread. Applying the
+     * fork waits for and returns the result of the function.
+     *
+     * @param <R> the type of the result of the function
+     */
+    public static final class Fork<R> implements Function0<R> {
+
+        private final ForkJoinTask<R> task;
+        private final CompletableFuture<R> future;
+
+        private Fork(final ForkJoinTask<R> task, final CompletableFuture<R> future) {
+            this.task = task;
+            this.future = future;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>Waits for the function to complete, rethrowing any unchecked
+         * exception it threw.
+         *
+         * @throws java.util.concurrent.CancellationException if the fork was cancelled
+         */
+        @Override
+        public R apply0() {
+            if (this.task != null) return this.task.join();
+            try {
+                return this.future.join();
+            } catch (final CompletionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw e;
+            }
+        }
+
+        /**
+         * Cancels the fork, such that the function will not be applied if
+         * it has not started. A function which has started is left to
+         * complete.
+         */
+        public void cancel() {
+            if (this.task != null) this.task.cancel(false);
+            else this.future.cancel(false);
+        }
+    }
+}
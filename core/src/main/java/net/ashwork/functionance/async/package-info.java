@@ -0,0 +1,14 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+/**
+ * Asynchronous execution bridges functions and operations onto
+ * {@link java.util.concurrent.CompletableFuture}s, either by running them on
+ * an executor or by lifting them to accept futures as their arguments.
+ */
+package net.ashwork.functionance.async;
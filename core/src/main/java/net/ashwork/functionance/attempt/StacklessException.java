@@ -0,0 +1,45 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.attempt;
+
+/**
+ * An exception which does not record its stack trace or any suppressed
+ * exceptions. Constructing one costs no more than any other object, making it
+ * suitable for expected failures on frequently executed paths.
+ *
+ * <p>As the exception holds no state about where it was created, a single
+ * instance can be shared as a constant and returned for every failure of the
+ * same kind.
+ *
+ * @since 1.0.0
+ */
+public class StacklessException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs an exception with the detail message.
+     *
+     * @param message the detail message
+     */
+    public StacklessException(final String message) {
+        super(message, null, false, false);
+    }
+
+    /**
+     * Constructs an exception with the detail message and cause.
+     *
+     * @param message the detail message
+     * @param cause the cause of the exception
+     */
+    public StacklessException(final String message, final Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
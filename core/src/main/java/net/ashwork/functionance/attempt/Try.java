@@ -0,0 +1,309 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.attempt;
+
+import net.ashwork.functionance.partial.transformer.Transformer1;
+
+import java.util.Objects;
+
+/**
+ * The outcome of applying a function, either a success holding its result or
+ * a failure holding the exception it threw or returned.
+ *
+ * <p>Successes of {@code null}, such as those of an operation, share a single
+ * instance; every other success allocates a small wrapper around its result.
+ * Failures created from a message hold a {@link StacklessException} so that
+ * returning an expected failure never fills in a stack trace.
+ *
+ * <p>Two successes are equal when their results are equal, while two failures
+ * are only equal when they hold the same exception instance.
+ *
+ * @param <R> the type of the result
+ * @since 1.0.0
+ */
+public abstract class Try<R> {
+
+    private static final Try<?> NULL = new Success<>(null);
+
+    private Try() {}
+
+    /**
+     * Returns a successful outcome holding the result.
+     *
+     * @param result the result of the outcome
+     * @param <R> the type of the result
+     * @return a successful outcome
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> Try<R> success(final R result) {
+        return result == null ? (Try<R>) NULL : new Success<>(result);
+    }
+
+    /**
+     * Returns the shared successful outcome holding {@code null}.
+     *
+     * @param <R> the type of the result
+     * @return a successful outcome holding {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> Try<R> success() {
+        return (Try<R>) NULL;
+    }
+
+    /**
+     * Returns a failed outcome holding the exception.
+     *
+     * @param cause the exception which caused the failure
+     * @param <R> the type of the result
+     * @return a failed outcome
+     * @throws NullPointerException if the {@code cause} is {@code null}
+     */
+    public static <R> Try<R> failure(final Throwable cause) {
+        return new Failure<>(Objects.requireNonNull(cause, "The cause of the failure cannot be null"));
+    }
+
+    /**
+     * Returns a failed outcome holding a {@link StacklessException} with the
+     * message.
+     *
+     * @param message the detail message of the failure
+     * @param <R> the type of the result
+     * @return a failed outcome
+     */
+    public static <R> Try<R> failure(final String message) {
+        return new Failure<>(new StacklessException(message));
+    }
+
+    /**
+     * Returns whether the outcome was successful.
+     *
+     * @return {@code true} if the outcome was successful, {@code false} otherwise
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * Returns whether the outcome failed.
+     *
+     * @return {@code true} if the outcome failed, {@code false} otherwise
+     */
+    public final boolean isFailure() {
+        return !this.isSuccess();
+    }
+
+    /**
+     * Returns the result of a successful outcome, or throws the cause of a
+     * failed outcome. Checked exceptions are wrapped within an
+     * {@link IllegalStateException}.
+     *
+     * @return the result of the outcome
+     */
+    public abstract R get();
+
+    /**
+     * Returns the result of a successful outcome, or {@code other} if the
+     * outcome failed.
+     *
+     * @param other the value to return if the outcome failed
+     * @return the result of the outcome, or {@code other}
+     */
+    public abstract R orElse(final R other);
+
+    /**
+     * Returns the cause of a failed outcome, or {@code null} if the outcome
+     * was successful.
+     *
+     * @return the cause of the outcome, or {@code null}
+     */
+    public abstract Throwable cause();
+
+    /**
+     * Returns an outcome which applies the transformer to the result of a
+     * successful outcome. A failed outcome is returned as is.
+     *
+     * @param mapper the transformer to apply to the result
+     * @param <V> the type of the transformed result
+     * @return the transformed outcome
+     * @throws NullPointerException if the {@code mapper} is {@code null}
+     */
+    public abstract <V> Try<V> map(final Transformer1<? super R, ? extends V> mapper);
+
+    /**
+     * Returns the outcome the transformer creates from the result of a
+     * successful outcome. A failed outcome is returned as is.
+     *
+     * @param mapper the transformer to create the outcome from the result
+     * @param <V> the type of the transformed result
+     * @return the transformed outcome
+     * @throws NullPointerException if the {@code mapper} or its outcome is {@code null}
+     */
+    public abstract <V> Try<V> flatMap(final Transformer1<? super R, ? extends Try<? extends V>> mapper);
+
+    /**
+     * Returns an outcome which applies the transformer to the cause of a
+     * failed outcome to create a result. A successful outcome is returned
+     * as is.
+     *
+     * @param recovery the transformer to create a result from the cause
+     * @return the recovered outcome
+     * @throws NullPointerException if the {@code recovery} is {@code null}
+     */
+    public abstract Try<R> recover(final Transformer1<? super Throwable, ? extends R> recovery);
+
+    /**
+     * A successful outcome.
+     *
+     * @param <R> the type of the result
+     */
+    private static final class Success<R> extends Try<R> {
+
+        private final R result;
+
+        private Success(final R result) {
+            this.result = result;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public R get() {
+            return this.result;
+        }
+
+        @Override
+        public R orElse(final R other) {
+            return this.result;
+        }
+
+        @Override
+        public Throwable cause() {
+            return null;
+        }
+
+        @Override
+        public <V> Try<V> map(final Transformer1<? super R, ? extends V> mapper) {
+            Objects.requireNonNull(mapper, "The mapper cannot be null");
+            try {
+                return success(mapper.apply1(this.result));
+            } catch (final Throwable t) {
+                return new Failure<>(t);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <V> Try<V> flatMap(final Transformer1<? super R, ? extends Try<? extends V>> mapper) {
+            Objects.requireNonNull(mapper, "The mapper cannot be null");
+            try {
+                return (Try<V>) Objects.requireNonNull(mapper.apply1(this.result), "The mapped outcome cannot be null");
+            } catch (final Throwable t) {
+                return new Failure<>(t);
+            }
+        }
+
+        @Override
+        public Try<R> recover(final Transformer1<? super Throwable, ? extends R> recovery) {
+            Objects.requireNonNull(recovery, "The recovery cannot be null");
+            return this;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj || (obj instanceof Success && Objects.equals(this.result, ((Success<?>) obj).result));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.result);
+        }
+
+        @Override
+        public String toString() {
+            return "Success[" + this.result + "]";
+        }
+    }
+
+    /**
+     * A failed outcome.
+     *
+     * @param <R> the type of the result
+     */
+    private static final class Failure<R> extends Try<R> {
+
+        private final Throwable cause;
+
+        private Failure(final Throwable cause) {
+            this.cause = cause;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public R get() {
+            if (this.cause instanceof RuntimeException) throw (RuntimeException) this.cause;
+            if (this.cause instanceof Error) throw (Error) this.cause;
+            throw new IllegalStateException(this.cause);
+        }
+
+        @Override
+        public R orElse(final R other) {
+            return other;
+        }
+
+        @Override
+        public Throwable cause() {
+            return this.cause;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <V> Try<V> map(final Transformer1<? super R, ? extends V> mapper) {
+            Objects.requireNonNull(mapper, "The mapper cannot be null");
+            return (Try<V>) this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <V> Try<V> flatMap(final Transformer1<? super R, ? extends Try<? extends V>> mapper) {
+            Objects.requireNonNull(mapper, "The mapper cannot be null");
+            return (Try<V>) this;
+        }
+
+        @Override
+        public Try<R> recover(final Transformer1<? super Throwable, ? extends R> recovery) {
+            Objects.requireNonNull(recovery, "The recovery cannot be null");
+            try {
+                return success(recovery.apply1(this.cause));
+            } catch (final Throwable t) {
+                return new Failure<>(t);
+            }
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj || (obj instanceof Failure && this.cause == ((Failure<?>) obj).cause);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.cause);
+        }
+
+        @Override
+        public String toString() {
+            return "Failure[" + this.cause + "]";
+        }
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+/**
+ * Attempts represent the outcome of applying a function as a value rather
+ * than as a thrown exception, such that expected failures can be returned
+ * and inspected without the cost of unwinding the stack.
+ */
+package net.ashwork.functionance.attempt;
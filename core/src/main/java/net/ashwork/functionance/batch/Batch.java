@@ -0,0 +1,94 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.batch;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Utilities for applying a {@link Range} over a batch of parallel arrays.
+ *
+ * @since 1.0.0
+ */
+public final class Batch {
+
+    /**
+     * The smallest number of indices a range is split into when run in
+     * parallel, such that the cost of forking a task is amortized.
+     */
+    public static final int MIN_SPLIT = 1024;
+
+    private Batch() {}
+
+    /**
+     * Checks that the range starting at {@code offset} with {@code length}
+     * indices lies within every array.
+     *
+     * @param offset the first index of the range
+     * @param length the number of indices within the range
+     * @param lengths the lengths of the arrays
+     * @throws IndexOutOfBoundsException if the range is not within every array
+     */
+    public static void checkRange(final int offset, final int length, final int... lengths) {
+        for (final int arrayLength : lengths)
+            if ((offset | length) < 0 || length > arrayLength - offset)
+                throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                        + ") out of bounds for length " + arrayLength);
+    }
+
+    /**
+     * Runs the range split across the pool. Ranges are split in half until
+     * there are roughly four per thread within the pool, or until they reach
+     * {@link #MIN_SPLIT} indices, such that a range too small to benefit runs
+     * directly on the calling thread.
+     *
+     * @param offset the first index of the range
+     * @param length the number of indices within the range
+     * @param pool the pool to run the range on
+     * @param range the range to run
+     * @throws NullPointerException if the pool or range is {@code null}
+     */
+    public static void split(final int offset, final int length, final ForkJoinPool pool, final Range range) {
+        Objects.requireNonNull(pool, "The pool cannot be null");
+        Objects.requireNonNull(range, "The range cannot be null");
+        final int leaf = Math.max(length / (pool.getParallelism() << 2), MIN_SPLIT);
+        if (length <= leaf) range.run(offset, offset + length);
+        else pool.invoke(new Split(range, offset, offset + length, leaf));
+    }
+
+    /**
+     * A task which halves its range until it is no larger than the leaf size.
+     */
+    private static final class Split extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Range range;
+        private final int from, to, leaf;
+
+        private Split(final Range range, final int from, final int to, final int leaf) {
+            this.range = range;
+            this.from = from;
+            this.to = to;
+            this.leaf = leaf;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.leaf) {
+                this.range.run(this.from, this.to);
+                return;
+            }
+            final int mid = (this.from + this.to) >>> 1;
+            invokeAll(new Split(this.range, this.from, mid, this.leaf), new Split(this.range, mid, this.to, this.leaf));
+        }
+    }
+}
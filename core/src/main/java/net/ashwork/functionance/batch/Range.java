@@ -0,0 +1,30 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.batch;
+
+/**
+ * Represents an operation over a contiguous range of indices.
+ *
+ * <p>This is a functional interface whose functional method is
+ * {@link #run(int, int)}.
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Range {
+
+    /**
+     * Performs this operation over the range of indices.
+     *
+     * @param from the first index of the range, inclusive
+     * @param to the last index of the range, exclusive
+     */
+    void run(final int from, final int to);
+}
@@ -0,0 +1,14 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+/**
+ * Batches apply functions and operations over ranges of parallel arrays, one
+ * array per argument, either sequentially or split across a
+ * {@link java.util.concurrent.ForkJoinPool}.
+ */
+package net.ashwork.functionance.batch;
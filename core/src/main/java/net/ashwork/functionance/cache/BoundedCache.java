@@ -0,0 +1,161 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.cache;
+
+import net.ashwork.functionance.partial.transformer.Transformer1;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache which is safe to use across multiple threads. Reads are a
+ * single lookup within a {@link ConcurrentHashMap} while writes are guarded by
+ * a lock and evict entries using a clock sweep.
+ *
+ * <p>Each entry remembers up to some number of reads, depending on the
+ * {@link Eviction} policy. When the cache is full, the clock hand decrements
+ * the reads of each entry it passes and evicts the first entry with none
+ * remaining.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+final class BoundedCache<K, V> {
+
+    /**
+     * A key used in place of {@code null} as the backing map does not allow
+     * {@code null} keys.
+     */
+    private static final Object NULL_KEY = new Object();
+
+    private final ConcurrentHashMap<Object, Node<V>> entries;
+    private final Node<V>[] clock;
+    private final int maxFrequency;
+    private final long expireAfterWriteNanos;
+    private final LongAdder hits, misses, evictions;
+    private int size, hand;
+
+    @SuppressWarnings("unchecked")
+    BoundedCache(final CacheSettings settings) {
+        this.entries = new ConcurrentHashMap<>(Math.min(settings.maximumSize(), 1 << 16));
+        this.clock = (Node<V>[]) new Node<?>[settings.maximumSize()];
+        this.maxFrequency = settings.eviction().maxFrequency();
+        this.expireAfterWriteNanos = settings.expireAfterWriteNanos();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * Returns the value associated with the key, computing and caching it
+     * if absent. The loader may be applied more than once for the same key
+     * if multiple threads miss at the same time.
+     *
+     * @param key the key of the value
+     * @param loader the transformer to compute the value if absent
+     * @return the value associated with the key
+     */
+    V get(final K key, final Transformer1<? super K, ? extends V> loader) {
+        final Object mask = key == null ? NULL_KEY : key;
+        final Node<V> node = this.entries.get(mask);
+        if (node != null) {
+            if (!this.isExpired(node)) {
+                this.hits.increment();
+                node.touch(this.maxFrequency);
+                return node.value;
+            }
+            this.entries.remove(mask, node);
+            node.removed = true;
+        }
+        this.misses.increment();
+        final V value = loader.apply1(key);
+        this.insert(new Node<>(mask, value, this.expireAfterWriteNanos > 0L ? System.nanoTime() : 0L));
+        return value;
+    }
+
+    private synchronized void insert(final Node<V> node) {
+        final Node<V> previous = this.entries.put(node.key, node);
+        if (previous != null) previous.removed = true;
+
+        if (this.size < this.clock.length) {
+            this.clock[this.size++] = node;
+            return;
+        }
+
+        for (;;) {
+            final Node<V> current = this.clock[this.hand];
+            if (current.removed) break;
+            if (this.isExpired(current)) {
+                this.entries.remove(current.key, current);
+                break;
+            }
+            if (current.frequency > 0) {
+                current.frequency--;
+                this.hand = (this.hand + 1) % this.clock.length;
+                continue;
+            }
+            this.entries.remove(current.key, current);
+            this.evictions.increment();
+            break;
+        }
+        this.clock[this.hand] = node;
+        this.hand = (this.hand + 1) % this.clock.length;
+    }
+
+    private boolean isExpired(final Node<V> node) {
+        return this.expireAfterWriteNanos > 0L && System.nanoTime() - node.writtenAt >= this.expireAfterWriteNanos;
+    }
+
+    /**
+     * @see Memoized#invalidateAll()
+     */
+    synchronized void invalidateAll() {
+        this.entries.clear();
+        Arrays.fill(this.clock, 0, this.size, null);
+        this.size = 0;
+        this.hand = 0;
+    }
+
+    /**
+     * @see Memoized#stats()
+     */
+    CacheStats stats() {
+        return new CacheStats(this.hits.sum(), this.misses.sum(), this.evictions.sum());
+    }
+
+    /**
+     * An entry within the cache.
+     *
+     * @param <V> the type of the value
+     */
+    private static final class Node<V> {
+
+        private final Object key;
+        private final V value;
+        private final long writtenAt;
+        private volatile int frequency;
+        private volatile boolean removed;
+
+        private Node(final Object key, final V value, final long writtenAt) {
+            this.key = key;
+            this.value = value;
+            this.writtenAt = writtenAt;
+        }
+
+        /**
+         * Records a read of this entry. The frequency is only written when it
+         * changes such that hot entries do not contend on the same cache line.
+         */
+        private void touch(final int maxFrequency) {
+            final int current = this.frequency;
+            if (current < maxFrequency) this.frequency = current + 1;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.cache;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The settings used to construct a bounded cache.
+ *
+ * @see Builder
+ * @since 1.0.0
+ */
+public final class CacheSettings {
+
+    /**
+     * The default settings of a cache. Holds at most {@code 1024} entries
+     * which are evicted using {@link Eviction#LEAST_RECENTLY_USED} and never
+     * expire.
+     */
+    public static final CacheSettings DEFAULT = builder().build();
+
+    private final int maximumSize;
+    private final Eviction eviction;
+    private final long expireAfterWriteNanos;
+
+    private CacheSettings(final Builder builder) {
+        this.maximumSize = builder.maximumSize;
+        this.eviction = builder.eviction;
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+    }
+
+    /**
+     * Returns a builder used to construct the settings of a cache.
+     *
+     * @return a builder used to construct the settings of a cache
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the maximum number of entries the cache can hold.
+     *
+     * @return the maximum number of entries the cache can hold
+     */
+    public int maximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Returns the policy used to choose which entry to remove when the cache
+     * is full.
+     *
+     * @return the policy used to choose which entry to remove
+     */
+    public Eviction eviction() {
+        return this.eviction;
+    }
+
+    /**
+     * Returns the number of nanoseconds an entry is valid for after it has been
+     * written, or {@code 0} if the entry never expires.
+     *
+     * @return the number of nanoseconds an entry is valid for after it has been
+     *         written
+     */
+    public long expireAfterWriteNanos() {
+        return this.expireAfterWriteNanos;
+    }
+
+    /**
+     * A builder used to construct the settings of a cache.
+     */
+    public static final class Builder {
+
+        private int maximumSize;
+        private Eviction eviction;
+        private long expireAfterWriteNanos;
+
+        private Builder() {
+            this.maximumSize = 1024;
+            this.eviction = Eviction.LEAST_RECENTLY_USED;
+            this.expireAfterWriteNanos = 0L;
+        }
+
+        /**
+         * Sets the maximum number of entries the cache can hold.
+         *
+         * @param maximumSize the maximum number of entries the cache can hold
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maximumSize} is not positive
+         */
+        public Builder maximumSize(final int maximumSize) {
+            if (maximumSize <= 0)
+                throw new IllegalArgumentException("The maximum size of the cache must be positive: " + maximumSize);
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the policy used to choose which entry to remove when the cache
+         * is full.
+         *
+         * @param eviction the policy used to choose which entry to remove
+         * @return this builder
+         * @throws NullPointerException if {@code eviction} is {@code null}
+         */
+        public Builder eviction(final Eviction eviction) {
+            this.eviction = Objects.requireNonNull(eviction, "The eviction policy cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the amount of time an entry is valid for after it has been
+         * written.
+         *
+         * @param duration the amount of time an entry is valid for
+         * @param unit the unit of {@code duration}
+         * @return this builder
+         * @throws NullPointerException if {@code unit} is {@code null}
+         * @throws IllegalArgumentException if {@code duration} is not positive
+         */
+        public Builder expireAfterWrite(final long duration, final TimeUnit unit) {
+            Objects.requireNonNull(unit, "The time unit cannot be null");
+            if (duration <= 0L)
+                throw new IllegalArgumentException("The expiration duration must be positive: " + duration);
+            this.expireAfterWriteNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Constructs the settings of a cache.
+         *
+         * @return the settings of a cache
+         */
+        public CacheSettings build() {
+            return new CacheSettings(this);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.cache;
+
+/**
+ * An immutable snapshot of the statistics of a cache.
+ *
+ * @since 1.0.0
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    /**
+     * Constructs a snapshot of the statistics of a cache.
+     *
+     * @param hitCount the number of times a result was read from the cache
+     * @param missCount the number of times a result had to be computed
+     * @param evictionCount the number of entries removed to bound the cache
+     */
+    public CacheStats(final long hitCount, final long missCount, final long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Returns the number of times a result was read from the cache.
+     *
+     * @return the number of times a result was read from the cache
+     */
+    public long hitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of times a result had to be computed.
+     *
+     * @return the number of times a result had to be computed
+     */
+    public long missCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Returns the number of entries removed to keep the cache within its
+     * bounds. Expired entries are not included.
+     *
+     * @return the number of entries removed to bound the cache
+     */
+    public long evictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * Returns the total number of times the cache was read from.
+     *
+     * @return the total number of times the cache was read from
+     */
+    public long requestCount() {
+        return this.hitCount + this.missCount;
+    }
+
+    /**
+     * Returns the ratio of reads which were hits, or {@code 1} if the cache
+     * has not been read from.
+     *
+     * @return the ratio of reads which were hits
+     */
+    public double hitRate() {
+        final long requests = this.requestCount();
+        return requests == 0L ? 1.0 : (double) this.hitCount / requests;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof CacheStats)) return false;
+        final CacheStats other = (CacheStats) obj;
+        return this.hitCount == other.hitCount && this.missCount == other.missCount && this.evictionCount == other.evictionCount;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(this.hitCount);
+        result = 31 * result + Long.hashCode(this.missCount);
+        return 31 * result + Long.hashCode(this.evictionCount);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats[hits=" + this.hitCount + ", misses=" + this.missCount + ", evictions=" + this.evictionCount + "]";
+    }
+}
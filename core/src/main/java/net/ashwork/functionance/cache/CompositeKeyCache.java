@@ -0,0 +1,210 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.cache;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache whose keys are composed of multiple arguments. The arguments
+ * are hashed directly into an open-addressed table such that reading from the
+ * cache never allocates; an entry is only constructed when a result is missing.
+ *
+ * <p>Each key is probed for within a fixed window starting from its hash. An
+ * expired entry frees its slot for the next entry written within its window.
+ * When no slot within the window is free, the window is swept like the clock
+ * of a {@link BoundedCache}: each entry remembers up to some number of reads,
+ * depending on the {@link Eviction} policy, which the sweep decrements before
+ * overwriting the first entry with the fewest reads.
+ *
+ * @param <E> the type of the entries
+ */
+final class CompositeKeyCache<E extends CompositeKeyCache.Entry> {
+
+    /**
+     * The number of slots searched for a key before it is considered missing.
+     */
+    static final int MAX_PROBES = 8;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final AtomicReferenceArray<E> table;
+    private final int mask;
+    private final int maxFrequency;
+    private final long expireAfterWriteNanos;
+    private final LongAdder hits, misses, evictions;
+
+    /**
+     * Constructs a cache which holds at least the maximum number of results
+     * of the settings, rounded up to the next power of two.
+     *
+     * @param settings the settings of the cache
+     */
+    CompositeKeyCache(final CacheSettings settings) {
+        final int capacity = settings.maximumSize();
+        final int length = capacity >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.table = new AtomicReferenceArray<>(Math.max(length, MAX_PROBES));
+        this.mask = this.table.length() - 1;
+        this.maxFrequency = settings.eviction().maxFrequency();
+        this.expireAfterWriteNanos = settings.expireAfterWriteNanos();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * Combines the hash of the next argument into the hash of a key.
+     *
+     * @param hash the hash of the previous arguments
+     * @param argument the next argument
+     * @return the hash of the key with the next argument
+     */
+    static int combine(final int hash, final Object argument) {
+        return 31 * hash + (argument == null ? 0 : argument.hashCode());
+    }
+
+    /**
+     * Spreads the bits of the hash of a key such that sequential keys do not
+     * cluster within the table.
+     *
+     * @param hash the hash of a key
+     * @return the spread hash of the key
+     */
+    static int spread(final int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the index of the first slot to probe for the key.
+     *
+     * @param hash the spread hash of the key
+     * @return the index of the first slot to probe
+     */
+    int start(final int hash) {
+        return hash & this.mask;
+    }
+
+    /**
+     * Returns the index of the slot after the current slot.
+     *
+     * @param index the index of the current slot
+     * @return the index of the next slot to probe
+     */
+    int next(final int index) {
+        return (index + 1) & this.mask;
+    }
+
+    /**
+     * Returns the entry within the slot, or {@code null} if the slot is free.
+     *
+     * @param index the index of the slot
+     * @return the entry within the slot
+     */
+    E get(final int index) {
+        return this.table.get(index);
+    }
+
+    /**
+     * Records that a result was read from the entry, unless the entry has
+     * expired.
+     *
+     * @param entry the entry holding the arguments being read
+     * @return {@code true} if the result of the entry can be used
+     */
+    boolean hit(final E entry) {
+        if (this.isExpired(entry)) return false;
+        this.hits.increment();
+        entry.touch(this.maxFrequency);
+        return true;
+    }
+
+    /**
+     * Records that a result had to be computed.
+     */
+    void miss() {
+        this.misses.increment();
+    }
+
+    /**
+     * Writes the entry into the first free or expired slot of its probe
+     * window, or overwrites the entry with the fewest reads if all slots are
+     * taken.
+     *
+     * @param entry the entry to write
+     */
+    void put(final E entry) {
+        if (this.expireAfterWriteNanos > 0L) entry.writtenAt = System.nanoTime();
+        final int start = this.start(entry.hash);
+        int victim = start, fewest = Integer.MAX_VALUE;
+        for (int i = 0, index = start; i < MAX_PROBES; i++, index = this.next(index)) {
+            final E current = this.table.get(index);
+            if (current == null || this.isExpired(current)) {
+                if (this.table.compareAndSet(index, current, entry)) return;
+                continue;
+            }
+            final int frequency = current.frequency;
+            if (frequency < fewest) {
+                fewest = frequency;
+                victim = index;
+            }
+            if (frequency > 0) current.frequency = frequency - 1;
+        }
+        this.table.set(victim, entry);
+        this.evictions.increment();
+    }
+
+    private boolean isExpired(final E entry) {
+        return this.expireAfterWriteNanos > 0L && System.nanoTime() - entry.writtenAt >= this.expireAfterWriteNanos;
+    }
+
+    /**
+     * @see Memoized#invalidateAll()
+     */
+    void invalidateAll() {
+        for (int i = 0; i < this.table.length(); i++) this.table.set(i, null);
+    }
+
+    /**
+     * @see Memoized#stats()
+     */
+    CacheStats stats() {
+        return new CacheStats(this.hits.sum(), this.misses.sum(), this.evictions.sum());
+    }
+
+    /**
+     * An entry within the cache.
+     */
+    abstract static class Entry {
+
+        /**
+         * The spread hash of the key.
+         */
+        final int hash;
+        /**
+         * The time the entry was written, only set if entries expire. It is
+         * written before the entry is published to the table.
+         */
+        long writtenAt;
+        volatile int frequency;
+
+        Entry(final int hash) {
+            this.hash = hash;
+        }
+
+        /**
+         * Records a read of this entry. The frequency is only written when it
+         * changes such that hot entries do not contend on the same cache line.
+         */
+        void touch(final int maxFrequency) {
+            final int current = this.frequency;
+            if (current < maxFrequency) this.frequency = current + 1;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.cache;
+
+/**
+ * Represents the policy a bounded cache uses to choose which entry to remove
+ * when the cache is full.
+ *
+ * <p>Both policies are approximations of their namesakes using a clock sweep
+ * over the entries such that a cache read never needs to acquire a lock.
+ *
+ * @since 1.0.0
+ */
+public enum Eviction {
+
+    /**
+     * Evicts the entry which has not been read for the longest time.
+     */
+    LEAST_RECENTLY_USED(1),
+
+    /**
+     * Evicts the entry which has been read the fewest number of times.
+     */
+    LEAST_FREQUENTLY_USED(15);
+
+    private final int maxFrequency;
+
+    Eviction(final int maxFrequency) {
+        this.maxFrequency = maxFrequency;
+    }
+
+    /**
+     * Returns the maximum number of reads remembered by an entry before it
+     * is considered for eviction.
+     *
+     * @return the maximum number of reads remembered by an entry
+     */
+    int maxFrequency() {
+        return this.maxFrequency;
+    }
+}
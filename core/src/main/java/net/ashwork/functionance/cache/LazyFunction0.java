@@ -0,0 +1,120 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.cache;
+
+import net.ashwork.functionance.Function0;
+
+import java.util.Objects;
+
+/**
+ * Represents a function that accepts no arguments and produces a result
+ * which is computed at most once, depending on the {@link LazyMode}.
+ *
+ * <p>Once the result has been successfully computed, the underlying function
+ * is released and any further applications only read the result through a
+ * plain field. If the underlying function throws, the result is not stored
+ * and will be computed again on the next application.
+ *
+ * @param <R> the type of the result of the function
+ * @see Function0#memoize(LazyMode)
+ * @since 1.0.0
+ */
+public final class LazyFunction0<R> implements Function0<R> {
+
+    private final LazyMode mode;
+    /**
+     * The function computing the result, or {@code null} once the result
+     * has been published.
+     */
+    private volatile Function0<R> initializer;
+    /**
+     * The holder of the result. As the result is a final field of the holder,
+     * it is safely published without needing to read a volatile field.
+     */
+    private Holder<R> holder;
+
+    /**
+     * Constructs a function which lazily computes the result of the
+     * underlying function.
+     *
+     * @param initializer the function computing the result
+     * @param mode how the result is initialized when accessed by multiple
+     *             threads
+     * @throws NullPointerException if the function or mode are {@code null}
+     */
+    public LazyFunction0(final Function0<R> initializer, final LazyMode mode) {
+        this.initializer = Objects.requireNonNull(initializer, "The lazy function cannot be null");
+        this.mode = Objects.requireNonNull(mode, "The lazy mode cannot be null");
+    }
+
+    @Override
+    public R apply0() {
+        final Holder<R> holder = this.holder;
+        return holder != null ? holder.value : this.initialize();
+    }
+
+    private R initialize() {
+        switch (this.mode) {
+            case SYNCHRONIZED:
+                synchronized (this) {
+                    return this.compute();
+                }
+            case PUBLICATION:
+                final Function0<R> initializer = this.initializer;
+                if (initializer == null) return this.holder.value;
+                final R value = initializer.apply0();
+                synchronized (this) {
+                    // Only publish the first result computed
+                    return this.initializer != null ? this.publish(value) : this.holder.value;
+                }
+            default:
+                return this.compute();
+        }
+    }
+
+    private R compute() {
+        final Function0<R> initializer = this.initializer;
+        return initializer == null ? this.holder.value : this.publish(initializer.apply0());
+    }
+
+    private R publish(final R value) {
+        this.holder = new Holder<>(value);
+        // Writing the initializer after the holder makes the holder visible to any thread which reads the initializer
+        this.initializer = null;
+        return value;
+    }
+
+    /**
+     * Returns whether the result has been computed.
+     *
+     * @return {@code true} if the result has been computed
+     */
+    public boolean isInitialized() {
+        return this.initializer == null;
+    }
+
+    @Override
+    public String toString() {
+        return this.isInitialized() ? "LazyFunction0[" + this.holder.value + "]" : "LazyFunction0[uninitialized]";
+    }
+
+    /**
+     * An immutable holder of the result.
+     *
+     * @param <R> the type of the result
+     */
+    private static final class Holder<R> {
+
+        private final R value;
+
+        private Holder(final R value) {
+            this.value = value;
+        }
+    }
+}
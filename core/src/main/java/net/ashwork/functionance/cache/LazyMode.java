@@ -0,0 +1,38 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.cache;
+
+/**
+ * Represents how a lazily computed result is initialized when accessed by
+ * multiple threads.
+ *
+ * @see LazyFunction0
+ * @since 1.0.0
+ */
+public enum LazyMode {
+
+    /**
+     * Initializes the result at most once using a lock. Any threads which
+     * access the result during initialization will wait for it to complete.
+     */
+    SYNCHRONIZED,
+
+    /**
+     * Computes the result without holding a lock. Multiple threads may
+     * compute the result at the same time, though only the first one to
+     * complete will be published.
+     */
+    PUBLICATION,
+
+    /**
+     * Initializes the result without any synchronization. This should only
+     * be used when the result is accessed by a single thread.
+     */
+    NONE
+}
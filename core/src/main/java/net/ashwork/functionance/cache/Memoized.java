@@ -0,0 +1,31 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.cache;
+
+/**
+ * Defines that the implementing object caches its previously computed
+ * results.
+ *
+ * @since 1.0.0
+ */
+public interface Memoized {
+
+    /**
+     * Returns a snapshot of the statistics of the cache.
+     *
+     * @return a snapshot of the statistics of the cache
+     */
+    CacheStats stats();
+
+    /**
+     * Removes all results held within the cache. The statistics of the cache
+     * are not reset.
+     */
+    void invalidateAll();
+}
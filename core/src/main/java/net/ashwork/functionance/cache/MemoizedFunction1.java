@@ -0,0 +1,60 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.cache;
+
+import net.ashwork.functionance.Function1;
+
+import java.util.Objects;
+
+/**
+ * Represents a function that accepts one argument and produces a result
+ * which is cached within a bounded cache.
+ *
+ * <p>The underlying function should be deterministic as it may be applied
+ * more than once for the same argument if multiple threads compute it at the
+ * same time.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <R> the type of the result of the function
+ * @see Function1#memoize(CacheSettings)
+ * @since 1.0.0
+ */
+public final class MemoizedFunction1<T1, R> implements Function1<T1, R>, Memoized {
+
+    private final Function1<T1, R> function;
+    private final BoundedCache<T1, R> cache;
+
+    /**
+     * Constructs a function which caches the results of the underlying
+     * function.
+     *
+     * @param function the function whose results are cached
+     * @param settings the settings of the cache
+     * @throws NullPointerException if the function or settings are {@code null}
+     */
+    public MemoizedFunction1(final Function1<T1, R> function, final CacheSettings settings) {
+        this.function = Objects.requireNonNull(function, "The memoized function cannot be null");
+        this.cache = new BoundedCache<>(Objects.requireNonNull(settings, "The cache settings cannot be null"));
+    }
+
+    @Override
+    public R apply1(final T1 t1) {
+        return this.cache.get(t1, this.function);
+    }
+
+    @Override
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    @Override
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.cache;
+
+import net.ashwork.functionance.Function6;
+
+import java.util.Objects;
+
+/**
+ * Represents a function that accepts six arguments and produces a result
+ * which is cached within a bounded cache.
+ *
+ * <p>The arguments are hashed directly into an open-addressed table such
+ * that reading a cached result never allocates. The underlying function should
+ * be deterministic as it may be applied more than once for the same arguments
+ * if multiple threads compute them at the same time.
+ *
+ * <p>The maximum size of the cache is rounded up to the next power of two,
+ * and the eviction policy only chooses between the few entries which share
+ * the probe window of a new result. See {@link CacheSettings}.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <T3> the type of the third argument to the function
+ * @param <T4> the type of the fourth argument to the function
+ * @param <T5> the type of the fifth argument to the function
+ * @param <T6> the type of the sixth argument to the function
+ * @param <R> the type of the result of the function
+ * @see Function6#memoize(CacheSettings)
+ * @since 1.0.0
+ */
+public final class MemoizedFunction6<T1, T2, T3, T4, T5, T6, R> implements Function6<T1, T2, T3, T4, T5, T6, R>, Memoized {
+
+    private final Function6<T1, T2, T3, T4, T5, T6, R> function;
+    private final CompositeKeyCache<Entry<T1, T2, T3, T4, T5, T6, R>> cache;
+
+    /**
+     * Constructs a function which caches the results of the underlying
+     * function.
+     *
+     * @param function the function whose results are cached
+     * @param settings the settings of the cache
+     * @throws NullPointerException if the function or settings are {@code null}
+     */
+    public MemoizedFunction6(final Function6<T1, T2, T3, T4, T5, T6, R> function, final CacheSettings settings) {
+        this.function = Objects.requireNonNull(function, "The memoized function cannot be null");
+        this.cache = new CompositeKeyCache<>(Objects.requireNonNull(settings, "The cache settings cannot be null"));
+    }
+
+    @Override
+    public R apply6(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) {
+        final int hash = CompositeKeyCache.spread(CompositeKeyCache.combine(CompositeKeyCache.combine(CompositeKeyCache.combine(CompositeKeyCache.combine(CompositeKeyCache.combine(CompositeKeyCache.combine(0, t1), t2), t3), t4), t5), t6));
+        for (int i = 0, index = this.cache.start(hash); i < CompositeKeyCache.MAX_PROBES; i++, index = this.cache.next(index)) {
+            final Entry<T1, T2, T3, T4, T5, T6, R> entry = this.cache.get(index);
+            if (entry == null) break;
+            if (entry.hash == hash && Objects.equals(entry.t1, t1) && Objects.equals(entry.t2, t2) && Objects.equals(entry.t3, t3) && Objects.equals(entry.t4, t4) && Objects.equals(entry.t5, t5) && Objects.equals(entry.t6, t6)) {
+                if (this.cache.hit(entry)) return entry.result;
+                break;
+            }
+        }
+        this.cache.miss();
+        final R result = this.function.apply6(t1, t2, t3, t4, t5, t6);
+        this.cache.put(new Entry<>(hash, t1, t2, t3, t4, t5, t6, result));
+        return result;
+    }
+
+    @Override
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    @Override
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    /**
+     * An entry holding the arguments and result of the function.
+     */
+    private static final class Entry<T1, T2, T3, T4, T5, T6, R> extends CompositeKeyCache.Entry {
+
+        private final T1 t1;
+        private final T2 t2;
+        private final T3 t3;
+        private final T4 t4;
+        private final T5 t5;
+        private final T6 t6;
+        private final R result;
+
+        private Entry(final int hash, final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final R result) {
+            super(hash);
+            this.t1 = t1;
+            this.t2 = t2;
+            this.t3 = t3;
+            this.t4 = t4;
+            this.t5 = t5;
+            this.t6 = t6;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+/**
+ * Caches are stores which hold the results of some function such that applying
+ * the function to the same arguments does not recompute the result. Each cache
+ * is bounded and safe to use across multiple threads.
+ */
+package net.ashwork.functionance.cache;
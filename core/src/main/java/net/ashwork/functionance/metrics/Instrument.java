@@ -0,0 +1,176 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.metrics;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.resilience.Decorator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A decorator which counts the calls, failures, and latencies of the
+ * functions it decorates.
+ *
+ * <p>Each thread records into its own histogram, found through a
+ * {@link ThreadLocal} and created on the first call of the thread. Recording
+ * takes no locks and allocates nothing; the histograms are merged only when a
+ * {@link #snapshot()} is taken. Resetting stores the current counts as a
+ * baseline subtracted from later snapshots, so recording threads never need
+ * to be coordinated with. The number of calls in flight is kept within a
+ * striped {@link LongAdder}.
+ *
+ * <p>The recorders of threads which have terminated are folded into a single
+ * set of retired counts whenever a snapshot is taken or another thread makes
+ * its first call, so threads of elastic pools do not accumulate.
+ *
+ * <p>Reading the time of every call can cost more than a cheap function
+ * itself. A sampled instrument only measures one in every so many calls of
+ * each thread, counted down within the recorder of the thread, while still
+ * counting every call and failure within striped {@link LongAdder}s.
+ *
+ * @see Registry#instrument(String)
+ * @see Registry#instrument(String, int)
+ * @since 1.0.0
+ */
+public final class Instrument implements Decorator {
+
+    private final String name;
+    private final int sampleInterval;
+    private final boolean sampled;
+    private final List<Recorder> recorders;
+    private final long[] retired;
+    private final ThreadLocal<Recorder> recorder;
+    private final LongAdder inFlight;
+    private final LongAdder calls;
+    private final LongAdder errors;
+    private volatile Snapshot baseline;
+
+    Instrument(final String name, final int sampleInterval) {
+        this.name = name;
+        this.sampleInterval = sampleInterval;
+        this.sampled = sampleInterval > 1;
+        this.recorders = new ArrayList<>();
+        this.retired = new long[Recorder.LENGTH];
+        this.recorder = ThreadLocal.withInitial(() -> {
+            final Recorder recorder = new Recorder(Thread.currentThread(), sampleInterval);
+            synchronized (this.recorders) {
+                this.retire();
+                this.recorders.add(recorder);
+            }
+            return recorder;
+        });
+        this.inFlight = new LongAdder();
+        this.calls = new LongAdder();
+        this.errors = new LongAdder();
+    }
+
+    /**
+     * Returns the name of this instrument.
+     *
+     * @return the name of this instrument
+     */
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * Returns the number of calls of each thread between each measured call,
+     * or {@code 1} if every call is measured.
+     *
+     * @return the number of calls between each measured call
+     */
+    public int sampleInterval() {
+        return this.sampleInterval;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    @Override
+    public <R> R call(final Function0<? extends R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        final Recorder recorder = this.recorder.get();
+        final boolean timed = !this.sampled || recorder.sample(this.sampleInterval);
+        if (this.sampled) this.calls.increment();
+        this.inFlight.increment();
+        final long start = timed ? System.nanoTime() : 0L;
+        boolean failed = true;
+        try {
+            final R result = function.apply0();
+            failed = false;
+            return result;
+        } finally {
+            if (timed) recorder.record(System.nanoTime() - start, failed);
+            if (failed && this.sampled) this.errors.increment();
+            this.inFlight.decrement();
+        }
+    }
+
+    /**
+     * Returns the number of calls currently being made.
+     *
+     * @return the number of calls currently being made
+     */
+    public long inFlight() {
+        return this.inFlight.sum();
+    }
+
+    /**
+     * Returns the counts recorded by every thread since this instrument was
+     * last reset.
+     *
+     * @return the counts recorded since this instrument was last reset
+     */
+    public Snapshot snapshot() {
+        return this.merge().minus(this.baseline);
+    }
+
+    /**
+     * Resets the counts of this instrument, such that later snapshots only
+     * include calls recorded after this.
+     */
+    public void reset() {
+        this.baseline = this.merge();
+    }
+
+    private Snapshot merge() {
+        final long[] counts;
+        synchronized (this.recorders) {
+            this.retire();
+            counts = this.retired.clone();
+            for (final Recorder recorder : this.recorders) recorder.addTo(counts);
+        }
+        if (this.sampled) {
+            counts[Recorder.CALLS] = this.calls.sum();
+            counts[Recorder.ERRORS] = this.errors.sum();
+        } else {
+            for (int i = 0; i < Recorder.BUCKETS; i++) counts[Recorder.CALLS] += counts[i];
+        }
+        return new Snapshot(this.name, counts);
+    }
+
+    /**
+     * Folds the counts of recorders whose threads have terminated into the
+     * retired counts and stops tracking them. Must be called while holding
+     * the lock on the recorders.
+     */
+    private void retire() {
+        this.recorders.removeIf(recorder -> {
+            if (!recorder.retired()) return false;
+            recorder.addTo(this.retired);
+            return true;
+        });
+    }
+}
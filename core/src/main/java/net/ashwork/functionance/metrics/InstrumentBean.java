@@ -0,0 +1,91 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The published view of an {@link Instrument}. Snapshots are only taken when
+ * an attribute is read, and reused for a short while so reading every
+ * attribute at once merges the histograms of the instrument once.
+ */
+final class InstrumentBean implements InstrumentMXBean {
+
+    private static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1L);
+
+    private final Instrument instrument;
+    private volatile Snapshot snapshot;
+    private volatile long takenAt;
+
+    InstrumentBean(final Instrument instrument) {
+        this.instrument = instrument;
+    }
+
+    private Snapshot snapshot() {
+        final long now = System.nanoTime();
+        Snapshot snapshot = this.snapshot;
+        if (snapshot == null || now - this.takenAt >= REFRESH_NANOS) {
+            this.snapshot = snapshot = this.instrument.snapshot();
+            this.takenAt = now;
+        }
+        return snapshot;
+    }
+
+    @Override
+    public String getName() {
+        return this.instrument.name();
+    }
+
+    @Override
+    public long getCalls() {
+        return this.snapshot().calls();
+    }
+
+    @Override
+    public long getErrors() {
+        return this.snapshot().errors();
+    }
+
+    @Override
+    public double getErrorRate() {
+        return this.snapshot().errorRate();
+    }
+
+    @Override
+    public double getMeanNanos() {
+        return this.snapshot().meanNanos();
+    }
+
+    @Override
+    public long getP50Nanos() {
+        return this.snapshot().percentileNanos(0.5);
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return this.snapshot().percentileNanos(0.99);
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return this.snapshot().maxNanos();
+    }
+
+    @Override
+    public long getInFlight() {
+        return this.instrument.inFlight();
+    }
+
+    @Override
+    public void reset() {
+        this.instrument.reset();
+        this.snapshot = null;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.metrics;
+
+/**
+ * The management interface of an {@link Instrument} published by a
+ * {@link Registry}. Counts are those since the instrument was last reset.
+ *
+ * @see Registry#publish(javax.management.MBeanServer, String)
+ * @since 1.0.0
+ */
+public interface InstrumentMXBean {
+
+    /**
+     * Returns the name of the instrument.
+     *
+     * @return the name of the instrument
+     */
+    String getName();
+
+    /**
+     * Returns the number of calls made.
+     *
+     * @return the number of calls made
+     */
+    long getCalls();
+
+    /**
+     * Returns the number of calls which failed.
+     *
+     * @return the number of calls which failed
+     */
+    long getErrors();
+
+    /**
+     * Returns the fraction of calls which failed.
+     *
+     * @return the fraction of calls which failed
+     */
+    double getErrorRate();
+
+    /**
+     * Returns the mean number of nanoseconds a call took.
+     *
+     * @return the mean number of nanoseconds a call took
+     */
+    double getMeanNanos();
+
+    /**
+     * Returns the number of nanoseconds within which half of all calls
+     * completed.
+     *
+     * @return the median number of nanoseconds a call took
+     */
+    long getP50Nanos();
+
+    /**
+     * Returns the number of nanoseconds within which ninety-nine percent of
+     * all calls completed.
+     *
+     * @return the 99th percentile of the nanoseconds a call took
+     */
+    long getP99Nanos();
+
+    /**
+     * Returns the number of nanoseconds the slowest call took.
+     *
+     * @return the number of nanoseconds the slowest call took
+     */
+    long getMaxNanos();
+
+    /**
+     * Returns the number of calls currently being made.
+     *
+     * @return the number of calls currently being made
+     */
+    long getInFlight();
+
+    /**
+     * Resets the counts of the instrument.
+     */
+    void reset();
+}
@@ -0,0 +1,125 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.metrics;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The counts recorded by a single thread for an {@link Instrument}.
+ *
+ * <p>Latencies are counted within log-linear buckets: each power of two is
+ * split into {@link #SUB_BUCKETS} equal buckets, keeping the relative error
+ * of any recorded latency within about six percent. Latencies above about
+ * two hours are counted within the last bucket.
+ *
+ * <p>Only the owning thread writes to a recorder, so each count is updated
+ * with a plain read followed by an ordered write rather than an atomic
+ * instruction. Other threads may read the counts at any time.
+ *
+ * <p>When only some calls are measured, each recorder counts down the calls
+ * of its thread until the next one to measure. The countdown starts at a
+ * random point so threads do not measure in step with each other.
+ */
+final class Recorder {
+
+    static final int SUB_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAX_BIT = 42;
+    private static final long MAX_VALUE = (1L << (MAX_BIT + 1)) - 1L;
+    static final int BUCKETS = (MAX_BIT - SUB_BITS + 2) * SUB_BUCKETS;
+    /**
+     * The index after the buckets holding the sum of all latencies, followed
+     * by the index holding the number of failures. The number of calls is
+     * only filled in when the counts are merged.
+     */
+    static final int SUM = BUCKETS, ERRORS = BUCKETS + 1, CALLS = BUCKETS + 2, LENGTH = BUCKETS + 3;
+
+    final AtomicLongArray values;
+    private final WeakReference<Thread> owner;
+    private int countdown;
+
+    Recorder(final Thread owner, final int sampleInterval) {
+        this.values = new AtomicLongArray(LENGTH);
+        this.owner = new WeakReference<>(owner);
+        this.countdown = ThreadLocalRandom.current().nextInt(sampleInterval) + 1;
+    }
+
+    /**
+     * Returns whether the owning thread has terminated, such that the counts
+     * of this recorder will no longer change.
+     *
+     * @return {@code true} if the owning thread has terminated
+     */
+    boolean retired() {
+        final Thread owner = this.owner.get();
+        return owner == null || !owner.isAlive();
+    }
+
+    /**
+     * Counts down to the next call to measure.
+     *
+     * @param sampleInterval the number of calls between each measured call
+     * @return {@code true} if the current call should be measured
+     */
+    boolean sample(final int sampleInterval) {
+        if (--this.countdown > 0) return false;
+        this.countdown = sampleInterval;
+        return true;
+    }
+
+    /**
+     * Records a call.
+     *
+     * @param nanos the number of nanoseconds the call took
+     * @param failed whether the call failed
+     */
+    void record(final long nanos, final boolean failed) {
+        final long value = Math.max(0L, Math.min(nanos, MAX_VALUE));
+        final int index = index(value);
+        this.values.lazySet(index, this.values.get(index) + 1L);
+        this.values.lazySet(SUM, this.values.get(SUM) + value);
+        if (failed) this.values.lazySet(ERRORS, this.values.get(ERRORS) + 1L);
+    }
+
+    /**
+     * Adds the counts of this recorder to the totals.
+     *
+     * @param totals the totals to add to, of length {@link #LENGTH}
+     */
+    void addTo(final long[] totals) {
+        for (int i = 0; i < CALLS; i++) totals[i] += this.values.get(i);
+    }
+
+    /**
+     * Returns the index of the bucket counting the value.
+     *
+     * @param value a value between zero and the maximum value
+     * @return the index of the bucket counting the value
+     */
+    static int index(final long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        final int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    /**
+     * Returns the largest value counted by the bucket.
+     *
+     * @param index the index of the bucket
+     * @return the largest value counted by the bucket
+     */
+    static long highest(final int index) {
+        if (index < SUB_BUCKETS) return index;
+        final int shift = index / SUB_BUCKETS - 1;
+        return ((long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift) + (1L << shift) - 1L;
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A set of {@link Instrument}s identified by name, which can be snapshot or
+ * reset together.
+ *
+ * <p>A registry can publish each of its instruments as an
+ * {@link InstrumentMXBean}, including those created after it was published.
+ * Beans only take a snapshot when read, so publishing adds nothing to the
+ * cost of a call.
+ *
+ * @since 1.0.0
+ */
+public final class Registry {
+
+    private static final Registry GLOBAL = new Registry();
+
+    /**
+     * The domain beans are published under by default.
+     */
+    public static final String DOMAIN = "net.ashwork.functionance";
+
+    private final ConcurrentMap<String, Instrument> instruments;
+    private Publication publication;
+
+    private Registry() {
+        this.instruments = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the registry used by the {@code instrument} methods of
+     * functions and operations.
+     *
+     * @return the global registry
+     */
+    public static Registry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Constructs an empty registry.
+     *
+     * @return an empty registry
+     */
+    public static Registry create() {
+        return new Registry();
+    }
+
+    /**
+     * Returns the instrument with the name which measures the latency of
+     * every call, creating it if it does not exist. Functions instrumented
+     * with the same name share their counts.
+     *
+     * @param name the name of the instrument
+     * @return the instrument with the name
+     * @throws NullPointerException if the {@code name} is {@code null}
+     * @throws IllegalArgumentException if the instrument already exists and
+     *                                  only samples some calls
+     * @see #instrument(String, int)
+     */
+    public Instrument instrument(final String name) {
+        return this.instrument(name, 1);
+    }
+
+    /**
+     * Returns the instrument with the name which only measures the latency
+     * of one in every {@code sampleInterval} calls of each thread, creating it
+     * if it does not exist. Every call and failure is still counted.
+     *
+     * @param name the name of the instrument
+     * @param sampleInterval the number of calls between each measured call
+     * @return the instrument with the name
+     * @throws NullPointerException if the {@code name} is {@code null}
+     * @throws IllegalArgumentException if {@code sampleInterval} is not
+     *                                  positive, or the instrument already
+     *                                  exists with a different interval
+     */
+    public Instrument instrument(final String name, final int sampleInterval) {
+        Objects.requireNonNull(name, "The name cannot be null");
+        if (sampleInterval <= 0)
+            throw new IllegalArgumentException("The sample interval must be positive: " + sampleInterval);
+        Instrument instrument = this.instruments.get(name);
+        if (instrument == null) instrument = this.create(name, sampleInterval);
+        if (instrument.sampleInterval() != sampleInterval)
+            throw new IllegalArgumentException("The instrument " + name + " already samples every " + instrument.sampleInterval() + " calls");
+        return instrument;
+    }
+
+    private Instrument create(final String name, final int sampleInterval) {
+        final Instrument created = new Instrument(name, sampleInterval);
+        final Instrument existing = this.instruments.putIfAbsent(name, created);
+        if (existing != null) return existing;
+        this.register(created);
+        return created;
+    }
+
+    /**
+     * Publishes an instrument created after this registry was published.
+     * This holds the same lock as publishing and removing the registry, so
+     * the instrument cannot be published after the registry was removed.
+     * An instrument which cannot be published still records its calls.
+     *
+     * @param instrument the created instrument
+     */
+    private synchronized void register(final Instrument instrument) {
+        final Publication publication = this.publication;
+        if (publication == null) return;
+        try {
+            publication.register(instrument);
+        } catch (final JMException ignored) {
+            // Not visible to the bean server, but the call path is unaffected
+        }
+    }
+
+    /**
+     * Publishes every instrument within this registry to the platform bean
+     * server under {@link #DOMAIN}.
+     *
+     * @throws IllegalStateException if an instrument could not be published
+     * @see #publish(MBeanServer, String)
+     */
+    public void publish() {
+        this.publish(ManagementFactory.getPlatformMBeanServer(), DOMAIN);
+    }
+
+    /**
+     * Publishes every instrument within this registry, and every instrument
+     * created afterwards, to the bean server. Each instrument is named
+     * {@code <domain>:type=Instrument,name=<name>}.
+     *
+     * @param server the bean server to publish to
+     * @param domain the domain of the bean names
+     * @throws NullPointerException if the {@code server} or {@code domain} is {@code null}
+     * @throws IllegalStateException if this registry is already published, or
+     *                               an instrument could not be published
+     */
+    public synchronized void publish(final MBeanServer server, final String domain) {
+        Objects.requireNonNull(server, "The bean server cannot be null");
+        Objects.requireNonNull(domain, "The domain cannot be null");
+        if (this.publication != null) throw new IllegalStateException("The registry is already published");
+        final Publication publication = new Publication(server, domain);
+        this.publication = publication;
+        for (final Instrument instrument : this.instruments.values()) {
+            try {
+                publication.register(instrument);
+            } catch (final JMException e) {
+                throw new IllegalStateException("Could not publish instrument " + instrument.name(), e);
+            }
+        }
+    }
+
+    /**
+     * Removes every instrument of this registry from the bean server it was
+     * published to. Does nothing if this registry is not published.
+     *
+     * @throws IllegalStateException if an instrument could not be removed
+     */
+    public synchronized void unpublish() {
+        final Publication publication = this.publication;
+        if (publication == null) return;
+        this.publication = null;
+        for (final Instrument instrument : this.instruments.values()) publication.unregister(instrument);
+    }
+
+    /**
+     * Returns a snapshot of every instrument within this registry, ordered by
+     * name.
+     *
+     * @return a snapshot of every instrument, ordered by name
+     */
+    public Map<String, Snapshot> snapshot() {
+        final Map<String, Snapshot> snapshots = new TreeMap<>();
+        for (final Instrument instrument : this.instruments.values())
+            snapshots.put(instrument.name(), instrument.snapshot());
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * Resets every instrument within this registry.
+     */
+    public void reset() {
+        for (final Instrument instrument : this.instruments.values()) instrument.reset();
+    }
+
+    /**
+     * The bean server and domain a registry is published to.
+     */
+    private static final class Publication {
+
+        private final MBeanServer server;
+        private final String domain;
+
+        private Publication(final MBeanServer server, final String domain) {
+            this.server = server;
+            this.domain = domain;
+        }
+
+        private ObjectName name(final Instrument instrument) throws JMException {
+            return new ObjectName(this.domain + ":type=Instrument,name=" + ObjectName.quote(instrument.name()));
+        }
+
+        private void register(final Instrument instrument) throws JMException {
+            try {
+                this.server.registerMBean(new InstrumentBean(instrument), this.name(instrument));
+            } catch (final InstanceAlreadyExistsException ignored) {
+                // Registered by the instrument and the registry at once
+            }
+        }
+
+        private void unregister(final Instrument instrument) {
+            try {
+                this.server.unregisterMBean(this.name(instrument));
+            } catch (final InstanceNotFoundException ignored) {
+                // Already removed from the server
+            } catch (final JMException e) {
+                throw new IllegalStateException("Could not remove instrument " + instrument.name(), e);
+            }
+        }
+    }
+}
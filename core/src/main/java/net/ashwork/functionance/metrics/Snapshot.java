@@ -0,0 +1,149 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.metrics;
+
+/**
+ * The counts and latencies recorded by an {@link Instrument} at a point in
+ * time. Latencies are accurate to within about six percent.
+ *
+ * <p>If the instrument only measures some calls, the number of calls and
+ * failures include every call, while the latencies only describe the
+ * {@link #samples()} which were measured.
+ *
+ * @since 1.0.0
+ */
+public final class Snapshot {
+
+    private final String name;
+    private final long[] counts;
+    private final long samples;
+
+    /**
+     * Constructs a snapshot from the merged counts of every recorder.
+     *
+     * @param name the name of the instrument
+     * @param counts the merged counts, of length {@link Recorder#LENGTH}
+     */
+    Snapshot(final String name, final long[] counts) {
+        this.name = name;
+        this.counts = counts;
+        long samples = 0L;
+        for (int i = 0; i < Recorder.BUCKETS; i++) samples += counts[i];
+        this.samples = samples;
+    }
+
+    /**
+     * Returns a snapshot of the counts recorded since the baseline.
+     *
+     * @param baseline the snapshot to subtract, or {@code null} if there is none
+     * @return a snapshot of the counts recorded since the baseline
+     */
+    Snapshot minus(final Snapshot baseline) {
+        if (baseline == null) return this;
+        final long[] counts = new long[Recorder.LENGTH];
+        for (int i = 0; i < Recorder.LENGTH; i++) counts[i] = Math.max(0L, this.counts[i] - baseline.counts[i]);
+        return new Snapshot(this.name, counts);
+    }
+
+    /**
+     * Returns the name of the instrument.
+     *
+     * @return the name of the instrument
+     */
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * Returns the number of calls made.
+     *
+     * @return the number of calls made
+     */
+    public long calls() {
+        return this.counts[Recorder.CALLS];
+    }
+
+    /**
+     * Returns the number of calls whose latency was measured.
+     *
+     * @return the number of calls whose latency was measured
+     */
+    public long samples() {
+        return this.samples;
+    }
+
+    /**
+     * Returns the number of calls which failed.
+     *
+     * @return the number of calls which failed
+     */
+    public long errors() {
+        return this.counts[Recorder.ERRORS];
+    }
+
+    /**
+     * Returns the fraction of calls which failed, or {@code 0} if no calls
+     * were made.
+     *
+     * @return the fraction of calls which failed
+     */
+    public double errorRate() {
+        final long calls = this.calls();
+        return calls == 0L ? 0.0 : (double) this.errors() / calls;
+    }
+
+    /**
+     * Returns the mean number of nanoseconds a call took, or {@code 0} if no
+     * calls were measured.
+     *
+     * @return the mean number of nanoseconds a call took
+     */
+    public double meanNanos() {
+        return this.samples == 0L ? 0.0 : (double) this.counts[Recorder.SUM] / this.samples;
+    }
+
+    /**
+     * Returns the number of nanoseconds the slowest call took, or {@code 0} if
+     * no calls were measured.
+     *
+     * @return the number of nanoseconds the slowest call took
+     */
+    public long maxNanos() {
+        for (int i = Recorder.BUCKETS - 1; i >= 0; i--)
+            if (this.counts[i] != 0L) return Recorder.highest(i);
+        return 0L;
+    }
+
+    /**
+     * Returns the number of nanoseconds within which the given fraction of
+     * calls completed, or {@code 0} if no calls were measured.
+     *
+     * @param percentile the fraction of calls, such as {@code 0.99}
+     * @return the number of nanoseconds within which the fraction of calls completed
+     * @throws IllegalArgumentException if {@code percentile} is not between zero and one
+     */
+    public long percentileNanos(final double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 1.0))
+            throw new IllegalArgumentException("The percentile must be between zero and one: " + percentile);
+        if (this.samples == 0L) return 0L;
+        final long rank = Math.max(1L, (long) Math.ceil(percentile * this.samples));
+        long seen = 0L;
+        for (int i = 0; i < Recorder.BUCKETS; i++)
+            if ((seen += this.counts[i]) >= rank) return Recorder.highest(i);
+        return this.maxNanos();
+    }
+
+    @Override
+    public String toString() {
+        return this.name + "[calls=" + this.calls() + ", errors=" + this.errors()
+                + ", mean=" + (long) this.meanNanos() + "ns, p50=" + this.percentileNanos(0.5)
+                + "ns, p99=" + this.percentileNanos(0.99) + "ns, max=" + this.maxNanos() + "ns]";
+    }
+}
@@ -0,0 +1,15 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+/**
+ * Metrics instrument functions and operations with counts and latencies.
+ * Each thread records into its own histogram without locks or allocation,
+ * and histograms are only merged when a snapshot is read.
+ */
+package net.ashwork.functionance.metrics;
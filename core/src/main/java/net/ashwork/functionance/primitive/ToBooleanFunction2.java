@@ -0,0 +1,119 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.primitive;
+
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.partial.input.Input2;
+import net.ashwork.functionance.partial.result.Consume;
+import net.ashwork.functionance.partial.result.Default;
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.partial.transformer.Transformer2;
+import net.ashwork.functionance.runnable.Runnable2;
+
+import java.util.Objects;
+
+/**
+ * Represents a function that accepts two arguments and produces
+ * a {@code boolean}-valued result. This is the {@code boolean}-producing
+ * primitive specialization of {@link Function2}.
+ *
+ * <p>This is a functional interface whose functional method is
+ * {@link #applyAsBoolean2(Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ToBooleanFunction2<T1, T2> extends Input2<T1, T2>, Transformer2<T1, T2, Boolean>, Default<ToBooleanFunction2<T1, T2>>, Consume<Runnable2<T1, T2>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @return the function result
+     */
+    boolean applyAsBoolean2(final T1 t1, final T2 t2);
+
+    /**
+     * @implSpec The result of {@link #applyAsBoolean2(Object, Object)} is boxed.
+     */
+    @Override
+    default Boolean apply2(final T1 t1, final T2 t2) {
+        return this.applyAsBoolean2(t1, t2);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToBooleanFunction2<T1, V> compose2(final Transformer1<? super V, ? extends T2> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, v) -> this.applyAsBoolean2(t1, before.apply1(v));
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToBooleanFunction2<V, T2> compose1(final Transformer1<? super V, ? extends T1> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (v, t2) -> this.applyAsBoolean2(before.apply1(v), t2);
+    }
+
+    /**
+     * @throws NullPointerException if the exception handler or defaulted function are {@code null}
+     */
+    @Override
+    default ToBooleanFunction2<T1, T2> handle(final Transformer1<Throwable, ToBooleanFunction2<T1, T2>> exceptionHandler) {
+        Objects.requireNonNull(exceptionHandler, "The exception handler of the function cannot be null");
+        return (t1, t2) -> {
+            try {
+                return this.applyAsBoolean2(t1, t2);
+            } catch (final Throwable t) {
+                return Objects.requireNonNull(exceptionHandler.apply1(t), "The defaulted function cannot be null").applyAsBoolean2(t1, t2);
+            }
+        };
+    }
+
+    @Override
+    default ToBooleanFunction2<T2, T1> swap1() {
+        return (t2, t1) -> this.applyAsBoolean2(t1, t2);
+    }
+
+    /**
+     * @see Runnable2
+     */
+    @Override
+    default Runnable2<T1, T2> consume() {
+        return this::applyAsBoolean2;
+    }
+
+    @Override
+    default ToBooleanFunction1<T1> partial2(final T2 t2) {
+        return t1 -> this.applyAsBoolean2(t1, t2);
+    }
+
+    @Override
+    default ToBooleanFunction1<T2> partial1(final T1 t1) {
+        return t2 -> this.applyAsBoolean2(t1, t2);
+    }
+
+    /**
+     * Returns a function which boxes the result of this function.
+     *
+     * @return a function which boxes the result of this function
+     * @see Function2
+     */
+    default Function2<T1, T2, Boolean> boxed() {
+        return this::apply2;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.primitive;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.partial.input.Input0;
+import net.ashwork.functionance.partial.result.Consume;
+import net.ashwork.functionance.partial.result.Default;
+import net.ashwork.functionance.partial.transformer.Transformer0;
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.runnable.Runnable0;
+
+import java.util.Objects;
+
+/**
+ * Represents a function that accepts no arguments and produces
+ * an {@code int}-valued result. This is the {@code int}-producing
+ * primitive specialization of {@link Function0}.
+ *
+ * <p>This is a functional interface whose functional method is
+ * {@link #applyAsInt0()}.
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ToIntFunction0 extends Input0, Transformer0<Integer>, Default<ToIntFunction0>, Consume<Runnable0> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @return the function result
+     */
+    int applyAsInt0();
+
+    /**
+     * @implSpec The result of {@link #applyAsInt0()} is boxed.
+     */
+    @Override
+    default Integer apply0() {
+        return this.applyAsInt0();
+    }
+
+    /**
+     * @throws NullPointerException if the exception handler or defaulted function are {@code null}
+     */
+    @Override
+    default ToIntFunction0 handle(final Transformer1<Throwable, ToIntFunction0> exceptionHandler) {
+        Objects.requireNonNull(exceptionHandler, "The exception handler of the function cannot be null");
+        return () -> {
+            try {
+                return this.applyAsInt0();
+            } catch (final Throwable t) {
+                return Objects.requireNonNull(exceptionHandler.apply1(t), "The defaulted function cannot be null").applyAsInt0();
+            }
+        };
+    }
+
+    /**
+     * @see Runnable0
+     */
+    @Override
+    default Runnable0 consume() {
+        return this::applyAsInt0;
+    }
+
+    /**
+     * Returns a function which boxes the result of this function.
+     *
+     * @return a function which boxes the result of this function
+     * @see Function0
+     */
+    default Function0<Integer> boxed() {
+        return this::apply0;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.primitive;
+
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.partial.input.Input1;
+import net.ashwork.functionance.partial.result.Consume;
+import net.ashwork.functionance.partial.result.Default;
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.runnable.Runnable1;
+
+import java.util.Objects;
+
+/**
+ * Represents a function that accepts one argument and produces
+ * an {@code int}-valued result. This is the {@code int}-producing
+ * primitive specialization of {@link Function1}.
+ *
+ * <p>This is a functional interface whose functional method is
+ * {@link #applyAsInt1(Object)}.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ToIntFunction1<T1> extends Input1<T1>, Transformer1<T1, Integer>, Default<ToIntFunction1<T1>>, Consume<Runnable1<T1>> {
+
+    /**
+     * Applies this function to the given argument.
+     *
+     * @param t1 the first function argument
+     * @return the function result
+     */
+    int applyAsInt1(final T1 t1);
+
+    /**
+     * @implSpec The result of {@link #applyAsInt1(Object)} is boxed.
+     */
+    @Override
+    default Integer apply1(final T1 t1) {
+        return this.applyAsInt1(t1);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction1<V> compose1(final Transformer1<? super V, ? extends T1> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return v -> this.applyAsInt1(before.apply1(v));
+    }
+
+    /**
+     * @throws NullPointerException if the exception handler or defaulted function are {@code null}
+     */
+    @Override
+    default ToIntFunction1<T1> handle(final Transformer1<Throwable, ToIntFunction1<T1>> exceptionHandler) {
+        Objects.requireNonNull(exceptionHandler, "The exception handler of the function cannot be null");
+        return t1 -> {
+            try {
+                return this.applyAsInt1(t1);
+            } catch (final Throwable t) {
+                return Objects.requireNonNull(exceptionHandler.apply1(t), "The defaulted function cannot be null").applyAsInt1(t1);
+            }
+        };
+    }
+
+    /**
+     * @see Runnable1
+     */
+    @Override
+    default Runnable1<T1> consume() {
+        return this::applyAsInt1;
+    }
+
+    @Override
+    default ToIntFunction0 partial1(final T1 t1) {
+        return () -> this.applyAsInt1(t1);
+    }
+
+    /**
+     * Returns a function which boxes the result of this function.
+     *
+     * @return a function which boxes the result of this function
+     * @see Function1
+     */
+    default Function1<T1, Integer> boxed() {
+        return this::apply1;
+    }
+}
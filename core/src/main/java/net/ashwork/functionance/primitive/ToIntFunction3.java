@@ -0,0 +1,140 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.primitive;
+
+import net.ashwork.functionance.Function3;
+import net.ashwork.functionance.partial.input.Input3;
+import net.ashwork.functionance.partial.result.Consume;
+import net.ashwork.functionance.partial.result.Default;
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.partial.transformer.Transformer3;
+import net.ashwork.functionance.runnable.Runnable3;
+
+import java.util.Objects;
+
+/**
+ * Represents a function that accepts three arguments and produces
+ * an {@code int}-valued result. This is the {@code int}-producing
+ * primitive specialization of {@link Function3}.
+ *
+ * <p>This is a functional interface whose functional method is
+ * {@link #applyAsInt3(Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <T3> the type of the third argument to the function
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ToIntFunction3<T1, T2, T3> extends Input3<T1, T2, T3>, Transformer3<T1, T2, T3, Integer>, Default<ToIntFunction3<T1, T2, T3>>, Consume<Runnable3<T1, T2, T3>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @param t3 the third function argument
+     * @return the function result
+     */
+    int applyAsInt3(final T1 t1, final T2 t2, final T3 t3);
+
+    /**
+     * @implSpec The result of {@link #applyAsInt3(Object, Object, Object)} is boxed.
+     */
+    @Override
+    default Integer apply3(final T1 t1, final T2 t2, final T3 t3) {
+        return this.applyAsInt3(t1, t2, t3);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction3<T1, T2, V> compose3(final Transformer1<? super V, ? extends T3> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, v) -> this.applyAsInt3(t1, t2, before.apply1(v));
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction3<T1, V, T3> compose2(final Transformer1<? super V, ? extends T2> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, v, t3) -> this.applyAsInt3(t1, before.apply1(v), t3);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction3<V, T2, T3> compose1(final Transformer1<? super V, ? extends T1> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (v, t2, t3) -> this.applyAsInt3(before.apply1(v), t2, t3);
+    }
+
+    /**
+     * @throws NullPointerException if the exception handler or defaulted function are {@code null}
+     */
+    @Override
+    default ToIntFunction3<T1, T2, T3> handle(final Transformer1<Throwable, ToIntFunction3<T1, T2, T3>> exceptionHandler) {
+        Objects.requireNonNull(exceptionHandler, "The exception handler of the function cannot be null");
+        return (t1, t2, t3) -> {
+            try {
+                return this.applyAsInt3(t1, t2, t3);
+            } catch (final Throwable t) {
+                return Objects.requireNonNull(exceptionHandler.apply1(t), "The defaulted function cannot be null").applyAsInt3(t1, t2, t3);
+            }
+        };
+    }
+
+    @Override
+    default ToIntFunction3<T1, T3, T2> swap2() {
+        return (t1, t3, t2) -> this.applyAsInt3(t1, t2, t3);
+    }
+
+    @Override
+    default ToIntFunction3<T2, T1, T3> swap1() {
+        return (t2, t1, t3) -> this.applyAsInt3(t1, t2, t3);
+    }
+
+    /**
+     * @see Runnable3
+     */
+    @Override
+    default Runnable3<T1, T2, T3> consume() {
+        return this::applyAsInt3;
+    }
+
+    @Override
+    default ToIntFunction2<T1, T2> partial3(final T3 t3) {
+        return (t1, t2) -> this.applyAsInt3(t1, t2, t3);
+    }
+
+    @Override
+    default ToIntFunction2<T1, T3> partial2(final T2 t2) {
+        return (t1, t3) -> this.applyAsInt3(t1, t2, t3);
+    }
+
+    @Override
+    default ToIntFunction2<T2, T3> partial1(final T1 t1) {
+        return (t2, t3) -> this.applyAsInt3(t1, t2, t3);
+    }
+
+    /**
+     * Returns a function which boxes the result of this function.
+     *
+     * @return a function which boxes the result of this function
+     * @see Function3
+     */
+    default Function3<T1, T2, T3, Integer> boxed() {
+        return this::apply3;
+    }
+}
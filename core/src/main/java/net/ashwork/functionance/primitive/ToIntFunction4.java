@@ -0,0 +1,161 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.primitive;
+
+import net.ashwork.functionance.Function4;
+import net.ashwork.functionance.partial.input.Input4;
+import net.ashwork.functionance.partial.result.Consume;
+import net.ashwork.functionance.partial.result.Default;
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.partial.transformer.Transformer4;
+import net.ashwork.functionance.runnable.Runnable4;
+
+import java.util.Objects;
+
+/**
+ * Represents a function that accepts four arguments and produces
+ * an {@code int}-valued result. This is the {@code int}-producing
+ * primitive specialization of {@link Function4}.
+ *
+ * <p>This is a functional interface whose functional method is
+ * {@link #applyAsInt4(Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <T3> the type of the third argument to the function
+ * @param <T4> the type of the fourth argument to the function
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ToIntFunction4<T1, T2, T3, T4> extends Input4<T1, T2, T3, T4>, Transformer4<T1, T2, T3, T4, Integer>, Default<ToIntFunction4<T1, T2, T3, T4>>, Consume<Runnable4<T1, T2, T3, T4>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @param t3 the third function argument
+     * @param t4 the fourth function argument
+     * @return the function result
+     */
+    int applyAsInt4(final T1 t1, final T2 t2, final T3 t3, final T4 t4);
+
+    /**
+     * @implSpec The result of {@link #applyAsInt4(Object, Object, Object, Object)} is boxed.
+     */
+    @Override
+    default Integer apply4(final T1 t1, final T2 t2, final T3 t3, final T4 t4) {
+        return this.applyAsInt4(t1, t2, t3, t4);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction4<T1, T2, T3, V> compose4(final Transformer1<? super V, ? extends T4> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, v) -> this.applyAsInt4(t1, t2, t3, before.apply1(v));
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction4<T1, T2, V, T4> compose3(final Transformer1<? super V, ? extends T3> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, v, t4) -> this.applyAsInt4(t1, t2, before.apply1(v), t4);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction4<T1, V, T3, T4> compose2(final Transformer1<? super V, ? extends T2> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, v, t3, t4) -> this.applyAsInt4(t1, before.apply1(v), t3, t4);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction4<V, T2, T3, T4> compose1(final Transformer1<? super V, ? extends T1> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (v, t2, t3, t4) -> this.applyAsInt4(before.apply1(v), t2, t3, t4);
+    }
+
+    /**
+     * @throws NullPointerException if the exception handler or defaulted function are {@code null}
+     */
+    @Override
+    default ToIntFunction4<T1, T2, T3, T4> handle(final Transformer1<Throwable, ToIntFunction4<T1, T2, T3, T4>> exceptionHandler) {
+        Objects.requireNonNull(exceptionHandler, "The exception handler of the function cannot be null");
+        return (t1, t2, t3, t4) -> {
+            try {
+                return this.applyAsInt4(t1, t2, t3, t4);
+            } catch (final Throwable t) {
+                return Objects.requireNonNull(exceptionHandler.apply1(t), "The defaulted function cannot be null").applyAsInt4(t1, t2, t3, t4);
+            }
+        };
+    }
+
+    @Override
+    default ToIntFunction4<T1, T2, T4, T3> swap3() {
+        return (t1, t2, t4, t3) -> this.applyAsInt4(t1, t2, t3, t4);
+    }
+
+    @Override
+    default ToIntFunction4<T1, T3, T2, T4> swap2() {
+        return (t1, t3, t2, t4) -> this.applyAsInt4(t1, t2, t3, t4);
+    }
+
+    @Override
+    default ToIntFunction4<T2, T1, T3, T4> swap1() {
+        return (t2, t1, t3, t4) -> this.applyAsInt4(t1, t2, t3, t4);
+    }
+
+    /**
+     * @see Runnable4
+     */
+    @Override
+    default Runnable4<T1, T2, T3, T4> consume() {
+        return this::applyAsInt4;
+    }
+
+    @Override
+    default ToIntFunction3<T1, T2, T3> partial4(final T4 t4) {
+        return (t1, t2, t3) -> this.applyAsInt4(t1, t2, t3, t4);
+    }
+
+    @Override
+    default ToIntFunction3<T1, T2, T4> partial3(final T3 t3) {
+        return (t1, t2, t4) -> this.applyAsInt4(t1, t2, t3, t4);
+    }
+
+    @Override
+    default ToIntFunction3<T1, T3, T4> partial2(final T2 t2) {
+        return (t1, t3, t4) -> this.applyAsInt4(t1, t2, t3, t4);
+    }
+
+    @Override
+    default ToIntFunction3<T2, T3, T4> partial1(final T1 t1) {
+        return (t2, t3, t4) -> this.applyAsInt4(t1, t2, t3, t4);
+    }
+
+    /**
+     * Returns a function which boxes the result of this function.
+     *
+     * @return a function which boxes the result of this function
+     * @see Function4
+     */
+    default Function4<T1, T2, T3, T4, Integer> boxed() {
+        return this::apply4;
+    }
+}
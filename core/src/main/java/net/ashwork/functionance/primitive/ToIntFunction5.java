@@ -0,0 +1,182 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.primitive;
+
+import net.ashwork.functionance.Function5;
+import net.ashwork.functionance.partial.input.Input5;
+import net.ashwork.functionance.partial.result.Consume;
+import net.ashwork.functionance.partial.result.Default;
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.partial.transformer.Transformer5;
+import net.ashwork.functionance.runnable.Runnable5;
+
+import java.util.Objects;
+
+/**
+ * Represents a function that accepts five arguments and produces
+ * an {@code int}-valued result. This is the {@code int}-producing
+ * primitive specialization of {@link Function5}.
+ *
+ * <p>This is a functional interface whose functional method is
+ * {@link #applyAsInt5(Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <T3> the type of the third argument to the function
+ * @param <T4> the type of the fourth argument to the function
+ * @param <T5> the type of the fifth argument to the function
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ToIntFunction5<T1, T2, T3, T4, T5> extends Input5<T1, T2, T3, T4, T5>, Transformer5<T1, T2, T3, T4, T5, Integer>, Default<ToIntFunction5<T1, T2, T3, T4, T5>>, Consume<Runnable5<T1, T2, T3, T4, T5>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @param t3 the third function argument
+     * @param t4 the fourth function argument
+     * @param t5 the fifth function argument
+     * @return the function result
+     */
+    int applyAsInt5(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5);
+
+    /**
+     * @implSpec The result of {@link #applyAsInt5(Object, Object, Object, Object, Object)} is boxed.
+     */
+    @Override
+    default Integer apply5(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) {
+        return this.applyAsInt5(t1, t2, t3, t4, t5);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction5<T1, T2, T3, T4, V> compose5(final Transformer1<? super V, ? extends T5> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, t4, v) -> this.applyAsInt5(t1, t2, t3, t4, before.apply1(v));
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction5<T1, T2, T3, V, T5> compose4(final Transformer1<? super V, ? extends T4> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, v, t5) -> this.applyAsInt5(t1, t2, t3, before.apply1(v), t5);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction5<T1, T2, V, T4, T5> compose3(final Transformer1<? super V, ? extends T3> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, v, t4, t5) -> this.applyAsInt5(t1, t2, before.apply1(v), t4, t5);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction5<T1, V, T3, T4, T5> compose2(final Transformer1<? super V, ? extends T2> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, v, t3, t4, t5) -> this.applyAsInt5(t1, before.apply1(v), t3, t4, t5);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction5<V, T2, T3, T4, T5> compose1(final Transformer1<? super V, ? extends T1> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (v, t2, t3, t4, t5) -> this.applyAsInt5(before.apply1(v), t2, t3, t4, t5);
+    }
+
+    /**
+     * @throws NullPointerException if the exception handler or defaulted function are {@code null}
+     */
+    @Override
+    default ToIntFunction5<T1, T2, T3, T4, T5> handle(final Transformer1<Throwable, ToIntFunction5<T1, T2, T3, T4, T5>> exceptionHandler) {
+        Objects.requireNonNull(exceptionHandler, "The exception handler of the function cannot be null");
+        return (t1, t2, t3, t4, t5) -> {
+            try {
+                return this.applyAsInt5(t1, t2, t3, t4, t5);
+            } catch (final Throwable t) {
+                return Objects.requireNonNull(exceptionHandler.apply1(t), "The defaulted function cannot be null").applyAsInt5(t1, t2, t3, t4, t5);
+            }
+        };
+    }
+
+    @Override
+    default ToIntFunction5<T1, T2, T3, T5, T4> swap4() {
+        return (t1, t2, t3, t5, t4) -> this.applyAsInt5(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default ToIntFunction5<T1, T2, T4, T3, T5> swap3() {
+        return (t1, t2, t4, t3, t5) -> this.applyAsInt5(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default ToIntFunction5<T1, T3, T2, T4, T5> swap2() {
+        return (t1, t3, t2, t4, t5) -> this.applyAsInt5(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default ToIntFunction5<T2, T1, T3, T4, T5> swap1() {
+        return (t2, t1, t3, t4, t5) -> this.applyAsInt5(t1, t2, t3, t4, t5);
+    }
+
+    /**
+     * @see Runnable5
+     */
+    @Override
+    default Runnable5<T1, T2, T3, T4, T5> consume() {
+        return this::applyAsInt5;
+    }
+
+    @Override
+    default ToIntFunction4<T1, T2, T3, T4> partial5(final T5 t5) {
+        return (t1, t2, t3, t4) -> this.applyAsInt5(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default ToIntFunction4<T1, T2, T3, T5> partial4(final T4 t4) {
+        return (t1, t2, t3, t5) -> this.applyAsInt5(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default ToIntFunction4<T1, T2, T4, T5> partial3(final T3 t3) {
+        return (t1, t2, t4, t5) -> this.applyAsInt5(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default ToIntFunction4<T1, T3, T4, T5> partial2(final T2 t2) {
+        return (t1, t3, t4, t5) -> this.applyAsInt5(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default ToIntFunction4<T2, T3, T4, T5> partial1(final T1 t1) {
+        return (t2, t3, t4, t5) -> this.applyAsInt5(t1, t2, t3, t4, t5);
+    }
+
+    /**
+     * Returns a function which boxes the result of this function.
+     *
+     * @return a function which boxes the result of this function
+     * @see Function5
+     */
+    default Function5<T1, T2, T3, T4, T5, Integer> boxed() {
+        return this::apply5;
+    }
+}
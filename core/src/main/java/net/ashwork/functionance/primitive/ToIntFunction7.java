@@ -0,0 +1,224 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.primitive;
+
+import net.ashwork.functionance.Function7;
+import net.ashwork.functionance.partial.input.Input7;
+import net.ashwork.functionance.partial.result.Consume;
+import net.ashwork.functionance.partial.result.Default;
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.partial.transformer.Transformer7;
+import net.ashwork.functionance.runnable.Runnable7;
+
+import java.util.Objects;
+
+/**
+ * Represents a function that accepts seven arguments and produces
+ * an {@code int}-valued result. This is the {@code int}-producing
+ * primitive specialization of {@link Function7}.
+ *
+ * <p>This is a functional interface whose functional method is
+ * {@link #applyAsInt7(Object, Object, Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <T3> the type of the third argument to the function
+ * @param <T4> the type of the fourth argument to the function
+ * @param <T5> the type of the fifth argument to the function
+ * @param <T6> the type of the sixth argument to the function
+ * @param <T7> the type of the seventh argument to the function
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ToIntFunction7<T1, T2, T3, T4, T5, T6, T7> extends Input7<T1, T2, T3, T4, T5, T6, T7>, Transformer7<T1, T2, T3, T4, T5, T6, T7, Integer>, Default<ToIntFunction7<T1, T2, T3, T4, T5, T6, T7>>, Consume<Runnable7<T1, T2, T3, T4, T5, T6, T7>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @param t3 the third function argument
+     * @param t4 the fourth function argument
+     * @param t5 the fifth function argument
+     * @param t6 the sixth function argument
+     * @param t7 the seventh function argument
+     * @return the function result
+     */
+    int applyAsInt7(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7);
+
+    /**
+     * @implSpec The result of {@link #applyAsInt7(Object, Object, Object, Object, Object, Object, Object)} is boxed.
+     */
+    @Override
+    default Integer apply7(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7) {
+        return this.applyAsInt7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction7<T1, T2, T3, T4, T5, T6, V> compose7(final Transformer1<? super V, ? extends T7> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, t4, t5, t6, v) -> this.applyAsInt7(t1, t2, t3, t4, t5, t6, before.apply1(v));
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction7<T1, T2, T3, T4, T5, V, T7> compose6(final Transformer1<? super V, ? extends T6> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, t4, t5, v, t7) -> this.applyAsInt7(t1, t2, t3, t4, t5, before.apply1(v), t7);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction7<T1, T2, T3, T4, V, T6, T7> compose5(final Transformer1<? super V, ? extends T5> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, t4, v, t6, t7) -> this.applyAsInt7(t1, t2, t3, t4, before.apply1(v), t6, t7);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction7<T1, T2, T3, V, T5, T6, T7> compose4(final Transformer1<? super V, ? extends T4> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, v, t5, t6, t7) -> this.applyAsInt7(t1, t2, t3, before.apply1(v), t5, t6, t7);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction7<T1, T2, V, T4, T5, T6, T7> compose3(final Transformer1<? super V, ? extends T3> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, v, t4, t5, t6, t7) -> this.applyAsInt7(t1, t2, before.apply1(v), t4, t5, t6, t7);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction7<T1, V, T3, T4, T5, T6, T7> compose2(final Transformer1<? super V, ? extends T2> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, v, t3, t4, t5, t6, t7) -> this.applyAsInt7(t1, before.apply1(v), t3, t4, t5, t6, t7);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction7<V, T2, T3, T4, T5, T6, T7> compose1(final Transformer1<? super V, ? extends T1> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (v, t2, t3, t4, t5, t6, t7) -> this.applyAsInt7(before.apply1(v), t2, t3, t4, t5, t6, t7);
+    }
+
+    /**
+     * @throws NullPointerException if the exception handler or defaulted function are {@code null}
+     */
+    @Override
+    default ToIntFunction7<T1, T2, T3, T4, T5, T6, T7> handle(final Transformer1<Throwable, ToIntFunction7<T1, T2, T3, T4, T5, T6, T7>> exceptionHandler) {
+        Objects.requireNonNull(exceptionHandler, "The exception handler of the function cannot be null");
+        return (t1, t2, t3, t4, t5, t6, t7) -> {
+            try {
+                return this.applyAsInt7(t1, t2, t3, t4, t5, t6, t7);
+            } catch (final Throwable t) {
+                return Objects.requireNonNull(exceptionHandler.apply1(t), "The defaulted function cannot be null").applyAsInt7(t1, t2, t3, t4, t5, t6, t7);
+            }
+        };
+    }
+
+    @Override
+    default ToIntFunction7<T1, T2, T3, T4, T5, T7, T6> swap6() {
+        return (t1, t2, t3, t4, t5, t7, t6) -> this.applyAsInt7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default ToIntFunction7<T1, T2, T3, T4, T6, T5, T7> swap5() {
+        return (t1, t2, t3, t4, t6, t5, t7) -> this.applyAsInt7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default ToIntFunction7<T1, T2, T3, T5, T4, T6, T7> swap4() {
+        return (t1, t2, t3, t5, t4, t6, t7) -> this.applyAsInt7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default ToIntFunction7<T1, T2, T4, T3, T5, T6, T7> swap3() {
+        return (t1, t2, t4, t3, t5, t6, t7) -> this.applyAsInt7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default ToIntFunction7<T1, T3, T2, T4, T5, T6, T7> swap2() {
+        return (t1, t3, t2, t4, t5, t6, t7) -> this.applyAsInt7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default ToIntFunction7<T2, T1, T3, T4, T5, T6, T7> swap1() {
+        return (t2, t1, t3, t4, t5, t6, t7) -> this.applyAsInt7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    /**
+     * @see Runnable7
+     */
+    @Override
+    default Runnable7<T1, T2, T3, T4, T5, T6, T7> consume() {
+        return this::applyAsInt7;
+    }
+
+    @Override
+    default ToIntFunction6<T1, T2, T3, T4, T5, T6> partial7(final T7 t7) {
+        return (t1, t2, t3, t4, t5, t6) -> this.applyAsInt7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default ToIntFunction6<T1, T2, T3, T4, T5, T7> partial6(final T6 t6) {
+        return (t1, t2, t3, t4, t5, t7) -> this.applyAsInt7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default ToIntFunction6<T1, T2, T3, T4, T6, T7> partial5(final T5 t5) {
+        return (t1, t2, t3, t4, t6, t7) -> this.applyAsInt7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default ToIntFunction6<T1, T2, T3, T5, T6, T7> partial4(final T4 t4) {
+        return (t1, t2, t3, t5, t6, t7) -> this.applyAsInt7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default ToIntFunction6<T1, T2, T4, T5, T6, T7> partial3(final T3 t3) {
+        return (t1, t2, t4, t5, t6, t7) -> this.applyAsInt7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default ToIntFunction6<T1, T3, T4, T5, T6, T7> partial2(final T2 t2) {
+        return (t1, t3, t4, t5, t6, t7) -> this.applyAsInt7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default ToIntFunction6<T2, T3, T4, T5, T6, T7> partial1(final T1 t1) {
+        return (t2, t3, t4, t5, t6, t7) -> this.applyAsInt7(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    /**
+     * Returns a function which boxes the result of this function.
+     *
+     * @return a function which boxes the result of this function
+     * @see Function7
+     */
+    default Function7<T1, T2, T3, T4, T5, T6, T7, Integer> boxed() {
+        return this::apply7;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.primitive;
+
+import net.ashwork.functionance.Function8;
+import net.ashwork.functionance.partial.input.Input8;
+import net.ashwork.functionance.partial.result.Consume;
+import net.ashwork.functionance.partial.result.Default;
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.partial.transformer.Transformer8;
+import net.ashwork.functionance.runnable.Runnable8;
+
+import java.util.Objects;
+
+/**
+ * Represents a function that accepts eight arguments and produces
+ * an {@code int}-valued result. This is the {@code int}-producing
+ * primitive specialization of {@link Function8}.
+ *
+ * <p>This is a functional interface whose functional method is
+ * {@link #applyAsInt8(Object, Object, Object, Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <T3> the type of the third argument to the function
+ * @param <T4> the type of the fourth argument to the function
+ * @param <T5> the type of the fifth argument to the function
+ * @param <T6> the type of the sixth argument to the function
+ * @param <T7> the type of the seventh argument to the function
+ * @param <T8> the type of the eighth argument to the function
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ToIntFunction8<T1, T2, T3, T4, T5, T6, T7, T8> extends Input8<T1, T2, T3, T4, T5, T6, T7, T8>, Transformer8<T1, T2, T3, T4, T5, T6, T7, T8, Integer>, Default<ToIntFunction8<T1, T2, T3, T4, T5, T6, T7, T8>>, Consume<Runnable8<T1, T2, T3, T4, T5, T6, T7, T8>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @param t3 the third function argument
+     * @param t4 the fourth function argument
+     * @param t5 the fifth function argument
+     * @param t6 the sixth function argument
+     * @param t7 the seventh function argument
+     * @param t8 the eighth function argument
+     * @return the function result
+     */
+    int applyAsInt8(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8);
+
+    /**
+     * @implSpec The result of {@link #applyAsInt8(Object, Object, Object, Object, Object, Object, Object, Object)} is boxed.
+     */
+    @Override
+    default Integer apply8(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) {
+        return this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction8<T1, T2, T3, T4, T5, T6, T7, V> compose8(final Transformer1<? super V, ? extends T8> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, t4, t5, t6, t7, v) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, before.apply1(v));
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction8<T1, T2, T3, T4, T5, T6, V, T8> compose7(final Transformer1<? super V, ? extends T7> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, t4, t5, t6, v, t8) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, before.apply1(v), t8);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction8<T1, T2, T3, T4, T5, V, T7, T8> compose6(final Transformer1<? super V, ? extends T6> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, t4, t5, v, t7, t8) -> this.applyAsInt8(t1, t2, t3, t4, t5, before.apply1(v), t7, t8);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction8<T1, T2, T3, T4, V, T6, T7, T8> compose5(final Transformer1<? super V, ? extends T5> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, t4, v, t6, t7, t8) -> this.applyAsInt8(t1, t2, t3, t4, before.apply1(v), t6, t7, t8);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction8<T1, T2, T3, V, T5, T6, T7, T8> compose4(final Transformer1<? super V, ? extends T4> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, t3, v, t5, t6, t7, t8) -> this.applyAsInt8(t1, t2, t3, before.apply1(v), t5, t6, t7, t8);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction8<T1, T2, V, T4, T5, T6, T7, T8> compose3(final Transformer1<? super V, ? extends T3> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, t2, v, t4, t5, t6, t7, t8) -> this.applyAsInt8(t1, t2, before.apply1(v), t4, t5, t6, t7, t8);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction8<T1, V, T3, T4, T5, T6, T7, T8> compose2(final Transformer1<? super V, ? extends T2> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (t1, v, t3, t4, t5, t6, t7, t8) -> this.applyAsInt8(t1, before.apply1(v), t3, t4, t5, t6, t7, t8);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code before} transformer is {@code null}
+     */
+    @Override
+    default <V> ToIntFunction8<V, T2, T3, T4, T5, T6, T7, T8> compose1(final Transformer1<? super V, ? extends T1> before) {
+        Objects.requireNonNull(before, "The before transformer cannot be null");
+        return (v, t2, t3, t4, t5, t6, t7, t8) -> this.applyAsInt8(before.apply1(v), t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    /**
+     * @throws NullPointerException if the exception handler or defaulted function are {@code null}
+     */
+    @Override
+    default ToIntFunction8<T1, T2, T3, T4, T5, T6, T7, T8> handle(final Transformer1<Throwable, ToIntFunction8<T1, T2, T3, T4, T5, T6, T7, T8>> exceptionHandler) {
+        Objects.requireNonNull(exceptionHandler, "The exception handler of the function cannot be null");
+        return (t1, t2, t3, t4, t5, t6, t7, t8) -> {
+            try {
+                return this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+            } catch (final Throwable t) {
+                return Objects.requireNonNull(exceptionHandler.apply1(t), "The defaulted function cannot be null").applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+            }
+        };
+    }
+
+    @Override
+    default ToIntFunction8<T1, T2, T3, T4, T5, T6, T8, T7> swap7() {
+        return (t1, t2, t3, t4, t5, t6, t8, t7) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default ToIntFunction8<T1, T2, T3, T4, T5, T7, T6, T8> swap6() {
+        return (t1, t2, t3, t4, t5, t7, t6, t8) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default ToIntFunction8<T1, T2, T3, T4, T6, T5, T7, T8> swap5() {
+        return (t1, t2, t3, t4, t6, t5, t7, t8) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default ToIntFunction8<T1, T2, T3, T5, T4, T6, T7, T8> swap4() {
+        return (t1, t2, t3, t5, t4, t6, t7, t8) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default ToIntFunction8<T1, T2, T4, T3, T5, T6, T7, T8> swap3() {
+        return (t1, t2, t4, t3, t5, t6, t7, t8) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default ToIntFunction8<T1, T3, T2, T4, T5, T6, T7, T8> swap2() {
+        return (t1, t3, t2, t4, t5, t6, t7, t8) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default ToIntFunction8<T2, T1, T3, T4, T5, T6, T7, T8> swap1() {
+        return (t2, t1, t3, t4, t5, t6, t7, t8) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    /**
+     * @see Runnable8
+     */
+    @Override
+    default Runnable8<T1, T2, T3, T4, T5, T6, T7, T8> consume() {
+        return this::applyAsInt8;
+    }
+
+    @Override
+    default ToIntFunction7<T1, T2, T3, T4, T5, T6, T7> partial8(final T8 t8) {
+        return (t1, t2, t3, t4, t5, t6, t7) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default ToIntFunction7<T1, T2, T3, T4, T5, T6, T8> partial7(final T7 t7) {
+        return (t1, t2, t3, t4, t5, t6, t8) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default ToIntFunction7<T1, T2, T3, T4, T5, T7, T8> partial6(final T6 t6) {
+        return (t1, t2, t3, t4, t5, t7, t8) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default ToIntFunction7<T1, T2, T3, T4, T6, T7, T8> partial5(final T5 t5) {
+        return (t1, t2, t3, t4, t6, t7, t8) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default ToIntFunction7<T1, T2, T3, T5, T6, T7, T8> partial4(final T4 t4) {
+        return (t1, t2, t3, t5, t6, t7, t8) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default ToIntFunction7<T1, T2, T4, T5, T6, T7, T8> partial3(final T3 t3) {
+        return (t1, t2, t4, t5, t6, t7, t8) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default ToIntFunction7<T1, T3, T4, T5, T6, T7, T8> partial2(final T2 t2) {
+        return (t1, t3, t4, t5, t6, t7, t8) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default ToIntFunction7<T2, T3, T4, T5, T6, T7, T8> partial1(final T1 t1) {
+        return (t2, t3, t4, t5, t6, t7, t8) -> this.applyAsInt8(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    /**
+     * Returns a function which boxes the result of this function.
+     *
+     * @return a function which boxes the result of this function
+     * @see Function8
+     */
+    default Function8<T1, T2, T3, T4, T5, T6, T7, T8, Integer> boxed() {
+        return this::apply8;
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+/**
+ * Primitives are specializations of functions which produce a primitive
+ * result such that no boxing occurs when the result is computed. Each
+ * specialization shares the same input states and transformers as their
+ * boxed counterparts and can be boxed when necessary.
+ */
+package net.ashwork.functionance.primitive;
\ No newline at end of file
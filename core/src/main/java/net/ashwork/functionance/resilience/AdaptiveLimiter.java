@@ -0,0 +1,286 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.resilience;
+
+import net.ashwork.functionance.Function0;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A decorator which limits the number of calls made at once, adjusting the
+ * limit from the latency of completed calls. Calls beyond the limit are
+ * rejected with a {@link RejectedCallException}.
+ *
+ * <p>Admitting a call is a single compare-and-set on the number of calls in
+ * flight. The limit itself is a {@code double} updated by compare-and-set
+ * as each call completes, so neither path takes a lock.
+ *
+ * @see Algorithm
+ * @see Builder
+ * @since 1.0.0
+ */
+public final class AdaptiveLimiter implements Decorator {
+
+    private static final RejectedCallException LIMITED = new RejectedCallException("The concurrency limit has been reached");
+    /**
+     * The number of samples after which the minimum latency is forgotten, so
+     * the limiter adapts when the function becomes slower for good.
+     */
+    private static final int MIN_LATENCY_WINDOW = 1000;
+
+    private final Algorithm algorithm;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final double smoothing;
+    private final AtomicInteger inFlight;
+    private final AtomicLong limit;
+    private final AtomicLong minLatency;
+    private final AtomicInteger samples;
+
+    private AdaptiveLimiter(final Builder builder) {
+        this.algorithm = builder.algorithm;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.latencyThresholdNanos = builder.latencyThresholdNanos;
+        this.backoffRatio = builder.backoffRatio;
+        this.smoothing = builder.smoothing;
+        this.inFlight = new AtomicInteger();
+        this.limit = new AtomicLong(Double.doubleToRawLongBits(builder.initialLimit));
+        this.minLatency = new AtomicLong(Long.MAX_VALUE);
+        this.samples = new AtomicInteger();
+    }
+
+    /**
+     * Returns a builder used to construct a limiter which adjusts its limit
+     * using the algorithm.
+     *
+     * @param algorithm the algorithm used to adjust the limit
+     * @return a builder used to construct a limiter
+     * @throws NullPointerException if the {@code algorithm} is {@code null}
+     */
+    public static Builder builder(final Algorithm algorithm) {
+        return new Builder(Objects.requireNonNull(algorithm, "The algorithm cannot be null"));
+    }
+
+    /**
+     * Returns the current number of calls which can be made at once.
+     *
+     * @return the current number of calls which can be made at once
+     */
+    public int limit() {
+        return (int) Double.longBitsToDouble(this.limit.get());
+    }
+
+    /**
+     * Returns the number of calls currently being made.
+     *
+     * @return the number of calls currently being made
+     */
+    public int inFlight() {
+        return this.inFlight.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws RejectedCallException if the limit has been reached
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    @Override
+    public <R> R call(final Function0<? extends R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        final int limit = this.limit();
+        int inFlight;
+        do {
+            inFlight = this.inFlight.get();
+            if (inFlight >= limit) throw LIMITED;
+        } while (!this.inFlight.compareAndSet(inFlight, inFlight + 1));
+
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            final R result = function.apply0();
+            failed = false;
+            return result;
+        } finally {
+            this.inFlight.decrementAndGet();
+            this.update(System.nanoTime() - start, inFlight + 1, failed);
+        }
+    }
+
+    /**
+     * Adjusts the limit from a completed call.
+     *
+     * @param elapsed the number of nanoseconds the call took
+     * @param inFlight the number of calls in flight when the call was made, including itself
+     * @param failed whether the call failed
+     */
+    private void update(final long elapsed, final int inFlight, final boolean failed) {
+        // Coarse clocks can measure fast calls as taking no time, which would divide zero by zero
+        final long latency = Math.max(elapsed, 1L);
+        final long minLatency = this.sampleMinLatency(latency);
+        long bits, next;
+        do {
+            bits = this.limit.get();
+            final double limit = Double.longBitsToDouble(bits);
+            double updated;
+            if (this.algorithm == Algorithm.AIMD) {
+                if (failed || latency > this.latencyThresholdNanos) updated = limit * this.backoffRatio;
+                // Only grow while the limit is being used
+                else if (inFlight * 2 >= limit) updated = limit + 1.0 / limit;
+                else return;
+            } else {
+                if (failed) return;
+                final double gradient = Math.max(0.5, Math.min(1.0, (double) minLatency / latency));
+                final double target = limit * gradient + Math.sqrt(limit);
+                updated = limit * (1.0 - this.smoothing) + target * this.smoothing;
+            }
+            if (!Double.isFinite(updated)) return;
+            next = Double.doubleToRawLongBits(Math.max(this.minLimit, Math.min(this.maxLimit, updated)));
+        } while (next != bits && !this.limit.compareAndSet(bits, next));
+    }
+
+    private long sampleMinLatency(final long latency) {
+        if (this.samples.incrementAndGet() % MIN_LATENCY_WINDOW == 0) {
+            this.minLatency.set(latency);
+            return latency;
+        }
+        long min;
+        while (latency < (min = this.minLatency.get()))
+            if (this.minLatency.compareAndSet(min, latency)) return latency;
+        return min;
+    }
+
+    /**
+     * The algorithm used to adjust the limit of an {@link AdaptiveLimiter}.
+     */
+    public enum Algorithm {
+        /**
+         * Grows the limit by one for every limit's worth of calls which
+         * complete within the latency threshold, and multiplies the limit by
+         * the backoff ratio whenever a call fails or exceeds the threshold.
+         */
+        AIMD,
+        /**
+         * Moves the limit towards the current limit scaled by the ratio of
+         * the minimum latency to the latency of each call, plus the square
+         * root of the limit as headroom for queueing.
+         */
+        GRADIENT
+    }
+
+    /**
+     * A builder used to construct an adaptive limiter.
+     */
+    public static final class Builder {
+
+        private final Algorithm algorithm;
+        private double initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        private long latencyThresholdNanos;
+        private double backoffRatio;
+        private double smoothing;
+
+        private Builder(final Algorithm algorithm) {
+            this.algorithm = algorithm;
+            this.initialLimit = 20;
+            this.minLimit = 1;
+            this.maxLimit = 1000;
+            this.latencyThresholdNanos = TimeUnit.SECONDS.toNanos(1L);
+            this.backoffRatio = 0.9;
+            this.smoothing = 0.2;
+        }
+
+        /**
+         * Sets the bounds of the limit, and the limit to start from.
+         *
+         * @param initialLimit the limit to start from
+         * @param minLimit the smallest the limit can be
+         * @param maxLimit the largest the limit can be
+         * @return this builder
+         * @throws IllegalArgumentException if {@code minLimit} is not positive,
+         *                                  or the limits are not in order
+         */
+        public Builder limits(final int initialLimit, final int minLimit, final int maxLimit) {
+            if (minLimit <= 0)
+                throw new IllegalArgumentException("The minimum limit must be positive: " + minLimit);
+            if (initialLimit < minLimit || initialLimit > maxLimit)
+                throw new IllegalArgumentException("The initial limit must be between " + minLimit + " and " + maxLimit + ": " + initialLimit);
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Sets the latency above which {@link Algorithm#AIMD} shrinks the
+         * limit.
+         *
+         * @param latencyThreshold the latency above which the limit shrinks
+         * @param unit the unit of {@code latencyThreshold}
+         * @return this builder
+         * @throws NullPointerException if {@code unit} is {@code null}
+         * @throws IllegalArgumentException if {@code latencyThreshold} is not positive
+         */
+        public Builder latencyThreshold(final long latencyThreshold, final TimeUnit unit) {
+            Objects.requireNonNull(unit, "The time unit cannot be null");
+            if (latencyThreshold <= 0L)
+                throw new IllegalArgumentException("The latency threshold must be positive: " + latencyThreshold);
+            this.latencyThresholdNanos = unit.toNanos(latencyThreshold);
+            return this;
+        }
+
+        /**
+         * Sets the ratio {@link Algorithm#AIMD} multiplies the limit by when
+         * shrinking it.
+         *
+         * @param backoffRatio the ratio the limit is multiplied by when shrinking
+         * @return this builder
+         * @throws IllegalArgumentException if {@code backoffRatio} is not between zero and one
+         */
+        public Builder backoffRatio(final double backoffRatio) {
+            if (!(backoffRatio > 0.0 && backoffRatio < 1.0))
+                throw new IllegalArgumentException("The backoff ratio must be between zero and one: " + backoffRatio);
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Sets how far {@link Algorithm#GRADIENT} moves the limit towards its
+         * target after each call.
+         *
+         * @param smoothing the fraction of the distance to the target moved
+         * @return this builder
+         * @throws IllegalArgumentException if {@code smoothing} is not greater
+         *                                  than zero and at most one
+         */
+        public Builder smoothing(final double smoothing) {
+            if (!(smoothing > 0.0 && smoothing <= 1.0))
+                throw new IllegalArgumentException("The smoothing must be greater than zero and at most one: " + smoothing);
+            this.smoothing = smoothing;
+            return this;
+        }
+
+        /**
+         * Constructs the adaptive limiter.
+         *
+         * @return the adaptive limiter
+         */
+        public AdaptiveLimiter build() {
+            return new AdaptiveLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.resilience;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.Function3;
+import net.ashwork.functionance.Function4;
+import net.ashwork.functionance.Function5;
+import net.ashwork.functionance.Function6;
+import net.ashwork.functionance.Function7;
+import net.ashwork.functionance.Function8;
+import net.ashwork.functionance.runnable.Runnable0;
+import net.ashwork.functionance.runnable.Runnable1;
+import net.ashwork.functionance.runnable.Runnable2;
+import net.ashwork.functionance.runnable.Runnable3;
+import net.ashwork.functionance.runnable.Runnable4;
+import net.ashwork.functionance.runnable.Runnable5;
+import net.ashwork.functionance.runnable.Runnable6;
+import net.ashwork.functionance.runnable.Runnable7;
+import net.ashwork.functionance.runnable.Runnable8;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents behavior which wraps the call to a function or operation
+ * without blocking the calling thread, completing a future with the result
+ * once the behavior has finished. The behavior is implemented once by
+ * {@link #callAsync(Function0)} and applied to functions and operations of
+ * every arity through {@code decorateAsync} and
+ * {@code decorateRunnableAsync}.
+ *
+ * @see Decorator
+ * @since 1.0.0
+ */
+public interface AsyncDecorator {
+
+    /**
+     * Calls the function through this decorator asynchronously.
+     *
+     * @param function the function to call
+     * @param <R> the type of the result of the function
+     * @return a future holding the result of the function
+     */
+    <R> CompletableFuture<R> callAsync(final Function0<? extends R> function);
+
+    /**
+     * Returns a function which calls the function through this decorator
+     * asynchronously.
+     *
+     * @param function the function to decorate
+     * @param <R> the type of the result of the function
+     * @return a function returning a future of the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <R> Function0<CompletableFuture<R>> decorateAsync(final Function0<R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return () -> this.callAsync(function);
+    }
+
+    /**
+     * Returns a function which calls the function through this decorator
+     * asynchronously.
+     *
+     * @param function the function to decorate
+     * @param <T1> the type of the first argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function returning a future of the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <T1, R> Function1<T1, CompletableFuture<R>> decorateAsync(final Function1<T1, R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return t1 -> this.callAsync(() -> function.apply1(t1));
+    }
+
+    /**
+     * Returns a function which calls the function through this decorator
+     * asynchronously.
+     *
+     * @param function the function to decorate
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function returning a future of the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <T1, T2, R> Function2<T1, T2, CompletableFuture<R>> decorateAsync(final Function2<T1, T2, R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return (t1, t2) -> this.callAsync(() -> function.apply2(t1, t2));
+    }
+
+    /**
+     * Returns a function which calls the function through this decorator
+     * asynchronously.
+     *
+     * @param function the function to decorate
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function returning a future of the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <T1, T2, T3, R> Function3<T1, T2, T3, CompletableFuture<R>> decorateAsync(final Function3<T1, T2, T3, R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return (t1, t2, t3) -> this.callAsync(() -> function.apply3(t1, t2, t3));
+    }
+
+    /**
+     * Returns a function which calls the function through this decorator
+     * asynchronously.
+     *
+     * @param function the function to decorate
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function returning a future of the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <T1, T2, T3, T4, R> Function4<T1, T2, T3, T4, CompletableFuture<R>> decorateAsync(final Function4<T1, T2, T3, T4, R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return (t1, t2, t3, t4) -> this.callAsync(() -> function.apply4(t1, t2, t3, t4));
+    }
+
+    /**
+     * Returns a function which calls the function through this decorator
+     * asynchronously.
+     *
+     * @param function the function to decorate
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function returning a future of the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <T1, T2, T3, T4, T5, R> Function5<T1, T2, T3, T4, T5, CompletableFuture<R>> decorateAsync(final Function5<T1, T2, T3, T4, T5, R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return (t1, t2, t3, t4, t5) -> this.callAsync(() -> function.apply5(t1, t2, t3, t4, t5));
+    }
+
+    /**
+     * Returns a function which calls the function through this decorator
+     * asynchronously.
+     *
+     * @param function the function to decorate
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function returning a future of the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <T1, T2, T3, T4, T5, T6, R> Function6<T1, T2, T3, T4, T5, T6, CompletableFuture<R>> decorateAsync(final Function6<T1, T2, T3, T4, T5, T6, R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return (t1, t2, t3, t4, t5, t6) -> this.callAsync(() -> function.apply6(t1, t2, t3, t4, t5, t6));
+    }
+
+    /**
+     * Returns a function which calls the function through this decorator
+     * asynchronously.
+     *
+     * @param function the function to decorate
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <T7> the type of the seventh argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function returning a future of the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <T1, T2, T3, T4, T5, T6, T7, R> Function7<T1, T2, T3, T4, T5, T6, T7, CompletableFuture<R>> decorateAsync(final Function7<T1, T2, T3, T4, T5, T6, T7, R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return (t1, t2, t3, t4, t5, t6, t7) -> this.callAsync(() -> function.apply7(t1, t2, t3, t4, t5, t6, t7));
+    }
+
+    /**
+     * Returns a function which calls the function through this decorator
+     * asynchronously.
+     *
+     * @param function the function to decorate
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <T7> the type of the seventh argument to the function
+     * @param <T8> the type of the eighth argument to the function
+     * @param <R> the type of the result of the function
+     * @return a function returning a future of the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <T1, T2, T3, T4, T5, T6, T7, T8, R> Function8<T1, T2, T3, T4, T5, T6, T7, T8, CompletableFuture<R>> decorateAsync(final Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return (t1, t2, t3, t4, t5, t6, t7, t8) -> this.callAsync(() -> function.apply8(t1, t2, t3, t4, t5, t6, t7, t8));
+    }
+
+    /**
+     * Returns a function which calls the operation through this decorator
+     * asynchronously.
+     *
+     * @param operation the operation to decorate
+     * @return a function returning a future of the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default Function0<CompletableFuture<Void>> decorateRunnableAsync(final Runnable0 operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return () -> this.callAsync(() -> {
+            operation.run0();
+            return null;
+        });
+    }
+
+    /**
+     * Returns a function which calls the operation through this decorator
+     * asynchronously.
+     *
+     * @param operation the operation to decorate
+     * @param <T1> the type of the first argument to the operation
+     * @return a function returning a future of the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default <T1> Function1<T1, CompletableFuture<Void>> decorateRunnableAsync(final Runnable1<T1> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return t1 -> this.callAsync(() -> {
+            operation.run1(t1);
+            return null;
+        });
+    }
+
+    /**
+     * Returns a function which calls the operation through this decorator
+     * asynchronously.
+     *
+     * @param operation the operation to decorate
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @return a function returning a future of the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default <T1, T2> Function2<T1, T2, CompletableFuture<Void>> decorateRunnableAsync(final Runnable2<T1, T2> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return (t1, t2) -> this.callAsync(() -> {
+            operation.run2(t1, t2);
+            return null;
+        });
+    }
+
+    /**
+     * Returns a function which calls the operation through this decorator
+     * asynchronously.
+     *
+     * @param operation the operation to decorate
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @return a function returning a future of the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default <T1, T2, T3> Function3<T1, T2, T3, CompletableFuture<Void>> decorateRunnableAsync(final Runnable3<T1, T2, T3> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return (t1, t2, t3) -> this.callAsync(() -> {
+            operation.run3(t1, t2, t3);
+            return null;
+        });
+    }
+
+    /**
+     * Returns a function which calls the operation through this decorator
+     * asynchronously.
+     *
+     * @param operation the operation to decorate
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @return a function returning a future of the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default <T1, T2, T3, T4> Function4<T1, T2, T3, T4, CompletableFuture<Void>> decorateRunnableAsync(final Runnable4<T1, T2, T3, T4> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return (t1, t2, t3, t4) -> this.callAsync(() -> {
+            operation.run4(t1, t2, t3, t4);
+            return null;
+        });
+    }
+
+    /**
+     * Returns a function which calls the operation through this decorator
+     * asynchronously.
+     *
+     * @param operation the operation to decorate
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @param <T5> the type of the fifth argument to the operation
+     * @return a function returning a future of the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default <T1, T2, T3, T4, T5> Function5<T1, T2, T3, T4, T5, CompletableFuture<Void>> decorateRunnableAsync(final Runnable5<T1, T2, T3, T4, T5> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return (t1, t2, t3, t4, t5) -> this.callAsync(() -> {
+            operation.run5(t1, t2, t3, t4, t5);
+            return null;
+        });
+    }
+
+    /**
+     * Returns a function which calls the operation through this decorator
+     * asynchronously.
+     *
+     * @param operation the operation to decorate
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @param <T5> the type of the fifth argument to the operation
+     * @param <T6> the type of the sixth argument to the operation
+     * @return a function returning a future of the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default <T1, T2, T3, T4, T5, T6> Function6<T1, T2, T3, T4, T5, T6, CompletableFuture<Void>> decorateRunnableAsync(final Runnable6<T1, T2, T3, T4, T5, T6> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return (t1, t2, t3, t4, t5, t6) -> this.callAsync(() -> {
+            operation.run6(t1, t2, t3, t4, t5, t6);
+            return null;
+        });
+    }
+
+    /**
+     * Returns a function which calls the operation through this decorator
+     * asynchronously.
+     *
+     * @param operation the operation to decorate
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @param <T5> the type of the fifth argument to the operation
+     * @param <T6> the type of the sixth argument to the operation
+     * @param <T7> the type of the seventh argument to the operation
+     * @return a function returning a future of the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default <T1, T2, T3, T4, T5, T6, T7> Function7<T1, T2, T3, T4, T5, T6, T7, CompletableFuture<Void>> decorateRunnableAsync(final Runnable7<T1, T2, T3, T4, T5, T6, T7> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return (t1, t2, t3, t4, t5, t6, t7) -> this.callAsync(() -> {
+            operation.run7(t1, t2, t3, t4, t5, t6, t7);
+            return null;
+        });
+    }
+
+    /**
+     * Returns a function which calls the operation through this decorator
+     * asynchronously.
+     *
+     * @param operation the operation to decorate
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @param <T5> the type of the fifth argument to the operation
+     * @param <T6> the type of the sixth argument to the operation
+     * @param <T7> the type of the seventh argument to the operation
+     * @param <T8> the type of the eighth argument to the operation
+     * @return a function returning a future of the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default <T1, T2, T3, T4, T5, T6, T7, T8> Function8<T1, T2, T3, T4, T5, T6, T7, T8, CompletableFuture<Void>> decorateRunnableAsync(final Runnable8<T1, T2, T3, T4, T5, T6, T7, T8> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return (t1, t2, t3, t4, t5, t6, t7, t8) -> this.callAsync(() -> {
+            operation.run8(t1, t2, t3, t4, t5, t6, t7, t8);
+            return null;
+        });
+    }
+}
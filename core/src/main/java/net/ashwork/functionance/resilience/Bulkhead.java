@@ -0,0 +1,171 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.resilience;
+
+import net.ashwork.functionance.Function0;
+
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A decorator which limits the number of calls made at once, rejecting calls
+ * beyond the limit with a {@link RejectedCallException}.
+ *
+ * <p>By default, a call is rejected as soon as the limit is reached.
+ * Otherwise, a bounded number of calls may wait a bounded amount of time for
+ * a permit. Acquiring a free permit is a single compare-and-set.
+ *
+ * @see Builder
+ * @since 1.0.0
+ */
+public final class Bulkhead implements Decorator {
+
+    private static final RejectedCallException FULL = new RejectedCallException("The bulkhead is full");
+
+    private final int maxConcurrentCalls;
+    private final long maxWaitNanos;
+    private final int maxWaitingCalls;
+    private final Semaphore permits;
+    private final AtomicInteger waiting;
+
+    private Bulkhead(final Builder builder) {
+        this.maxConcurrentCalls = builder.maxConcurrentCalls;
+        this.maxWaitNanos = builder.maxWaitNanos;
+        this.maxWaitingCalls = builder.maxWaitingCalls;
+        this.permits = new Semaphore(this.maxConcurrentCalls);
+        this.waiting = new AtomicInteger();
+    }
+
+    /**
+     * Returns a builder used to construct a bulkhead which allows the given
+     * number of calls at once.
+     *
+     * @param maxConcurrentCalls the number of calls which can be made at once
+     * @return a builder used to construct a bulkhead
+     * @throws IllegalArgumentException if {@code maxConcurrentCalls} is not positive
+     */
+    public static Builder builder(final int maxConcurrentCalls) {
+        if (maxConcurrentCalls <= 0)
+            throw new IllegalArgumentException("The maximum number of concurrent calls must be positive: " + maxConcurrentCalls);
+        return new Builder(maxConcurrentCalls);
+    }
+
+    /**
+     * Returns the number of calls which can currently be made without
+     * waiting.
+     *
+     * @return the number of calls which can be made without waiting
+     */
+    public int available() {
+        return this.permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of calls waiting for a permit.
+     *
+     * @return the number of calls waiting for a permit
+     */
+    public int waiting() {
+        return this.waiting.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws RejectedCallException if no permit could be acquired in time
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    @Override
+    public <R> R call(final Function0<? extends R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        if (!this.permits.tryAcquire() && !this.await()) throw FULL;
+        try {
+            return function.apply0();
+        } finally {
+            this.permits.release();
+        }
+    }
+
+    private boolean await() {
+        if (this.maxWaitNanos == 0L) return false;
+        if (this.waiting.incrementAndGet() > this.maxWaitingCalls) {
+            this.waiting.decrementAndGet();
+            return false;
+        }
+        try {
+            return this.permits.tryAcquire(this.maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            this.waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * A builder used to construct a bulkhead.
+     */
+    public static final class Builder {
+
+        private final int maxConcurrentCalls;
+        private long maxWaitNanos;
+        private int maxWaitingCalls;
+
+        private Builder(final int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            this.maxWaitNanos = 0L;
+            this.maxWaitingCalls = Integer.MAX_VALUE;
+        }
+
+        /**
+         * Sets the amount of time a call may wait for a permit. A call is
+         * rejected immediately if this is zero.
+         *
+         * @param maxWait the amount of time a call may wait for a permit
+         * @param unit the unit of {@code maxWait}
+         * @return this builder
+         * @throws NullPointerException if {@code unit} is {@code null}
+         * @throws IllegalArgumentException if {@code maxWait} is negative
+         */
+        public Builder maxWait(final long maxWait, final TimeUnit unit) {
+            Objects.requireNonNull(unit, "The time unit cannot be null");
+            if (maxWait < 0L)
+                throw new IllegalArgumentException("The maximum wait cannot be negative: " + maxWait);
+            this.maxWaitNanos = unit.toNanos(maxWait);
+            return this;
+        }
+
+        /**
+         * Sets the number of calls which may wait for a permit at once.
+         * Calls beyond this are rejected immediately.
+         *
+         * @param maxWaitingCalls the number of calls which may wait at once
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxWaitingCalls} is negative
+         */
+        public Builder maxWaitingCalls(final int maxWaitingCalls) {
+            if (maxWaitingCalls < 0)
+                throw new IllegalArgumentException("The maximum number of waiting calls cannot be negative: " + maxWaitingCalls);
+            this.maxWaitingCalls = maxWaitingCalls;
+            return this;
+        }
+
+        /**
+         * Constructs the bulkhead.
+         *
+         * @return the bulkhead
+         */
+        public Bulkhead build() {
+            return new Bulkhead(this);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.resilience;
+
+import net.ashwork.functionance.attempt.StacklessException;
+
+/**
+ * Thrown when a call does not complete before its deadline. The exception
+ * holds no stack trace, so a single instance is shared for every timeout.
+ * Timeouts can be defaulted by routing this class within an
+ * {@link ExceptionRoutes} passed to {@code handle}.
+ *
+ * @since 1.0.0
+ */
+public final class CallTimeoutException extends StacklessException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs an exception with the reason the call timed out.
+     *
+     * @param message the reason the call timed out
+     */
+    public CallTimeoutException(final String message) {
+        super(message);
+    }
+}
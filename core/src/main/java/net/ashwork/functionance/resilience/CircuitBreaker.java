@@ -0,0 +1,407 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.resilience;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.Predicate1;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A decorator which stops calling a function once too many of its recent
+ * calls have failed, rejecting calls with a {@link RejectedCallException}
+ * instead of waiting for them to fail.
+ *
+ * <p>Outcomes are counted within a sliding window of time split into
+ * buckets. Each bucket packs the number of calls, the number of failures, and
+ * the period it counts for into a single {@code long}, so recording an
+ * outcome is a single compare-and-set without locks or allocation. Once at
+ * least the minimum number of calls within the window have been recorded and
+ * the rate of failures reaches the threshold, the circuit opens.
+ *
+ * <p>After being open for a while, the circuit lets a limited number of
+ * probes through. If all succeed, the circuit closes; if any fails, or
+ * they do not all succeed within the half open duration, the circuit opens
+ * again.
+ *
+ * <p>Rejections can be routed to a fallback through {@code handle}:
+ *
+ * <pre>{@code
+ * breaker.decorate(lookup).handle(ExceptionRoutes.builder(rethrow)
+ *         .route(RejectedCallException.class, cached)
+ *         .build());
+ * }</pre>
+ *
+ * @see Builder
+ * @since 1.0.0
+ */
+public final class CircuitBreaker implements Decorator {
+
+    private static final RejectedCallException REJECTED = new RejectedCallException("The circuit is open");
+
+    /*
+     * Each bucket is packed as the lower 16 bits of its period, followed by
+     * 24 bits for the number of failures and 24 bits for the number of calls.
+     * The counts saturate rather than overflow.
+     */
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1L;
+    private static final int PERIOD_SHIFT = COUNT_BITS * 2;
+    private static final long PERIOD_MASK = 0xFFFFL;
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long bucketNanos;
+    private final long openNanos;
+    private final long halfOpenNanos;
+    private final int probes;
+    private final Predicate1<? super Throwable> recordOn;
+    private final long origin;
+    private final AtomicLongArray buckets;
+    private final AtomicReference<Phase> phase;
+
+    private CircuitBreaker(final Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.minimumCalls = builder.minimumCalls;
+        this.bucketNanos = Math.max(builder.windowNanos / builder.buckets, 1L);
+        this.openNanos = builder.openNanos;
+        this.halfOpenNanos = builder.halfOpenNanos;
+        this.probes = builder.probes;
+        this.recordOn = builder.recordOn;
+        this.origin = System.nanoTime();
+        this.buckets = new AtomicLongArray(builder.buckets);
+        this.phase = new AtomicReference<>(new Phase(State.CLOSED, 0L, 0));
+    }
+
+    /**
+     * Returns a builder used to construct a circuit breaker.
+     *
+     * @return a builder used to construct a circuit breaker
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the current state of the circuit.
+     *
+     * @return the current state of the circuit
+     */
+    public State state() {
+        final Phase phase = this.phase.get();
+        if (phase.state == State.OPEN && System.nanoTime() - phase.since >= this.openNanos) return State.HALF_OPEN;
+        if (phase.state == State.HALF_OPEN && System.nanoTime() - phase.since >= this.halfOpenNanos) return State.OPEN;
+        return phase.state;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws RejectedCallException if the circuit is open, or all probes of
+     *                               a half open circuit are in use
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    @Override
+    public <R> R call(final Function0<? extends R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        Phase phase = this.phase.get();
+        if (phase.state == State.OPEN) {
+            final long now = System.nanoTime();
+            if (now - phase.since < this.openNanos) throw REJECTED;
+            final Phase halfOpen = new Phase(State.HALF_OPEN, now, this.probes);
+            phase = this.phase.compareAndSet(phase, halfOpen) ? halfOpen : this.phase.get();
+            if (phase.state == State.OPEN) throw REJECTED;
+        }
+        if (phase.state == State.HALF_OPEN && System.nanoTime() - phase.since >= this.halfOpenNanos) {
+            // The probes took too long, such as when one is stuck, so open the circuit again
+            this.open(phase);
+            throw REJECTED;
+        }
+        return phase.state == State.CLOSED ? this.callClosed(function, phase) : this.callHalfOpen(function, phase);
+    }
+
+    private <R> R callClosed(final Function0<? extends R> function, final Phase phase) {
+        final R result;
+        try {
+            result = function.apply0();
+        } catch (final Throwable t) {
+            if (this.recordOn.test1(t) && this.record(true)) this.open(phase);
+            throw t;
+        }
+        this.record(false);
+        return result;
+    }
+
+    private <R> R callHalfOpen(final Function0<? extends R> function, final Phase phase) {
+        int permits;
+        do {
+            permits = phase.permits.get();
+            if (permits <= 0) throw REJECTED;
+        } while (!phase.permits.compareAndSet(permits, permits - 1));
+        final R result;
+        try {
+            result = function.apply0();
+        } catch (final Throwable t) {
+            if (this.recordOn.test1(t)) this.open(phase);
+            else phase.permits.incrementAndGet();
+            throw t;
+        }
+        if (phase.successes.incrementAndGet() == this.probes && this.phase.compareAndSet(phase, new Phase(State.CLOSED, System.nanoTime(), 0))) {
+            // Forget the outcomes which opened the circuit
+            for (int i = 0; i < this.buckets.length(); i++) this.buckets.set(i, 0L);
+        }
+        return result;
+    }
+
+    private void open(final Phase phase) {
+        this.phase.compareAndSet(phase, new Phase(State.OPEN, System.nanoTime(), 0));
+    }
+
+    /**
+     * Records the outcome of a call within the current bucket.
+     *
+     * @param failure whether the call failed
+     * @return {@code true} if the circuit should open
+     */
+    private boolean record(final boolean failure) {
+        final long period = this.period(System.nanoTime());
+        final int index = (int) (period % this.buckets.length());
+        long packed, next;
+        do {
+            packed = this.buckets.get(index);
+            long calls = 1L, failures = failure ? 1L : 0L;
+            if (((packed >>> PERIOD_SHIFT) & PERIOD_MASK) == (period & PERIOD_MASK)) {
+                calls = Math.min((packed & COUNT_MASK) + 1L, COUNT_MASK);
+                failures = Math.min(((packed >>> COUNT_BITS) & COUNT_MASK) + failures, COUNT_MASK);
+            }
+            next = ((period & PERIOD_MASK) << PERIOD_SHIFT) | (failures << COUNT_BITS) | calls;
+        } while (!this.buckets.compareAndSet(index, packed, next));
+        return failure && this.exceeded(period);
+    }
+
+    /**
+     * Returns whether the failures within the window reach the threshold.
+     *
+     * @param period the current period
+     * @return {@code true} if the failures within the window reach the threshold
+     */
+    private boolean exceeded(final long period) {
+        final int length = this.buckets.length();
+        long calls = 0L, failures = 0L;
+        for (int i = 0; i < length; i++) {
+            final long packed = this.buckets.get(i);
+            final long age = (period - (packed >>> PERIOD_SHIFT)) & PERIOD_MASK;
+            if (age >= length) continue;
+            calls += packed & COUNT_MASK;
+            failures += (packed >>> COUNT_BITS) & COUNT_MASK;
+        }
+        return calls >= this.minimumCalls && failures >= calls * this.failureRateThreshold;
+    }
+
+    private long period(final long nanos) {
+        return (nanos - this.origin) / this.bucketNanos;
+    }
+
+    /**
+     * The state of a circuit.
+     */
+    public enum State {
+        /**
+         * Calls are made and their outcomes recorded.
+         */
+        CLOSED,
+        /**
+         * Calls are rejected.
+         */
+        OPEN,
+        /**
+         * A limited number of probes are made to decide whether to close the
+         * circuit.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * A state of the circuit along with when it was entered. A new phase is
+     * created on each transition, so the fast path only reads a reference.
+     */
+    private static final class Phase {
+
+        private final State state;
+        private final long since;
+        private final AtomicInteger permits;
+        private final AtomicInteger successes;
+
+        private Phase(final State state, final long since, final int permits) {
+            this.state = state;
+            this.since = since;
+            this.permits = new AtomicInteger(permits);
+            this.successes = new AtomicInteger();
+        }
+    }
+
+    /**
+     * A builder used to construct a circuit breaker.
+     */
+    public static final class Builder {
+
+        private double failureRateThreshold;
+        private int minimumCalls;
+        private long windowNanos;
+        private int buckets;
+        private long openNanos;
+        private long halfOpenNanos;
+        private int probes;
+        private Predicate1<? super Throwable> recordOn;
+
+        private Builder() {
+            this.failureRateThreshold = 0.5;
+            this.minimumCalls = 20;
+            this.windowNanos = TimeUnit.SECONDS.toNanos(10L);
+            this.buckets = 10;
+            this.openNanos = TimeUnit.SECONDS.toNanos(5L);
+            this.halfOpenNanos = TimeUnit.SECONDS.toNanos(10L);
+            this.probes = 3;
+            this.recordOn = t -> t instanceof Exception;
+        }
+
+        /**
+         * Sets the rate of failures within the window which opens the circuit.
+         *
+         * @param failureRateThreshold the rate of failures which opens the circuit
+         * @return this builder
+         * @throws IllegalArgumentException if {@code failureRateThreshold} is
+         *                                  not greater than zero and at most one
+         */
+        public Builder failureRateThreshold(final double failureRateThreshold) {
+            if (!(failureRateThreshold > 0.0 && failureRateThreshold <= 1.0))
+                throw new IllegalArgumentException("The failure rate threshold must be greater than zero and at most one: " + failureRateThreshold);
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the number of calls which must be recorded within the window
+         * before the circuit can open.
+         *
+         * @param minimumCalls the number of calls which must be recorded
+         * @return this builder
+         * @throws IllegalArgumentException if {@code minimumCalls} is not positive
+         */
+        public Builder minimumCalls(final int minimumCalls) {
+            if (minimumCalls <= 0)
+                throw new IllegalArgumentException("The minimum number of calls must be positive: " + minimumCalls);
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Sets the amount of time outcomes are counted for, and the number of
+         * buckets the window is split into. More buckets slide the window more
+         * smoothly.
+         *
+         * @param window the amount of time outcomes are counted for
+         * @param unit the unit of {@code window}
+         * @param buckets the number of buckets the window is split into
+         * @return this builder
+         * @throws NullPointerException if {@code unit} is {@code null}
+         * @throws IllegalArgumentException if {@code window} is not positive or
+         *                                  {@code buckets} is not between one and {@code 4096}
+         */
+        public Builder window(final long window, final TimeUnit unit, final int buckets) {
+            Objects.requireNonNull(unit, "The time unit cannot be null");
+            if (window <= 0L)
+                throw new IllegalArgumentException("The window must be positive: " + window);
+            if (buckets <= 0 || buckets > 4096)
+                throw new IllegalArgumentException("The number of buckets must be between 1 and 4096: " + buckets);
+            this.windowNanos = unit.toNanos(window);
+            this.buckets = buckets;
+            return this;
+        }
+
+        /**
+         * Sets the amount of time the circuit stays open before letting
+         * probes through.
+         *
+         * @param duration the amount of time the circuit stays open
+         * @param unit the unit of {@code duration}
+         * @return this builder
+         * @throws NullPointerException if {@code unit} is {@code null}
+         * @throws IllegalArgumentException if {@code duration} is negative
+         */
+        public Builder openDuration(final long duration, final TimeUnit unit) {
+            Objects.requireNonNull(unit, "The time unit cannot be null");
+            if (duration < 0L)
+                throw new IllegalArgumentException("The open duration cannot be negative: " + duration);
+            this.openNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Sets the amount of time the probes of a half open circuit have to
+         * succeed before the circuit opens again, such that a probe which
+         * never completes cannot keep the circuit half open.
+         *
+         * @param duration the amount of time the circuit stays half open
+         * @param unit the unit of {@code duration}
+         * @return this builder
+         * @throws NullPointerException if {@code unit} is {@code null}
+         * @throws IllegalArgumentException if {@code duration} is not positive
+         */
+        public Builder halfOpenDuration(final long duration, final TimeUnit unit) {
+            Objects.requireNonNull(unit, "The time unit cannot be null");
+            if (duration <= 0L)
+                throw new IllegalArgumentException("The half open duration must be positive: " + duration);
+            this.halfOpenNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Sets the number of probes which must succeed while half open to
+         * close the circuit.
+         *
+         * @param probes the number of probes which must succeed
+         * @return this builder
+         * @throws IllegalArgumentException if {@code probes} is not positive
+         */
+        public Builder probes(final int probes) {
+            if (probes <= 0)
+                throw new IllegalArgumentException("The number of probes must be positive: " + probes);
+            this.probes = probes;
+            return this;
+        }
+
+        /**
+         * Sets the predicate which determines whether a failure is recorded.
+         * By default, every {@link Exception} is recorded.
+         *
+         * @param recordOn the predicate which determines whether a failure is recorded
+         * @return this builder
+         * @throws NullPointerException if {@code recordOn} is {@code null}
+         */
+        public Builder recordOn(final Predicate1<? super Throwable> recordOn) {
+            this.recordOn = Objects.requireNonNull(recordOn, "The record predicate cannot be null");
+            return this;
+        }
+
+        /**
+         * Constructs the circuit breaker.
+         *
+         * @return the circuit breaker
+         */
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.resilience;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.Function3;
+import net.ashwork.functionance.Function4;
+import net.ashwork.functionance.Function5;
+import net.ashwork.functionance.Function6;
+import net.ashwork.functionance.Function7;
+import net.ashwork.functionance.Function8;
+import net.ashwork.functionance.runnable.Runnable0;
+import net.ashwork.functionance.runnable.Runnable1;
+import net.ashwork.functionance.runnable.Runnable2;
+import net.ashwork.functionance.runnable.Runnable3;
+import net.ashwork.functionance.runnable.Runnable4;
+import net.ashwork.functionance.runnable.Runnable5;
+import net.ashwork.functionance.runnable.Runnable6;
+import net.ashwork.functionance.runnable.Runnable7;
+import net.ashwork.functionance.runnable.Runnable8;
+
+import java.util.Objects;
+
+/**
+ * Represents behavior which wraps the call to a function or operation, such
+ * as retrying or rejecting it. The behavior is implemented once by
+ * {@link #call(Function0)} and applied to functions and operations of every
+ * arity through {@code decorate} and {@code decorateRunnable}.
+ *
+ * @see AsyncDecorator
+ * @since 1.0.0
+ */
+public interface Decorator {
+
+    /**
+     * Calls the function through this decorator.
+     *
+     * @param function the function to call
+     * @param <R> the type of the result of the function
+     * @return the result of the function
+     */
+    <R> R call(final Function0<? extends R> function);
+
+    /**
+     * Returns a function which calls the function through this decorator.
+     *
+     * @param function the function to decorate
+     * @param <R> the type of the result of the function
+     * @return the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <R> Function0<R> decorate(final Function0<R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return () -> this.call(function);
+    }
+
+    /**
+     * Returns a function which calls the function through this decorator.
+     *
+     * @param function the function to decorate
+     * @param <T1> the type of the first argument to the function
+     * @param <R> the type of the result of the function
+     * @return the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <T1, R> Function1<T1, R> decorate(final Function1<T1, R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return t1 -> this.call(() -> function.apply1(t1));
+    }
+
+    /**
+     * Returns a function which calls the function through this decorator.
+     *
+     * @param function the function to decorate
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <R> the type of the result of the function
+     * @return the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <T1, T2, R> Function2<T1, T2, R> decorate(final Function2<T1, T2, R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return (t1, t2) -> this.call(() -> function.apply2(t1, t2));
+    }
+
+    /**
+     * Returns a function which calls the function through this decorator.
+     *
+     * @param function the function to decorate
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <R> the type of the result of the function
+     * @return the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <T1, T2, T3, R> Function3<T1, T2, T3, R> decorate(final Function3<T1, T2, T3, R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return (t1, t2, t3) -> this.call(() -> function.apply3(t1, t2, t3));
+    }
+
+    /**
+     * Returns a function which calls the function through this decorator.
+     *
+     * @param function the function to decorate
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <R> the type of the result of the function
+     * @return the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <T1, T2, T3, T4, R> Function4<T1, T2, T3, T4, R> decorate(final Function4<T1, T2, T3, T4, R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return (t1, t2, t3, t4) -> this.call(() -> function.apply4(t1, t2, t3, t4));
+    }
+
+    /**
+     * Returns a function which calls the function through this decorator.
+     *
+     * @param function the function to decorate
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <R> the type of the result of the function
+     * @return the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <T1, T2, T3, T4, T5, R> Function5<T1, T2, T3, T4, T5, R> decorate(final Function5<T1, T2, T3, T4, T5, R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return (t1, t2, t3, t4, t5) -> this.call(() -> function.apply5(t1, t2, t3, t4, t5));
+    }
+
+    /**
+     * Returns a function which calls the function through this decorator.
+     *
+     * @param function the function to decorate
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <R> the type of the result of the function
+     * @return the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <T1, T2, T3, T4, T5, T6, R> Function6<T1, T2, T3, T4, T5, T6, R> decorate(final Function6<T1, T2, T3, T4, T5, T6, R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return (t1, t2, t3, t4, t5, t6) -> this.call(() -> function.apply6(t1, t2, t3, t4, t5, t6));
+    }
+
+    /**
+     * Returns a function which calls the function through this decorator.
+     *
+     * @param function the function to decorate
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <T7> the type of the seventh argument to the function
+     * @param <R> the type of the result of the function
+     * @return the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <T1, T2, T3, T4, T5, T6, T7, R> Function7<T1, T2, T3, T4, T5, T6, T7, R> decorate(final Function7<T1, T2, T3, T4, T5, T6, T7, R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return (t1, t2, t3, t4, t5, t6, t7) -> this.call(() -> function.apply7(t1, t2, t3, t4, t5, t6, t7));
+    }
+
+    /**
+     * Returns a function which calls the function through this decorator.
+     *
+     * @param function the function to decorate
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <T7> the type of the seventh argument to the function
+     * @param <T8> the type of the eighth argument to the function
+     * @param <R> the type of the result of the function
+     * @return the decorated function
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    default <T1, T2, T3, T4, T5, T6, T7, T8, R> Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> decorate(final Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        return (t1, t2, t3, t4, t5, t6, t7, t8) -> this.call(() -> function.apply8(t1, t2, t3, t4, t5, t6, t7, t8));
+    }
+
+    /**
+     * Returns an operation which calls the operation through this decorator.
+     *
+     * @param operation the operation to decorate
+     * @return the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default Runnable0 decorateRunnable(final Runnable0 operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return () -> this.call(() -> {
+            operation.run0();
+            return null;
+        });
+    }
+
+    /**
+     * Returns an operation which calls the operation through this decorator.
+     *
+     * @param operation the operation to decorate
+     * @param <T1> the type of the first argument to the operation
+     * @return the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default <T1> Runnable1<T1> decorateRunnable(final Runnable1<T1> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return t1 -> this.call(() -> {
+            operation.run1(t1);
+            return null;
+        });
+    }
+
+    /**
+     * Returns an operation which calls the operation through this decorator.
+     *
+     * @param operation the operation to decorate
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @return the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default <T1, T2> Runnable2<T1, T2> decorateRunnable(final Runnable2<T1, T2> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return (t1, t2) -> this.call(() -> {
+            operation.run2(t1, t2);
+            return null;
+        });
+    }
+
+    /**
+     * Returns an operation which calls the operation through this decorator.
+     *
+     * @param operation the operation to decorate
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @return the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default <T1, T2, T3> Runnable3<T1, T2, T3> decorateRunnable(final Runnable3<T1, T2, T3> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return (t1, t2, t3) -> this.call(() -> {
+            operation.run3(t1, t2, t3);
+            return null;
+        });
+    }
+
+    /**
+     * Returns an operation which calls the operation through this decorator.
+     *
+     * @param operation the operation to decorate
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @return the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default <T1, T2, T3, T4> Runnable4<T1, T2, T3, T4> decorateRunnable(final Runnable4<T1, T2, T3, T4> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return (t1, t2, t3, t4) -> this.call(() -> {
+            operation.run4(t1, t2, t3, t4);
+            return null;
+        });
+    }
+
+    /**
+     * Returns an operation which calls the operation through this decorator.
+     *
+     * @param operation the operation to decorate
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @param <T5> the type of the fifth argument to the operation
+     * @return the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default <T1, T2, T3, T4, T5> Runnable5<T1, T2, T3, T4, T5> decorateRunnable(final Runnable5<T1, T2, T3, T4, T5> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return (t1, t2, t3, t4, t5) -> this.call(() -> {
+            operation.run5(t1, t2, t3, t4, t5);
+            return null;
+        });
+    }
+
+    /**
+     * Returns an operation which calls the operation through this decorator.
+     *
+     * @param operation the operation to decorate
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @param <T5> the type of the fifth argument to the operation
+     * @param <T6> the type of the sixth argument to the operation
+     * @return the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default <T1, T2, T3, T4, T5, T6> Runnable6<T1, T2, T3, T4, T5, T6> decorateRunnable(final Runnable6<T1, T2, T3, T4, T5, T6> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return (t1, t2, t3, t4, t5, t6) -> this.call(() -> {
+            operation.run6(t1, t2, t3, t4, t5, t6);
+            return null;
+        });
+    }
+
+    /**
+     * Returns an operation which calls the operation through this decorator.
+     *
+     * @param operation the operation to decorate
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @param <T5> the type of the fifth argument to the operation
+     * @param <T6> the type of the sixth argument to the operation
+     * @param <T7> the type of the seventh argument to the operation
+     * @return the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default <T1, T2, T3, T4, T5, T6, T7> Runnable7<T1, T2, T3, T4, T5, T6, T7> decorateRunnable(final Runnable7<T1, T2, T3, T4, T5, T6, T7> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return (t1, t2, t3, t4, t5, t6, t7) -> this.call(() -> {
+            operation.run7(t1, t2, t3, t4, t5, t6, t7);
+            return null;
+        });
+    }
+
+    /**
+     * Returns an operation which calls the operation through this decorator.
+     *
+     * @param operation the operation to decorate
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @param <T5> the type of the fifth argument to the operation
+     * @param <T6> the type of the sixth argument to the operation
+     * @param <T7> the type of the seventh argument to the operation
+     * @param <T8> the type of the eighth argument to the operation
+     * @return the decorated operation
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    default <T1, T2, T3, T4, T5, T6, T7, T8> Runnable8<T1, T2, T3, T4, T5, T6, T7, T8> decorateRunnable(final Runnable8<T1, T2, T3, T4, T5, T6, T7, T8> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        return (t1, t2, t3, t4, t5, t6, t7, t8) -> this.call(() -> {
+            operation.run8(t1, t2, t3, t4, t5, t6, t7, t8);
+            return null;
+        });
+    }
+}
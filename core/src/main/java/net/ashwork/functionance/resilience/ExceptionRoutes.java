@@ -0,0 +1,139 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.resilience;
+
+import net.ashwork.functionance.partial.result.Default;
+import net.ashwork.functionance.partial.transformer.Transformer1;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A prebuilt exception handler which routes a {@link Throwable} to a
+ * defaulted object by its class. As this is an exception handler, it can be
+ * passed directly to {@link Default#handle}.
+ *
+ * <p>An exception is routed to the object registered for its nearest
+ * superclass, or to the fallback if none was registered. The route of each
+ * exception class is resolved once and then cached, such that handling any
+ * number of failures performs no further lookups or allocations.
+ *
+ * @param <H> the type of the defaulted object
+ * @see Builder
+ * @since 1.0.0
+ */
+public final class ExceptionRoutes<H> implements Transformer1<Throwable, H> {
+
+    private final Map<Class<? extends Throwable>, H> routes;
+    private final H fallback;
+    private final ClassValue<H> resolved;
+
+    private ExceptionRoutes(final Builder<H> builder) {
+        this.routes = Collections.unmodifiableMap(new LinkedHashMap<>(builder.routes));
+        this.fallback = builder.fallback;
+        this.resolved = new ClassValue<H>() {
+            @Override
+            protected H computeValue(final Class<?> type) {
+                return ExceptionRoutes.this.resolve(type);
+            }
+        };
+    }
+
+    /**
+     * Returns a builder used to construct a routing table.
+     *
+     * @param fallback the defaulted object to route to if no route matches
+     * @param <H> the type of the defaulted object
+     * @return a builder used to construct a routing table
+     * @throws NullPointerException if the {@code fallback} is {@code null}
+     */
+    public static <H> Builder<H> builder(final H fallback) {
+        return new Builder<>(Objects.requireNonNull(fallback, "The fallback cannot be null"));
+    }
+
+    /**
+     * Returns the defaulted object the exception is routed to.
+     *
+     * @param t1 the exception to route
+     * @return the defaulted object the exception is routed to
+     */
+    @Override
+    public H apply1(final Throwable t1) {
+        return this.resolved.get(t1.getClass());
+    }
+
+    /**
+     * Returns the routes registered within the table.
+     *
+     * @return an unmodifiable view of the routes within the table
+     */
+    public Map<Class<? extends Throwable>, H> routes() {
+        return this.routes;
+    }
+
+    /**
+     * Returns the defaulted object to route to if no route matches.
+     *
+     * @return the defaulted object to route to if no route matches
+     */
+    public H fallback() {
+        return this.fallback;
+    }
+
+    private H resolve(final Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            final H route = this.routes.get(current);
+            if (route != null) return route;
+        }
+        return this.fallback;
+    }
+
+    /**
+     * A builder used to construct a routing table.
+     *
+     * @param <H> the type of the defaulted object
+     */
+    public static final class Builder<H> {
+
+        private final Map<Class<? extends Throwable>, H> routes;
+        private final H fallback;
+
+        private Builder(final H fallback) {
+            this.routes = new LinkedHashMap<>();
+            this.fallback = fallback;
+        }
+
+        /**
+         * Routes the exception class and its subclasses to the defaulted
+         * object, replacing any previous route of the same class.
+         *
+         * @param type the class of the exception
+         * @param route the defaulted object to route to
+         * @return this builder
+         * @throws NullPointerException if the {@code type} or {@code route} is {@code null}
+         */
+        public Builder<H> route(final Class<? extends Throwable> type, final H route) {
+            this.routes.put(Objects.requireNonNull(type, "The exception class cannot be null"),
+                    Objects.requireNonNull(route, "The route cannot be null"));
+            return this;
+        }
+
+        /**
+         * Constructs the routing table.
+         *
+         * @return the routing table
+         */
+        public ExceptionRoutes<H> build() {
+            return new ExceptionRoutes<>(this);
+        }
+    }
+}
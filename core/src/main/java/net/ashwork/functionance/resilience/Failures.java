@@ -0,0 +1,32 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.resilience;
+
+/**
+ * Utilities for propagating the failures of decorated calls.
+ */
+final class Failures {
+
+    private Failures() {}
+
+    /**
+     * Throws the failure as is if it is unchecked, or wrapped within an
+     * {@link IllegalStateException} otherwise. This never returns normally;
+     * the return type only allows callers to write {@code throw rethrow(t)}.
+     *
+     * @param failure the failure to throw
+     * @return never
+     */
+    static RuntimeException rethrow(final Throwable failure) {
+        if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+        if (failure instanceof Error) throw (Error) failure;
+        throw new IllegalStateException(failure);
+    }
+}
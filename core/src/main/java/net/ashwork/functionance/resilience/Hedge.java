@@ -0,0 +1,348 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.resilience;
+
+import net.ashwork.functionance.Function0;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A decorator which calls an idempotent function a second time if the first
+ * call is slow, completing with whichever call succeeds first. The call which
+ * loses is cancelled by interrupting it.
+ *
+ * <p>The second call is made after a fixed delay, or after the delay a given
+ * percentile of recent calls completed within. The percentile is recomputed
+ * from a ring of sampled latencies every so often by whichever call fills
+ * the ring, so the fast path only writes a single sample. Until enough
+ * latencies have been sampled, the fixed delay is used.
+ *
+ * <p>Delays are timed by the timer shared with {@link Timeout}. The number
+ * of calls, the number of second calls made, and the number of those which
+ * won are counted to show whether hedging is paying for itself.
+ *
+ * @see Builder
+ * @since 1.0.0
+ */
+public final class Hedge implements Decorator, AsyncDecorator {
+
+    private static final int SAMPLES = 1024;
+    private static final int SAMPLE_MASK = SAMPLES - 1;
+
+    private final Executor executor;
+    private final double percentile;
+    private final AtomicLongArray samples;
+    private final AtomicLong sampled;
+    private final LongAdder calls;
+    private final LongAdder hedges;
+    private final LongAdder wins;
+    private volatile long delayNanos;
+
+    private Hedge(final Builder builder) {
+        this.executor = builder.executor;
+        this.percentile = builder.percentile;
+        this.delayNanos = builder.delayNanos;
+        this.samples = this.percentile > 0.0 ? new AtomicLongArray(SAMPLES) : null;
+        this.sampled = new AtomicLong();
+        this.calls = new LongAdder();
+        this.hedges = new LongAdder();
+        this.wins = new LongAdder();
+    }
+
+    /**
+     * Returns a builder used to construct a hedge which calls functions on
+     * the executor.
+     *
+     * @param executor the executor to call functions on
+     * @return a builder used to construct a hedge
+     * @throws NullPointerException if the {@code executor} is {@code null}
+     */
+    public static Builder builder(final Executor executor) {
+        return new Builder(Objects.requireNonNull(executor, "The executor cannot be null"));
+    }
+
+    /**
+     * Returns the number of nanoseconds waited before making a second call.
+     *
+     * @return the number of nanoseconds waited before making a second call
+     */
+    public long delayNanos() {
+        return this.delayNanos;
+    }
+
+    /**
+     * Returns the number of calls made through this hedge.
+     *
+     * @return the number of calls made through this hedge
+     */
+    public long calls() {
+        return this.calls.sum();
+    }
+
+    /**
+     * Returns the number of second calls made because the first was slow.
+     *
+     * @return the number of second calls made
+     */
+    public long hedges() {
+        return this.hedges.sum();
+    }
+
+    /**
+     * Returns the number of second calls which completed before the first.
+     *
+     * @return the number of second calls which completed first
+     */
+    public long wins() {
+        return this.wins.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the current thread is interrupted while waiting
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    @Override
+    public <R> R call(final Function0<? extends R> function) {
+        final CompletableFuture<R> result = this.callAsync(function);
+        try {
+            return result.get();
+        } catch (final ExecutionException e) {
+            throw Failures.rethrow(e.getCause());
+        } catch (final InterruptedException e) {
+            result.cancel(false);
+            Thread.currentThread().interrupt();
+            throw Failures.rethrow(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned future completes with the first successful result, or
+     * the last failure if both calls fail. Cancelling the future cancels
+     * both calls.
+     *
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    @Override
+    public <R> CompletableFuture<R> callAsync(final Function0<? extends R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        this.calls.increment();
+        final Request<R> request = new Request<>(function);
+        request.primary.start();
+        if (!request.isDone()) {
+            request.timer = Timer.schedule(request, System.nanoTime() + this.delayNanos);
+            request.whenComplete((result, failure) -> request.cancel());
+        }
+        return request;
+    }
+
+    private void sample(final long latency) {
+        if (this.samples == null) return;
+        final long count = this.sampled.getAndIncrement();
+        this.samples.lazySet((int) (count & SAMPLE_MASK), latency);
+        if ((count & SAMPLE_MASK) == SAMPLE_MASK) {
+            // The ring was just filled, so recompute the delay from it
+            final long[] sorted = new long[SAMPLES];
+            for (int i = 0; i < SAMPLES; i++) sorted[i] = this.samples.get(i);
+            Arrays.sort(sorted);
+            this.delayNanos = sorted[(int) Math.min(SAMPLES - 1, (long) (this.percentile * SAMPLES))];
+        }
+    }
+
+    /**
+     * A request which may be called twice, completing with the first
+     * successful result. Running the request makes the second call.
+     *
+     * @param <R> the type of the result of the function
+     */
+    private final class Request<R> extends CompletableFuture<R> implements Runnable {
+
+        private final Function0<? extends R> function;
+        private final long start;
+        private final Attempt primary;
+        private final AtomicInteger running;
+        private volatile Attempt secondary;
+        private Timer.Task timer;
+
+        private Request(final Function0<? extends R> function) {
+            this.function = function;
+            this.start = System.nanoTime();
+            this.running = new AtomicInteger(1);
+            this.primary = new Attempt(this, false);
+        }
+
+        @Override
+        public void run() {
+            if (this.isDone()) return;
+            this.running.incrementAndGet();
+            Hedge.this.hedges.increment();
+            final Attempt secondary = new Attempt(this, true);
+            this.secondary = secondary;
+            secondary.start();
+        }
+
+        private void cancel() {
+            if (this.timer != null) this.timer.cancel();
+            this.primary.cancel();
+            final Attempt secondary = this.secondary;
+            if (secondary != null) secondary.cancel();
+        }
+    }
+
+    /**
+     * A single call of a request. Cancelling an attempt interrupts its thread
+     * only while it is calling the function.
+     */
+    private final class Attempt extends AtomicInteger implements Runnable {
+
+        private static final long serialVersionUID = 1L;
+        private static final int NEW = 0, RUNNING = 1, DONE = 2, INTERRUPTING = 3, INTERRUPTED = 4;
+
+        private final transient Request<?> request;
+        private final boolean hedge;
+        private transient volatile Thread runner;
+
+        private Attempt(final Request<?> request, final boolean hedge) {
+            this.request = request;
+            this.hedge = hedge;
+        }
+
+        private void start() {
+            try {
+                Hedge.this.executor.execute(this);
+            } catch (final Throwable t) {
+                this.fail(t);
+            }
+        }
+
+        @Override
+        public void run() {
+            this.runner = Thread.currentThread();
+            if (!this.compareAndSet(NEW, RUNNING)) return;
+            if (this.request.isDone()) {
+                // The request completed before it could cancel this attempt
+                this.finish();
+                return;
+            }
+            try {
+                final Object result = this.request.function.apply0();
+                if (this.finish() && this.complete(result)) {
+                    if (this.hedge) Hedge.this.wins.increment();
+                    // Sample the latency of the request, as a hedge starts after the delay
+                    Hedge.this.sample(System.nanoTime() - this.request.start);
+                }
+            } catch (final Throwable t) {
+                if (this.finish()) this.fail(t);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <R> boolean complete(final Object result) {
+            return ((Request<R>) this.request).complete((R) result);
+        }
+
+        private void fail(final Throwable failure) {
+            if (this.request.running.decrementAndGet() == 0) this.request.completeExceptionally(failure);
+        }
+
+        /**
+         * Marks the attempt as done, waiting for any interrupt of its thread
+         * to land and clearing it.
+         *
+         * @return {@code true} if the attempt was not cancelled
+         */
+        private boolean finish() {
+            if (this.compareAndSet(RUNNING, DONE)) return true;
+            while (this.get() == INTERRUPTING) Thread.yield();
+            Thread.interrupted();
+            return false;
+        }
+
+        private void cancel() {
+            if (this.compareAndSet(NEW, DONE)) return;
+            if (this.compareAndSet(RUNNING, INTERRUPTING)) {
+                final Thread runner = this.runner;
+                if (runner != null) runner.interrupt();
+                this.set(INTERRUPTED);
+            }
+        }
+    }
+
+    /**
+     * A builder used to construct a hedge.
+     */
+    public static final class Builder {
+
+        private final Executor executor;
+        private long delayNanos;
+        private double percentile;
+
+        private Builder(final Executor executor) {
+            this.executor = executor;
+            this.delayNanos = TimeUnit.MILLISECONDS.toNanos(50L);
+            this.percentile = 0.0;
+        }
+
+        /**
+         * Sets the delay before making a second call. If a percentile is set,
+         * this is only used until enough latencies have been sampled.
+         *
+         * @param delay the delay before making a second call
+         * @param unit the unit of {@code delay}
+         * @return this builder
+         * @throws NullPointerException if {@code unit} is {@code null}
+         * @throws IllegalArgumentException if {@code delay} is negative
+         */
+        public Builder delay(final long delay, final TimeUnit unit) {
+            Objects.requireNonNull(unit, "The time unit cannot be null");
+            if (delay < 0L)
+                throw new IllegalArgumentException("The delay cannot be negative: " + delay);
+            this.delayNanos = unit.toNanos(delay);
+            return this;
+        }
+
+        /**
+         * Sets the percentile of recent latencies to wait for before making
+         * a second call, such as {@code 0.95} to hedge the slowest five
+         * percent of calls.
+         *
+         * @param percentile the percentile of recent latencies to wait for
+         * @return this builder
+         * @throws IllegalArgumentException if {@code percentile} is not between zero and one
+         */
+        public Builder percentile(final double percentile) {
+            if (!(percentile > 0.0 && percentile < 1.0))
+                throw new IllegalArgumentException("The percentile must be between zero and one: " + percentile);
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Constructs the hedge.
+         *
+         * @return the hedge
+         */
+        public Hedge build() {
+            return new Hedge(this);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.resilience;
+
+import net.ashwork.functionance.Function0;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A decorator which limits the rate of calls using a token bucket. Each call
+ * takes a token; tokens refill at a fixed rate up to the size of the burst.
+ * Calls made when the bucket is empty wait for a token or are rejected with a
+ * {@link RejectedCallException}.
+ *
+ * <p>Rather than counting tokens, the limiter tracks the time at which the
+ * bucket will next be full, which each call pushes back by the time taken
+ * to refill one token. Taking a token is then a single compare-and-set
+ * without a lock. The time is kept to a fraction of a nanosecond, such that
+ * partial tokens are not lost between calls at high rates.
+ *
+ * @see Builder
+ * @since 1.0.0
+ */
+public final class RateLimiter implements Decorator {
+
+    private static final RejectedCallException LIMITED = new RejectedCallException("The rate limit has been exceeded");
+
+    /*
+     * Times are measured in 1/1024ths of a nanosecond since the limiter was
+     * constructed. They wrap after about a hundred days, so only differences
+     * between times are meaningful, so the time taken to refill the whole
+     * burst must stay well below that.
+     */
+    private static final int FRACTION_BITS = 10;
+    private static final long MAX_SPAN = Long.MAX_VALUE >> 2;
+
+    private final long interval;
+    private final long capacity;
+    private final long maxWaitNanos;
+    private final long origin;
+    private final AtomicLong full;
+
+    private RateLimiter(final Builder builder) {
+        this.interval = builder.interval;
+        this.capacity = builder.burst * this.interval;
+        this.maxWaitNanos = builder.maxWaitNanos;
+        this.origin = System.nanoTime();
+        this.full = new AtomicLong(this.now());
+    }
+
+    /**
+     * Returns a builder used to construct a rate limiter which allows the
+     * given number of calls per period.
+     *
+     * @param permits the number of calls allowed per period
+     * @param period the period the calls are allowed within
+     * @param unit the unit of {@code period}
+     * @return a builder used to construct a rate limiter
+     * @throws NullPointerException if {@code unit} is {@code null}
+     * @throws IllegalArgumentException if {@code permits} or {@code period} is
+     *                                  not positive, or a single permit takes
+     *                                  longer than about 26 days to refill
+     */
+    public static Builder builder(final int permits, final long period, final TimeUnit unit) {
+        Objects.requireNonNull(unit, "The time unit cannot be null");
+        if (permits <= 0)
+            throw new IllegalArgumentException("The number of permits must be positive: " + permits);
+        if (period <= 0L)
+            throw new IllegalArgumentException("The period must be positive: " + period);
+        final double interval = (double) unit.toNanos(period) / permits * (1 << FRACTION_BITS);
+        if (interval > MAX_SPAN)
+            throw new IllegalArgumentException("The rate is too low: " + permits + " per " + period + " " + unit);
+        // Rates of over a thousand permits per nanosecond are treated as that many
+        return new Builder(permits, Math.max((long) interval, 1L));
+    }
+
+    /**
+     * Returns the number of calls which can currently be made without
+     * waiting.
+     *
+     * @return the number of calls which can be made without waiting
+     */
+    public int available() {
+        final long ahead = Math.max(this.full.get() - this.now(), 0L);
+        return (int) (Math.max(this.capacity - ahead, 0L) / this.interval);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws RejectedCallException if no token could be taken in time
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    @Override
+    public <R> R call(final Function0<? extends R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        if (!this.tryAcquire() && !this.await()) throw LIMITED;
+        return function.apply0();
+    }
+
+    /**
+     * Takes a token from the bucket if one is available.
+     *
+     * @return {@code true} if a token was taken
+     */
+    private boolean tryAcquire() {
+        for (;;) {
+            final long full = this.full.get();
+            final long now = this.now();
+            // A bucket which filled in the past stays full from now
+            final long next = (full - now > 0L ? full : now) + this.interval;
+            if (next - now > this.capacity) return false;
+            if (this.full.compareAndSet(full, next)) return true;
+        }
+    }
+
+    private boolean await() {
+        if (this.maxWaitNanos == 0L) return false;
+        final long deadline = System.nanoTime() + this.maxWaitNanos;
+        final long tokenNanos = Math.max(this.interval >> FRACTION_BITS, 1L);
+        do {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0L) return false;
+            LockSupport.parkNanos(this, Math.min(tokenNanos, remaining));
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        } while (!this.tryAcquire());
+        return true;
+    }
+
+    private long now() {
+        return (System.nanoTime() - this.origin) << FRACTION_BITS;
+    }
+
+    /**
+     * A builder used to construct a rate limiter.
+     */
+    public static final class Builder {
+
+        private final long interval;
+        private final int maxBurst;
+        private int burst;
+        private long maxWaitNanos;
+
+        private Builder(final int permits, final long interval) {
+            this.interval = interval;
+            this.maxBurst = (int) Math.min(MAX_SPAN / interval, Integer.MAX_VALUE);
+            this.burst = Math.min(permits, this.maxBurst);
+            this.maxWaitNanos = 0L;
+        }
+
+        /**
+         * Sets the number of calls which can be made at once after the
+         * limiter has been idle. By default, this is the number of permits
+         * per period, or as many as refill within about 26 days if fewer.
+         *
+         * @param burst the number of calls which can be made at once
+         * @return this builder
+         * @throws IllegalArgumentException if {@code burst} is not positive, or
+         *                                  takes longer than about 26 days to refill
+         */
+        public Builder burst(final int burst) {
+            if (burst <= 0 || burst > this.maxBurst)
+                throw new IllegalArgumentException("The burst must be between 1 and " + this.maxBurst + ": " + burst);
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Sets the amount of time a call may wait for a token. A call is
+         * rejected immediately if this is zero.
+         *
+         * @param maxWait the amount of time a call may wait for a token
+         * @param unit the unit of {@code maxWait}
+         * @return this builder
+         * @throws NullPointerException if {@code unit} is {@code null}
+         * @throws IllegalArgumentException if {@code maxWait} is negative
+         * @see #blocking()
+         */
+        public Builder maxWait(final long maxWait, final TimeUnit unit) {
+            Objects.requireNonNull(unit, "The time unit cannot be null");
+            if (maxWait < 0L)
+                throw new IllegalArgumentException("The maximum wait cannot be negative: " + maxWait);
+            this.maxWaitNanos = unit.toNanos(maxWait);
+            return this;
+        }
+
+        /**
+         * Makes calls wait until a token is available rather than being
+         * rejected.
+         *
+         * @return this builder
+         */
+        public Builder blocking() {
+            this.maxWaitNanos = Long.MAX_VALUE;
+            return this;
+        }
+
+        /**
+         * Constructs the rate limiter.
+         *
+         * @return the rate limiter
+         */
+        public RateLimiter build() {
+            return new RateLimiter(this);
+        }
+    }
+}
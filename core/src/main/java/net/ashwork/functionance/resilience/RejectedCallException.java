@@ -0,0 +1,34 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.resilience;
+
+import net.ashwork.functionance.attempt.StacklessException;
+
+/**
+ * Thrown when a decorator refuses to call a function, such as when a circuit
+ * is open. The exception holds no stack trace, so each decorator shares a
+ * single instance for every rejection. Rejections can be defaulted by routing
+ * this class within an {@link ExceptionRoutes} passed to {@code handle}.
+ *
+ * @since 1.0.0
+ */
+public final class RejectedCallException extends StacklessException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs an exception with the reason the call was rejected.
+     *
+     * @param message the reason the call was rejected
+     */
+    public RejectedCallException(final String message) {
+        super(message);
+    }
+}
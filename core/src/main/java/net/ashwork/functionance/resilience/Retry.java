@@ -0,0 +1,329 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.resilience;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.Predicate1;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A decorator which calls a function again when it fails, waiting an
+ * exponentially increasing, randomly shortened delay between each attempt.
+ *
+ * <p>Calls through {@link #call(Function0)} wait between attempts on the
+ * calling thread. Calls through {@link #async(ScheduledExecutorService)}
+ * schedule each attempt instead, such that no thread is parked while
+ * waiting.
+ *
+ * <p>Once the attempts are exhausted, the failure is not retryable, or the
+ * next attempt would start after the deadline, the last failure is thrown.
+ *
+ * @see Builder
+ * @since 1.0.0
+ */
+public final class Retry implements Decorator {
+
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final double multiplier;
+    private final double jitter;
+    private final Predicate1<? super Throwable> retryOn;
+    private final long deadlineNanos;
+
+    private Retry(final Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialDelayNanos = builder.initialDelayNanos;
+        this.maxDelayNanos = builder.maxDelayNanos;
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.retryOn = builder.retryOn;
+        this.deadlineNanos = builder.deadlineNanos;
+    }
+
+    /**
+     * Returns a builder used to construct a retry.
+     *
+     * @return a builder used to construct a retry
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Calls the function, waiting on the calling thread between each attempt.
+     * If the thread is interrupted while waiting, the last failure is thrown
+     * with the interrupt status set.
+     *
+     * @param function the function to call
+     * @param <R> the type of the result of the function
+     * @return the result of the first successful attempt
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    @Override
+    public <R> R call(final Function0<? extends R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        final long start = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return function.apply0();
+            } catch (final Throwable t) {
+                long delay = this.delay(attempt, start, t);
+                if (delay < 0L) throw Failures.rethrow(t);
+                final long end = System.nanoTime() + delay;
+                while (delay > 0L) {
+                    LockSupport.parkNanos(this, delay);
+                    if (Thread.interrupted()) {
+                        Thread.currentThread().interrupt();
+                        throw Failures.rethrow(t);
+                    }
+                    delay = end - System.nanoTime();
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls the function on the scheduler, scheduling each subsequent attempt
+     * after its delay rather than waiting. Cancelling the returned future
+     * stops any further attempts.
+     *
+     * @param function the function to call
+     * @param scheduler the scheduler to call each attempt on
+     * @param <R> the type of the result of the function
+     * @return a future holding the result of the first successful attempt
+     * @throws NullPointerException if the {@code function} or {@code scheduler} is {@code null}
+     */
+    public <R> CompletableFuture<R> callAsync(final Function0<? extends R> function, final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        Objects.requireNonNull(scheduler, "The scheduler cannot be null");
+        final Attempt<R> attempt = new Attempt<>(function, scheduler);
+        attempt.schedule(0L);
+        return attempt.result;
+    }
+
+    /**
+     * Returns a decorator which calls functions through this retry on the
+     * scheduler.
+     *
+     * @param scheduler the scheduler to call each attempt on
+     * @return a decorator which retries asynchronously
+     * @throws NullPointerException if the {@code scheduler} is {@code null}
+     * @see #callAsync(Function0, ScheduledExecutorService)
+     */
+    public AsyncDecorator async(final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(scheduler, "The scheduler cannot be null");
+        return new AsyncDecorator() {
+            @Override
+            public <R> CompletableFuture<R> callAsync(final Function0<? extends R> function) {
+                return Retry.this.callAsync(function, scheduler);
+            }
+        };
+    }
+
+    /**
+     * Returns the number of nanoseconds to wait before the next attempt, or
+     * {@code -1} if there should be no further attempts.
+     *
+     * @param attempt the number of the attempt which failed, starting from one
+     * @param start the time the first attempt started, in nanoseconds
+     * @param failure the failure of the attempt
+     * @return the delay before the next attempt, or {@code -1}
+     */
+    private long delay(final int attempt, final long start, final Throwable failure) {
+        if (attempt >= this.maxAttempts || !this.retryOn.test1(failure)) return -1L;
+        final double backoff = Math.min(this.initialDelayNanos * Math.pow(this.multiplier, attempt - 1), this.maxDelayNanos);
+        final long delay = (long) (backoff * (1.0 - this.jitter * ThreadLocalRandom.current().nextDouble()));
+        if (this.deadlineNanos > 0L && System.nanoTime() + delay - start > this.deadlineNanos) return -1L;
+        return delay;
+    }
+
+    /**
+     * The state of a call being retried asynchronously.
+     *
+     * @param <R> the type of the result of the function
+     */
+    private final class Attempt<R> implements Runnable {
+
+        private final CompletableFuture<R> result;
+        private final Function0<? extends R> function;
+        private final ScheduledExecutorService scheduler;
+        private final long start;
+        private int attempt;
+
+        private Attempt(final Function0<? extends R> function, final ScheduledExecutorService scheduler) {
+            this.result = new CompletableFuture<>();
+            this.function = function;
+            this.scheduler = scheduler;
+            this.start = System.nanoTime();
+        }
+
+        private void schedule(final long delay) {
+            try {
+                if (delay == 0L) this.scheduler.execute(this);
+                else this.scheduler.schedule(this, delay, TimeUnit.NANOSECONDS);
+            } catch (final Throwable t) {
+                this.result.completeExceptionally(t);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (this.result.isDone()) return;
+            this.attempt++;
+            try {
+                this.result.complete(this.function.apply0());
+            } catch (final Throwable t) {
+                final long delay = Retry.this.delay(this.attempt, this.start, t);
+                if (delay < 0L) this.result.completeExceptionally(t);
+                else this.schedule(Math.max(delay, 1L));
+            }
+        }
+    }
+
+    /**
+     * A builder used to construct a retry.
+     */
+    public static final class Builder {
+
+        private int maxAttempts;
+        private long initialDelayNanos;
+        private long maxDelayNanos;
+        private double multiplier;
+        private double jitter;
+        private Predicate1<? super Throwable> retryOn;
+        private long deadlineNanos;
+
+        private Builder() {
+            this.maxAttempts = 3;
+            this.initialDelayNanos = TimeUnit.MILLISECONDS.toNanos(100L);
+            this.maxDelayNanos = TimeUnit.SECONDS.toNanos(10L);
+            this.multiplier = 2.0;
+            this.jitter = 0.5;
+            this.retryOn = t -> t instanceof Exception;
+            this.deadlineNanos = 0L;
+        }
+
+        /**
+         * Sets the maximum number of attempts, including the first.
+         *
+         * @param maxAttempts the maximum number of attempts
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxAttempts} is not positive
+         */
+        public Builder maxAttempts(final int maxAttempts) {
+            if (maxAttempts <= 0)
+                throw new IllegalArgumentException("The maximum number of attempts must be positive: " + maxAttempts);
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the delay before the second attempt, and the factor each
+         * following delay is multiplied by.
+         *
+         * @param initialDelay the delay before the second attempt
+         * @param unit the unit of {@code initialDelay}
+         * @param multiplier the factor each following delay is multiplied by
+         * @return this builder
+         * @throws NullPointerException if {@code unit} is {@code null}
+         * @throws IllegalArgumentException if {@code initialDelay} is negative
+         *                                  or {@code multiplier} is less than one
+         */
+        public Builder backoff(final long initialDelay, final TimeUnit unit, final double multiplier) {
+            Objects.requireNonNull(unit, "The time unit cannot be null");
+            if (initialDelay < 0L)
+                throw new IllegalArgumentException("The initial delay cannot be negative: " + initialDelay);
+            if (!(multiplier >= 1.0))
+                throw new IllegalArgumentException("The multiplier must be at least one: " + multiplier);
+            this.initialDelayNanos = unit.toNanos(initialDelay);
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Sets the maximum delay between two attempts.
+         *
+         * @param maxDelay the maximum delay between two attempts
+         * @param unit the unit of {@code maxDelay}
+         * @return this builder
+         * @throws NullPointerException if {@code unit} is {@code null}
+         * @throws IllegalArgumentException if {@code maxDelay} is negative
+         */
+        public Builder maxDelay(final long maxDelay, final TimeUnit unit) {
+            Objects.requireNonNull(unit, "The time unit cannot be null");
+            if (maxDelay < 0L)
+                throw new IllegalArgumentException("The maximum delay cannot be negative: " + maxDelay);
+            this.maxDelayNanos = unit.toNanos(maxDelay);
+            return this;
+        }
+
+        /**
+         * Sets the fraction of each delay which may be randomly removed, such
+         * that concurrent callers do not retry in lockstep.
+         *
+         * @param jitter the fraction of each delay which may be removed
+         * @return this builder
+         * @throws IllegalArgumentException if {@code jitter} is not between zero and one
+         */
+        public Builder jitter(final double jitter) {
+            if (!(jitter >= 0.0 && jitter <= 1.0))
+                throw new IllegalArgumentException("The jitter must be between zero and one: " + jitter);
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Sets the predicate which determines whether a failure can be
+         * retried. By default, every {@link Exception} can be retried.
+         *
+         * @param retryOn the predicate which determines whether a failure can be retried
+         * @return this builder
+         * @throws NullPointerException if {@code retryOn} is {@code null}
+         */
+        public Builder retryOn(final Predicate1<? super Throwable> retryOn) {
+            this.retryOn = Objects.requireNonNull(retryOn, "The retry predicate cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the amount of time after the first attempt which no further
+         * attempt can start after.
+         *
+         * @param deadline the amount of time after the first attempt
+         * @param unit the unit of {@code deadline}
+         * @return this builder
+         * @throws NullPointerException if {@code unit} is {@code null}
+         * @throws IllegalArgumentException if {@code deadline} is not positive
+         */
+        public Builder deadline(final long deadline, final TimeUnit unit) {
+            Objects.requireNonNull(unit, "The time unit cannot be null");
+            if (deadline <= 0L)
+                throw new IllegalArgumentException("The deadline must be positive: " + deadline);
+            this.deadlineNanos = unit.toNanos(deadline);
+            return this;
+        }
+
+        /**
+         * Constructs the retry.
+         *
+         * @return the retry
+         */
+        public Retry build() {
+            return new Retry(this);
+        }
+    }
+}
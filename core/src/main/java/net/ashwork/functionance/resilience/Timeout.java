@@ -0,0 +1,233 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.resilience;
+
+import net.ashwork.functionance.Function0;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A decorator which calls a function on an executor and fails with a
+ * {@link CallTimeoutException} if it does not complete in time.
+ *
+ * <p>Each call is bounded by the earlier of the timeout and the deadline of
+ * the thread making the call. While the function runs, its thread carries
+ * that deadline, so any timeout applied to a stage nested within the function
+ * can only shorten it. A deadline for a whole pipeline can be set with
+ * {@link #within(long, TimeUnit, Function0)}.
+ *
+ * <p>Asynchronous calls are timed by a single timer thread shared by every
+ * timeout, rather than a task per call within a scheduled executor. A call
+ * which times out is not interrupted; its result is discarded once it
+ * completes. Stages which depend on a timed out future without using an
+ * asynchronous variant run on the timer thread, so they should be cheap.
+ *
+ * @since 1.0.0
+ */
+public final class Timeout implements Decorator, AsyncDecorator {
+
+    private static final CallTimeoutException TIMED_OUT = new CallTimeoutException("The call did not complete before its deadline");
+    private static final ThreadLocal<Scope> SCOPE = ThreadLocal.withInitial(Scope::new);
+
+    private final long timeoutNanos;
+    private final Executor executor;
+
+    private Timeout(final long timeoutNanos, final Executor executor) {
+        this.timeoutNanos = timeoutNanos;
+        this.executor = executor;
+    }
+
+    /**
+     * Constructs a timeout which calls functions on the executor.
+     *
+     * @param timeout the amount of time each call may take
+     * @param unit the unit of {@code timeout}
+     * @param executor the executor to call functions on
+     * @return a timeout which calls functions on the executor
+     * @throws NullPointerException if {@code unit} or {@code executor} is {@code null}
+     * @throws IllegalArgumentException if {@code timeout} is not positive
+     */
+    public static Timeout of(final long timeout, final TimeUnit unit, final Executor executor) {
+        Objects.requireNonNull(unit, "The time unit cannot be null");
+        Objects.requireNonNull(executor, "The executor cannot be null");
+        if (timeout <= 0L)
+            throw new IllegalArgumentException("The timeout must be positive: " + timeout);
+        return new Timeout(unit.toNanos(timeout), executor);
+    }
+
+    /**
+     * Calls the function on the current thread with a deadline, such that
+     * every timeout nested within it completes before the deadline. If the
+     * current thread already has an earlier deadline, it is kept.
+     *
+     * @param timeout the amount of time from now until the deadline
+     * @param unit the unit of {@code timeout}
+     * @param function the function to call
+     * @param <R> the type of the result of the function
+     * @return the result of the function
+     * @throws NullPointerException if {@code unit} or {@code function} is {@code null}
+     */
+    public static <R> R within(final long timeout, final TimeUnit unit, final Function0<? extends R> function) {
+        Objects.requireNonNull(unit, "The time unit cannot be null");
+        Objects.requireNonNull(function, "The function cannot be null");
+        final Scope scope = SCOPE.get();
+        final boolean bounded = scope.bounded;
+        final long deadline = scope.deadline;
+        scope.bound(System.nanoTime() + unit.toNanos(timeout));
+        try {
+            return function.apply0();
+        } finally {
+            scope.bounded = bounded;
+            scope.deadline = deadline;
+        }
+    }
+
+    /**
+     * Returns the number of nanoseconds until the deadline of the current
+     * thread, or {@link Long#MAX_VALUE} if it has no deadline. The result is
+     * negative once the deadline has passed.
+     *
+     * @return the number of nanoseconds until the deadline of the current thread
+     */
+    public static long remainingNanos() {
+        final Scope scope = SCOPE.get();
+        return scope.bounded ? scope.deadline - System.nanoTime() : Long.MAX_VALUE;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws CallTimeoutException if the function does not complete in time
+     * @throws IllegalStateException if the current thread is interrupted while waiting
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    @Override
+    public <R> R call(final Function0<? extends R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        final Call<R> call = new Call<>(function, this.deadline());
+        call.start(this.executor);
+        try {
+            return call.get(call.deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            if (call.expire()) throw TIMED_OUT;
+            // The function completed after waiting timed out, so its outcome took effect
+            try {
+                return call.join();
+            } catch (final CompletionException failure) {
+                throw Failures.rethrow(failure.getCause());
+            }
+        } catch (final ExecutionException e) {
+            throw Failures.rethrow(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Failures.rethrow(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned future completes exceptionally with a
+     * {@link CallTimeoutException} if the function does not complete in time.
+     *
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    @Override
+    public <R> CompletableFuture<R> callAsync(final Function0<? extends R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        final Call<R> call = new Call<>(function, this.deadline());
+        call.timer = Timer.schedule(call::expire, call.deadline);
+        call.start(this.executor);
+        return call;
+    }
+
+    private long deadline() {
+        final long deadline = System.nanoTime() + this.timeoutNanos;
+        final Scope scope = SCOPE.get();
+        return scope.bounded && scope.deadline - deadline < 0L ? scope.deadline : deadline;
+    }
+
+    /**
+     * The deadline of a thread.
+     */
+    private static final class Scope {
+
+        private boolean bounded;
+        private long deadline;
+
+        private void bound(final long deadline) {
+            if (!this.bounded || deadline - this.deadline < 0L) this.deadline = deadline;
+            this.bounded = true;
+        }
+    }
+
+    /**
+     * A call to a function which runs on an executor with a deadline.
+     *
+     * @param <R> the type of the result of the function
+     */
+    private static final class Call<R> extends CompletableFuture<R> implements Runnable {
+
+        private final Function0<? extends R> function;
+        private final long deadline;
+        private Timer.Task timer;
+
+        private Call(final Function0<? extends R> function, final long deadline) {
+            this.function = function;
+            this.deadline = deadline;
+        }
+
+        private void start(final Executor executor) {
+            if (this.deadline - System.nanoTime() <= 0L) {
+                this.expire();
+                return;
+            }
+            try {
+                executor.execute(this);
+            } catch (final Throwable t) {
+                this.completeExceptionally(t);
+            }
+        }
+
+        /**
+         * Completes the call with a timeout unless it has already completed.
+         *
+         * @return {@code true} if the call timed out
+         */
+        private boolean expire() {
+            return this.completeExceptionally(TIMED_OUT);
+        }
+
+        @Override
+        public void run() {
+            if (this.isDone()) return;
+            final Scope scope = SCOPE.get();
+            final boolean bounded = scope.bounded;
+            final long deadline = scope.deadline;
+            scope.bounded = true;
+            scope.deadline = this.deadline;
+            try {
+                this.complete(this.function.apply0());
+            } catch (final Throwable t) {
+                this.completeExceptionally(t);
+            } finally {
+                scope.bounded = bounded;
+                scope.deadline = deadline;
+                if (this.timer != null) this.timer.cancel();
+            }
+        }
+    }
+}
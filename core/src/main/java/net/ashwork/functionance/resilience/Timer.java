@@ -0,0 +1,149 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.resilience;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed wheel timer shared by every decorator which needs to act after a
+ * delay. Scheduling a task only enqueues it; a single daemon thread moves
+ * queued tasks into the slots of the wheel and runs the tasks of each slot
+ * as it ticks. This keeps the cost of tens of thousands of pending timeouts
+ * to one small object each, rather than a task within a scheduled executor.
+ *
+ * <p>Tasks run on the timer thread, so they should only hand off work, such
+ * as completing a future or submitting to an executor. The thread parks
+ * without ticking while no tasks are pending.
+ */
+final class Timer {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final Timer SHARED = new Timer();
+
+    private final Queue<Task> pending;
+    /**
+     * The head of the list of tasks within each slot. Only accessed by the
+     * timer thread.
+     */
+    private final Task[] wheel;
+    private final Thread thread;
+    private volatile boolean idle;
+
+    private Timer() {
+        this.pending = new ConcurrentLinkedQueue<>();
+        this.wheel = new Task[WHEEL_SIZE];
+        this.thread = new Thread(this::tick, "functionance-timer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Schedules the action to run on the shared timer once the deadline has
+     * passed.
+     *
+     * @param action the action to run
+     * @param deadline the time to run the action at, in {@link System#nanoTime()} nanoseconds
+     * @return a task which can be cancelled before it runs
+     */
+    static Task schedule(final Runnable action, final long deadline) {
+        final Task task = new Task(action, deadline);
+        SHARED.pending.offer(task);
+        if (SHARED.idle) LockSupport.unpark(SHARED.thread);
+        return task;
+    }
+
+    private void tick() {
+        final long start = System.nanoTime();
+        long tick = 0L;
+        int active = 0;
+        for (;;) {
+            if (active == 0 && this.pending.isEmpty()) {
+                // Nothing to time, so wait for the next task rather than ticking
+                this.idle = true;
+                while (this.pending.isEmpty()) LockSupport.parkNanos(this, Long.MAX_VALUE);
+                this.idle = false;
+                tick = (System.nanoTime() - start) / TICK_NANOS;
+            }
+            final long tickDeadline = start + (tick + 1L) * TICK_NANOS;
+            long sleep;
+            while ((sleep = tickDeadline - System.nanoTime()) > 0L) LockSupport.parkNanos(this, sleep);
+
+            Task task;
+            while ((task = this.pending.poll()) != null) {
+                if (task.isCancelled()) continue;
+                final long ticks = Math.max((task.deadline - start) / TICK_NANOS, tick);
+                task.rounds = (ticks - tick) / WHEEL_SIZE;
+                final int slot = (int) (ticks & WHEEL_MASK);
+                task.next = this.wheel[slot];
+                this.wheel[slot] = task;
+                active++;
+            }
+
+            final int slot = (int) (tick & WHEEL_MASK);
+            Task previous = null;
+            for (task = this.wheel[slot]; task != null; task = task.next) {
+                if (task.isCancelled() || task.rounds-- <= 0L) {
+                    if (previous == null) this.wheel[slot] = task.next;
+                    else previous.next = task.next;
+                    active--;
+                    task.fire();
+                } else previous = task;
+            }
+            tick++;
+        }
+    }
+
+    /**
+     * An action waiting to be run by the timer.
+     */
+    static final class Task extends AtomicInteger {
+
+        private static final long serialVersionUID = 1L;
+        private static final int WAITING = 0, CANCELLED = 1, FIRED = 2;
+
+        private final transient Runnable action;
+        private final long deadline;
+        private long rounds;
+        private transient Task next;
+
+        private Task(final Runnable action, final long deadline) {
+            this.action = action;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task if it has not yet run.
+         *
+         * @return {@code true} if the task will not run
+         */
+        boolean cancel() {
+            return this.compareAndSet(WAITING, CANCELLED) || this.get() == CANCELLED;
+        }
+
+        private boolean isCancelled() {
+            return this.get() == CANCELLED;
+        }
+
+        private void fire() {
+            if (!this.compareAndSet(WAITING, FIRED)) return;
+            try {
+                this.action.run();
+            } catch (final Throwable ignored) {
+                // The timer thread must outlive any failing action
+            }
+        }
+    }
+}
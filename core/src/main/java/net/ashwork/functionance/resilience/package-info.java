@@ -0,0 +1,15 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+/**
+ * Resilience decorates functions and operations with behavior to recover
+ * from, limit, or fail fast on failures. Rejections are thrown as stackless
+ * exceptions so they can be defaulted through
+ * {@link net.ashwork.functionance.partial.result.Default#handle} cheaply.
+ */
+package net.ashwork.functionance.resilience;
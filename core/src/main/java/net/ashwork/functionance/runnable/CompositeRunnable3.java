@@ -0,0 +1,88 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.runnable;
+
+import java.util.List;
+
+/**
+ * An operation which runs a sequence of operations one after another
+ * within a loop. Chaining another operation onto a composite appends it to
+ * the sequence instead of nesting the composite within a new operation, so
+ * the stack does not grow with the number of operations.
+ *
+ * <p>If an operation throws an exception, the remaining operations are not
+ * run.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ * @see Runnable3#andThen(Runnable3)
+ * @since 1.0.0
+ */
+public final class CompositeRunnable3<T1, T2, T3> implements Runnable3<T1, T2, T3> {
+
+    final Operations operations;
+
+    private CompositeRunnable3(final Operations operations) {
+        this.operations = operations;
+    }
+
+    /**
+     * Constructs an operation which runs the supplied operations in order.
+     * Any operation which is itself a composite has its operations run in
+     * place of it.
+     *
+     * @param operations the operations to run
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @return an operation which runs the supplied operations in order
+     * @throws NullPointerException if any operation is {@code null}
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T1, T2, T3> CompositeRunnable3<T1, T2, T3> of(final Runnable3<T1, T2, T3>... operations) {
+        return new CompositeRunnable3<>(Operations.of(operations));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void run3(final T1 t1, final T2 t2, final T3 t3) {
+        final Object[] operations = this.operations.operations;
+        for (int i = 0; i < this.operations.size; i++) ((Runnable3<T1, T2, T3>) operations[i]).run3(t1, t2, t3);
+    }
+
+    /**
+     * @throws NullPointerException if the {@code after} operation is {@code null}
+     */
+    @Override
+    public CompositeRunnable3<T1, T2, T3> andThen(final Runnable3<T1, T2, T3> after) {
+        return new CompositeRunnable3<>(this.operations.append(after));
+    }
+
+    /**
+     * Returns the number of operations run by this composite.
+     *
+     * @return the number of operations run by this composite
+     */
+    public int size() {
+        return this.operations.size;
+    }
+
+    /**
+     * Returns an unmodifiable view of the operations run by this composite
+     * in the order they are run.
+     *
+     * @return the operations run by this composite
+     */
+    public List<Runnable3<T1, T2, T3>> operations() {
+        return this.operations.view();
+    }
+}
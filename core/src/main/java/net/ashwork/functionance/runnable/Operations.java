@@ -0,0 +1,111 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.runnable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An immutable sequence of operations backing a composite operation.
+ *
+ * <p>Sequences share their backing array with the sequence they were created
+ * from. Appending an operation to the most recent sequence claims the next
+ * free slot of the shared array, so folding operations together one at a time
+ * does not copy the previous operations.
+ */
+final class Operations {
+
+    /**
+     * The backing array of operations. Only the first {@link #size} elements
+     * belong to this sequence.
+     */
+    final Object[] operations;
+    final int size;
+    /**
+     * The number of slots within the backing array which have been claimed.
+     */
+    private final AtomicInteger claimed;
+
+    private Operations(final Object[] operations, final AtomicInteger claimed, final int size) {
+        this.operations = operations;
+        this.claimed = claimed;
+        this.size = size;
+    }
+
+    /**
+     * Constructs a sequence from the operations, flattening any which are
+     * already composites.
+     *
+     * @param operations the operations within the sequence
+     * @return a sequence of the operations
+     * @throws NullPointerException if any operation is {@code null}
+     */
+    static Operations of(final Object[] operations) {
+        Operations result = new Operations(new Object[Math.max(operations.length, 4)], new AtomicInteger(), 0);
+        for (final Object operation : operations) result = result.append(operation);
+        return result;
+    }
+
+    /**
+     * Returns a sequence with the operation run after the operations in this
+     * sequence. If the operation is itself a composite, its operations are
+     * appended in place of it.
+     *
+     * @param operation the operation to run last
+     * @return a sequence with the operation run last
+     * @throws NullPointerException if the operation is {@code null}
+     */
+    Operations append(final Object operation) {
+        Objects.requireNonNull(operation, "The after operation cannot be null");
+        final Operations other = operations(operation);
+        if (other == null) return this.add(operation);
+        Operations result = this;
+        for (int i = 0; i < other.size; i++) result = result.add(other.operations[i]);
+        return result;
+    }
+
+    /**
+     * Returns an unmodifiable view of the operations within the sequence.
+     *
+     * @param <E> the type of the operations
+     * @return an unmodifiable view of the operations
+     */
+    @SuppressWarnings("unchecked")
+    <E> List<E> view() {
+        return Collections.unmodifiableList((List<E>) Arrays.asList(this.operations).subList(0, this.size));
+    }
+
+    private Operations add(final Object operation) {
+        // Claim the next slot if no other sequence has been created from this one
+        if (this.size < this.operations.length && this.claimed.compareAndSet(this.size, this.size + 1)) {
+            this.operations[this.size] = operation;
+            return new Operations(this.operations, this.claimed, this.size + 1);
+        }
+        final Object[] operations = Arrays.copyOf(this.operations, Math.max(this.size * 2, 4));
+        operations[this.size] = operation;
+        return new Operations(operations, new AtomicInteger(this.size + 1), this.size + 1);
+    }
+
+    private static Operations operations(final Object operation) {
+        if (operation instanceof CompositeRunnable0) return ((CompositeRunnable0) operation).operations;
+        if (operation instanceof CompositeRunnable1) return ((CompositeRunnable1<?>) operation).operations;
+        if (operation instanceof CompositeRunnable2) return ((CompositeRunnable2<?, ?>) operation).operations;
+        if (operation instanceof CompositeRunnable3) return ((CompositeRunnable3<?, ?, ?>) operation).operations;
+        if (operation instanceof CompositeRunnable4) return ((CompositeRunnable4<?, ?, ?, ?>) operation).operations;
+        if (operation instanceof CompositeRunnable5) return ((CompositeRunnable5<?, ?, ?, ?, ?>) operation).operations;
+        if (operation instanceof CompositeRunnable6) return ((CompositeRunnable6<?, ?, ?, ?, ?, ?>) operation).operations;
+        if (operation instanceof CompositeRunnable7) return ((CompositeRunnable7<?, ?, ?, ?, ?, ?, ?>) operation).operations;
+        if (operation instanceof CompositeRunnable8) return ((CompositeRunnable8<?, ?, ?, ?, ?, ?, ?, ?>) operation).operations;
+        return null;
+    }
+}
@@ -10,6 +10,8 @@
 package net.ashwork.functionance.runnable;
 
 import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.attempt.Try;
+import net.ashwork.functionance.metrics.Registry;
 import net.ashwork.functionance.partial.input.Input0;
 import net.ashwork.functionance.partial.result.Chain;
 import net.ashwork.functionance.partial.result.Default;
@@ -17,6 +19,8 @@ import net.ashwork.functionance.partial.task.Task0;
 import net.ashwork.functionance.partial.transformer.Transformer1;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Represents an operation that accepts no arguments and returns no result.
@@ -50,10 +54,7 @@ public interface Runnable0 extends Input0, Task0, Chain<Runnable0>, Default<Runn
     @Override
     default Runnable0 andThen(final Runnable0 after) {
         Objects.requireNonNull(after, "The after operation cannot be null");
-        return () -> {
-            this.run0();
-            after.run0();
-        };
+        return CompositeRunnable0.of(this, after);
     }
 
     /**
@@ -80,4 +81,68 @@ public interface Runnable0 extends Input0, Task0, Chain<Runnable0>, Default<Runn
         Objects.requireNonNull(addend, "The addend transformer cannot be null");
         return addend.apply1(this);
     }
+
+    /**
+     * Runs this operation on the executor.
+     *
+     * @param executor the executor to run the operation on
+     * @return a future which completes once the operation has run
+     * @throws NullPointerException if the {@code executor} is {@code null}
+     */
+    default CompletableFuture<Void> runAsync0(final Executor executor) {
+        Objects.requireNonNull(executor, "The executor cannot be null");
+        return CompletableFuture.runAsync(this::run0, executor);
+    }
+
+    /**
+     * Runs this operation, returning any exception it throws as a failed
+     * outcome rather than propagating it. A successful outcome is shared
+     * between every call.
+     *
+     * @return the outcome of the operation
+     * @see Try#success()
+     */
+    default Try<Void> tryRun0() {
+        try {
+            this.run0();
+            return Try.success();
+        } catch (final Throwable t) {
+            return Try.failure(t);
+        }
+    }
+
+    /**
+     * Returns an operation which records the calls, failures, and latencies
+     * of this operation within the instrument of the global registry with the
+     * name.
+     *
+     * @param name the name of the instrument
+     * @return an operation which records its calls
+     * @throws NullPointerException if the {@code name} is {@code null}
+     * @throws IllegalArgumentException if the instrument already exists and
+     *                                  only samples some calls
+     * @see Registry#instrument(String)
+     */
+    default Runnable0 instrument(final String name) {
+        return Registry.global().instrument(name).decorateRunnable(this);
+    }
+
+    /**
+     * Returns an operation which counts the calls and failures of this
+     * operation within the instrument of the global registry with the name,
+     * only measuring the latency of one in every {@code sampleInterval}
+     * calls of each thread.
+     *
+     * @param name the name of the instrument
+     * @param sampleInterval the number of calls between each measured call
+     * @return an operation which records its calls
+     * @throws NullPointerException if the {@code name} is {@code null}
+     * @throws IllegalArgumentException if {@code sampleInterval} is not
+     *                                  positive, or the instrument already
+     *                                  exists with a different interval
+     * @see Registry#instrument(String, int)
+     */
+    default Runnable0 instrument(final String name, final int sampleInterval) {
+        return Registry.global().instrument(name, sampleInterval).decorateRunnable(this);
+    }
 }
@@ -10,6 +10,10 @@
 package net.ashwork.functionance.runnable;
 
 import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.attempt.Try;
+import net.ashwork.functionance.batch.Batch;
+import net.ashwork.functionance.batch.Range;
+import net.ashwork.functionance.metrics.Registry;
 import net.ashwork.functionance.partial.input.Input1;
 import net.ashwork.functionance.partial.result.Chain;
 import net.ashwork.functionance.partial.result.Default;
@@ -17,6 +21,9 @@ import net.ashwork.functionance.partial.task.Task1;
 import net.ashwork.functionance.partial.transformer.Transformer1;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents an operation that accepts one argument and returns no result.
@@ -60,10 +67,7 @@ public interface Runnable1<T1> extends Input1<T1>, Task1<T1>, Chain<Runnable1<T1
     @Override
     default Runnable1<T1> andThen(final Runnable1<T1> after) {
         Objects.requireNonNull(after, "The after operation cannot be null");
-        return t1 -> {
-            this.run1(t1);
-            after.run1(t1);
-        };
+        return CompositeRunnable1.of(this, after);
     }
 
     /**
@@ -95,4 +99,104 @@ public interface Runnable1<T1> extends Input1<T1>, Task1<T1>, Chain<Runnable1<T1
         Objects.requireNonNull(addend, "The addend transformer cannot be null");
         return addend.apply1(this);
     }
+
+    /**
+     * Runs this operation on the executor.
+     *
+     * @param t1 the first operation argument
+     * @param executor the executor to run the operation on
+     * @return a future which completes once the operation has run
+     * @throws NullPointerException if the {@code executor} is {@code null}
+     */
+    default CompletableFuture<Void> runAsync1(final T1 t1, final Executor executor) {
+        Objects.requireNonNull(executor, "The executor cannot be null");
+        return CompletableFuture.runAsync(() -> this.run1(t1), executor);
+    }
+
+    /**
+     * Runs this operation on each index within the range of the argument
+     * arrays.
+     *
+     * @param t1 the first operation arguments
+     * @param offset the first index of the range
+     * @param length the number of indices within the range
+     * @throws NullPointerException if any array is {@code null}
+     * @throws IndexOutOfBoundsException if the range is not within every array
+     */
+    default void runBatch1(final T1[] t1, final int offset, final int length) {
+        Batch.checkRange(offset, length, t1.length);
+        for (int i = offset, end = offset + length; i < end; i++) this.run1(t1[i]);
+    }
+
+    /**
+     * Runs this operation on each index within the range of the argument
+     * arrays. The range is split across the pool.
+     *
+     * @param t1 the first operation arguments
+     * @param offset the first index of the range
+     * @param length the number of indices within the range
+     * @param pool the pool to split the range across
+     * @throws NullPointerException if any array or the {@code pool} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is not within every array
+     * @see Batch#split(int, int, ForkJoinPool, Range)
+     */
+    default void runBatch1(final T1[] t1, final int offset, final int length, final ForkJoinPool pool) {
+        Batch.checkRange(offset, length, t1.length);
+        Batch.split(offset, length, pool, (from, to) -> {
+            for (int i = from; i < to; i++) this.run1(t1[i]);
+        });
+    }
+
+    /**
+     * Runs this operation, returning any exception it throws as a failed
+     * outcome rather than propagating it. A successful outcome is shared
+     * between every call.
+     *
+     * @param t1 the first operation argument
+     * @return the outcome of the operation
+     * @see Try#success()
+     */
+    default Try<Void> tryRun1(final T1 t1) {
+        try {
+            this.run1(t1);
+            return Try.success();
+        } catch (final Throwable t) {
+            return Try.failure(t);
+        }
+    }
+
+    /**
+     * Returns an operation which records the calls, failures, and latencies
+     * of this operation within the instrument of the global registry with the
+     * name.
+     *
+     * @param name the name of the instrument
+     * @return an operation which records its calls
+     * @throws NullPointerException if the {@code name} is {@code null}
+     * @throws IllegalArgumentException if the instrument already exists and
+     *                                  only samples some calls
+     * @see Registry#instrument(String)
+     */
+    default Runnable1<T1> instrument(final String name) {
+        return Registry.global().instrument(name).decorateRunnable(this);
+    }
+
+    /**
+     * Returns an operation which counts the calls and failures of this
+     * operation within the instrument of the global registry with the name,
+     * only measuring the latency of one in every {@code sampleInterval}
+     * calls of each thread.
+     *
+     * @param name the name of the instrument
+     * @param sampleInterval the number of calls between each measured call
+     * @return an operation which records its calls
+     * @throws NullPointerException if the {@code name} is {@code null}
+     * @throws IllegalArgumentException if {@code sampleInterval} is not
+     *                                  positive, or the instrument already
+     *                                  exists with a different interval
+     * @see Registry#instrument(String, int)
+     */
+    default Runnable1<T1> instrument(final String name, final int sampleInterval) {
+        return Registry.global().instrument(name, sampleInterval).decorateRunnable(this);
+    }
 }
@@ -10,6 +10,10 @@
 package net.ashwork.functionance.runnable;
 
 import net.ashwork.functionance.*;
+import net.ashwork.functionance.attempt.Try;
+import net.ashwork.functionance.batch.Batch;
+import net.ashwork.functionance.batch.Range;
+import net.ashwork.functionance.metrics.Registry;
 import net.ashwork.functionance.partial.input.Input5;
 import net.ashwork.functionance.partial.result.Chain;
 import net.ashwork.functionance.partial.result.Default;
@@ -17,6 +21,9 @@ import net.ashwork.functionance.partial.task.Task5;
 import net.ashwork.functionance.partial.transformer.Transformer1;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents an operation that accepts five arguments and returns no result.
@@ -100,10 +107,7 @@ public interface Runnable5<T1, T2, T3, T4, T5> extends Input5<T1, T2, T3, T4, T5
     @Override
     default Runnable5<T1, T2, T3, T4, T5> andThen(final Runnable5<T1, T2, T3, T4, T5> after) {
         Objects.requireNonNull(after, "The after operation cannot be null");
-        return (t1, t2, t3, t4, t5) -> {
-            this.run5(t1, t2, t3, t4, t5);
-            after.run5(t1, t2, t3, t4, t5);
-        };
+        return CompositeRunnable5.of(this, after);
     }
 
     /**
@@ -230,4 +234,120 @@ public interface Runnable5<T1, T2, T3, T4, T5> extends Input5<T1, T2, T3, T4, T5
     default Function4<T1, T2, T3, T4, Runnable1<T5>> curry5() {
         return (t1, t2, t3, t4) -> t5 -> this.run5(t1, t2, t3, t4, t5);
     }
+
+    /**
+     * Runs this operation on the executor.
+     *
+     * @param t1 the first operation argument
+     * @param t2 the second operation argument
+     * @param t3 the third operation argument
+     * @param t4 the fourth operation argument
+     * @param t5 the fifth operation argument
+     * @param executor the executor to run the operation on
+     * @return a future which completes once the operation has run
+     * @throws NullPointerException if the {@code executor} is {@code null}
+     */
+    default CompletableFuture<Void> runAsync5(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final Executor executor) {
+        Objects.requireNonNull(executor, "The executor cannot be null");
+        return CompletableFuture.runAsync(() -> this.run5(t1, t2, t3, t4, t5), executor);
+    }
+
+    /**
+     * Runs this operation on each index within the range of the argument
+     * arrays.
+     *
+     * @param t1 the first operation arguments
+     * @param t2 the second operation arguments
+     * @param t3 the third operation arguments
+     * @param t4 the fourth operation arguments
+     * @param t5 the fifth operation arguments
+     * @param offset the first index of the range
+     * @param length the number of indices within the range
+     * @throws NullPointerException if any array is {@code null}
+     * @throws IndexOutOfBoundsException if the range is not within every array
+     */
+    default void runBatch5(final T1[] t1, final T2[] t2, final T3[] t3, final T4[] t4, final T5[] t5, final int offset, final int length) {
+        Batch.checkRange(offset, length, t1.length, t2.length, t3.length, t4.length, t5.length);
+        for (int i = offset, end = offset + length; i < end; i++) this.run5(t1[i], t2[i], t3[i], t4[i], t5[i]);
+    }
+
+    /**
+     * Runs this operation on each index within the range of the argument
+     * arrays. The range is split across the pool.
+     *
+     * @param t1 the first operation arguments
+     * @param t2 the second operation arguments
+     * @param t3 the third operation arguments
+     * @param t4 the fourth operation arguments
+     * @param t5 the fifth operation arguments
+     * @param offset the first index of the range
+     * @param length the number of indices within the range
+     * @param pool the pool to split the range across
+     * @throws NullPointerException if any array or the {@code pool} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is not within every array
+     * @see Batch#split(int, int, ForkJoinPool, Range)
+     */
+    default void runBatch5(final T1[] t1, final T2[] t2, final T3[] t3, final T4[] t4, final T5[] t5, final int offset, final int length, final ForkJoinPool pool) {
+        Batch.checkRange(offset, length, t1.length, t2.length, t3.length, t4.length, t5.length);
+        Batch.split(offset, length, pool, (from, to) -> {
+            for (int i = from; i < to; i++) this.run5(t1[i], t2[i], t3[i], t4[i], t5[i]);
+        });
+    }
+
+    /**
+     * Runs this operation, returning any exception it throws as a failed
+     * outcome rather than propagating it. A successful outcome is shared
+     * between every call.
+     *
+     * @param t1 the first operation argument
+     * @param t2 the second operation argument
+     * @param t3 the third operation argument
+     * @param t4 the fourth operation argument
+     * @param t5 the fifth operation argument
+     * @return the outcome of the operation
+     * @see Try#success()
+     */
+    default Try<Void> tryRun5(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) {
+        try {
+            this.run5(t1, t2, t3, t4, t5);
+            return Try.success();
+        } catch (final Throwable t) {
+            return Try.failure(t);
+        }
+    }
+
+    /**
+     * Returns an operation which records the calls, failures, and latencies
+     * of this operation within the instrument of the global registry with the
+     * name.
+     *
+     * @param name the name of the instrument
+     * @return an operation which records its calls
+     * @throws NullPointerException if the {@code name} is {@code null}
+     * @throws IllegalArgumentException if the instrument already exists and
+     *                                  only samples some calls
+     * @see Registry#instrument(String)
+     */
+    default Runnable5<T1, T2, T3, T4, T5> instrument(final String name) {
+        return Registry.global().instrument(name).decorateRunnable(this);
+    }
+
+    /**
+     * Returns an operation which counts the calls and failures of this
+     * operation within the instrument of the global registry with the name,
+     * only measuring the latency of one in every {@code sampleInterval}
+     * calls of each thread.
+     *
+     * @param name the name of the instrument
+     * @param sampleInterval the number of calls between each measured call
+     * @return an operation which records its calls
+     * @throws NullPointerException if the {@code name} is {@code null}
+     * @throws IllegalArgumentException if {@code sampleInterval} is not
+     *                                  positive, or the instrument already
+     *                                  exists with a different interval
+     * @see Registry#instrument(String, int)
+     */
+    default Runnable5<T1, T2, T3, T4, T5> instrument(final String name, final int sampleInterval) {
+        return Registry.global().instrument(name, sampleInterval).decorateRunnable(this);
+    }
 }
@@ -0,0 +1,502 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.stream;
+
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.Function3;
+import net.ashwork.functionance.Function4;
+import net.ashwork.functionance.Function5;
+import net.ashwork.functionance.Function6;
+import net.ashwork.functionance.Function7;
+import net.ashwork.functionance.Function8;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Zips the elements of two to eight sources together, applying the function
+ * of the matching arity to each group of aligned elements. The resulting
+ * stream ends once any source is exhausted.
+ *
+ * <p>Sources which are {@link Spliterator#SUBSIZED} and of equal size, such
+ * as arrays or array lists of the same length, are split together such that
+ * the zipped stream parallelizes as well as the sources themselves. Other
+ * sources are split by copying batches of aligned elements.
+ *
+ * @since 1.0.0
+ */
+public final class Zip {
+
+    private Zip() {}
+
+    /**
+     * Returns a stream which applies the function to each group of aligned
+     * elements from the sources.
+     *
+     * @param t1 the first source
+     * @param t2 the second source
+     * @param function the function to apply to each group of elements
+     * @param parallel whether the returned stream is parallel
+     * @param <T1> the type of the elements of the first source
+     * @param <T2> the type of the elements of the second source
+     * @param <R> the type of the result of the function
+     * @return a stream of the function results
+     * @throws NullPointerException if any source or the {@code function} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, R> Stream<R> zip(final Spliterator<T1> t1, final Spliterator<T2> t2, final Function2<? super T1, ? super T2, ? extends R> function, final boolean parallel) {
+        Objects.requireNonNull(t1, "The first source cannot be null");
+        Objects.requireNonNull(t2, "The second source cannot be null");
+        Objects.requireNonNull(function, "The function cannot be null");
+        return StreamSupport.stream(new ZipSpliterator<R>(new Spliterator<?>[] {t1, t2},
+                group -> function.apply2((T1) group[0], (T2) group[1])), parallel);
+    }
+
+    /**
+     * Returns a stream which applies the function to each group of aligned
+     * elements from the streams. The returned stream is parallel if any of
+     * the streams are, and closing it closes every stream.
+     *
+     * @param t1 the first stream
+     * @param t2 the second stream
+     * @param function the function to apply to each group of elements
+     * @param <T1> the type of the elements of the first stream
+     * @param <T2> the type of the elements of the second stream
+     * @param <R> the type of the result of the function
+     * @return a stream of the function results
+     * @throws NullPointerException if any stream or the {@code function} is {@code null}
+     */
+    public static <T1, T2, R> Stream<R> zip(final Stream<T1> t1, final Stream<T2> t2, final Function2<? super T1, ? super T2, ? extends R> function) {
+        Objects.requireNonNull(t1, "The first stream cannot be null");
+        Objects.requireNonNull(t2, "The second stream cannot be null");
+        return Zip.<T1, T2, R>zip(t1.spliterator(), t2.spliterator(), function, t1.isParallel() || t2.isParallel())
+                .onClose(t1::close)
+                .onClose(t2::close);
+    }
+
+    /**
+     * Returns a stream which applies the function to each group of aligned
+     * elements from the sources.
+     *
+     * @param t1 the first source
+     * @param t2 the second source
+     * @param t3 the third source
+     * @param function the function to apply to each group of elements
+     * @param parallel whether the returned stream is parallel
+     * @param <T1> the type of the elements of the first source
+     * @param <T2> the type of the elements of the second source
+     * @param <T3> the type of the elements of the third source
+     * @param <R> the type of the result of the function
+     * @return a stream of the function results
+     * @throws NullPointerException if any source or the {@code function} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, T3, R> Stream<R> zip(final Spliterator<T1> t1, final Spliterator<T2> t2, final Spliterator<T3> t3, final Function3<? super T1, ? super T2, ? super T3, ? extends R> function, final boolean parallel) {
+        Objects.requireNonNull(t1, "The first source cannot be null");
+        Objects.requireNonNull(t2, "The second source cannot be null");
+        Objects.requireNonNull(t3, "The third source cannot be null");
+        Objects.requireNonNull(function, "The function cannot be null");
+        return StreamSupport.stream(new ZipSpliterator<R>(new Spliterator<?>[] {t1, t2, t3},
+                group -> function.apply3((T1) group[0], (T2) group[1], (T3) group[2])), parallel);
+    }
+
+    /**
+     * Returns a stream which applies the function to each group of aligned
+     * elements from the streams. The returned stream is parallel if any of
+     * the streams are, and closing it closes every stream.
+     *
+     * @param t1 the first stream
+     * @param t2 the second stream
+     * @param t3 the third stream
+     * @param function the function to apply to each group of elements
+     * @param <T1> the type of the elements of the first stream
+     * @param <T2> the type of the elements of the second stream
+     * @param <T3> the type of the elements of the third stream
+     * @param <R> the type of the result of the function
+     * @return a stream of the function results
+     * @throws NullPointerException if any stream or the {@code function} is {@code null}
+     */
+    public static <T1, T2, T3, R> Stream<R> zip(final Stream<T1> t1, final Stream<T2> t2, final Stream<T3> t3, final Function3<? super T1, ? super T2, ? super T3, ? extends R> function) {
+        Objects.requireNonNull(t1, "The first stream cannot be null");
+        Objects.requireNonNull(t2, "The second stream cannot be null");
+        Objects.requireNonNull(t3, "The third stream cannot be null");
+        return Zip.<T1, T2, T3, R>zip(t1.spliterator(), t2.spliterator(), t3.spliterator(), function, t1.isParallel() || t2.isParallel() || t3.isParallel())
+                .onClose(t1::close)
+                .onClose(t2::close)
+                .onClose(t3::close);
+    }
+
+    /**
+     * Returns a stream which applies the function to each group of aligned
+     * elements from the sources.
+     *
+     * @param t1 the first source
+     * @param t2 the second source
+     * @param t3 the third source
+     * @param t4 the fourth source
+     * @param function the function to apply to each group of elements
+     * @param parallel whether the returned stream is parallel
+     * @param <T1> the type of the elements of the first source
+     * @param <T2> the type of the elements of the second source
+     * @param <T3> the type of the elements of the third source
+     * @param <T4> the type of the elements of the fourth source
+     * @param <R> the type of the result of the function
+     * @return a stream of the function results
+     * @throws NullPointerException if any source or the {@code function} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, T3, T4, R> Stream<R> zip(final Spliterator<T1> t1, final Spliterator<T2> t2, final Spliterator<T3> t3, final Spliterator<T4> t4, final Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> function, final boolean parallel) {
+        Objects.requireNonNull(t1, "The first source cannot be null");
+        Objects.requireNonNull(t2, "The second source cannot be null");
+        Objects.requireNonNull(t3, "The third source cannot be null");
+        Objects.requireNonNull(t4, "The fourth source cannot be null");
+        Objects.requireNonNull(function, "The function cannot be null");
+        return StreamSupport.stream(new ZipSpliterator<R>(new Spliterator<?>[] {t1, t2, t3, t4},
+                group -> function.apply4((T1) group[0], (T2) group[1], (T3) group[2], (T4) group[3])), parallel);
+    }
+
+    /**
+     * Returns a stream which applies the function to each group of aligned
+     * elements from the streams. The returned stream is parallel if any of
+     * the streams are, and closing it closes every stream.
+     *
+     * @param t1 the first stream
+     * @param t2 the second stream
+     * @param t3 the third stream
+     * @param t4 the fourth stream
+     * @param function the function to apply to each group of elements
+     * @param <T1> the type of the elements of the first stream
+     * @param <T2> the type of the elements of the second stream
+     * @param <T3> the type of the elements of the third stream
+     * @param <T4> the type of the elements of the fourth stream
+     * @param <R> the type of the result of the function
+     * @return a stream of the function results
+     * @throws NullPointerException if any stream or the {@code function} is {@code null}
+     */
+    public static <T1, T2, T3, T4, R> Stream<R> zip(final Stream<T1> t1, final Stream<T2> t2, final Stream<T3> t3, final Stream<T4> t4, final Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> function) {
+        Objects.requireNonNull(t1, "The first stream cannot be null");
+        Objects.requireNonNull(t2, "The second stream cannot be null");
+        Objects.requireNonNull(t3, "The third stream cannot be null");
+        Objects.requireNonNull(t4, "The fourth stream cannot be null");
+        return Zip.<T1, T2, T3, T4, R>zip(t1.spliterator(), t2.spliterator(), t3.spliterator(), t4.spliterator(), function, t1.isParallel() || t2.isParallel() || t3.isParallel() || t4.isParallel())
+                .onClose(t1::close)
+                .onClose(t2::close)
+                .onClose(t3::close)
+                .onClose(t4::close);
+    }
+
+    /**
+     * Returns a stream which applies the function to each group of aligned
+     * elements from the sources.
+     *
+     * @param t1 the first source
+     * @param t2 the second source
+     * @param t3 the third source
+     * @param t4 the fourth source
+     * @param t5 the fifth source
+     * @param function the function to apply to each group of elements
+     * @param parallel whether the returned stream is parallel
+     * @param <T1> the type of the elements of the first source
+     * @param <T2> the type of the elements of the second source
+     * @param <T3> the type of the elements of the third source
+     * @param <T4> the type of the elements of the fourth source
+     * @param <T5> the type of the elements of the fifth source
+     * @param <R> the type of the result of the function
+     * @return a stream of the function results
+     * @throws NullPointerException if any source or the {@code function} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, T3, T4, T5, R> Stream<R> zip(final Spliterator<T1> t1, final Spliterator<T2> t2, final Spliterator<T3> t3, final Spliterator<T4> t4, final Spliterator<T5> t5, final Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> function, final boolean parallel) {
+        Objects.requireNonNull(t1, "The first source cannot be null");
+        Objects.requireNonNull(t2, "The second source cannot be null");
+        Objects.requireNonNull(t3, "The third source cannot be null");
+        Objects.requireNonNull(t4, "The fourth source cannot be null");
+        Objects.requireNonNull(t5, "The fifth source cannot be null");
+        Objects.requireNonNull(function, "The function cannot be null");
+        return StreamSupport.stream(new ZipSpliterator<R>(new Spliterator<?>[] {t1, t2, t3, t4, t5},
+                group -> function.apply5((T1) group[0], (T2) group[1], (T3) group[2], (T4) group[3], (T5) group[4])), parallel);
+    }
+
+    /**
+     * Returns a stream which applies the function to each group of aligned
+     * elements from the streams. The returned stream is parallel if any of
+     * the streams are, and closing it closes every stream.
+     *
+     * @param t1 the first stream
+     * @param t2 the second stream
+     * @param t3 the third stream
+     * @param t4 the fourth stream
+     * @param t5 the fifth stream
+     * @param function the function to apply to each group of elements
+     * @param <T1> the type of the elements of the first stream
+     * @param <T2> the type of the elements of the second stream
+     * @param <T3> the type of the elements of the third stream
+     * @param <T4> the type of the elements of the fourth stream
+     * @param <T5> the type of the elements of the fifth stream
+     * @param <R> the type of the result of the function
+     * @return a stream of the function results
+     * @throws NullPointerException if any stream or the {@code function} is {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, R> Stream<R> zip(final Stream<T1> t1, final Stream<T2> t2, final Stream<T3> t3, final Stream<T4> t4, final Stream<T5> t5, final Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> function) {
+        Objects.requireNonNull(t1, "The first stream cannot be null");
+        Objects.requireNonNull(t2, "The second stream cannot be null");
+        Objects.requireNonNull(t3, "The third stream cannot be null");
+        Objects.requireNonNull(t4, "The fourth stream cannot be null");
+        Objects.requireNonNull(t5, "The fifth stream cannot be null");
+        return Zip.<T1, T2, T3, T4, T5, R>zip(t1.spliterator(), t2.spliterator(), t3.spliterator(), t4.spliterator(), t5.spliterator(), function, t1.isParallel() || t2.isParallel() || t3.isParallel() || t4.isParallel() || t5.isParallel())
+                .onClose(t1::close)
+                .onClose(t2::close)
+                .onClose(t3::close)
+                .onClose(t4::close)
+                .onClose(t5::close);
+    }
+
+    /**
+     * Returns a stream which applies the function to each group of aligned
+     * elements from the sources.
+     *
+     * @param t1 the first source
+     * @param t2 the second source
+     * @param t3 the third source
+     * @param t4 the fourth source
+     * @param t5 the fifth source
+     * @param t6 the sixth source
+     * @param function the function to apply to each group of elements
+     * @param parallel whether the returned stream is parallel
+     * @param <T1> the type of the elements of the first source
+     * @param <T2> the type of the elements of the second source
+     * @param <T3> the type of the elements of the third source
+     * @param <T4> the type of the elements of the fourth source
+     * @param <T5> the type of the elements of the fifth source
+     * @param <T6> the type of the elements of the sixth source
+     * @param <R> the type of the result of the function
+     * @return a stream of the function results
+     * @throws NullPointerException if any source or the {@code function} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, T3, T4, T5, T6, R> Stream<R> zip(final Spliterator<T1> t1, final Spliterator<T2> t2, final Spliterator<T3> t3, final Spliterator<T4> t4, final Spliterator<T5> t5, final Spliterator<T6> t6, final Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> function, final boolean parallel) {
+        Objects.requireNonNull(t1, "The first source cannot be null");
+        Objects.requireNonNull(t2, "The second source cannot be null");
+        Objects.requireNonNull(t3, "The third source cannot be null");
+        Objects.requireNonNull(t4, "The fourth source cannot be null");
+        Objects.requireNonNull(t5, "The fifth source cannot be null");
+        Objects.requireNonNull(t6, "The sixth source cannot be null");
+        Objects.requireNonNull(function, "The function cannot be null");
+        return StreamSupport.stream(new ZipSpliterator<R>(new Spliterator<?>[] {t1, t2, t3, t4, t5, t6},
+                group -> function.apply6((T1) group[0], (T2) group[1], (T3) group[2], (T4) group[3], (T5) group[4], (T6) group[5])), parallel);
+    }
+
+    /**
+     * Returns a stream which applies the function to each group of aligned
+     * elements from the streams. The returned stream is parallel if any of
+     * the streams are, and closing it closes every stream.
+     *
+     * @param t1 the first stream
+     * @param t2 the second stream
+     * @param t3 the third stream
+     * @param t4 the fourth stream
+     * @param t5 the fifth stream
+     * @param t6 the sixth stream
+     * @param function the function to apply to each group of elements
+     * @param <T1> the type of the elements of the first stream
+     * @param <T2> the type of the elements of the second stream
+     * @param <T3> the type of the elements of the third stream
+     * @param <T4> the type of the elements of the fourth stream
+     * @param <T5> the type of the elements of the fifth stream
+     * @param <T6> the type of the elements of the sixth stream
+     * @param <R> the type of the result of the function
+     * @return a stream of the function results
+     * @throws NullPointerException if any stream or the {@code function} is {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, R> Stream<R> zip(final Stream<T1> t1, final Stream<T2> t2, final Stream<T3> t3, final Stream<T4> t4, final Stream<T5> t5, final Stream<T6> t6, final Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> function) {
+        Objects.requireNonNull(t1, "The first stream cannot be null");
+        Objects.requireNonNull(t2, "The second stream cannot be null");
+        Objects.requireNonNull(t3, "The third stream cannot be null");
+        Objects.requireNonNull(t4, "The fourth stream cannot be null");
+        Objects.requireNonNull(t5, "The fifth stream cannot be null");
+        Objects.requireNonNull(t6, "The sixth stream cannot be null");
+        return Zip.<T1, T2, T3, T4, T5, T6, R>zip(t1.spliterator(), t2.spliterator(), t3.spliterator(), t4.spliterator(), t5.spliterator(), t6.spliterator(), function, t1.isParallel() || t2.isParallel() || t3.isParallel() || t4.isParallel() || t5.isParallel() || t6.isParallel())
+                .onClose(t1::close)
+                .onClose(t2::close)
+                .onClose(t3::close)
+                .onClose(t4::close)
+                .onClose(t5::close)
+                .onClose(t6::close);
+    }
+
+    /**
+     * Returns a stream which applies the function to each group of aligned
+     * elements from the sources.
+     *
+     * @param t1 the first source
+     * @param t2 the second source
+     * @param t3 the third source
+     * @param t4 the fourth source
+     * @param t5 the fifth source
+     * @param t6 the sixth source
+     * @param t7 the seventh source
+     * @param function the function to apply to each group of elements
+     * @param parallel whether the returned stream is parallel
+     * @param <T1> the type of the elements of the first source
+     * @param <T2> the type of the elements of the second source
+     * @param <T3> the type of the elements of the third source
+     * @param <T4> the type of the elements of the fourth source
+     * @param <T5> the type of the elements of the fifth source
+     * @param <T6> the type of the elements of the sixth source
+     * @param <T7> the type of the elements of the seventh source
+     * @param <R> the type of the result of the function
+     * @return a stream of the function results
+     * @throws NullPointerException if any source or the {@code function} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, T3, T4, T5, T6, T7, R> Stream<R> zip(final Spliterator<T1> t1, final Spliterator<T2> t2, final Spliterator<T3> t3, final Spliterator<T4> t4, final Spliterator<T5> t5, final Spliterator<T6> t6, final Spliterator<T7> t7, final Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R> function, final boolean parallel) {
+        Objects.requireNonNull(t1, "The first source cannot be null");
+        Objects.requireNonNull(t2, "The second source cannot be null");
+        Objects.requireNonNull(t3, "The third source cannot be null");
+        Objects.requireNonNull(t4, "The fourth source cannot be null");
+        Objects.requireNonNull(t5, "The fifth source cannot be null");
+        Objects.requireNonNull(t6, "The sixth source cannot be null");
+        Objects.requireNonNull(t7, "The seventh source cannot be null");
+        Objects.requireNonNull(function, "The function cannot be null");
+        return StreamSupport.stream(new ZipSpliterator<R>(new Spliterator<?>[] {t1, t2, t3, t4, t5, t6, t7},
+                group -> function.apply7((T1) group[0], (T2) group[1], (T3) group[2], (T4) group[3], (T5) group[4], (T6) group[5], (T7) group[6])), parallel);
+    }
+
+    /**
+     * Returns a stream which applies the function to each group of aligned
+     * elements from the streams. The returned stream is parallel if any of
+     * the streams are, and closing it closes every stream.
+     *
+     * @param t1 the first stream
+     * @param t2 the second stream
+     * @param t3 the third stream
+     * @param t4 the fourth stream
+     * @param t5 the fifth stream
+     * @param t6 the sixth stream
+     * @param t7 the seventh stream
+     * @param function the function to apply to each group of elements
+     * @param <T1> the type of the elements of the first stream
+     * @param <T2> the type of the elements of the second stream
+     * @param <T3> the type of the elements of the third stream
+     * @param <T4> the type of the elements of the fourth stream
+     * @param <T5> the type of the elements of the fifth stream
+     * @param <T6> the type of the elements of the sixth stream
+     * @param <T7> the type of the elements of the seventh stream
+     * @param <R> the type of the result of the function
+     * @return a stream of the function results
+     * @throws NullPointerException if any stream or the {@code function} is {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, R> Stream<R> zip(final Stream<T1> t1, final Stream<T2> t2, final Stream<T3> t3, final Stream<T4> t4, final Stream<T5> t5, final Stream<T6> t6, final Stream<T7> t7, final Function7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R> function) {
+        Objects.requireNonNull(t1, "The first stream cannot be null");
+        Objects.requireNonNull(t2, "The second stream cannot be null");
+        Objects.requireNonNull(t3, "The third stream cannot be null");
+        Objects.requireNonNull(t4, "The fourth stream cannot be null");
+        Objects.requireNonNull(t5, "The fifth stream cannot be null");
+        Objects.requireNonNull(t6, "The sixth stream cannot be null");
+        Objects.requireNonNull(t7, "The seventh stream cannot be null");
+        return Zip.<T1, T2, T3, T4, T5, T6, T7, R>zip(t1.spliterator(), t2.spliterator(), t3.spliterator(), t4.spliterator(), t5.spliterator(), t6.spliterator(), t7.spliterator(), function, t1.isParallel() || t2.isParallel() || t3.isParallel() || t4.isParallel() || t5.isParallel() || t6.isParallel() || t7.isParallel())
+                .onClose(t1::close)
+                .onClose(t2::close)
+                .onClose(t3::close)
+                .onClose(t4::close)
+                .onClose(t5::close)
+                .onClose(t6::close)
+                .onClose(t7::close);
+    }
+
+    /**
+     * Returns a stream which applies the function to each group of aligned
+     * elements from the sources.
+     *
+     * @param t1 the first source
+     * @param t2 the second source
+     * @param t3 the third source
+     * @param t4 the fourth source
+     * @param t5 the fifth source
+     * @param t6 the sixth source
+     * @param t7 the seventh source
+     * @param t8 the eighth source
+     * @param function the function to apply to each group of elements
+     * @param parallel whether the returned stream is parallel
+     * @param <T1> the type of the elements of the first source
+     * @param <T2> the type of the elements of the second source
+     * @param <T3> the type of the elements of the third source
+     * @param <T4> the type of the elements of the fourth source
+     * @param <T5> the type of the elements of the fifth source
+     * @param <T6> the type of the elements of the sixth source
+     * @param <T7> the type of the elements of the seventh source
+     * @param <T8> the type of the elements of the eighth source
+     * @param <R> the type of the result of the function
+     * @return a stream of the function results
+     * @throws NullPointerException if any source or the {@code function} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, R> Stream<R> zip(final Spliterator<T1> t1, final Spliterator<T2> t2, final Spliterator<T3> t3, final Spliterator<T4> t4, final Spliterator<T5> t5, final Spliterator<T6> t6, final Spliterator<T7> t7, final Spliterator<T8> t8, final Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> function, final boolean parallel) {
+        Objects.requireNonNull(t1, "The first source cannot be null");
+        Objects.requireNonNull(t2, "The second source cannot be null");
+        Objects.requireNonNull(t3, "The third source cannot be null");
+        Objects.requireNonNull(t4, "The fourth source cannot be null");
+        Objects.requireNonNull(t5, "The fifth source cannot be null");
+        Objects.requireNonNull(t6, "The sixth source cannot be null");
+        Objects.requireNonNull(t7, "The seventh source cannot be null");
+        Objects.requireNonNull(t8, "The eighth source cannot be null");
+        Objects.requireNonNull(function, "The function cannot be null");
+        return StreamSupport.stream(new ZipSpliterator<R>(new Spliterator<?>[] {t1, t2, t3, t4, t5, t6, t7, t8},
+                group -> function.apply8((T1) group[0], (T2) group[1], (T3) group[2], (T4) group[3], (T5) group[4], (T6) group[5], (T7) group[6], (T8) group[7])), parallel);
+    }
+
+    /**
+     * Returns a stream which applies the function to each group of aligned
+     * elements from the streams. The returned stream is parallel if any of
+     * the streams are, and closing it closes every stream.
+     *
+     * @param t1 the first stream
+     * @param t2 the second stream
+     * @param t3 the third stream
+     * @param t4 the fourth stream
+     * @param t5 the fifth stream
+     * @param t6 the sixth stream
+     * @param t7 the seventh stream
+     * @param t8 the eighth stream
+     * @param function the function to apply to each group of elements
+     * @param <T1> the type of the elements of the first stream
+     * @param <T2> the type of the elements of the second stream
+     * @param <T3> the type of the elements of the third stream
+     * @param <T4> the type of the elements of the fourth stream
+     * @param <T5> the type of the elements of the fifth stream
+     * @param <T6> the type of the elements of the sixth stream
+     * @param <T7> the type of the elements of the seventh stream
+     * @param <T8> the type of the elements of the eighth stream
+     * @param <R> the type of the result of the function
+     * @return a stream of the function results
+     * @throws NullPointerException if any stream or the {@code function} is {@code null}
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, R> Stream<R> zip(final Stream<T1> t1, final Stream<T2> t2, final Stream<T3> t3, final Stream<T4> t4, final Stream<T5> t5, final Stream<T6> t6, final Stream<T7> t7, final Stream<T8> t8, final Function8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> function) {
+        Objects.requireNonNull(t1, "The first stream cannot be null");
+        Objects.requireNonNull(t2, "The second stream cannot be null");
+        Objects.requireNonNull(t3, "The third stream cannot be null");
+        Objects.requireNonNull(t4, "The fourth stream cannot be null");
+        Objects.requireNonNull(t5, "The fifth stream cannot be null");
+        Objects.requireNonNull(t6, "The sixth stream cannot be null");
+        Objects.requireNonNull(t7, "The seventh stream cannot be null");
+        Objects.requireNonNull(t8, "The eighth stream cannot be null");
+        return Zip.<T1, T2, T3, T4, T5, T6, T7, T8, R>zip(t1.spliterator(), t2.spliterator(), t3.spliterator(), t4.spliterator(), t5.spliterator(), t6.spliterator(), t7.spliterator(), t8.spliterator(), function, t1.isParallel() || t2.isParallel() || t3.isParallel() || t4.isParallel() || t5.isParallel() || t6.isParallel() || t7.isParallel() || t8.isParallel())
+                .onClose(t1::close)
+                .onClose(t2::close)
+                .onClose(t3::close)
+                .onClose(t4::close)
+                .onClose(t5::close)
+                .onClose(t6::close)
+                .onClose(t7::close)
+                .onClose(t8::close);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.stream;
+
+import net.ashwork.functionance.partial.transformer.Transformer1;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator which advances a group of sources in lockstep and maps each
+ * group of aligned elements to a single result. Iteration stops once any
+ * source is exhausted.
+ *
+ * <p>When every source is {@link Spliterator#SUBSIZED} and of equal size,
+ * the sources are split together and the prefixes are kept as long as they
+ * remain equal in size. If the sources split unevenly, each is rejoined with
+ * its prefix and splitting falls back to copying batches of aligned elements
+ * into arrays, which can themselves be split in lockstep.
+ *
+ * @param <R> the type of the result of the mapping
+ */
+final class ZipSpliterator<R> implements Spliterator<R> {
+
+    /**
+     * The number of element groups copied within the first batch when
+     * falling back to copying, increasing by the same amount each split.
+     */
+    static final int BATCH_UNIT = 1 << 10;
+    /**
+     * The maximum number of element groups copied within a single batch.
+     */
+    static final int MAX_BATCH = 1 << 25;
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED;
+
+    private final Spliterator<?>[] sources;
+    private final Transformer1<Object[], ? extends R> mapper;
+    /**
+     * The buffer holding the current group of aligned elements, reused
+     * between each advance.
+     */
+    private final Object[] group;
+    private final Slot[] slots;
+    private int batch;
+
+    ZipSpliterator(final Spliterator<?>[] sources, final Transformer1<Object[], ? extends R> mapper) {
+        this.sources = sources;
+        this.mapper = mapper;
+        this.group = new Object[sources.length];
+        this.slots = new Slot[sources.length];
+        for (int i = 0; i < sources.length; i++) this.slots[i] = new Slot(this.group, i);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super R> action) {
+        if (!this.advance()) return false;
+        action.accept(this.mapper.apply1(this.group));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super R> action) {
+        while (this.advance()) action.accept(this.mapper.apply1(this.group));
+    }
+
+    private boolean advance() {
+        for (int i = 0; i < this.sources.length; i++) if (!this.sources[i].tryAdvance(this.slots[i])) return false;
+        return true;
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        if (this.hasCharacteristics(SUBSIZED)) {
+            final Spliterator<R> prefix = this.splitLockstep();
+            if (prefix != null) return prefix;
+        }
+        return this.splitBatch();
+    }
+
+    /**
+     * Splits every source at once, keeping the prefixes if they are all the
+     * same size. Otherwise, each source is rejoined with its prefix.
+     *
+     * @return the prefixes of the sources, or {@code null} if they could not be split evenly
+     */
+    private Spliterator<R> splitLockstep() {
+        final long size = this.sources[0].getExactSizeIfKnown();
+        for (final Spliterator<?> source : this.sources) if (source.getExactSizeIfKnown() != size) return null;
+
+        final Spliterator<?>[] prefixes = new Spliterator<?>[this.sources.length];
+        boolean split = true;
+        for (int i = 0; i < this.sources.length; i++) {
+            prefixes[i] = this.sources[i].trySplit();
+            if (prefixes[i] == null) split = false;
+        }
+        if (split) {
+            boolean even = true;
+            final long prefixSize = prefixes[0].getExactSizeIfKnown();
+            for (final Spliterator<?> prefix : prefixes) if (prefix.getExactSizeIfKnown() != prefixSize) even = false;
+            if (even) return new ZipSpliterator<>(prefixes, this.mapper);
+        }
+
+        for (int i = 0; i < this.sources.length; i++)
+            if (prefixes[i] != null) this.sources[i] = new Concat(prefixes[i], this.sources[i]);
+        return null;
+    }
+
+    /**
+     * Copies a batch of element groups into arrays, one per source, and
+     * returns a spliterator over those arrays.
+     *
+     * @return a spliterator over the copied batch, or {@code null} if there are no elements left
+     */
+    private Spliterator<R> splitBatch() {
+        final long size = this.estimateSize();
+        if (size <= 1) return null;
+        int n = Math.min(this.batch + BATCH_UNIT, MAX_BATCH);
+        if (n > size) n = (int) size;
+        final Object[][] columns = new Object[this.sources.length][n];
+        int count = 0;
+        while (count < n && this.advance()) {
+            for (int i = 0; i < this.sources.length; i++) columns[i][count] = this.group[i];
+            count++;
+        }
+        if (count == 0) return null;
+        this.batch = count;
+        final Spliterator<?>[] prefixes = new Spliterator<?>[this.sources.length];
+        for (int i = 0; i < this.sources.length; i++) prefixes[i] = Spliterators.spliterator(columns[i], 0, count, ORDERED);
+        return new ZipSpliterator<>(prefixes, this.mapper);
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = Long.MAX_VALUE;
+        for (final Spliterator<?> source : this.sources) size = Math.min(size, source.estimateSize());
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        int characteristics = CHARACTERISTICS;
+        for (final Spliterator<?> source : this.sources) characteristics &= source.characteristics();
+        return characteristics;
+    }
+
+    /**
+     * A consumer which stores the element it accepts within its index of the
+     * group buffer.
+     */
+    private static final class Slot implements Consumer<Object> {
+
+        private final Object[] group;
+        private final int index;
+
+        private Slot(final Object[] group, final int index) {
+            this.group = group;
+            this.index = index;
+        }
+
+        @Override
+        public void accept(final Object element) {
+            this.group[this.index] = element;
+        }
+    }
+
+    /**
+     * A source which was split unevenly, rejoined with its prefix such that
+     * its elements are traversed in the original order.
+     */
+    private static final class Concat implements Spliterator<Object> {
+
+        private Spliterator<?> first;
+        private final Spliterator<?> second;
+
+        private Concat(final Spliterator<?> first, final Spliterator<?> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<Object> action) {
+            if (this.first != null) {
+                if (this.first.tryAdvance(action)) return true;
+                this.first = null;
+            }
+            return this.second.tryAdvance(action);
+        }
+
+        @Override
+        public Spliterator<Object> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            if (this.first == null) return this.second.estimateSize();
+            final long size = this.first.estimateSize() + this.second.estimateSize();
+            return size < 0 ? Long.MAX_VALUE : size;
+        }
+
+        @Override
+        public int characteristics() {
+            // Both halves must agree for the combined size to be exact, but it can no longer be split
+            final int characteristics = this.first == null ? this.second.characteristics()
+                    : this.first.characteristics() & this.second.characteristics();
+            return characteristics & (ORDERED | SIZED);
+        }
+    }
+}
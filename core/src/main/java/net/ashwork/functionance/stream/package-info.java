@@ -0,0 +1,13 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+/**
+ * Streams combine the elements of multiple sources through the functions of
+ * the matching arity while preserving the ability to split in parallel.
+ */
+package net.ashwork.functionance.stream;
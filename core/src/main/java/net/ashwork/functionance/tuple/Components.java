@@ -0,0 +1,55 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.tuple;
+
+import java.lang.reflect.Array;
+import java.util.Objects;
+
+/**
+ * Creates the arrays holding the components of a batch.
+ */
+final class Components {
+
+    private Components() {}
+
+    /**
+     * Returns an array of the component type. Functions overriding a batch
+     * method with a concrete array type can be passed the array directly.
+     *
+     * @param type the class of the component
+     * @param length the length of the array
+     * @param <T> the type of the component
+     * @return an array of the component type
+     * @throws NullPointerException if the {@code type} is {@code null}
+     * @throws IllegalArgumentException if the {@code type} is primitive
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T[] array(final Class<T> type, final int length) {
+        Objects.requireNonNull(type, "The component type cannot be null");
+        if (type.isPrimitive())
+            throw new IllegalArgumentException("The component type cannot be primitive: " + type);
+        return (T[]) Array.newInstance(type, length);
+    }
+
+    /**
+     * Returns an array of {@code Object}s standing in for an array of the
+     * component type. Elements are only ever read back as the component
+     * type, but a function overriding a batch method with a concrete array
+     * type will fail with a {@link ClassCastException} when passed the array.
+     *
+     * @param length the length of the array
+     * @param <T> the type of the component
+     * @return an array of {@code Object}s typed as the component
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T[] erased(final int length) {
+        return (T[]) new Object[length];
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.tuple;
+
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.partial.input.Arity;
+import net.ashwork.functionance.runnable.Runnable1;
+
+import java.util.Objects;
+
+/**
+ * An immutable group of one value which can be supplied as the arguments to a
+ * function or operation of the same arity. The hash code is computed once on
+ * construction, so tuples are cheap to use as keys or to compare against one
+ * another.
+ *
+ * @param <T1> the type of the first component
+ * @see TupleBatch1
+ * @since 1.0.0
+ */
+public final class Tuple1<T1> implements Arity {
+
+    private final T1 t1;
+    private final int hash;
+
+    private Tuple1(final T1 t1) {
+        this.t1 = t1;
+        this.hash = Objects.hashCode(t1);
+    }
+
+    /**
+     * Constructs a tuple of the components.
+     *
+     * @param t1 the first component
+     * @param <T1> the type of the first component
+     * @return a tuple of the components
+     */
+    public static <T1> Tuple1<T1> of(final T1 t1) {
+        return new Tuple1<>(t1);
+    }
+
+    @Override
+    public int arity() {
+        return 1;
+    }
+
+    /**
+     * Returns the first component of this tuple.
+     *
+     * @return the first component
+     */
+    public T1 t1() {
+        return this.t1;
+    }
+
+    /**
+     * Applies the function to the components of this tuple.
+     *
+     * @param function the function to apply
+     * @param <R> the type of the result of the function
+     * @return the function result
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    public <R> R apply(final Function1<? super T1, ? extends R> function) {
+        return Objects.requireNonNull(function, "The function cannot be null").apply1(this.t1);
+    }
+
+    /**
+     * Runs the operation on the components of this tuple.
+     *
+     * @param operation the operation to run
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    public void run(final Runnable1<? super T1> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null").run1(this.t1);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Tuple1)) return false;
+        final Tuple1<?> tuple = (Tuple1<?>) obj;
+        return this.hash == tuple.hash && Objects.equals(this.t1, tuple.t1);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + this.t1 + ")";
+    }
+}
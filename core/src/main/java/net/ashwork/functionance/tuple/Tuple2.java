@@ -0,0 +1,118 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.tuple;
+
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.partial.input.Arity;
+import net.ashwork.functionance.runnable.Runnable2;
+
+import java.util.Objects;
+
+/**
+ * An immutable group of two values which can be supplied as the arguments to
+ * a function or operation of the same arity. The hash code is computed once
+ * on construction, so tuples are cheap to use as keys or to compare against
+ * one another.
+ *
+ * @param <T1> the type of the first component
+ * @param <T2> the type of the second component
+ * @see TupleBatch2
+ * @since 1.0.0
+ */
+public final class Tuple2<T1, T2> implements Arity {
+
+    private final T1 t1;
+    private final T2 t2;
+    private final int hash;
+
+    private Tuple2(final T1 t1, final T2 t2) {
+        this.t1 = t1;
+        this.t2 = t2;
+        int hash = Objects.hashCode(t1);
+        hash = 31 * hash + Objects.hashCode(t2);
+        this.hash = hash;
+    }
+
+    /**
+     * Constructs a tuple of the components.
+     *
+     * @param t1 the first component
+     * @param t2 the second component
+     * @param <T1> the type of the first component
+     * @param <T2> the type of the second component
+     * @return a tuple of the components
+     */
+    public static <T1, T2> Tuple2<T1, T2> of(final T1 t1, final T2 t2) {
+        return new Tuple2<>(t1, t2);
+    }
+
+    @Override
+    public int arity() {
+        return 2;
+    }
+
+    /**
+     * Returns the first component of this tuple.
+     *
+     * @return the first component
+     */
+    public T1 t1() {
+        return this.t1;
+    }
+
+    /**
+     * Returns the second component of this tuple.
+     *
+     * @return the second component
+     */
+    public T2 t2() {
+        return this.t2;
+    }
+
+    /**
+     * Applies the function to the components of this tuple.
+     *
+     * @param function the function to apply
+     * @param <R> the type of the result of the function
+     * @return the function result
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    public <R> R apply(final Function2<? super T1, ? super T2, ? extends R> function) {
+        return Objects.requireNonNull(function, "The function cannot be null").apply2(this.t1, this.t2);
+    }
+
+    /**
+     * Runs the operation on the components of this tuple.
+     *
+     * @param operation the operation to run
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    public void run(final Runnable2<? super T1, ? super T2> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null").run2(this.t1, this.t2);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Tuple2)) return false;
+        final Tuple2<?, ?> tuple = (Tuple2<?, ?>) obj;
+        return this.hash == tuple.hash && Objects.equals(this.t1, tuple.t1) && Objects.equals(this.t2, tuple.t2);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + this.t1 + ", " + this.t2 + ")";
+    }
+}
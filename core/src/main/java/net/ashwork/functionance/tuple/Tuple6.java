@@ -0,0 +1,178 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.tuple;
+
+import net.ashwork.functionance.Function6;
+import net.ashwork.functionance.partial.input.Arity;
+import net.ashwork.functionance.runnable.Runnable6;
+
+import java.util.Objects;
+
+/**
+ * An immutable group of six values which can be supplied as the arguments to
+ * a function or operation of the same arity. The hash code is computed once
+ * on construction, so tuples are cheap to use as keys or to compare against
+ * one another.
+ *
+ * @param <T1> the type of the first component
+ * @param <T2> the type of the second component
+ * @param <T3> the type of the third component
+ * @param <T4> the type of the fourth component
+ * @param <T5> the type of the fifth component
+ * @param <T6> the type of the sixth component
+ * @see TupleBatch6
+ * @since 1.0.0
+ */
+public final class Tuple6<T1, T2, T3, T4, T5, T6> implements Arity {
+
+    private final T1 t1;
+    private final T2 t2;
+    private final T3 t3;
+    private final T4 t4;
+    private final T5 t5;
+    private final T6 t6;
+    private final int hash;
+
+    private Tuple6(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) {
+        this.t1 = t1;
+        this.t2 = t2;
+        this.t3 = t3;
+        this.t4 = t4;
+        this.t5 = t5;
+        this.t6 = t6;
+        int hash = Objects.hashCode(t1);
+        hash = 31 * hash + Objects.hashCode(t2);
+        hash = 31 * hash + Objects.hashCode(t3);
+        hash = 31 * hash + Objects.hashCode(t4);
+        hash = 31 * hash + Objects.hashCode(t5);
+        hash = 31 * hash + Objects.hashCode(t6);
+        this.hash = hash;
+    }
+
+    /**
+     * Constructs a tuple of the components.
+     *
+     * @param t1 the first component
+     * @param t2 the second component
+     * @param t3 the third component
+     * @param t4 the fourth component
+     * @param t5 the fifth component
+     * @param t6 the sixth component
+     * @param <T1> the type of the first component
+     * @param <T2> the type of the second component
+     * @param <T3> the type of the third component
+     * @param <T4> the type of the fourth component
+     * @param <T5> the type of the fifth component
+     * @param <T6> the type of the sixth component
+     * @return a tuple of the components
+     */
+    public static <T1, T2, T3, T4, T5, T6> Tuple6<T1, T2, T3, T4, T5, T6> of(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) {
+        return new Tuple6<>(t1, t2, t3, t4, t5, t6);
+    }
+
+    @Override
+    public int arity() {
+        return 6;
+    }
+
+    /**
+     * Returns the first component of this tuple.
+     *
+     * @return the first component
+     */
+    public T1 t1() {
+        return this.t1;
+    }
+
+    /**
+     * Returns the second component of this tuple.
+     *
+     * @return the second component
+     */
+    public T2 t2() {
+        return this.t2;
+    }
+
+    /**
+     * Returns the third component of this tuple.
+     *
+     * @return the third component
+     */
+    public T3 t3() {
+        return this.t3;
+    }
+
+    /**
+     * Returns the fourth component of this tuple.
+     *
+     * @return the fourth component
+     */
+    public T4 t4() {
+        return this.t4;
+    }
+
+    /**
+     * Returns the fifth component of this tuple.
+     *
+     * @return the fifth component
+     */
+    public T5 t5() {
+        return this.t5;
+    }
+
+    /**
+     * Returns the sixth component of this tuple.
+     *
+     * @return the sixth component
+     */
+    public T6 t6() {
+        return this.t6;
+    }
+
+    /**
+     * Applies the function to the components of this tuple.
+     *
+     * @param function the function to apply
+     * @param <R> the type of the result of the function
+     * @return the function result
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    public <R> R apply(final Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> function) {
+        return Objects.requireNonNull(function, "The function cannot be null").apply6(this.t1, this.t2, this.t3, this.t4, this.t5, this.t6);
+    }
+
+    /**
+     * Runs the operation on the components of this tuple.
+     *
+     * @param operation the operation to run
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    public void run(final Runnable6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null").run6(this.t1, this.t2, this.t3, this.t4, this.t5, this.t6);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Tuple6)) return false;
+        final Tuple6<?, ?, ?, ?, ?, ?> tuple = (Tuple6<?, ?, ?, ?, ?, ?>) obj;
+        return this.hash == tuple.hash && Objects.equals(this.t1, tuple.t1) && Objects.equals(this.t2, tuple.t2) && Objects.equals(this.t3, tuple.t3) && Objects.equals(this.t4, tuple.t4) && Objects.equals(this.t5, tuple.t5) && Objects.equals(this.t6, tuple.t6);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + this.t1 + ", " + this.t2 + ", " + this.t3 + ", " + this.t4 + ", " + this.t5 + ", " + this.t6 + ")";
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.tuple;
+
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.batch.Batch;
+import net.ashwork.functionance.partial.input.Arity;
+import net.ashwork.functionance.runnable.Runnable1;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A growable batch of tuples stored as one array per component rather than
+ * one object per tuple. Each component array can be passed directly to
+ * {@link Function1#applyBatch1} or {@link Runnable1#runBatch1}.
+ *
+ * <p>Batches are not safe to modify across multiple threads.
+ *
+ * @param <T1> the type of the first component
+ * @see Tuple1
+ * @since 1.0.0
+ */
+public final class TupleBatch1<T1> implements Arity {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private T1[] t1;
+    private int size;
+
+    /**
+     * Constructs an empty batch with the default capacity.
+     */
+    public TupleBatch1() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty batch which can hold the number of tuples before
+     * growing. The components are stored as arrays of {@code Object}s, so
+     * functions overriding {@link Function1#applyBatch1} or
+     * {@link Runnable1#runBatch1} with concrete array types must use a
+     * batch constructed with the classes of its components.
+     *
+     * @param capacity the initial number of tuples the batch can hold
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     * @see #TupleBatch1(Class, int)
+     */
+    public TupleBatch1(final int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("The capacity cannot be negative: " + capacity);
+        this.t1 = Components.erased(capacity);
+    }
+
+    /**
+     * Constructs an empty batch with the default capacity, storing each
+     * component as an array of its class.
+     *
+     * @param t1 the class of the first component
+     * @throws NullPointerException if any class is {@code null}
+     * @throws IllegalArgumentException if any class is primitive
+     */
+    public TupleBatch1(final Class<T1> t1) {
+        this(t1, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty batch which can hold the number of tuples before
+     * growing, storing each component as an array of its class. The arrays
+     * can be passed to functions overriding {@link Function1#applyBatch1}
+     * or {@link Runnable1#runBatch1} with concrete array types.
+     *
+     * @param t1 the class of the first component
+     * @param capacity the initial number of tuples the batch can hold
+     * @throws NullPointerException if any class is {@code null}
+     * @throws IllegalArgumentException if any class is primitive, or {@code capacity} is negative
+     */
+    public TupleBatch1(final Class<T1> t1, final int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("The capacity cannot be negative: " + capacity);
+        this.t1 = Components.array(t1, capacity);
+    }
+
+    @Override
+    public int arity() {
+        return 1;
+    }
+
+    /**
+     * Returns the number of tuples within the batch.
+     *
+     * @return the number of tuples within the batch
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds a tuple of the components to the end of the batch.
+     *
+     * @param t1 the first component
+     * @return this batch
+     */
+    public TupleBatch1<T1> add(final T1 t1) {
+        this.ensureCapacity(this.size + 1);
+        this.t1[this.size] = t1;
+        this.size++;
+        return this;
+    }
+
+    /**
+     * Adds the tuple to the end of the batch.
+     *
+     * @param tuple the tuple to add
+     * @return this batch
+     * @throws NullPointerException if the {@code tuple} is {@code null}
+     */
+    public TupleBatch1<T1> add(final Tuple1<? extends T1> tuple) {
+        Objects.requireNonNull(tuple, "The tuple cannot be null");
+        return this.add(tuple.t1());
+    }
+
+    /**
+     * Returns the tuple at the index.
+     *
+     * @param index the index of the tuple
+     * @return the tuple at the index
+     * @throws IndexOutOfBoundsException if the index is not within the batch
+     */
+    public Tuple1<T1> get(final int index) {
+        Batch.checkRange(index, 1, this.size);
+        return Tuple1.of(this.t1[index]);
+    }
+
+    /**
+     * Returns the first component of the tuple at the index.
+     *
+     * @param index the index of the tuple
+     * @return the first component of the tuple
+     * @throws IndexOutOfBoundsException if the index is not within the batch
+     */
+    public T1 t1(final int index) {
+        Batch.checkRange(index, 1, this.size);
+        return this.t1[index];
+    }
+
+    /**
+     * Applies the function to every tuple within the batch, writing each
+     * result into {@code results} at the same index.
+     *
+     * @param function the function to apply
+     * @param results the array to write the results into
+     * @param <R> the type of the result of the function
+     * @throws NullPointerException if the {@code function} or {@code results} are {@code null}
+     * @throws IndexOutOfBoundsException if {@code results} is smaller than the batch
+     */
+    public <R> void apply(final Function1<? super T1, R> function, final R[] results) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        function.applyBatch1(this.t1, results, 0, this.size);
+    }
+
+    /**
+     * Applies the function to every tuple within the batch, writing each
+     * result into {@code results} at the same index. The batch is split
+     * across the pool.
+     *
+     * @param function the function to apply
+     * @param results the array to write the results into
+     * @param pool the pool to split the batch across
+     * @param <R> the type of the result of the function
+     * @throws NullPointerException if the {@code function}, {@code results}, or {@code pool} are {@code null}
+     * @throws IndexOutOfBoundsException if {@code results} is smaller than the batch
+     */
+    public <R> void apply(final Function1<? super T1, R> function, final R[] results, final ForkJoinPool pool) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        function.applyBatch1(this.t1, results, 0, this.size, pool);
+    }
+
+    /**
+     * Runs the operation on every tuple within the batch.
+     *
+     * @param operation the operation to run
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    public void run(final Runnable1<? super T1> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        operation.runBatch1(this.t1, 0, this.size);
+    }
+
+    /**
+     * Runs the operation on every tuple within the batch. The batch is split
+     * across the pool.
+     *
+     * @param operation the operation to run
+     * @param pool the pool to split the batch across
+     * @throws NullPointerException if the {@code operation} or {@code pool} are {@code null}
+     */
+    public void run(final Runnable1<? super T1> operation, final ForkJoinPool pool) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        operation.runBatch1(this.t1, 0, this.size, pool);
+    }
+
+    /**
+     * Removes every tuple from the batch, keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(this.t1, 0, this.size, null);
+        this.size = 0;
+    }
+
+    private void ensureCapacity(final int minCapacity) {
+        if (minCapacity < 0) throw new OutOfMemoryError("The batch cannot hold more than " + Integer.MAX_VALUE + " tuples");
+        if (minCapacity > this.t1.length) {
+            final int capacity = (int) Math.min(Math.max((long) this.t1.length << 1, Math.max(minCapacity, DEFAULT_CAPACITY)), Integer.MAX_VALUE - 8);
+            this.t1 = Arrays.copyOf(this.t1, capacity);
+        }
+    }
+}
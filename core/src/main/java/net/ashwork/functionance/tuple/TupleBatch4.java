@@ -0,0 +1,290 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.tuple;
+
+import net.ashwork.functionance.Function4;
+import net.ashwork.functionance.batch.Batch;
+import net.ashwork.functionance.partial.input.Arity;
+import net.ashwork.functionance.runnable.Runnable4;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A growable batch of tuples stored as one array per component rather than
+ * one object per tuple. Each component array can be passed directly to
+ * {@link Function4#applyBatch4} or {@link Runnable4#runBatch4}.
+ *
+ * <p>Batches are not safe to modify across multiple threads.
+ *
+ * @param <T1> the type of the first component
+ * @param <T2> the type of the second component
+ * @param <T3> the type of the third component
+ * @param <T4> the type of the fourth component
+ * @see Tuple4
+ * @since 1.0.0
+ */
+public final class TupleBatch4<T1, T2, T3, T4> implements Arity {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private T1[] t1;
+    private T2[] t2;
+    private T3[] t3;
+    private T4[] t4;
+    private int size;
+
+    /**
+     * Constructs an empty batch with the default capacity.
+     */
+    public TupleBatch4() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty batch which can hold the number of tuples before
+     * growing. The components are stored as arrays of {@code Object}s, so
+     * functions overriding {@link Function4#applyBatch4} or
+     * {@link Runnable4#runBatch4} with concrete array types must use a
+     * batch constructed with the classes of its components.
+     *
+     * @param capacity the initial number of tuples the batch can hold
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     * @see #TupleBatch4(Class, Class, Class, Class, int)
+     */
+    public TupleBatch4(final int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("The capacity cannot be negative: " + capacity);
+        this.t1 = Components.erased(capacity);
+        this.t2 = Components.erased(capacity);
+        this.t3 = Components.erased(capacity);
+        this.t4 = Components.erased(capacity);
+    }
+
+    /**
+     * Constructs an empty batch with the default capacity, storing each
+     * component as an array of its class.
+     *
+     * @param t1 the class of the first component
+     * @param t2 the class of the second component
+     * @param t3 the class of the third component
+     * @param t4 the class of the fourth component
+     * @throws NullPointerException if any class is {@code null}
+     * @throws IllegalArgumentException if any class is primitive
+     */
+    public TupleBatch4(final Class<T1> t1, final Class<T2> t2, final Class<T3> t3, final Class<T4> t4) {
+        this(t1, t2, t3, t4, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty batch which can hold the number of tuples before
+     * growing, storing each component as an array of its class. The arrays
+     * can be passed to functions overriding {@link Function4#applyBatch4}
+     * or {@link Runnable4#runBatch4} with concrete array types.
+     *
+     * @param t1 the class of the first component
+     * @param t2 the class of the second component
+     * @param t3 the class of the third component
+     * @param t4 the class of the fourth component
+     * @param capacity the initial number of tuples the batch can hold
+     * @throws NullPointerException if any class is {@code null}
+     * @throws IllegalArgumentException if any class is primitive, or {@code capacity} is negative
+     */
+    public TupleBatch4(final Class<T1> t1, final Class<T2> t2, final Class<T3> t3, final Class<T4> t4, final int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("The capacity cannot be negative: " + capacity);
+        this.t1 = Components.array(t1, capacity);
+        this.t2 = Components.array(t2, capacity);
+        this.t3 = Components.array(t3, capacity);
+        this.t4 = Components.array(t4, capacity);
+    }
+
+    @Override
+    public int arity() {
+        return 4;
+    }
+
+    /**
+     * Returns the number of tuples within the batch.
+     *
+     * @return the number of tuples within the batch
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds a tuple of the components to the end of the batch.
+     *
+     * @param t1 the first component
+     * @param t2 the second component
+     * @param t3 the third component
+     * @param t4 the fourth component
+     * @return this batch
+     */
+    public TupleBatch4<T1, T2, T3, T4> add(final T1 t1, final T2 t2, final T3 t3, final T4 t4) {
+        this.ensureCapacity(this.size + 1);
+        this.t1[this.size] = t1;
+        this.t2[this.size] = t2;
+        this.t3[this.size] = t3;
+        this.t4[this.size] = t4;
+        this.size++;
+        return this;
+    }
+
+    /**
+     * Adds the tuple to the end of the batch.
+     *
+     * @param tuple the tuple to add
+     * @return this batch
+     * @throws NullPointerException if the {@code tuple} is {@code null}
+     */
+    public TupleBatch4<T1, T2, T3, T4> add(final Tuple4<? extends T1, ? extends T2, ? extends T3, ? extends T4> tuple) {
+        Objects.requireNonNull(tuple, "The tuple cannot be null");
+        return this.add(tuple.t1(), tuple.t2(), tuple.t3(), tuple.t4());
+    }
+
+    /**
+     * Returns the tuple at the index.
+     *
+     * @param index the index of the tuple
+     * @return the tuple at the index
+     * @throws IndexOutOfBoundsException if the index is not within the batch
+     */
+    public Tuple4<T1, T2, T3, T4> get(final int index) {
+        Batch.checkRange(index, 1, this.size);
+        return Tuple4.of(this.t1[index], this.t2[index], this.t3[index], this.t4[index]);
+    }
+
+    /**
+     * Returns the first component of the tuple at the index.
+     *
+     * @param index the index of the tuple
+     * @return the first component of the tuple
+     * @throws IndexOutOfBoundsException if the index is not within the batch
+     */
+    public T1 t1(final int index) {
+        Batch.checkRange(index, 1, this.size);
+        return this.t1[index];
+    }
+
+    /**
+     * Returns the second component of the tuple at the index.
+     *
+     * @param index the index of the tuple
+     * @return the second component of the tuple
+     * @throws IndexOutOfBoundsException if the index is not within the batch
+     */
+    public T2 t2(final int index) {
+        Batch.checkRange(index, 1, this.size);
+        return this.t2[index];
+    }
+
+    /**
+     * Returns the third component of the tuple at the index.
+     *
+     * @param index the index of the tuple
+     * @return the third component of the tuple
+     * @throws IndexOutOfBoundsException if the index is not within the batch
+     */
+    public T3 t3(final int index) {
+        Batch.checkRange(index, 1, this.size);
+        return this.t3[index];
+    }
+
+    /**
+     * Returns the fourth component of the tuple at the index.
+     *
+     * @param index the index of the tuple
+     * @return the fourth component of the tuple
+     * @throws IndexOutOfBoundsException if the index is not within the batch
+     */
+    public T4 t4(final int index) {
+        Batch.checkRange(index, 1, this.size);
+        return this.t4[index];
+    }
+
+    /**
+     * Applies the function to every tuple within the batch, writing each
+     * result into {@code results} at the same index.
+     *
+     * @param function the function to apply
+     * @param results the array to write the results into
+     * @param <R> the type of the result of the function
+     * @throws NullPointerException if the {@code function} or {@code results} are {@code null}
+     * @throws IndexOutOfBoundsException if {@code results} is smaller than the batch
+     */
+    public <R> void apply(final Function4<? super T1, ? super T2, ? super T3, ? super T4, R> function, final R[] results) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        function.applyBatch4(this.t1, this.t2, this.t3, this.t4, results, 0, this.size);
+    }
+
+    /**
+     * Applies the function to every tuple within the batch, writing each
+     * result into {@code results} at the same index. The batch is split
+     * across the pool.
+     *
+     * @param function the function to apply
+     * @param results the array to write the results into
+     * @param pool the pool to split the batch across
+     * @param <R> the type of the result of the function
+     * @throws NullPointerException if the {@code function}, {@code results}, or {@code pool} are {@code null}
+     * @throws IndexOutOfBoundsException if {@code results} is smaller than the batch
+     */
+    public <R> void apply(final Function4<? super T1, ? super T2, ? super T3, ? super T4, R> function, final R[] results, final ForkJoinPool pool) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        function.applyBatch4(this.t1, this.t2, this.t3, this.t4, results, 0, this.size, pool);
+    }
+
+    /**
+     * Runs the operation on every tuple within the batch.
+     *
+     * @param operation the operation to run
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    public void run(final Runnable4<? super T1, ? super T2, ? super T3, ? super T4> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        operation.runBatch4(this.t1, this.t2, this.t3, this.t4, 0, this.size);
+    }
+
+    /**
+     * Runs the operation on every tuple within the batch. The batch is split
+     * across the pool.
+     *
+     * @param operation the operation to run
+     * @param pool the pool to split the batch across
+     * @throws NullPointerException if the {@code operation} or {@code pool} are {@code null}
+     */
+    public void run(final Runnable4<? super T1, ? super T2, ? super T3, ? super T4> operation, final ForkJoinPool pool) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        operation.runBatch4(this.t1, this.t2, this.t3, this.t4, 0, this.size, pool);
+    }
+
+    /**
+     * Removes every tuple from the batch, keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(this.t1, 0, this.size, null);
+        Arrays.fill(this.t2, 0, this.size, null);
+        Arrays.fill(this.t3, 0, this.size, null);
+        Arrays.fill(this.t4, 0, this.size, null);
+        this.size = 0;
+    }
+
+    private void ensureCapacity(final int minCapacity) {
+        if (minCapacity < 0) throw new OutOfMemoryError("The batch cannot hold more than " + Integer.MAX_VALUE + " tuples");
+        if (minCapacity > this.t1.length) {
+            final int capacity = (int) Math.min(Math.max((long) this.t1.length << 1, Math.max(minCapacity, DEFAULT_CAPACITY)), Integer.MAX_VALUE - 8);
+            this.t1 = Arrays.copyOf(this.t1, capacity);
+            this.t2 = Arrays.copyOf(this.t2, capacity);
+            this.t3 = Arrays.copyOf(this.t3, capacity);
+            this.t4 = Arrays.copyOf(this.t4, capacity);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.tuple;
+
+import net.ashwork.functionance.Function6;
+import net.ashwork.functionance.batch.Batch;
+import net.ashwork.functionance.partial.input.Arity;
+import net.ashwork.functionance.runnable.Runnable6;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A growable batch of tuples stored as one array per component rather than
+ * one object per tuple. Each component array can be passed directly to
+ * {@link Function6#applyBatch6} or {@link Runnable6#runBatch6}.
+ *
+ * <p>Batches are not safe to modify across multiple threads.
+ *
+ * @param <T1> the type of the first component
+ * @param <T2> the type of the second component
+ * @param <T3> the type of the third component
+ * @param <T4> the type of the fourth component
+ * @param <T5> the type of the fifth component
+ * @param <T6> the type of the sixth component
+ * @see Tuple6
+ * @since 1.0.0
+ */
+public final class TupleBatch6<T1, T2, T3, T4, T5, T6> implements Arity {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private T1[] t1;
+    private T2[] t2;
+    private T3[] t3;
+    private T4[] t4;
+    private T5[] t5;
+    private T6[] t6;
+    private int size;
+
+    /**
+     * Constructs an empty batch with the default capacity.
+     */
+    public TupleBatch6() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty batch which can hold the number of tuples before
+     * growing. The components are stored as arrays of {@code Object}s, so
+     * functions overriding {@link Function6#applyBatch6} or
+     * {@link Runnable6#runBatch6} with concrete array types must use a
+     * batch constructed with the classes of its components.
+     *
+     * @param capacity the initial number of tuples the batch can hold
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     * @see #TupleBatch6(Class, Class, Class, Class, Class, Class, int)
+     */
+    public TupleBatch6(final int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("The capacity cannot be negative: " + capacity);
+        this.t1 = Components.erased(capacity);
+        this.t2 = Components.erased(capacity);
+        this.t3 = Components.erased(capacity);
+        this.t4 = Components.erased(capacity);
+        this.t5 = Components.erased(capacity);
+        this.t6 = Components.erased(capacity);
+    }
+
+    /**
+     * Constructs an empty batch with the default capacity, storing each
+     * component as an array of its class.
+     *
+     * @param t1 the class of the first component
+     * @param t2 the class of the second component
+     * @param t3 the class of the third component
+     * @param t4 the class of the fourth component
+     * @param t5 the class of the fifth component
+     * @param t6 the class of the sixth component
+     * @throws NullPointerException if any class is {@code null}
+     * @throws IllegalArgumentException if any class is primitive
+     */
+    public TupleBatch6(final Class<T1> t1, final Class<T2> t2, final Class<T3> t3, final Class<T4> t4, final Class<T5> t5, final Class<T6> t6) {
+        this(t1, t2, t3, t4, t5, t6, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty batch which can hold the number of tuples before
+     * growing, storing each component as an array of its class. The arrays
+     * can be passed to functions overriding {@link Function6#applyBatch6}
+     * or {@link Runnable6#runBatch6} with concrete array types.
+     *
+     * @param t1 the class of the first component
+     * @param t2 the class of the second component
+     * @param t3 the class of the third component
+     * @param t4 the class of the fourth component
+     * @param t5 the class of the fifth component
+     * @param t6 the class of the sixth component
+     * @param capacity the initial number of tuples the batch can hold
+     * @throws NullPointerException if any class is {@code null}
+     * @throws IllegalArgumentException if any class is primitive, or {@code capacity} is negative
+     */
+    public TupleBatch6(final Class<T1> t1, final Class<T2> t2, final Class<T3> t3, final Class<T4> t4, final Class<T5> t5, final Class<T6> t6, final int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("The capacity cannot be negative: " + capacity);
+        this.t1 = Components.array(t1, capacity);
+        this.t2 = Components.array(t2, capacity);
+        this.t3 = Components.array(t3, capacity);
+        this.t4 = Components.array(t4, capacity);
+        this.t5 = Components.array(t5, capacity);
+        this.t6 = Components.array(t6, capacity);
+    }
+
+    @Override
+    public int arity() {
+        return 6;
+    }
+
+    /**
+     * Returns the number of tuples within the batch.
+     *
+     * @return the number of tuples within the batch
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds a tuple of the components to the end of the batch.
+     *
+     * @param t1 the first component
+     * @param t2 the second component
+     * @param t3 the third component
+     * @param t4 the fourth component
+     * @param t5 the fifth component
+     * @param t6 the sixth component
+     * @return this batch
+     */
+    public TupleBatch6<T1, T2, T3, T4, T5, T6> add(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) {
+        this.ensureCapacity(this.size + 1);
+        this.t1[this.size] = t1;
+        this.t2[this.size] = t2;
+        this.t3[this.size] = t3;
+        this.t4[this.size] = t4;
+        this.t5[this.size] = t5;
+        this.t6[this.size] = t6;
+        this.size++;
+        return this;
+    }
+
+    /**
+     * Adds the tuple to the end of the batch.
+     *
+     * @param tuple the tuple to add
+     * @return this batch
+     * @throws NullPointerException if the {@code tuple} is {@code null}
+     */
+    public TupleBatch6<T1, T2, T3, T4, T5, T6> add(final Tuple6<? extends T1, ? extends T2, ? extends T3, ? extends T4, ? extends T5, ? extends T6> tuple) {
+        Objects.requireNonNull(tuple, "The tuple cannot be null");
+        return this.add(tuple.t1(), tuple.t2(), tuple.t3(), tuple.t4(), tuple.t5(), tuple.t6());
+    }
+
+    /**
+     * Returns the tuple at the index.
+     *
+     * @param index the index of the tuple
+     * @return the tuple at the index
+     * @throws IndexOutOfBoundsException if the index is not within the batch
+     */
+    public Tuple6<T1, T2, T3, T4, T5, T6> get(final int index) {
+        Batch.checkRange(index, 1, this.size);
+        return Tuple6.of(this.t1[index], this.t2[index], this.t3[index], this.t4[index], this.t5[index], this.t6[index]);
+    }
+
+    /**
+     * Returns the first component of the tuple at the index.
+     *
+     * @param index the index of the tuple
+     * @return the first component of the tuple
+     * @throws IndexOutOfBoundsException if the index is not within the batch
+     */
+    public T1 t1(final int index) {
+        Batch.checkRange(index, 1, this.size);
+        return this.t1[index];
+    }
+
+    /**
+     * Returns the second component of the tuple at the index.
+     *
+     * @param index the index of the tuple
+     * @return the second component of the tuple
+     * @throws IndexOutOfBoundsException if the index is not within the batch
+     */
+    public T2 t2(final int index) {
+        Batch.checkRange(index, 1, this.size);
+        return this.t2[index];
+    }
+
+    /**
+     * Returns the third component of the tuple at the index.
+     *
+     * @param index the index of the tuple
+     * @return the third component of the tuple
+     * @throws IndexOutOfBoundsException if the index is not within the batch
+     */
+    public T3 t3(final int index) {
+        Batch.checkRange(index, 1, this.size);
+        return this.t3[index];
+    }
+
+    /**
+     * Returns the fourth component of the tuple at the index.
+     *
+     * @param index the index of the tuple
+     * @return the fourth component of the tuple
+     * @throws IndexOutOfBoundsException if the index is not within the batch
+     */
+    public T4 t4(final int index) {
+        Batch.checkRange(index, 1, this.size);
+        return this.t4[index];
+    }
+
+    /**
+     * Returns the fifth component of the tuple at the index.
+     *
+     * @param index the index of the tuple
+     * @return the fifth component of the tuple
+     * @throws IndexOutOfBoundsException if the index is not within the batch
+     */
+    public T5 t5(final int index) {
+        Batch.checkRange(index, 1, this.size);
+        return this.t5[index];
+    }
+
+    /**
+     * Returns the sixth component of the tuple at the index.
+     *
+     * @param index the index of the tuple
+     * @return the sixth component of the tuple
+     * @throws IndexOutOfBoundsException if the index is not within the batch
+     */
+    public T6 t6(final int index) {
+        Batch.checkRange(index, 1, this.size);
+        return this.t6[index];
+    }
+
+    /**
+     * Applies the function to every tuple within the batch, writing each
+     * result into {@code results} at the same index.
+     *
+     * @param function the function to apply
+     * @param results the array to write the results into
+     * @param <R> the type of the result of the function
+     * @throws NullPointerException if the {@code function} or {@code results} are {@code null}
+     * @throws IndexOutOfBoundsException if {@code results} is smaller than the batch
+     */
+    public <R> void apply(final Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, R> function, final R[] results) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        function.applyBatch6(this.t1, this.t2, this.t3, this.t4, this.t5, this.t6, results, 0, this.size);
+    }
+
+    /**
+     * Applies the function to every tuple within the batch, writing each
+     * result into {@code results} at the same index. The batch is split
+     * across the pool.
+     *
+     * @param function the function to apply
+     * @param results the array to write the results into
+     * @param pool the pool to split the batch across
+     * @param <R> the type of the result of the function
+     * @throws NullPointerException if the {@code function}, {@code results}, or {@code pool} are {@code null}
+     * @throws IndexOutOfBoundsException if {@code results} is smaller than the batch
+     */
+    public <R> void apply(final Function6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, R> function, final R[] results, final ForkJoinPool pool) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        function.applyBatch6(this.t1, this.t2, this.t3, this.t4, this.t5, this.t6, results, 0, this.size, pool);
+    }
+
+    /**
+     * Runs the operation on every tuple within the batch.
+     *
+     * @param operation the operation to run
+     * @throws NullPointerException if the {@code operation} is {@code null}
+     */
+    public void run(final Runnable6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6> operation) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        operation.runBatch6(this.t1, this.t2, this.t3, this.t4, this.t5, this.t6, 0, this.size);
+    }
+
+    /**
+     * Runs the operation on every tuple within the batch. The batch is split
+     * across the pool.
+     *
+     * @param operation the operation to run
+     * @param pool the pool to split the batch across
+     * @throws NullPointerException if the {@code operation} or {@code pool} are {@code null}
+     */
+    public void run(final Runnable6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6> operation, final ForkJoinPool pool) {
+        Objects.requireNonNull(operation, "The operation cannot be null");
+        operation.runBatch6(this.t1, this.t2, this.t3, this.t4, this.t5, this.t6, 0, this.size, pool);
+    }
+
+    /**
+     * Removes every tuple from the batch, keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(this.t1, 0, this.size, null);
+        Arrays.fill(this.t2, 0, this.size, null);
+        Arrays.fill(this.t3, 0, this.size, null);
+        Arrays.fill(this.t4, 0, this.size, null);
+        Arrays.fill(this.t5, 0, this.size, null);
+        Arrays.fill(this.t6, 0, this.size, null);
+        this.size = 0;
+    }
+
+    private void ensureCapacity(final int minCapacity) {
+        if (minCapacity < 0) throw new OutOfMemoryError("The batch cannot hold more than " + Integer.MAX_VALUE + " tuples");
+        if (minCapacity > this.t1.length) {
+            final int capacity = (int) Math.min(Math.max((long) this.t1.length << 1, Math.max(minCapacity, DEFAULT_CAPACITY)), Integer.MAX_VALUE - 8);
+            this.t1 = Arrays.copyOf(this.t1, capacity);
+            this.t2 = Arrays.copyOf(this.t2, capacity);
+            this.t3 = Arrays.copyOf(this.t3, capacity);
+            this.t4 = Arrays.copyOf(this.t4, capacity);
+            this.t5 = Arrays.copyOf(this.t5, capacity);
+            this.t6 = Arrays.copyOf(this.t6, capacity);
+        }
+    }
+}
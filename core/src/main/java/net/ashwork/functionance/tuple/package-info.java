@@ -0,0 +1,14 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+/**
+ * Tuples are immutable groups of values matching the arguments of a function
+ * or operation of the same arity, along with batches storing many tuples as
+ * one array per component.
+ */
+package net.ashwork.functionance.tuple;
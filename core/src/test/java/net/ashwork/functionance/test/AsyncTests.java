@@ -0,0 +1,142 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.test;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.Function3;
+import net.ashwork.functionance.Function4;
+import net.ashwork.functionance.Function8;
+import net.ashwork.functionance.runnable.Runnable2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class AsyncTests {
+
+    @Test
+    public void testAsync() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Function3<String, Integer, Integer, String> substring = String::substring;
+            for (final String s : Generators.strings(FunctionTests.NUM_OF_TESTS, 20)) {
+                final int end = s.length() / 2;
+                Assertions.assertEquals(s.substring(0, end), substring.applyAsync3(s, 0, end, executor).join());
+            }
+
+            final AtomicInteger sum = new AtomicInteger();
+            final Runnable2<Integer, Integer> add = (a, b) -> sum.addAndGet(a + b);
+            add.runAsync2(1, 2, executor).join();
+            Assertions.assertEquals(3, sum.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testLift() {
+        final Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> sum =
+                (t1, t2, t3, t4, t5, t6, t7, t8) -> t1 + t2 + t3 + t4 + t5 + t6 + t7 + t8;
+        final CompletableFuture<Integer> pending = new CompletableFuture<>();
+        final CompletableFuture<Integer> one = CompletableFuture.completedFuture(1);
+        final CompletableFuture<Integer> result = sum.liftAsync().apply8(one, one, one, one, one, one, one, pending);
+        Assertions.assertFalse(result.isDone());
+        pending.complete(1);
+        Assertions.assertEquals(8, result.join());
+
+        final CompletableFuture<Integer> failed = new CompletableFuture<>();
+        final CompletableFuture<Integer> never = new CompletableFuture<>();
+        final CompletableFuture<Integer> failure = sum.liftAsync(Runnable::run).apply8(one, one, one, one, one, one, never, failed);
+        failed.completeExceptionally(new IllegalStateException());
+        Assertions.assertTrue(failure.isCompletedExceptionally());
+        Assertions.assertThrows(CompletionException.class, failure::join);
+    }
+
+    @Test
+    public void testParallel() {
+        // Every argument waits on the others, so this only completes if all are evaluated concurrently
+        final CountDownLatch latch = new CountDownLatch(4);
+        final Function0<Integer> argument = () -> {
+            latch.countDown();
+            try {
+                return latch.await(10, TimeUnit.SECONDS) ? 1 : 0;
+            } catch (final InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        final Function4<Integer, Integer, Integer, Integer, Integer> sum = (t1, t2, t3, t4) -> t1 + t2 + t3 + t4;
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            Assertions.assertEquals(4, sum.applyParallel4(argument, argument, argument, argument, pool));
+        } finally {
+            pool.shutdown();
+        }
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> sum.applyParallel4(() -> 1, () -> {
+                throw new IllegalArgumentException();
+            }, () -> 3, () -> 4, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelFailure() throws InterruptedException {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function0<Integer> argument = calls::incrementAndGet;
+        final Function3<Integer, Integer, Integer, Integer> sum = (t1, t2, t3) -> t1 + t2 + t3;
+
+        // The only worker is busy, so the forked arguments cannot start before the last one fails
+        final ForkJoinPool pool = new ForkJoinPool(1);
+        final CountDownLatch busy = new CountDownLatch(1);
+        try {
+            pool.execute(() -> await(busy));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> sum.applyParallel3(argument, argument, () -> {
+                throw new IllegalArgumentException();
+            }, pool));
+            busy.countDown();
+            Assertions.assertTrue(pool.awaitQuiescence(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(0, calls.get());
+        } finally {
+            busy.countDown();
+            pool.shutdown();
+        }
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CountDownLatch blocked = new CountDownLatch(1);
+        try {
+            executor.execute(() -> await(blocked));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> sum.applyParallel3(argument, argument, () -> {
+                throw new IllegalArgumentException();
+            }, executor));
+        } finally {
+            blocked.countDown();
+            executor.shutdown();
+        }
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, calls.get());
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
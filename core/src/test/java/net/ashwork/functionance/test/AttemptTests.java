@@ -0,0 +1,54 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.test;
+
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.attempt.StacklessException;
+import net.ashwork.functionance.attempt.Try;
+import net.ashwork.functionance.runnable.Runnable0;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class AttemptTests {
+
+    private static final StacklessException NOT_FOUND = new StacklessException("Not found");
+
+    @Test
+    public void testTry() {
+        final Function2<String, Integer, Character> charAt = String::charAt;
+        for (final String s : Generators.strings(FunctionTests.NUM_OF_TESTS, 20)) {
+            final Try<Character> success = charAt.tryApply2(s, 0);
+            Assertions.assertTrue(success.isSuccess());
+            Assertions.assertEquals(s.charAt(0), success.get());
+            Assertions.assertEquals(Try.success(s.charAt(0)), success);
+            Assertions.assertEquals(Integer.valueOf(s.charAt(0) + 1), success.map(c -> c + 1).get());
+
+            final Try<Character> failure = charAt.tryApply2(s, s.length());
+            Assertions.assertTrue(failure.isFailure());
+            Assertions.assertTrue(failure.cause() instanceof IndexOutOfBoundsException);
+            Assertions.assertThrows(IndexOutOfBoundsException.class, failure::get);
+            Assertions.assertEquals('-', failure.orElse('-'));
+            Assertions.assertEquals('-', failure.recover(t -> '-').get());
+            Assertions.assertSame(failure, failure.map(c -> c + 1));
+        }
+
+        final Runnable0 noop = () -> {};
+        Assertions.assertSame(noop.tryRun0(), noop.tryRun0());
+        Assertions.assertSame(NOT_FOUND, ((Runnable0) () -> {
+            throw NOT_FOUND;
+        }).tryRun0().cause());
+
+        final Try<Object> notFound = Try.failure("Not found");
+        Assertions.assertEquals(0, notFound.cause().getStackTrace().length);
+        Assertions.assertSame(notFound, notFound.flatMap(Try::success));
+        Assertions.assertEquals(Try.failure(notFound.cause()), notFound);
+        Assertions.assertEquals(Try.failure(notFound.cause()).hashCode(), notFound.hashCode());
+        Assertions.assertNotEquals(Try.failure("Not found"), notFound);
+    }
+}
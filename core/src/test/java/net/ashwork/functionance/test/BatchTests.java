@@ -0,0 +1,47 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.test;
+
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.runnable.Runnable1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class BatchTests {
+
+    @Test
+    public void testBatch() {
+        final int size = 100_000;
+        final String[] strings = Generators.strings(size, 20);
+        final Integer[] ends = new Integer[size];
+        for (int i = 0; i < size; i++) ends[i] = strings[i].length() / 2;
+
+        final Function2<String, Integer, String> prefix = (s, end) -> s.substring(0, end);
+        final String[] sequential = new String[size], parallel = new String[size];
+        prefix.applyBatch2(strings, ends, sequential, 10, size - 20);
+        prefix.applyBatch2(strings, ends, parallel, 10, size - 20, ForkJoinPool.commonPool());
+        for (int i = 0; i < size; i++) {
+            final String expected = i < 10 || i >= size - 10 ? null : prefix.apply2(strings[i], ends[i]);
+            Assertions.assertEquals(expected, sequential[i]);
+            Assertions.assertEquals(expected, parallel[i]);
+        }
+
+        final AtomicInteger count = new AtomicInteger();
+        final Runnable1<String> counter = s -> count.incrementAndGet();
+        counter.runBatch1(strings, 0, size, ForkJoinPool.commonPool());
+        Assertions.assertEquals(size, count.get());
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> prefix.applyBatch2(strings, ends, new String[10], 0, 11));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> counter.runBatch1(strings, -1, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> counter.runBatch1(strings, size, Integer.MAX_VALUE));
+    }
+}
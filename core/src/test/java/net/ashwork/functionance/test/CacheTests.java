@@ -0,0 +1,132 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.test;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.Function8;
+import net.ashwork.functionance.cache.CacheSettings;
+import net.ashwork.functionance.cache.CacheStats;
+import net.ashwork.functionance.cache.Eviction;
+import net.ashwork.functionance.cache.LazyFunction0;
+import net.ashwork.functionance.cache.LazyMode;
+import net.ashwork.functionance.cache.MemoizedFunction1;
+import net.ashwork.functionance.cache.MemoizedFunction2;
+import net.ashwork.functionance.cache.MemoizedFunction8;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class CacheTests {
+
+    @Test
+    public void testMemoize1() {
+        final AtomicInteger computed = new AtomicInteger();
+        final MemoizedFunction1<String, Integer> function = ((Function1<String, Integer>) s -> {
+            computed.incrementAndGet();
+            return s.length();
+        }).memoize();
+        final String[] strings = Generators.strings(FunctionTests.NUM_OF_TESTS, 50);
+        for (final String s : strings) Assertions.assertEquals(s.length(), function.apply1(s));
+        final int misses = computed.get();
+        for (final String s : strings) Assertions.assertEquals(s.length(), function.apply1(s));
+        Assertions.assertEquals(misses, computed.get());
+        Assertions.assertEquals(new CacheStats(strings.length * 2L - misses, misses, 0L), function.stats());
+    }
+
+    @Test
+    public void testBounded() {
+        for (final Eviction eviction : Eviction.values()) {
+            final MemoizedFunction1<Integer, Integer> function = ((Function1<Integer, Integer>) i -> i * 2)
+                    .memoize(CacheSettings.builder().maximumSize(16).eviction(eviction).build());
+            for (int i = 0; i < 64; i++) {
+                // Keep the first key hot
+                Assertions.assertEquals(0, function.apply1(0));
+                Assertions.assertEquals(i * 2, function.apply1(i));
+            }
+            Assertions.assertTrue(function.stats().evictionCount() >= 64 - 16);
+            final long misses = function.stats().missCount();
+            function.apply1(0);
+            Assertions.assertEquals(misses, function.stats().missCount(), "The hot key should not be evicted");
+        }
+    }
+
+    @Test
+    public void testExpiry() throws InterruptedException {
+        final MemoizedFunction1<Integer, Integer> function = ((Function1<Integer, Integer>) i -> i)
+                .memoize(CacheSettings.builder().expireAfterWrite(1, TimeUnit.MILLISECONDS).build());
+        function.apply1(null);
+        Thread.sleep(5L);
+        function.apply1(null);
+        Assertions.assertEquals(2L, function.stats().missCount());
+        function.invalidateAll();
+        function.apply1(null);
+        Assertions.assertEquals(3L, function.stats().missCount());
+    }
+
+    @Test
+    public void testMemoize8() {
+        final AtomicInteger computed = new AtomicInteger();
+        final MemoizedFunction8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, String, String> function =
+                ((Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, String, String>) (t1, t2, t3, t4, t5, t6, t7, t8) -> {
+                    computed.incrementAndGet();
+                    return t8 + (t1 + t2 + t3 + t4 + t5 + t6 + t7);
+                }).memoize(64);
+        for (int i = 0; i < 32; i++) Assertions.assertEquals("a" + (i + 6), function.apply8(i, 1, 1, 1, 1, 1, 1, "a"));
+        for (int i = 0; i < 32; i++) Assertions.assertEquals("a" + (i + 6), function.apply8(i, 1, 1, 1, 1, 1, 1, "a"));
+        Assertions.assertEquals(null + "7", function.apply8(1, 1, 1, 1, 1, 1, 1, null));
+        Assertions.assertEquals(function.stats().missCount(), computed.get());
+        Assertions.assertTrue(function.stats().hitCount() > 0L);
+        for (int i = 0; i < 1024; i++) function.apply8(i, i, i, i, i, i, i, "b");
+        Assertions.assertTrue(function.stats().evictionCount() > 0L);
+    }
+
+    @Test
+    public void testSettings() throws InterruptedException {
+        for (final Eviction eviction : Eviction.values()) {
+            // A single probe window, so every key competes with the hot key
+            final MemoizedFunction2<Integer, Integer, Integer> function = ((Function2<Integer, Integer, Integer>) Integer::sum)
+                    .memoize(CacheSettings.builder().maximumSize(8).eviction(eviction).build());
+            for (int i = 1; i < 64; i++) {
+                Assertions.assertEquals(0, function.apply2(0, 0));
+                Assertions.assertEquals(i * 2, function.apply2(i, i));
+            }
+            Assertions.assertTrue(function.stats().evictionCount() >= 64 - 8);
+            final long misses = function.stats().missCount();
+            function.apply2(0, 0);
+            Assertions.assertEquals(misses, function.stats().missCount(), "The hot key should not be evicted");
+        }
+
+        final MemoizedFunction2<Integer, Integer, Integer> expiring = ((Function2<Integer, Integer, Integer>) Integer::sum)
+                .memoize(CacheSettings.builder().expireAfterWrite(1, TimeUnit.MILLISECONDS).build());
+        expiring.apply2(1, 2);
+        Thread.sleep(5L);
+        Assertions.assertEquals(3, expiring.apply2(1, 2));
+        Assertions.assertEquals(new CacheStats(0L, 2L, 0L), expiring.stats());
+    }
+
+    @Test
+    public void testLazy() {
+        for (final LazyMode mode : LazyMode.values()) {
+            final AtomicInteger computed = new AtomicInteger();
+            final LazyFunction0<Integer> function = ((Function0<Integer>) () -> {
+                if (computed.incrementAndGet() == 1) throw new IllegalStateException();
+                return computed.get();
+            }).memoize(mode);
+            Assertions.assertThrows(IllegalStateException.class, function::apply0);
+            Assertions.assertFalse(function.isInitialized());
+            Assertions.assertEquals(2, function.apply0());
+            Assertions.assertEquals(2, function.apply0());
+            Assertions.assertTrue(function.isInitialized());
+        }
+    }
+}
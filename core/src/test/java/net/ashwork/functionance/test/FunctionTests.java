@@ -10,6 +10,8 @@
 package net.ashwork.functionance.test;
 
 import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function2;
 import net.ashwork.functionance.partial.input.Arity;
 import net.ashwork.functionance.partial.result.Default;
 import net.ashwork.functionance.partial.result.Result;
@@ -37,6 +39,20 @@ public final class FunctionTests {
                 });
     }
 
+    @Test
+    public void testDeepComposition() {
+        final int depth = 100_000;
+        final Function1<Integer, Integer> increment = ((Function1<Integer, Integer>) v -> v).andThen(v -> v + 1);
+        Function1<Integer, Integer> function = v -> v;
+        Function2<Integer, Integer, Integer> sum = Integer::sum;
+        for (int i = 0; i < depth; i++) {
+            function = i % 2 == 0 ? function.andThen(increment) : function.compose1(increment);
+            sum = sum.compose2(v -> v + 1);
+        }
+        Assertions.assertEquals(depth, function.apply1(0));
+        Assertions.assertEquals(1 + depth, sum.apply2(1, 0));
+    }
+
     public static <R, V, F extends Function0<R>> void testFunction0(
             final F throwing,
             final F function,
@@ -0,0 +1,170 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.test;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.metrics.Instrument;
+import net.ashwork.functionance.metrics.Registry;
+import net.ashwork.functionance.metrics.Snapshot;
+import net.ashwork.functionance.runnable.Runnable1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+public final class MetricsTests {
+
+    @Test
+    public void testInstrument() {
+        final Registry registry = Registry.create();
+        final Instrument instrument = registry.instrument("add");
+        Assertions.assertSame(instrument, registry.instrument("add"));
+        final Function2<Integer, Integer, Integer> add = instrument.decorate((t1, t2) -> {
+            if (t1 < 0) throw new IllegalArgumentException();
+            return t1 + t2;
+        });
+        for (int i = 0; i < FunctionTests.NUM_OF_TESTS; i++) Assertions.assertEquals(i + 1, add.apply2(i, 1));
+        for (int i = 0; i < 10; i++) Assertions.assertThrows(IllegalArgumentException.class, () -> add.apply2(-1, 1));
+
+        final Snapshot snapshot = registry.snapshot().get("add");
+        Assertions.assertEquals(FunctionTests.NUM_OF_TESTS + 10L, snapshot.calls());
+        Assertions.assertEquals(10L, snapshot.errors());
+        Assertions.assertTrue(snapshot.percentileNanos(0.5) <= snapshot.percentileNanos(0.99));
+        Assertions.assertTrue(snapshot.percentileNanos(0.99) <= snapshot.maxNanos());
+
+        registry.reset();
+        Assertions.assertEquals(0L, instrument.snapshot().calls());
+        Assertions.assertEquals(2, add.apply2(1, 1));
+        Assertions.assertEquals(1L, instrument.snapshot().calls());
+        Assertions.assertEquals(0L, instrument.snapshot().errors());
+    }
+
+    @Test
+    public void testLatency() {
+        final Instrument instrument = Registry.create().instrument("park");
+        final Function0<Long> park = instrument.decorate(() -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(2L));
+            return 0L;
+        });
+        for (int i = 0; i < 5; i++) park.apply0();
+        final Snapshot snapshot = instrument.snapshot();
+        // Buckets are accurate to within about six percent
+        Assertions.assertTrue(snapshot.percentileNanos(0.5) >= TimeUnit.MILLISECONDS.toNanos(2L) * 15 / 16);
+        Assertions.assertTrue(snapshot.meanNanos() >= TimeUnit.MILLISECONDS.toNanos(2L));
+        Assertions.assertTrue(snapshot.maxNanos() >= snapshot.percentileNanos(0.5));
+    }
+
+    @Test
+    public void testThreads() throws InterruptedException {
+        final AtomicInteger sum = new AtomicInteger();
+        final Runnable1<Integer> add = ((Runnable1<Integer>) sum::addAndGet).instrument("test.threads");
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < FunctionTests.NUM_OF_TESTS; j++) add.run1(1);
+            });
+            threads[i].start();
+        }
+        for (final Thread thread : threads) thread.join();
+        Assertions.assertEquals(threads.length * FunctionTests.NUM_OF_TESTS, sum.get());
+        Assertions.assertEquals(sum.get(), Registry.global().snapshot().get("test.threads").calls());
+    }
+
+    @Test
+    public void testRetired() throws InterruptedException {
+        final Instrument instrument = Registry.create().instrument("retired");
+        final Function1<Integer, Integer> identity = instrument.decorate(t1 -> t1);
+        for (int round = 0; round < 2; round++) {
+            // Threads which have terminated still count towards snapshots
+            for (int i = 0; i < 32; i++) {
+                final Thread thread = new Thread(() -> {
+                    for (int j = 0; j < 100; j++) identity.apply1(j);
+                });
+                thread.start();
+                thread.join();
+            }
+            Assertions.assertEquals(3200L, instrument.snapshot().calls());
+            Assertions.assertEquals(3200L, instrument.snapshot().calls());
+            instrument.reset();
+            Assertions.assertEquals(0L, instrument.snapshot().calls());
+        }
+    }
+
+    @Test
+    public void testPublish() throws JMException {
+        final MBeanServer server = MBeanServerFactory.newMBeanServer();
+        final Registry registry = Registry.create();
+        final Function2<Integer, Integer, Integer> before = registry.instrument("before")
+                .decorate(Integer::sum);
+        registry.publish(server, "test");
+        final Instrument after = registry.instrument("after");
+        final ObjectName name = new ObjectName("test:type=Instrument,name=" + ObjectName.quote("before"));
+        Assertions.assertTrue(server.isRegistered(new ObjectName("test:type=Instrument,name=" + ObjectName.quote("after"))));
+        Assertions.assertThrows(IllegalStateException.class, () -> registry.publish(server, "test"));
+
+        for (int i = 0; i < FunctionTests.NUM_OF_TESTS; i++) before.apply2(i, i);
+        Assertions.assertEquals("before", server.getAttribute(name, "Name"));
+        Assertions.assertEquals((long) FunctionTests.NUM_OF_TESTS, server.getAttribute(name, "Calls"));
+        Assertions.assertEquals(0L, server.getAttribute(name, "Errors"));
+        Assertions.assertEquals(0L, server.getAttribute(name, "InFlight"));
+        Assertions.assertTrue((Long) server.getAttribute(name, "P99Nanos") <= (Long) server.getAttribute(name, "MaxNanos"));
+        server.invoke(name, "reset", new Object[0], new String[0]);
+        Assertions.assertEquals(0L, server.getAttribute(name, "Calls"));
+
+        final Function0<Long> inFlight = after.decorate(after::inFlight);
+        Assertions.assertEquals(1L, inFlight.apply0());
+        registry.unpublish();
+        Assertions.assertFalse(server.isRegistered(name));
+
+        // Instruments which cannot be published are still returned
+        final Registry malformed = Registry.create();
+        malformed.publish(server, "test:malformed");
+        Assertions.assertEquals(1, malformed.instrument("created").decorate(() -> 1).apply0());
+    }
+
+    @Test
+    public void testSampled() {
+        final Registry registry = Registry.create();
+        final Instrument instrument = registry.instrument("sampled", 8);
+        Assertions.assertSame(instrument, registry.instrument("sampled", 8));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.instrument("sampled", 4));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.instrument("sampled"));
+        Assertions.assertSame(registry.instrument("unsampled"), registry.instrument("unsampled", 1));
+        final Function1<Integer, Integer> negate = instrument.decorate(t1 -> {
+            if (t1 % 10 == 0) throw new IllegalArgumentException();
+            return -t1;
+        });
+        for (int i = 1; i <= 800; i++) {
+            final int t1 = i;
+            if (t1 % 10 == 0) Assertions.assertThrows(IllegalArgumentException.class, () -> negate.apply1(t1));
+            else Assertions.assertEquals(-t1, negate.apply1(t1));
+        }
+        final Snapshot snapshot = instrument.snapshot();
+        Assertions.assertEquals(800L, snapshot.calls());
+        Assertions.assertEquals(80L, snapshot.errors());
+        Assertions.assertEquals(100L, snapshot.samples());
+        Assertions.assertEquals(0.1, snapshot.errorRate(), 1e-9);
+
+        registry.reset();
+        Assertions.assertEquals(0L, instrument.snapshot().calls());
+        Assertions.assertEquals(0L, instrument.snapshot().samples());
+
+        final Function1<Integer, Integer> global = ((Function1<Integer, Integer>) t1 -> t1).instrument("test.sampled", 4);
+        for (int i = 0; i < FunctionTests.NUM_OF_TESTS; i++) global.apply1(i);
+        Assertions.assertEquals(FunctionTests.NUM_OF_TESTS, Registry.global().snapshot().get("test.sampled").calls());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.test;
+
+import net.ashwork.functionance.Predicate1;
+import net.ashwork.functionance.Predicate3;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class PredicateTests {
+
+    public static final int NUM_OF_COMBINED = 10000;
+
+    @Test
+    public void test() {
+        Generators.RANDOM.ints(FunctionTests.NUM_OF_TESTS, 50, 100)
+                .forEach(i -> {
+                    final String s = Generators.string(i);
+                    final Predicate3<String, Integer, Integer> predicate = (t1, t2, t3) -> t1.length() >= t2 && t1.length() <= t3;
+                    FunctionTests.testArity(predicate, 3);
+                    Assertions.assertTrue(predicate.test3(s, 0, i));
+                    Assertions.assertFalse(predicate.negate().test3(s, 0, i));
+                    Assertions.assertTrue(predicate.swap2().test3(s, i, 0));
+                    Assertions.assertTrue(predicate.partial1(s).<String>compose1(Integer::parseInt).test2("0", i));
+                    Assertions.assertFalse(predicate.handle(t -> (t1, t2, t3) -> false).test3(null, 0, i));
+                });
+    }
+
+    @Test
+    public void testShortCircuit() {
+        final AtomicInteger tested = new AtomicInteger();
+        final Predicate1<Integer> counting = t1 -> tested.incrementAndGet() > 0;
+        final Predicate1<Integer> never = t1 -> false;
+        Assertions.assertFalse(never.and(counting).and(counting).test1(0));
+        Assertions.assertTrue(counting.or(counting).or(never).test1(0));
+        Assertions.assertEquals(1, tested.get());
+        Assertions.assertTrue(never.or(counting.and(counting)).test1(0));
+        Assertions.assertEquals(3, tested.get());
+    }
+
+    @Test
+    public void testFlattened() {
+        Predicate1<Integer> and = t1 -> t1 >= 0, or = t1 -> t1 < 0;
+        for (int i = 0; i < NUM_OF_COMBINED; i++) {
+            final int bound = i;
+            and = and.and(t1 -> t1 != -bound);
+            or = or.or(t1 -> t1 == bound);
+        }
+        Assertions.assertTrue(and.test1(NUM_OF_COMBINED));
+        Assertions.assertFalse(and.test1(-1));
+        Assertions.assertTrue(or.test1(NUM_OF_COMBINED - 1));
+        Assertions.assertFalse(or.test1(NUM_OF_COMBINED));
+    }
+}
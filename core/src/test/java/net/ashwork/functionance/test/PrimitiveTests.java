@@ -0,0 +1,43 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.test;
+
+import net.ashwork.functionance.primitive.ToBooleanFunction2;
+import net.ashwork.functionance.primitive.ToIntFunction3;
+import net.ashwork.functionance.primitive.ToLongFunction0;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class PrimitiveTests {
+
+    @Test
+    public void test() {
+        Generators.RANDOM.ints(FunctionTests.NUM_OF_TESTS, 50, 100)
+                .forEach(i -> {
+                    final String s = Generators.string(i);
+                    final ToIntFunction3<String, Integer, Integer> function = (t1, t2, t3) -> t1.length() * t2 - t3;
+                    FunctionTests.testArity(function, 3);
+                    Assertions.assertEquals(s.length() * 2 - 1, function.applyAsInt3(s, 2, 1));
+                    Assertions.assertEquals(s.length() * 2 - 1, function.swap2().applyAsInt3(s, 1, 2));
+                    Assertions.assertEquals(s.length() * 2 - 1, function.compose1(String::valueOf).applyAsInt3(s, 2, 1));
+                    Assertions.assertEquals(s.length() * 2 - 1, function.partial2(2).partial1(s).applyAsInt1(1));
+                    Assertions.assertEquals(s.length() * 2 - 1, function.boxed().apply3(s, 2, 1));
+                    Assertions.assertEquals(0, function.handle(t -> (t1, t2, t3) -> 0).applyAsInt3(null, 2, 1));
+                });
+
+        final ToBooleanFunction2<String, String> equals = String::equals;
+        Assertions.assertTrue(equals.partial1("a").applyAsBoolean1("a"));
+        Assertions.assertFalse(equals.apply2("a", "b"));
+
+        final ToLongFunction0 throwing = () -> {
+            throw new IllegalStateException();
+        };
+        FunctionTests.testHandle(throwing, ToLongFunction0::applyAsLong0, () -> 1L);
+    }
+}
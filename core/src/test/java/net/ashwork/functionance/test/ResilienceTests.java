@@ -0,0 +1,362 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.test;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.resilience.AdaptiveLimiter;
+import net.ashwork.functionance.resilience.Bulkhead;
+import net.ashwork.functionance.resilience.CallTimeoutException;
+import net.ashwork.functionance.resilience.CircuitBreaker;
+import net.ashwork.functionance.resilience.ExceptionRoutes;
+import net.ashwork.functionance.resilience.Hedge;
+import net.ashwork.functionance.resilience.RejectedCallException;
+import net.ashwork.functionance.resilience.RateLimiter;
+import net.ashwork.functionance.resilience.Retry;
+import net.ashwork.functionance.resilience.Timeout;
+import net.ashwork.functionance.runnable.Runnable0;
+import net.ashwork.functionance.runnable.Runnable1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+public final class ResilienceTests {
+
+    @Test
+    public void testRoutes() {
+        final Function1<Integer, Integer> fallback = t1 -> 0, illegal = t1 -> -1, unsupported = t1 -> -2;
+        final ExceptionRoutes<Function1<Integer, Integer>> routes = ExceptionRoutes.builder(fallback)
+                .route(IllegalArgumentException.class, illegal)
+                .route(UnsupportedOperationException.class, unsupported)
+                .build();
+        Assertions.assertSame(illegal, routes.apply1(new NumberFormatException()));
+        Assertions.assertSame(unsupported, routes.apply1(new UnsupportedOperationException()));
+        Assertions.assertSame(fallback, routes.apply1(new IllegalStateException()));
+        Assertions.assertSame(fallback, routes.apply1(new Error()));
+
+        final Function1<String, Integer> parse = Integer::parseInt;
+        final Function1<String, Integer> handled = parse.handle(ExceptionRoutes.<Function1<String, Integer>>builder(s -> 0)
+                .route(NumberFormatException.class, String::length)
+                .build());
+        for (final String s : Generators.strings(FunctionTests.NUM_OF_TESTS, 20))
+            Assertions.assertEquals(s.length(), handled.apply1(s));
+    }
+
+    @Test
+    public void testRetry() throws InterruptedException {
+        final Retry retry = Retry.builder().maxAttempts(4).backoff(1L, TimeUnit.MILLISECONDS, 2.0).jitter(1.0)
+                .retryOn(t -> t instanceof IllegalStateException).build();
+        final AtomicInteger attempts = new AtomicInteger();
+        final Function2<Integer, Integer, Integer> flaky = (t1, t2) -> {
+            if (attempts.incrementAndGet() % 3 != 0) throw new IllegalStateException();
+            return t1 + t2;
+        };
+        Assertions.assertEquals(3, retry.decorate(flaky).apply2(1, 2));
+        Assertions.assertEquals(3, attempts.get());
+
+        attempts.set(0);
+        final Runnable1<String> failing = t1 -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException(t1);
+        };
+        Assertions.assertThrows(IllegalStateException.class, () -> retry.decorateRunnable(failing).run1("a"));
+        Assertions.assertEquals(4, attempts.get());
+
+        attempts.set(0);
+        final Function1<String, Integer> unsupported = retry.decorate(t1 -> {
+            attempts.incrementAndGet();
+            throw new UnsupportedOperationException(t1);
+        });
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> unsupported.apply1("a"));
+        Assertions.assertEquals(1, attempts.get());
+
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            attempts.set(0);
+            final CompletableFuture<Integer> result = retry.async(scheduler).decorateAsync(flaky).apply2(2, 3);
+            Assertions.assertEquals(5, result.join());
+            attempts.set(0);
+            final CompletableFuture<Void> failed = retry.async(scheduler).decorateRunnableAsync(failing).apply1("b");
+            final ExecutionException e = Assertions.assertThrows(ExecutionException.class, failed::get);
+            Assertions.assertTrue(e.getCause() instanceof IllegalStateException);
+            Assertions.assertEquals(4, attempts.get());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCircuitBreaker() throws InterruptedException {
+        final CircuitBreaker breaker = CircuitBreaker.builder().minimumCalls(4).failureRateThreshold(0.5)
+                .openDuration(20L, TimeUnit.MILLISECONDS).probes(2).build();
+        final AtomicInteger calls = new AtomicInteger();
+        final Function1<Boolean, Integer> fail = t1 -> {
+            calls.incrementAndGet();
+            if (t1) throw new IllegalStateException();
+            return 1;
+        };
+        final Function1<Boolean, Integer> decorated = breaker.decorate(fail);
+        for (int i = 0; i < 4; i++) Assertions.assertEquals(1, decorated.apply1(false));
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+            Assertions.assertThrows(IllegalStateException.class, () -> decorated.apply1(true));
+        }
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        Assertions.assertThrows(RejectedCallException.class, () -> decorated.apply1(false));
+        Assertions.assertEquals(8, calls.get());
+
+        final Function1<Boolean, Integer> handled = decorated.handle(ExceptionRoutes.<Function1<Boolean, Integer>>builder(t1 -> -1)
+                .route(RejectedCallException.class, t1 -> 0)
+                .build());
+        Assertions.assertEquals(0, handled.apply1(false));
+
+        Thread.sleep(30L);
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        Assertions.assertEquals(1, decorated.apply1(false));
+        Assertions.assertEquals(1, decorated.apply1(false));
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        Assertions.assertThrows(IllegalStateException.class, () -> decorated.apply1(true));
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        // A stuck probe only holds the circuit half open for the half open duration
+        final CircuitBreaker stuck = CircuitBreaker.builder().minimumCalls(1).openDuration(0L, TimeUnit.MILLISECONDS)
+                .halfOpenDuration(20L, TimeUnit.MILLISECONDS).probes(1).build();
+        final CountDownLatch release = new CountDownLatch(1);
+        final Function1<Boolean, Integer> probe = stuck.decorate(t1 -> {
+            if (t1) throw new IllegalStateException();
+            try {
+                return release.await(10L, TimeUnit.SECONDS) ? 1 : 0;
+            } catch (final InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Assertions.assertThrows(IllegalStateException.class, () -> probe.apply1(true));
+        final Thread hanging = new Thread(() -> probe.apply1(false));
+        hanging.start();
+        while (hanging.getState() != Thread.State.WAITING && hanging.getState() != Thread.State.TIMED_WAITING) Thread.yield();
+        for (int i = 0; i < 1000; i++) Assertions.assertThrows(RejectedCallException.class, () -> probe.apply1(false));
+        Thread.sleep(30L);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, stuck.state());
+        Assertions.assertThrows(RejectedCallException.class, () -> probe.apply1(true));
+        release.countDown();
+        Assertions.assertEquals(1, probe.apply1(false));
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, stuck.state());
+        hanging.join();
+    }
+
+    @Test
+    public void testTimeout() {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final Timeout timeout = Timeout.of(20L, TimeUnit.MILLISECONDS, executor);
+            final Function1<Long, Long> sleep = t1 -> {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(t1));
+                return t1;
+            };
+            final Function1<Long, Long> decorated = timeout.decorate(sleep);
+            Assertions.assertEquals(0L, decorated.apply1(0L));
+            Assertions.assertThrows(CallTimeoutException.class, () -> decorated.apply1(500L));
+            Assertions.assertEquals(-1L, decorated.handle(ExceptionRoutes.<Function1<Long, Long>>builder(t1 -> 0L)
+                    .route(CallTimeoutException.class, t1 -> -1L)
+                    .build()).apply1(500L));
+
+            final CompletableFuture<Long> future = timeout.decorateAsync(sleep).apply1(500L);
+            final CompletionException e = Assertions.assertThrows(CompletionException.class, future::join);
+            Assertions.assertTrue(e.getCause() instanceof CallTimeoutException);
+            Assertions.assertEquals(0L, timeout.decorateAsync(sleep).apply1(0L).join());
+
+            // The outer deadline bounds the longer nested timeout
+            final Timeout nested = Timeout.of(1L, TimeUnit.SECONDS, executor);
+            final long start = System.nanoTime();
+            Assertions.assertThrows(CallTimeoutException.class, () -> Timeout.within(20L, TimeUnit.MILLISECONDS,
+                    () -> nested.decorate(sleep).apply1(500L)));
+            Assertions.assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(400L));
+            Assertions.assertEquals(Long.MAX_VALUE, Timeout.remainingNanos());
+            Assertions.assertTrue(timeout.decorate(Timeout::remainingNanos).apply0() <= TimeUnit.MILLISECONDS.toNanos(20L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testHedge() throws InterruptedException {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final Hedge hedge = Hedge.builder(executor).delay(10L, TimeUnit.MILLISECONDS).build();
+            final AtomicInteger calls = new AtomicInteger();
+            final AtomicBoolean interrupted = new AtomicBoolean();
+            final Function2<String, String, String> replica = (t1, t2) -> {
+                if (calls.incrementAndGet() == 1) {
+                    LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(5L));
+                    interrupted.set(Thread.currentThread().isInterrupted());
+                    return t1;
+                }
+                return t2;
+            };
+            Assertions.assertEquals("fast", hedge.decorate(replica).apply2("slow", "fast"));
+            Assertions.assertEquals(1L, hedge.hedges());
+            // Counters and interrupts land after the result is published
+            for (int i = 0; i < 100 && !(interrupted.get() && hedge.wins() == 1L); i++) Thread.sleep(10L);
+            Assertions.assertEquals(1L, hedge.wins());
+            Assertions.assertTrue(interrupted.get(), "The losing call should be interrupted");
+
+            Assertions.assertEquals("fast", hedge.decorateAsync(replica).apply2("slow", "fast").join());
+            Assertions.assertEquals(2L, hedge.calls());
+            Assertions.assertEquals(1L, hedge.hedges());
+
+            final Hedge adaptive = Hedge.builder(executor).delay(1L, TimeUnit.SECONDS).percentile(0.9).build();
+            final Function1<Integer, Integer> identity = adaptive.decorate(t1 -> t1);
+            for (int i = 0; i < 1024; i++) Assertions.assertEquals(i, identity.apply1(i));
+            for (int i = 0; i < 100 && adaptive.delayNanos() == TimeUnit.SECONDS.toNanos(1L); i++) Thread.sleep(10L);
+            Assertions.assertTrue(adaptive.delayNanos() < TimeUnit.SECONDS.toNanos(1L));
+            Assertions.assertEquals(0L, adaptive.hedges());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testHedgeCompleted() {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final Hedge hedge = Hedge.builder(executor).delay(1L, TimeUnit.MILLISECONDS).build();
+            final AtomicInteger stray = new AtomicInteger();
+            for (int i = 0; i < 200; i++) {
+                final AtomicReference<CompletableFuture<Integer>> request = new AtomicReference<>();
+                final CompletableFuture<Integer> future = hedge.callAsync(() -> {
+                    final CompletableFuture<Integer> current = request.get();
+                    if (current != null && current.isDone()) {
+                        // A call made after the request completed must be cancelled
+                        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1L);
+                        while (!Thread.currentThread().isInterrupted() && deadline - System.nanoTime() > 0L)
+                            LockSupport.parkNanos(deadline - System.nanoTime());
+                        if (!Thread.currentThread().isInterrupted()) stray.incrementAndGet();
+                        return -1;
+                    }
+                    LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(TimeUnit.MILLISECONDS.toNanos(2L)));
+                    return 0;
+                });
+                request.set(future);
+                Assertions.assertEquals(0, future.join());
+            }
+            Assertions.assertEquals(0, stray.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBulkhead() {
+        final Bulkhead bulkhead = Bulkhead.builder(1).build();
+        final Function1<Integer, Integer> inner = bulkhead.decorate(t1 -> t1);
+        final Function1<Integer, Integer> outer = bulkhead.decorate(inner::apply1);
+        Assertions.assertEquals(1, inner.apply1(1));
+        Assertions.assertThrows(RejectedCallException.class, () -> outer.apply1(1));
+        Assertions.assertEquals(1, bulkhead.available());
+        Assertions.assertEquals(-1, outer.handle(ExceptionRoutes.<Function1<Integer, Integer>>builder(t1 -> 0)
+                .route(RejectedCallException.class, t1 -> -1)
+                .build()).apply1(1));
+
+        final Bulkhead waiting = Bulkhead.builder(1).maxWait(10L, TimeUnit.MILLISECONDS).build();
+        final Function0<Integer> nested = waiting.decorate(waiting.decorate(() -> 0)::apply0);
+        final long start = System.nanoTime();
+        Assertions.assertThrows(RejectedCallException.class, nested::apply0);
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(10L));
+        Assertions.assertEquals(0, waiting.waiting());
+
+        final Bulkhead queueless = Bulkhead.builder(1).maxWait(1L, TimeUnit.MINUTES).maxWaitingCalls(0).build();
+        Assertions.assertThrows(RejectedCallException.class, queueless.decorate(queueless.decorate(() -> 0)::apply0)::apply0);
+    }
+
+    @Test
+    public void testAdaptiveLimiter() {
+        final AdaptiveLimiter aimd = AdaptiveLimiter.builder(AdaptiveLimiter.Algorithm.AIMD).limits(10, 1, 100).build();
+        final Function1<Boolean, Integer> fail = aimd.decorate(t1 -> {
+            if (t1) throw new IllegalStateException();
+            return 0;
+        });
+        for (int i = 0; i < 10; i++) Assertions.assertThrows(IllegalStateException.class, () -> fail.apply1(true));
+        Assertions.assertEquals(3, aimd.limit());
+        Assertions.assertEquals(0, aimd.inFlight());
+
+        final AdaptiveLimiter limited = AdaptiveLimiter.builder(AdaptiveLimiter.Algorithm.AIMD).limits(2, 1, 2).build();
+        final Function0<Integer> depth1 = limited.decorate(() -> 1);
+        final Function0<Integer> depth2 = limited.decorate(depth1::apply0);
+        final Function0<Integer> depth3 = limited.decorate(depth2::apply0);
+        Assertions.assertEquals(1, depth2.apply0());
+        Assertions.assertThrows(RejectedCallException.class, depth3::apply0);
+
+        final AdaptiveLimiter gradient = AdaptiveLimiter.builder(AdaptiveLimiter.Algorithm.GRADIENT).limits(10, 1, 100).build();
+        final Function1<Integer, Integer> identity = gradient.decorate(t1 -> t1);
+        for (int i = 0; i < 100; i++) Assertions.assertEquals(i, identity.apply1(i));
+        Assertions.assertTrue(gradient.limit() > 10);
+    }
+
+    @Test
+    public void testRateLimiter() {
+        final AtomicInteger calls = new AtomicInteger();
+        final RateLimiter rejecting = RateLimiter.builder(5, 1L, TimeUnit.MINUTES).build();
+        final Runnable0 limited = rejecting.decorateRunnable(calls::incrementAndGet);
+        for (int i = 0; i < 5; i++) limited.run0();
+        Assertions.assertEquals(0, rejecting.available());
+        Assertions.assertThrows(RejectedCallException.class, limited::run0);
+        Assertions.assertEquals(5, calls.get());
+
+        final RateLimiter waiting = RateLimiter.builder(1, 1L, TimeUnit.MINUTES).maxWait(5L, TimeUnit.MILLISECONDS).build();
+        final Function1<Integer, Integer> identity = waiting.decorate(t1 -> t1);
+        Assertions.assertEquals(1, identity.apply1(1));
+        final long waited = System.nanoTime();
+        Assertions.assertThrows(RejectedCallException.class, () -> identity.apply1(2));
+        Assertions.assertTrue(System.nanoTime() - waited >= TimeUnit.MILLISECONDS.toNanos(5L));
+
+        final RateLimiter blocking = RateLimiter.builder(200, 1L, TimeUnit.SECONDS).burst(1).blocking().build();
+        final Runnable0 throttled = blocking.decorateRunnable(calls::incrementAndGet);
+        final long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) throttled.run0();
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(4 * 5 - 1));
+        Assertions.assertEquals(10, calls.get());
+
+        // Partial tokens are kept at rates above one per microsecond
+        final int rate = 700_000, burst = 70_000;
+        final RateLimiter fast = RateLimiter.builder(rate, 1L, TimeUnit.SECONDS).burst(burst).build();
+        final Runnable0 counted = fast.decorateRunnable(calls::incrementAndGet);
+        calls.set(0);
+        final long from = System.nanoTime();
+        long elapsed;
+        do {
+            try {
+                counted.run0();
+            } catch (final RejectedCallException ignored) {}
+        } while ((elapsed = System.nanoTime() - from) < TimeUnit.MILLISECONDS.toNanos(500L));
+        final double expected = burst + rate * (elapsed / 1e9);
+        Assertions.assertTrue(calls.get() <= expected + 1);
+        Assertions.assertTrue(calls.get() >= expected * 0.9);
+
+        // The whole burst must refill within about 26 days
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RateLimiter.builder(1, 30L, TimeUnit.DAYS));
+        final RateLimiter.Builder daily = RateLimiter.builder(1, 1L, TimeUnit.DAYS);
+        daily.burst(26);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> daily.burst(27));
+        Assertions.assertEquals(Integer.MAX_VALUE, RateLimiter.builder(Integer.MAX_VALUE, 1L, TimeUnit.SECONDS).build().available());
+    }
+}
@@ -13,9 +13,15 @@ import net.ashwork.functionance.Function0;
 import net.ashwork.functionance.partial.result.Chain;
 import net.ashwork.functionance.partial.task.Task1;
 import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.runnable.CompositeRunnable1;
 import net.ashwork.functionance.runnable.Runnable0;
+import net.ashwork.functionance.runnable.Runnable1;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public final class RunnableTests {
 
     @Test
@@ -23,6 +29,27 @@ public final class RunnableTests {
 
     }
 
+    @Test
+    public void testComposite() {
+        final int listeners = 100_000;
+        final List<Integer> events = new ArrayList<>();
+        Runnable1<Integer> chain = events::add;
+        for (int i = 1; i < listeners; i++) {
+            final int offset = i;
+            final Runnable1<Integer> listener = e -> events.add(e + offset);
+            chain = chain.andThen(listener);
+        }
+        chain.run1(0);
+        Assertions.assertEquals(listeners, events.size());
+        for (int i = 0; i < listeners; i++) Assertions.assertEquals(i, events.get(i));
+
+        final CompositeRunnable1<Integer> composite = (CompositeRunnable1<Integer>) chain;
+        Assertions.assertEquals(listeners, composite.size());
+        Assertions.assertEquals(2 * listeners, composite.andThen(composite).size());
+        Assertions.assertEquals(listeners, composite.size());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> composite.operations().clear());
+    }
+
     public static <V, R extends Runnable0> void testRunnable0(
             final R throwing,
             final R runnable,
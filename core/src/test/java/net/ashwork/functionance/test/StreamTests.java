@@ -0,0 +1,138 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.test;
+
+import net.ashwork.functionance.Function3;
+import net.ashwork.functionance.stream.Zip;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public final class StreamTests {
+
+    @Test
+    public void testZip() {
+        final int size = 100_000;
+        final Integer[] array = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+        final List<Integer> list = new ArrayList<>(Arrays.asList(array));
+        final List<Integer> linked = new LinkedList<>(list);
+        final Function3<Integer, Integer, Integer, Integer> sum = (t1, t2, t3) -> t1 + t2 + t3;
+        final List<Integer> expected = IntStream.range(0, size).map(i -> i * 3).boxed().collect(Collectors.toList());
+
+        // Arrays and array lists split evenly in lockstep
+        final Spliterator<Integer> even = Zip.zip(Arrays.spliterator(array), list.spliterator(), Arrays.spliterator(array), sum, true).spliterator();
+        Assertions.assertTrue(even.hasCharacteristics(Spliterator.SUBSIZED));
+        Assertions.assertEquals(size, even.getExactSizeIfKnown());
+        Assertions.assertEquals(expected, Zip.zip(Arrays.spliterator(array), list.spliterator(), Arrays.spliterator(array), sum, true)
+                .collect(Collectors.toList()));
+
+        // Linked lists cannot be split evenly and fall back to copying batches
+        Assertions.assertEquals(expected, Zip.zip(list.stream().parallel(), linked.stream(), Stream.of(array), sum)
+                .collect(Collectors.toList()));
+
+        // Sources which split unevenly are rejoined and fall back to copying batches
+        Assertions.assertEquals(expected, Zip.zip(new QuarterSpliterator(array, 0, size), list.spliterator(), Arrays.spliterator(array), sum, true)
+                .collect(Collectors.toList()));
+
+        // Sources which cannot be split are rejoined with the prefixes of the others
+        Assertions.assertEquals((long) size * (size - 1), Zip.zip(new UnsplittableSpliterator(Arrays.spliterator(array)), Arrays.spliterator(array), Integer::sum, true)
+                .mapToLong(i -> i).sum());
+
+        // Sources of different sizes stop at the shortest
+        Assertions.assertEquals(expected.subList(0, 10), Zip.zip(list.stream(), list.stream().limit(10), list.stream(), sum)
+                .parallel().collect(Collectors.toList()));
+
+        final AtomicInteger closed = new AtomicInteger();
+        Zip.zip(list.stream().onClose(closed::incrementAndGet), list.stream().onClose(closed::incrementAndGet), Integer::sum).close();
+        Assertions.assertEquals(2, closed.get());
+    }
+
+    /**
+     * A sized spliterator over an array which splits off a quarter of its
+     * elements rather than half.
+     */
+    private static final class QuarterSpliterator implements Spliterator<Integer> {
+
+        private final Integer[] array;
+        private int from;
+        private final int to;
+
+        private QuarterSpliterator(final Integer[] array, final int from, final int to) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Integer> action) {
+            if (this.from >= this.to) return false;
+            action.accept(this.array[this.from++]);
+            return true;
+        }
+
+        @Override
+        public Spliterator<Integer> trySplit() {
+            final int quarter = (this.to - this.from) >>> 2;
+            if (quarter == 0) return null;
+            return new QuarterSpliterator(this.array, this.from, this.from += quarter);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.to - this.from;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
+    /**
+     * A sized spliterator which never splits.
+     */
+    private static final class UnsplittableSpliterator implements Spliterator<Integer> {
+
+        private final Spliterator<Integer> source;
+
+        private UnsplittableSpliterator(final Spliterator<Integer> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Integer> action) {
+            return this.source.tryAdvance(action);
+        }
+
+        @Override
+        public Spliterator<Integer> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.test;
+
+import net.ashwork.functionance.Function2;
+import net.ashwork.functionance.Function3;
+import net.ashwork.functionance.tuple.Tuple3;
+import net.ashwork.functionance.tuple.TupleBatch2;
+import net.ashwork.functionance.tuple.TupleBatch3;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class TupleTests {
+
+    @Test
+    public void testTuple() {
+        final Function3<String, Integer, Integer, String> substring = String::substring;
+        for (final String s : Generators.strings(FunctionTests.NUM_OF_TESTS, 20)) {
+            final Tuple3<String, Integer, Integer> tuple = Tuple3.of(s, 0, s.length() / 2);
+            FunctionTests.testArity(tuple, 3);
+            Assertions.assertEquals(s.substring(0, s.length() / 2), tuple.apply(substring));
+            Assertions.assertEquals(Tuple3.of(s, 0, s.length() / 2), tuple);
+            Assertions.assertEquals(Tuple3.of(s, 0, s.length() / 2).hashCode(), tuple.hashCode());
+            Assertions.assertNotEquals(Tuple3.of(s, 1, s.length() / 2), tuple);
+        }
+        Assertions.assertEquals(Tuple3.of(null, null, null), Tuple3.of(null, null, null));
+        Assertions.assertEquals("(a, 1, null)", Tuple3.of("a", 1, null).toString());
+    }
+
+    @Test
+    public void testBatch() {
+        final int size = 10_000;
+        final String[] strings = Generators.strings(size, 20);
+        final TupleBatch3<String, Integer, Integer> batch = new TupleBatch3<>(0);
+        for (final String s : strings) batch.add(s, 0, s.length() / 2);
+        Assertions.assertEquals(size, batch.size());
+        Assertions.assertEquals(Tuple3.of(strings[5], 0, strings[5].length() / 2), batch.get(5));
+        Assertions.assertEquals(strings[7], batch.t1(7));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> batch.get(size));
+
+        final Function3<String, Integer, Integer, String> substring = String::substring;
+        final String[] sequential = new String[size], parallel = new String[size];
+        batch.apply(substring, sequential);
+        batch.apply(substring, parallel, ForkJoinPool.commonPool());
+        for (int i = 0; i < size; i++) {
+            Assertions.assertEquals(batch.get(i).apply(substring), sequential[i]);
+            Assertions.assertEquals(sequential[i], parallel[i]);
+        }
+
+        final AtomicInteger count = new AtomicInteger();
+        batch.run((s, from, to) -> count.incrementAndGet());
+        Assertions.assertEquals(size, count.get());
+
+        batch.clear();
+        Assertions.assertEquals(0, batch.size());
+        batch.add(Tuple3.of("a", 0, 1));
+        Assertions.assertEquals(Tuple3.of("a", 0, 1), batch.get(0));
+
+        // Batches of component classes can be passed to functions overriding the batch method
+        final TupleBatch2<String, String> typed = new TupleBatch2<>(String.class, String.class);
+        for (final String s : strings) typed.add(s, s);
+        final Integer[] lengths = new Integer[size];
+        typed.apply(new Lengths(), lengths);
+        for (int i = 0; i < size; i++) Assertions.assertEquals(strings[i].length() * 2, lengths[i]);
+
+        // Functions of supertypes can be applied to the batch
+        final Function2<Object, Object, String> concat = (t1, t2) -> String.valueOf(t1) + t2;
+        final String[] concatenated = new String[size];
+        typed.apply(concat, concatenated);
+        Assertions.assertEquals(strings[3] + strings[3], concatenated[3]);
+    }
+
+    /**
+     * A function which overrides its batch method with concrete array types.
+     */
+    private static final class Lengths implements Function2<String, String, Integer> {
+
+        @Override
+        public Integer apply2(final String t1, final String t2) {
+            return t1.length() + t2.length();
+        }
+
+        @Override
+        public void applyBatch2(final String[] t1, final String[] t2, final Integer[] results, final int offset, final int length) {
+            for (int i = offset; i < offset + length; i++) results[i] = this.apply2(t1[i], t2[i]);
+        }
+    }
+}
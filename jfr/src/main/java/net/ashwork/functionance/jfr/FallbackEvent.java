@@ -0,0 +1,41 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An event recording an exception handler passed to {@code handle} choosing
+ * a fallback for a failed call. The stack trace is that of the handler.
+ *
+ * @since 1.0.0
+ */
+@Name("net.ashwork.functionance.Fallback")
+@Label("Function Fallback")
+@Description("A failure handled by choosing a fallback function or operation")
+@Category("Functionance")
+public final class FallbackEvent extends Event {
+
+    @Label("Name")
+    @Description("The name of the function or operation")
+    String name;
+
+    @Label("Failure")
+    @Description("The class of the exception which was handled")
+    Class<?> failure;
+
+    @Label("Message")
+    @Description("The message of the exception which was handled")
+    String message;
+}
@@ -0,0 +1,114 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.jfr;
+
+import net.ashwork.functionance.Function0;
+import net.ashwork.functionance.partial.transformer.Transformer1;
+import net.ashwork.functionance.resilience.Decorator;
+
+import java.util.Objects;
+
+/**
+ * A decorator which emits flight recorder events for the functions and
+ * operations it decorates, attributing their time to a name rather than the
+ * lambdas they are made of.
+ *
+ * <p>Each call emits an {@link InvocationEvent} if it takes longer than the
+ * threshold of the recording. Exception handlers wrapped by
+ * {@link #handler(Transformer1)} emit a {@link FallbackEvent} whenever they
+ * choose a fallback. When no recording enables an event, the event is never
+ * populated, and the JIT can remove its allocation entirely.
+ *
+ * <pre>{@code
+ * FlightEvents events = FlightEvents.of("lookup");
+ * Function1<String, User> lookup = events.decorate(this::lookup)
+ *         .handle(events.handler(t -> cached));
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class FlightEvents implements Decorator {
+
+    private final String name;
+
+    private FlightEvents(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Constructs a decorator which emits events with the name.
+     *
+     * @param name the name of the functions and operations
+     * @return a decorator which emits events with the name
+     * @throws NullPointerException if the {@code name} is {@code null}
+     */
+    public static FlightEvents of(final String name) {
+        return new FlightEvents(Objects.requireNonNull(name, "The name cannot be null"));
+    }
+
+    /**
+     * Returns the name events are emitted with.
+     *
+     * @return the name events are emitted with
+     */
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the {@code function} is {@code null}
+     */
+    @Override
+    public <R> R call(final Function0<? extends R> function) {
+        Objects.requireNonNull(function, "The function cannot be null");
+        final InvocationEvent event = new InvocationEvent();
+        event.begin();
+        Class<?> failure = null;
+        try {
+            return function.apply0();
+        } catch (final Throwable t) {
+            failure = t.getClass();
+            throw t;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.name = this.name;
+                event.failure = failure;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Returns an exception handler which emits a {@link FallbackEvent}
+     * whenever the handler chooses a fallback.
+     *
+     * @param handler the exception handler to wrap
+     * @param <H> the type of the fallback
+     * @return an exception handler which emits an event for each fallback
+     * @throws NullPointerException if the {@code handler} is {@code null}
+     */
+    public <H> Transformer1<Throwable, H> handler(final Transformer1<Throwable, ? extends H> handler) {
+        Objects.requireNonNull(handler, "The exception handler cannot be null");
+        return t -> {
+            final H fallback = handler.apply1(t);
+            final FallbackEvent event = new FallbackEvent();
+            if (event.shouldCommit()) {
+                event.name = this.name;
+                event.failure = t.getClass();
+                event.message = t.getMessage();
+                event.commit();
+            }
+            return fallback;
+        };
+    }
+}
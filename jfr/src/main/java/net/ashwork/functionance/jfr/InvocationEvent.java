@@ -0,0 +1,42 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionance.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * An event recording a call of a function or operation decorated by
+ * {@link FlightEvents}. By default, only calls taking at least
+ * {@code 10 ms} are recorded.
+ *
+ * @since 1.0.0
+ */
+@Name("net.ashwork.functionance.Invocation")
+@Label("Function Invocation")
+@Description("A call of a named function or operation")
+@Category("Functionance")
+@Threshold("10 ms")
+@StackTrace(false)
+public final class InvocationEvent extends Event {
+
+    @Label("Name")
+    @Description("The name of the function or operation")
+    String name;
+
+    @Label("Failure")
+    @Description("The class of the exception thrown by the call, if any")
+    Class<?> failure;
+}
@@ -0,0 +1,16 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+/**
+ * Flight recorder events attribute the time spent within functions and
+ * operations to named pipelines. Events are only committed while a recording
+ * enables them, and invocations only when they exceed the threshold of the
+ * recording.
+ */
+package net.ashwork.functionance.jfr;
@@ -0,0 +1,66 @@
+/*
+ * Functionance
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package net.ashwork.functionance.test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.ashwork.functionance.Function1;
+import net.ashwork.functionance.jfr.FallbackEvent;
+import net.ashwork.functionance.jfr.FlightEvents;
+import net.ashwork.functionance.jfr.InvocationEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+public final class FlightTests {
+
+    @Test
+    public void testEvents() throws IOException {
+        final FlightEvents events = FlightEvents.of("parse");
+        final Function1<String, Integer> parse = events.decorate(t1 -> Integer.parseInt(t1));
+        final Function1<String, Integer> handled = parse.handle(events.handler(t -> s -> -1));
+        // Not recorded, as no recording is running
+        Assertions.assertEquals(1, handled.apply1("1"));
+
+        final Path file = Files.createTempFile("functionance", ".jfr");
+        try (final Recording recording = new Recording()) {
+            recording.enable(InvocationEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(FallbackEvent.class);
+            recording.start();
+            Assertions.assertEquals(2, handled.apply1("2"));
+            Assertions.assertEquals(-1, handled.apply1("a"));
+            recording.stop();
+            recording.dump(file);
+
+            final List<RecordedEvent> recorded = RecordingFile.readAllEvents(file);
+            long invocations = 0L, failures = 0L, fallbacks = 0L;
+            for (final RecordedEvent event : recorded) {
+                Assertions.assertEquals("parse", event.getString("name"));
+                if (event.getEventType().getName().equals("net.ashwork.functionance.Invocation")) {
+                    invocations++;
+                    if (event.getClass("failure") != null) failures++;
+                } else if (event.getEventType().getName().equals("net.ashwork.functionance.Fallback")) {
+                    fallbacks++;
+                    Assertions.assertEquals(NumberFormatException.class.getName(), event.getClass("failure").getName());
+                }
+            }
+            Assertions.assertEquals(2L, invocations);
+            Assertions.assertEquals(1L, failures);
+            Assertions.assertEquals(1L, fallbacks);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}